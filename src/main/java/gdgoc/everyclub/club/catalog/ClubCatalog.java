@@ -0,0 +1,178 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.config.ClubCatalogProperties;
+import gdgoc.everyclub.club.event.ClubChangedEvent;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 공개 동아리 카탈로그의 인메모리 스냅샷 보관소.
+ *
+ * <p>목록/필터 조회가 DB를 거치지 않도록 공개 동아리 전체(태그, 카테고리, 학과/단과대, 좋아요 수 포함)를
+ * {@link ClubCatalogSnapshot}으로 들고 있는다.
+ * <ul>
+ *   <li>기동 시 전체 적재, 이후 {@code club.catalog.rebuild-interval-seconds} 주기로 전체 재적재</li>
+ *   <li>동아리 변경은 {@link ClubChangedEvent} 커밋 후 해당 동아리만 다시 읽어 교체</li>
+ *   <li>좋아요 변경은 {@link ClubLikeChangedEvent} 커밋 후 좋아요 수만 ±1 보정. 스냅샷을 교체하지 않고
+ *       스냅샷이 공유하는 좋아요 수 표만 고치므로 잠금을 잡지 않는다.</li>
+ * </ul>
+ * 패치할 때마다 변경 전/후 항목으로 {@link ClubFilterCache}의 영향받는 항목만 무효화한다.
+ * 좋아요 변경은 likeCount 정렬 항목만 무효화한다.
+ *
+ * <p>적재 전이거나 비활성화된 경우 {@link #current()}가 null을 반환하며, 호출자는 DB 경로로 폴백해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubCatalog {
+
+    private final ClubCatalogLoader loader;
+    private final ClubCatalogProperties properties;
+    private final ClubFilterCache filterCache;
+
+    private final AtomicReference<ClubCatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    /** 전체 재적재 도중 패치된 id. 교체 직후 다시 읽어 재적재 결과에 덮어쓰이지 않게 한다. */
+    private final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+    /** 갱신 시작 순번과, 동아리별로 가장 나중에 시작한 갱신의 순번. */
+    private final AtomicLong refreshSequence = new AtomicLong();
+    private final Map<Long, Long> latestRefresh = new ConcurrentHashMap<>();
+
+    /** 이 인스턴스의 기동 시각. 재기동 후 버전 번호가 다시 1부터 시작해도 이전 ETag와 겹치지 않게 한다. */
+    private final long epoch = System.currentTimeMillis();
+
+    /** 현재 스냅샷. 아직 적재 전이면 null. */
+    public ClubCatalogSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * 스냅샷 내용을 식별하는 값. 패치나 재적재로 스냅샷이 바뀌거나 좋아요 수가 바뀔 때마다 달라지며, 적재 전이면 null.
+     * 스냅샷 버전은 인스턴스마다 따로 증가하므로 기동 시각을 함께 넣는다.
+     */
+    public String versionTag() {
+        ClubCatalogSnapshot snapshot = current.get();
+        return snapshot == null ? null
+                : Long.toString(epoch, 36) + "-" + snapshot.getVersion() + "." + snapshot.likeVersion();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${club.catalog.rebuild-interval-seconds:600}",
+            initialDelayString = "${club.catalog.rebuild-interval-seconds:600}",
+            timeUnit = TimeUnit.SECONDS)
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /** DB에서 공개 동아리 전체를 읽어 스냅샷을 교체한다. 이미 진행 중이면 건너뛴다. */
+    public void rebuild() {
+        if (!properties.isEnabled() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            touchedDuringRebuild.clear();
+            List<ClubCatalogEntry> entries = loader.loadAll();
+
+            Set<Long> replay;
+            synchronized (this) {
+                ClubCatalogSnapshot previous = current.get();
+                long version = previous == null ? 1 : previous.getVersion() + 1;
+                current.set(ClubCatalogSnapshot.of(version, entries));
+                filterCache.onRebuild();
+                replay = Set.copyOf(touchedDuringRebuild);
+                touchedDuringRebuild.clear();
+            }
+            replay.forEach(this::refresh);
+            log.info("Club catalog rebuilt: {} public clubs (version {})", entries.size(), current.get().getVersion());
+        } catch (RuntimeException e) {
+            log.warn("Club catalog rebuild failed, keeping previous snapshot", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 동아리 하나를 DB에서 다시 읽어 교체한다. 비공개/삭제 상태이면 스냅샷에서 제거한다.
+     *
+     * <p>DB 조회는 잠금 밖에서 하고 교체만 잠금 안에서 한다. 같은 동아리의 갱신이 겹치면 조회 순서와 교체 순서가
+     * 어긋날 수 있으므로, 시작할 때 받은 번호가 그 동아리의 최신 번호일 때만 교체한다.
+     */
+    public void refresh(Long clubId) {
+        markTouched(clubId);
+        if (current.get() == null) {
+            // 변경 전 상태를 모르므로 캐시된 DB 조회 결과를 모두 버린다.
+            filterCache.clear();
+            return;
+        }
+        long ticket = refreshSequence.incrementAndGet();
+        latestRefresh.merge(clubId, ticket, Math::max);
+        ClubCatalogEntry loaded;
+        try {
+            loaded = loader.load(clubId).orElse(null);
+        } catch (RuntimeException e) {
+            latestRefresh.remove(clubId, ticket);
+            throw e;
+        }
+        synchronized (this) {
+            if (!latestRefresh.remove(clubId, ticket)) {
+                // 더 나중에 시작한 갱신이 있다. 그쪽이 더 새 값을 읽었으므로 이 결과는 버린다.
+                return;
+            }
+            ClubCatalogSnapshot snapshot = current.get();
+            ClubCatalogEntry previous = snapshot.find(clubId).orElse(null);
+            current.set(loaded != null ? snapshot.with(loaded) : snapshot.without(clubId));
+            filterCache.invalidate(previous, loaded);
+        }
+    }
+
+    /**
+     * 좋아요 수를 보정한다. 패치로 교체된 스냅샷도 같은 좋아요 수 표를 보므로 교체와 겹쳐도 보정이 사라지지 않고,
+     * 전체 재적재와 겹친 보정은 {@link #markTouched}로 재적재 후 다시 읽는다.
+     */
+    public void adjustLikeCount(Long clubId, int delta) {
+        markTouched(clubId);
+        ClubCatalogSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            filterCache.clear();
+            return;
+        }
+        snapshot.adjustLikeCount(clubId, delta).ifPresent(filterCache::invalidateLikeOrder);
+    }
+
+    @TransactionalEventListener
+    public void onClubChanged(ClubChangedEvent event) {
+        if (event.clubId() != null) {
+            refresh(event.clubId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLikeChanged(ClubLikeChangedEvent event) {
+        adjustLikeCount(event.clubId(), event.liked() ? 1 : -1);
+    }
+
+    private void markTouched(Long clubId) {
+        if (rebuilding.get()) {
+            touchedDuringRebuild.add(clubId);
+        }
+    }
+}
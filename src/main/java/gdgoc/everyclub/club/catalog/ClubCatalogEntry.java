@@ -0,0 +1,135 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.domain.Club;
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import gdgoc.everyclub.club.dto.ClubFilterRequest;
+import gdgoc.everyclub.club.dto.ClubSummaryResponse;
+import gdgoc.everyclub.club.dto.TagMatchMode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 카탈로그 스냅샷에 보관되는 공개 동아리 한 건의 불변 사본.
+ *
+ * <p>목록 응답({@link ClubSummaryResponse})과 필터 조건 평가에 필요한 값만 담는다.
+ * {@code description}은 응답에 쓰지 않고 전문 검색 색인({@link ClubTextIndex})을 만들 때만 읽는다.
+ * 엔티티와 달리 영속성 컨텍스트와 무관하므로 여러 스레드가 공유해도 안전하다.
+ */
+public record ClubCatalogEntry(
+        Long id,
+        String slug,
+        String name,
+        String summary,
+        String description,
+        String logoUrl,
+        RecruitingStatus recruitingStatus,
+        String activityCycle,
+        boolean hasFee,
+        int likeCount,
+        List<String> tags,
+        Long categoryId,
+        String categoryName,
+        Long majorId,
+        Long collegeId,
+        String authorName,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public ClubCatalogEntry {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+
+    /** author, category, major.college, clubTags.tag가 로딩된 엔티티로부터 생성한다. 찜 수는 {@code club.like_count}를 사용한다. */
+    public static ClubCatalogEntry from(Club club) {
+        return from(club, club.getLikeCount());
+    }
+
+    public static ClubCatalogEntry from(Club club, int likeCount) {
+        return new ClubCatalogEntry(
+                club.getId(),
+                club.getSlug(),
+                club.getName(),
+                club.getSummary(),
+                club.getDescription(),
+                club.getLogoUrl(),
+                club.getRecruitingStatus(),
+                club.getActivityCycle(),
+                club.isHasFee(),
+                likeCount,
+                club.getTagNames(),
+                club.getCategory() != null ? club.getCategory().getId() : null,
+                club.getCategory() != null ? club.getCategory().getName() : null,
+                club.getMajor() != null ? club.getMajor().getId() : null,
+                club.getMajor() != null ? club.getMajor().getCollege().getId() : null,
+                club.getAuthor() != null ? club.getAuthor().getName() : "Unknown",
+                club.getCreatedAt(),
+                club.getUpdatedAt()
+        );
+    }
+
+    public ClubCatalogEntry withLikeCount(int likeCount) {
+        return new ClubCatalogEntry(id, slug, name, summary, description, logoUrl, recruitingStatus, activityCycle,
+                hasFee, likeCount, tags, categoryId, categoryName, majorId, collegeId, authorName,
+                createdAt, updatedAt);
+    }
+
+    /** {@code ClubSpecification.hasActivity}와 같은 해석: null 또는 공백 문자열이면 "없음". */
+    public boolean hasActivity() {
+        return activityCycle != null && !activityCycle.isBlank();
+    }
+
+    /**
+     * 필터 조건 일치 여부. {@code ClubSpecification}의 각 조건과 동일한 의미를 갖는다.
+     * 스냅샷에는 공개 동아리만 있으므로 {@code isPublic()} 조건은 이미 만족한다.
+     */
+    public boolean matches(ClubFilterRequest filter) {
+        if (filter.categoryIds() != null && !filter.categoryIds().isEmpty()
+                && !filter.categoryIds().contains(categoryId)) {
+            return false;
+        }
+        if (filter.collegeId() != null && !filter.collegeId().equals(collegeId)) {
+            return false;
+        }
+        if (filter.hasFee() != null && filter.hasFee() != hasFee) {
+            return false;
+        }
+        if (filter.hasActivity() != null && filter.hasActivity() != hasActivity()) {
+            return false;
+        }
+        List<String> filterTags = filter.normalizedTags();
+        if (!filterTags.isEmpty()) {
+            boolean tagMatched = filter.tagMatch() == TagMatchMode.ANY
+                    ? filterTags.stream().anyMatch(tags::contains)
+                    : tags.containsAll(filterTags);
+            if (!tagMatched) {
+                return false;
+            }
+        }
+        if (filter.name() != null && !filter.name().isBlank()) {
+            return name.toLowerCase(Locale.ROOT).contains(filter.name().strip().toLowerCase(Locale.ROOT));
+        }
+        return true;
+    }
+
+    public ClubSummaryResponse toSummaryResponse() {
+        return ClubSummaryResponse.builder()
+                .id(id)
+                .slug(slug)
+                .name(name)
+                .summary(summary)
+                .logoUrl(logoUrl)
+                .recruitingStatus(recruitingStatus)
+                .activityCycle(activityCycle)
+                .hasFee(hasFee)
+                .likeCount(likeCount)
+                .tags(tags)
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .authorName(authorName)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
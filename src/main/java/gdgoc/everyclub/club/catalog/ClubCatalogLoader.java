@@ -0,0 +1,39 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.domain.Club;
+import gdgoc.everyclub.club.repository.ClubRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB에서 카탈로그 항목을 읽어 온다.
+ *
+ * <p>커밋 이후 이벤트 리스너(AFTER_COMMIT)에서도 호출되므로, 이미 끝난 트랜잭션에 참여하지 않도록
+ * 항상 새 읽기 전용 트랜잭션에서 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClubCatalogLoader {
+
+    private final ClubRepository clubRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public List<ClubCatalogEntry> loadAll() {
+        return clubRepository.findAllPublicWithGraph().stream()
+                .map(ClubCatalogEntry::from)
+                .toList();
+    }
+
+    /** 공개 상태인 동아리만 반환한다. 삭제되었거나 비공개로 바뀌었으면 empty. */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<ClubCatalogEntry> load(Long clubId) {
+        return clubRepository.findByIdWithGraph(clubId)
+                .filter(Club::isPublic)
+                .map(ClubCatalogEntry::from);
+    }
+}
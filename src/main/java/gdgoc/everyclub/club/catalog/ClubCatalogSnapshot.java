@@ -0,0 +1,493 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.dto.ClubAutocompleteResponse.TagSuggestion;
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse;
+import gdgoc.everyclub.club.dto.ClubFilterRequest;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 공개 동아리 카탈로그의 불변 스냅샷.
+ *
+ * <p>변경은 항상 새 스냅샷을 만들어 교체하는 copy-on-write 방식이며, 교체할 때마다 {@link #getVersion()}이 증가한다.
+ * 읽는 쪽은 참조 하나만 얻으면 잠금 없이 일관된 상태를 본다.
+ *
+ * <p>필터는 {@link ClubFacetIndex}의 비트맵 연산으로 평가한다. id 순 정렬(기본값)은 ordinal 순서와 같으므로
+ * 일치 집합에서 페이지 구간만 {@code select}로 꺼내고, 그 외 정렬은 일치 항목만 모아 정렬한다.
+ *
+ * <p>좋아요 수는 예외로, 패치로 이어지는 스냅샷들이 공유하는 가변 표({@link LikeCounts})에 따로 들고 있다.
+ * 좋아요 변경({@link #adjustLikeCount})은 새 스냅샷을 만들지 않고 표의 값 하나만 고치며, 스냅샷이 내주는 항목은
+ * 모두 이 표의 현재 값으로 좋아요 수를 덧씌운다. 좋아요 수 정렬과 관련도 점수도 같은 값을 쓴다.
+ * 스냅샷 내용이 같아도 좋아요 수는 바뀌므로 응답 버전에는 {@link #likeVersion()}을 함께 쓴다.
+ *
+ * <p>필터 조건이 없는 facet 개수({@link #facetCounts})는 스냅샷마다 한 번만 계산해 둔다.
+ *
+ * <p>검색 결과가 비었을 때의 교정 후보용 철자 사전({@link ClubSpellingDictionary})도 스냅샷을 만들 때 미리 만든다.
+ * 이름이나 태그가 바뀌지 않은 패치(소개 등)는 사전을 그대로 물려받고, 바뀐 패치와 삭제는 그 동아리의 단어 빈도만 고친다.
+ *
+ * <p>비슷한 동아리 이웃 표({@link ClubSimilarityIndex})도 스냅샷과 함께 들고 있다. 태그, 카테고리, 단과대가 바뀐 패치만
+ * 그 동아리와 영향받는 목록을 다시 계산하고, 나머지 패치는 표를 그대로 물려받는다.
+ *
+ * <p>지원하는 정렬 속성은 {@link #SORTABLE}에 정의되어 있다. 그 외 속성으로 정렬하려는 요청은
+ * {@link #supports(Sort)}가 false를 반환하므로 호출자가 DB 경로로 처리해야 한다.
+ */
+public final class ClubCatalogSnapshot {
+
+    /** {@link #similarTo}가 반환할 수 있는 최대 개수. 동아리마다 미리 계산해 두는 이웃 수와 같다. */
+    public static final int MAX_SIMILAR = ClubSimilarityIndex.TOP_K;
+
+    /** Pageable sort 속성 → 비교자. 정렬 미지정 시 id 오름차순을 사용한다. */
+    private static final Map<String, Comparator<ClubCatalogEntry>> SORTABLE = Map.of(
+            "id", Comparator.comparing(ClubCatalogEntry::id),
+            "name", Comparator.comparing(ClubCatalogEntry::name),
+            "likeCount", Comparator.comparingInt(ClubCatalogEntry::likeCount),
+            "createdAt", Comparator.comparing(ClubCatalogEntry::createdAt, Comparator.nullsLast(Comparator.naturalOrder())),
+            "updatedAt", Comparator.comparing(ClubCatalogEntry::updatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+    );
+
+    private static final Comparator<ClubCatalogEntry> BY_ID = SORTABLE.get("id");
+    /** 짧은 검색어·초성 검색 결과 정렬. DB 폴백 경로의 {@code ORDER BY name, id}와 같다. */
+    private static final Comparator<ClubCatalogEntry> BY_NAME_ID = SORTABLE.get("name").thenComparing(BY_ID);
+
+    /** 관련도 순 검색 결과 정렬. 점수 내림차순, 동점이면 id 오름차순. */
+    private static final Comparator<Scored> BY_SCORE = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparing(scored -> scored.entry().id());
+
+    private final long version;
+    private final ClubFacetIndex index;
+    private final Spelling spelling;
+    private final ClubSimilarityIndex similarity;
+    private final LikeCounts likes;
+    /** 필터 없는 facet 개수. 처음 요청될 때 계산한다 (경합 시 중복 계산은 허용). */
+    private volatile ClubFacetCountsResponse unfilteredFacets;
+
+    private ClubCatalogSnapshot(long version, ClubFacetIndex index, Spelling spelling,
+                                ClubSimilarityIndex similarity, LikeCounts likes) {
+        this.version = version;
+        this.index = index;
+        this.spelling = spelling;
+        this.similarity = similarity;
+        this.likes = likes;
+    }
+
+    public static ClubCatalogSnapshot of(long version, Collection<ClubCatalogEntry> entries) {
+        return build(version, entries, new LikeCounts());
+    }
+
+    private static ClubCatalogSnapshot build(long version, Collection<ClubCatalogEntry> entries, LikeCounts likes) {
+        List<ClubCatalogEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(BY_ID);
+        sorted.forEach(entry -> likes.set(entry.id(), entry.likeCount()));
+        return new ClubCatalogSnapshot(version, ClubFacetIndex.build(sorted), Spelling.build(sorted),
+                ClubSimilarityIndex.build(sorted), likes);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /** 좋아요 수가 바뀔 때마다 증가하는 값. 패치로 이어지는 스냅샷끼리 공유한다. */
+    public long likeVersion() {
+        return likes.version();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public Optional<ClubCatalogEntry> find(Long id) {
+        return index.find(id).map(this::live);
+    }
+
+    /**
+     * 항목을 추가하거나 같은 id의 항목을 교체한 새 스냅샷을 반환한다. 바뀐 facet 비트맵만 갱신한다.
+     * 좋아요 수는 DB에서 다시 읽은 항목의 값으로 맞춘다.
+     */
+    public ClubCatalogSnapshot with(ClubCatalogEntry entry) {
+        ClubFacetIndex next = index.with(entry);
+        if (next == null) {
+            // 최대 id보다 작은 id가 새로 들어온 경우(비공개 → 공개 전환 등): ordinal 순서를 위해 다시 만든다.
+            List<ClubCatalogEntry> entries = new ArrayList<>(index.entries().stream().map(this::live).toList());
+            entries.add(entry);
+            return build(version + 1, entries, likes);
+        }
+        likes.set(entry.id(), entry.likeCount());
+        ClubCatalogEntry previous = index.find(entry.id()).orElse(null);
+        boolean sameTerms = previous != null
+                && previous.name().equals(entry.name()) && previous.tags().equals(entry.tags());
+        boolean sameFeatures = previous != null && ClubSimilarityIndex.sameFeatures(previous, entry);
+        return new ClubCatalogSnapshot(version + 1, next, sameTerms ? spelling : spelling.with(previous, entry),
+                sameFeatures ? similarity : similarity.with(entry), likes);
+    }
+
+    /** 해당 id를 제외한 새 스냅샷을 반환한다. 없는 id이면 자기 자신을 그대로 반환한다. */
+    public ClubCatalogSnapshot without(Long id) {
+        ClubFacetIndex next = index.without(id);
+        if (next == index) {
+            return this;
+        }
+        likes.remove(id);
+        return new ClubCatalogSnapshot(version + 1, next, spelling.with(index.find(id).orElse(null), null),
+                similarity.without(id), likes);
+    }
+
+    /**
+     * 좋아요 수를 delta만큼 보정한다. 스냅샷을 새로 만들지 않고 공유하는 좋아요 수 표의 값 하나만 고치므로
+     * 비용은 카탈로그 크기와 무관하다.
+     *
+     * @return 보정 후 항목. 없는 id(비공개 등)이면 빈 값
+     */
+    public Optional<ClubCatalogEntry> adjustLikeCount(Long id, int delta) {
+        Optional<ClubCatalogEntry> entry = index.find(id);
+        if (entry.isPresent() && delta != 0) {
+            likes.add(id, delta);
+        }
+        return entry.map(this::live);
+    }
+
+    /** 필터 조건 기준 facet 값별 개수. 조건이 없으면 캐시된 결과를 반환한다. */
+    public ClubFacetCountsResponse facetCounts(ClubFilterRequest filter) {
+        if (!filter.isEmpty()) {
+            return index.facetCounts(filter);
+        }
+        ClubFacetCountsResponse cached = unfilteredFacets;
+        if (cached == null) {
+            cached = index.facetCounts(filter);
+            unfilteredFacets = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * 비슷한 동아리를 유사도 내림차순으로 최대 limit건. 미리 계산한 이웃 표를 읽기만 한다.
+     * 없는 id이면 빈 목록을 반환한다.
+     */
+    public List<ClubCatalogEntry> similarTo(Long id, int limit) {
+        return similarity.neighbors(id).stream()
+                .limit(limit)
+                .flatMap(neighbor -> find(neighbor.clubId()).stream())
+                .toList();
+    }
+
+    /**
+     * 이름 또는 소개에 검색어가 포함된 동아리를 (name, id) 순으로 페이지 조회한다.
+     * 1~3자 검색어용이며, 글자 n-gram 역색인({@link ClubFacetIndex#matchKeyword})으로 찾는다.
+     */
+    public Page<ClubCatalogEntry> searchKeyword(String keyword, Pageable pageable) {
+        return page(byNameAndId(index.matchKeyword(keyword)), pageable);
+    }
+
+    /**
+     * {@link #searchKeyword}의 keyset 버전. (lastName, lastId) 다음 항목부터 최대 limit건을 반환한다.
+     *
+     * @param lastName null이면 첫 페이지
+     */
+    public List<ClubCatalogEntry> searchKeywordAfter(String keyword, String lastName, Long lastId, int limit) {
+        return after(byNameAndId(index.matchKeyword(keyword)), lastName, lastId, limit);
+    }
+
+    /**
+     * 이름의 초성에 초성 검색어가 포함된 동아리를 (name, id) 순으로 페이지 조회한다.
+     * 초성 n-gram 역색인({@link ClubFacetIndex#matchChoseong})으로 찾는다.
+     *
+     * @param choseong 공백 없는 초성 문자열 (예: "ㅂㄷ")
+     */
+    public Page<ClubCatalogEntry> searchChoseong(String choseong, Pageable pageable) {
+        return page(byNameAndId(index.matchChoseong(choseong)), pageable);
+    }
+
+    /**
+     * {@link #searchKeyword}의 관련도 순 버전. 후보 집합은 같고, {@link ClubRelevanceScorer} 점수 내림차순으로 정렬한다.
+     */
+    public Page<ClubCatalogEntry> rankKeyword(String keyword, Pageable pageable, ClubRelevanceScorer scorer) {
+        String lower = keyword.strip().toLowerCase(Locale.ROOT);
+        return ranked(index.matchKeyword(keyword),
+                entry -> scorer.score(ClubRelevanceScorer.keywordSimilarity(lower, entry), entry), pageable);
+    }
+
+    /** {@link #searchChoseong}의 관련도 순 버전. */
+    public Page<ClubCatalogEntry> rankChoseong(String choseong, Pageable pageable, ClubRelevanceScorer scorer) {
+        return ranked(index.matchChoseong(choseong),
+                entry -> scorer.score(ClubRelevanceScorer.choseongSimilarity(choseong, entry), entry), pageable);
+    }
+
+    /** {@link #searchChoseong}의 keyset 버전. lastName이 null이면 첫 페이지. */
+    public List<ClubCatalogEntry> searchChoseongAfter(String choseong, String lastName, Long lastId, int limit) {
+        return after(byNameAndId(index.matchChoseong(choseong)), lastName, lastId, limit);
+    }
+
+    /**
+     * 이름·태그·소개·상세 설명 전문 검색. 관련도(BM25F) 내림차순, 동점이면 id 순으로 페이지 조회한다.
+     * 분석과 점수 계산은 {@link ClubTextIndex} 참고.
+     */
+    public Page<ClubCatalogEntry> searchText(String query, Pageable pageable) {
+        List<ClubCatalogEntry> ranked = index.searchText(query).stream()
+                .map(hit -> live(index.entryAt(hit.ordinal())))
+                .toList();
+        return page(ranked, pageable);
+    }
+
+    private static Page<ClubCatalogEntry> page(List<ClubCatalogEntry> sorted, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted, pageable, sorted.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+    }
+
+    /**
+     * 후보마다 점수를 매기고, 요청 페이지 끝(offset + size)까지의 상위 항목만 크기가 제한된 힙으로 고른다.
+     * 후보 전체를 정렬하지 않으므로 비용은 후보 수 × log(offset + size)에 비례한다.
+     */
+    private Page<ClubCatalogEntry> ranked(RoaringBitmap ordinals, ToDoubleFunction<ClubCatalogEntry> score,
+                                          Pageable pageable) {
+        int total = ordinals.getCardinality();
+        int limit = pageable.isUnpaged() ? total : (int) Math.min(pageable.getOffset() + pageable.getPageSize(), total);
+        // 가장 낮은 순위가 맨 위에 오는 힙
+        PriorityQueue<Scored> top = new PriorityQueue<>(Math.max(limit, 1), BY_SCORE.reversed());
+        ordinals.forEach((int ordinal) -> {
+            ClubCatalogEntry entry = live(index.entryAt(ordinal));
+            Scored scored = new Scored(entry, score.applyAsDouble(entry));
+            if (top.size() < limit) {
+                top.add(scored);
+            } else if (limit > 0 && BY_SCORE.compare(scored, top.peek()) < 0) {
+                top.poll();
+                top.add(scored);
+            }
+        });
+        List<Scored> best = new ArrayList<>(top);
+        best.sort(BY_SCORE);
+        List<ClubCatalogEntry> sorted = best.stream().map(Scored::entry).toList();
+        int from = pageable.isUnpaged() ? 0 : (int) Math.min(pageable.getOffset(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, sorted.size()), pageable, total);
+    }
+
+    private record Scored(ClubCatalogEntry entry, double score) {
+    }
+
+    private static List<ClubCatalogEntry> after(List<ClubCatalogEntry> sorted, String lastName, Long lastId, int limit) {
+        int from = 0;
+        if (lastName != null) {
+            while (from < sorted.size() && !isAfter(sorted.get(from), lastName, lastId)) {
+                from++;
+            }
+        }
+        return sorted.subList(from, Math.min(from + limit, sorted.size()));
+    }
+
+    /** (name, id) > (lastName, lastId) */
+    private static boolean isAfter(ClubCatalogEntry entry, String lastName, Long lastId) {
+        int byName = entry.name().compareTo(lastName);
+        return byName > 0 || byName == 0 && entry.id() > lastId;
+    }
+
+    private List<ClubCatalogEntry> byNameAndId(RoaringBitmap ordinals) {
+        List<ClubCatalogEntry> matched = new ArrayList<>(ordinals.getCardinality());
+        ordinals.forEach((int ordinal) -> matched.add(live(index.entryAt(ordinal))));
+        matched.sort(BY_NAME_ID);
+        return matched;
+    }
+
+    /**
+     * 자동완성: 이름 또는 이름 속 단어가 prefix로 시작하는 동아리를 좋아요 수 내림차순으로 최대 limit건.
+     *
+     * @param prefix 소문자화된 검색어
+     */
+    public List<ClubCatalogEntry> suggestClubs(String prefix, int limit) {
+        return index.suggestByName(prefix, limit, this::live);
+    }
+
+    /**
+     * 자동완성: 정규화된 prefix로 시작하는 태그를 공개 동아리 수 내림차순으로 최대 limit건.
+     *
+     * @param normalizedPrefix {@code TagNormalizer}로 정규화된 검색어
+     */
+    public List<TagSuggestion> suggestTags(String normalizedPrefix, int limit) {
+        return index.suggestTags(normalizedPrefix, limit);
+    }
+
+    /**
+     * "이것을 찾으셨나요?": 동아리 이름 또는 이름 속 단어 중 검색어와 철자가 가까운 것을 최대 limit건.
+     * 편집 거리 오름차순, 그 단어를 가진 동아리 수 내림차순.
+     */
+    public List<String> correctName(String keyword, int limit) {
+        return spelling.names().suggest(keyword, limit);
+    }
+
+    /**
+     * "이것을 찾으셨나요?": 공개 동아리에 없는 태그마다 철자가 가까운 태그를 찾아 합친 최대 limit건.
+     * 이미 있는 태그는 교정하지 않는다.
+     *
+     * @param normalizedTags {@code TagNormalizer}로 정규화된 태그 목록
+     */
+    public List<String> correctTags(List<String> normalizedTags, int limit) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String tag : normalizedTags) {
+            if (!spelling.tags().contains(tag)) {
+                result.addAll(spelling.tags().suggest(tag, limit));
+            }
+        }
+        return result.stream().limit(limit).toList();
+    }
+
+    public boolean supports(Sort sort) {
+        return isSortable(sort);
+    }
+
+    static boolean isSortable(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE.containsKey(order.getProperty()));
+    }
+
+    /**
+     * 필터 조건에 맞는 항목을 정렬 후 페이지 단위로 잘라 반환한다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 정렬 속성이 포함된 경우
+     */
+    public Page<ClubCatalogEntry> filter(ClubFilterRequest filter, Pageable pageable) {
+        if (!supports(pageable.getSort())) {
+            throw new IllegalArgumentException("Unsupported sort: " + pageable.getSort());
+        }
+        RoaringBitmap matched = index.match(filter);
+        int total = matched.getCardinality();
+        Sort.Direction idDirection = idOnlyDirection(pageable.getSort());
+
+        if (idDirection == null || pageable.isUnpaged()) {
+            List<ClubCatalogEntry> sorted = new ArrayList<>(total);
+            matched.forEach((int ordinal) -> sorted.add(live(index.entryAt(ordinal))));
+            sorted.sort(comparator(pageable.getSort()));
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(sorted, pageable, total);
+            }
+            int from = (int) Math.min(pageable.getOffset(), total);
+            int to = Math.min(from + pageable.getPageSize(), total);
+            return new PageImpl<>(sorted.subList(from, to), pageable, total);
+        }
+
+        // ordinal 순서 = id 오름차순이므로 정렬 없이 페이지 구간만 꺼낸다.
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + pageable.getPageSize(), total);
+        List<ClubCatalogEntry> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int rank = idDirection.isAscending() ? i : total - 1 - i;
+            content.add(live(index.entryAt(matched.select(rank))));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /** 정렬이 없거나 id 하나뿐이면 그 방향, 아니면 null. */
+    private static Sort.Direction idOnlyDirection(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty()) {
+            return Sort.Direction.ASC;
+        }
+        if (orders.size() == 1 && orders.get(0).getProperty().equals("id")) {
+            return orders.get(0).getDirection();
+        }
+        return null;
+    }
+
+    /** 항목의 좋아요 수를 현재 값으로 덧씌운다. 값이 같으면 항목을 그대로 반환한다. */
+    private ClubCatalogEntry live(ClubCatalogEntry entry) {
+        int likeCount = likes.get(entry);
+        return likeCount == entry.likeCount() ? entry : entry.withLikeCount(likeCount);
+    }
+
+    /**
+     * id → 현재 좋아요 수. 전체 재적재로 만든 스냅샷과 그로부터 패치로 이어지는 스냅샷들이 함께 쓰는 가변 표다.
+     * 표에 없는 id(이전 스냅샷에만 있는 항목)는 항목에 담긴 값을 쓴다.
+     */
+    private static final class LikeCounts {
+        private final Map<Long, Integer> counts = new ConcurrentHashMap<>();
+        private final AtomicLong version = new AtomicLong();
+
+        int get(ClubCatalogEntry entry) {
+            return counts.getOrDefault(entry.id(), entry.likeCount());
+        }
+
+        void set(Long id, int likeCount) {
+            if (!Integer.valueOf(likeCount).equals(counts.put(id, likeCount))) {
+                version.incrementAndGet();
+            }
+        }
+
+        void add(Long id, int delta) {
+            if (counts.computeIfPresent(id, (key, count) -> Math.max(0, count + delta)) != null) {
+                version.incrementAndGet();
+            }
+        }
+
+        void remove(Long id) {
+            counts.remove(id);
+        }
+
+        long version() {
+            return version.get();
+        }
+    }
+
+    /** 이름 사전(이름 전체 + 2자 이상 단어)과 태그 사전. 빈도는 그 단어를 가진 동아리 수다. */
+    private record Spelling(ClubSpellingDictionary names, ClubSpellingDictionary tags) {
+
+        static Spelling build(List<ClubCatalogEntry> entries) {
+            List<List<String>> names = new ArrayList<>(entries.size());
+            List<List<String>> tags = new ArrayList<>(entries.size());
+            for (ClubCatalogEntry entry : entries) {
+                names.add(nameWordsOf(entry.name()));
+                tags.add(entry.tags());
+            }
+            return new Spelling(ClubSpellingDictionary.build(names), ClubSpellingDictionary.build(tags));
+        }
+
+        /** 동아리 하나가 previous에서 entry로 바뀐 사전. 추가/삭제는 null로 표현한다. */
+        Spelling with(ClubCatalogEntry previous, ClubCatalogEntry entry) {
+            return new Spelling(
+                    names.with(previous == null ? List.of() : nameWordsOf(previous.name()),
+                            entry == null ? List.of() : nameWordsOf(entry.name())),
+                    tags.with(previous == null ? List.of() : previous.tags(),
+                            entry == null ? List.of() : entry.tags()));
+        }
+
+        private static List<String> nameWordsOf(String name) {
+            List<String> words = new ArrayList<>();
+            words.add(name);
+            for (String word : name.strip().split("\\s+")) {
+                if (word.length() >= 2) {
+                    words.add(word);
+                }
+            }
+            return words;
+        }
+    }
+
+    /** 정렬 기준 비교자. 마지막 기준은 항상 id 오름차순이다. 지원하지 않는 속성이 있으면 {@link #isSortable}로 먼저 거른다. */
+    static Comparator<ClubCatalogEntry> comparator(Sort sort) {
+        Comparator<ClubCatalogEntry> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<ClubCatalogEntry> next = SORTABLE.get(order.getProperty());
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            result = result == null ? next : result.thenComparing(next);
+        }
+        // 동률일 때 페이지 간 순서가 흔들리지 않도록 id를 마지막 기준으로 둔다.
+        return result == null ? BY_ID : result.thenComparing(BY_ID);
+    }
+}
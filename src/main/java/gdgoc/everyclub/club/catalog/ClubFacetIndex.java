@@ -0,0 +1,507 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.domain.HangulChoseong;
+import gdgoc.everyclub.club.dto.ClubAutocompleteResponse.TagSuggestion;
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse;
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse.FacetCount;
+import gdgoc.everyclub.club.dto.ClubFilterRequest;
+import gdgoc.everyclub.club.dto.TagMatchMode;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 카탈로그 항목의 불변 facet 비트맵 인덱스.
+ *
+ * <p>항목마다 ordinal(슬롯 번호)을 부여하고, facet 값마다 해당 ordinal 집합을 {@link RoaringBitmap}으로 들고 있는다.
+ * 필터는 {@code ClubSpecification}의 SQL 조건 대신 비트맵 AND/OR로 평가된다.
+ * <ul>
+ *   <li>카테고리, 단과대, 회비 여부, 정기 활동 여부, 태그 ({@link ClubFilterRequest}가 받는 조건만 둔다)</li>
+ *   <li>이름 부분 일치는 facet이 아니므로 facet 결과에 대해 후처리로 거른다.</li>
+ *   <li>이름/소개의 글자 1-gram, 2-gram도 같은 방식으로 들고 있어 짧은 검색어를 역색인으로 찾는다 ({@link #matchKeyword}).</li>
+ *   <li>이름의 초성 문자열({@link HangulChoseong#extract})도 1-gram, 2-gram으로 들고 있어 초성 검색어를 찾는다 ({@link #matchChoseong}).</li>
+ *   <li>자동완성용으로 이름 단어와 태그 이름은 정렬된 접두사 인덱스({@link ClubPrefixIndex})로도 들고 있다.</li>
+ *   <li>이름·태그·소개·상세 설명의 전문 검색 역색인({@link ClubTextIndex})도 같은 ordinal로 들고 있다 ({@link #searchText}).</li>
+ * </ul>
+ *
+ * <p>ordinal은 id 오름차순과 같은 순서를 유지한다. 기존 id 교체는 같은 슬롯을 재사용하고, 새 id는 끝에 붙이며,
+ * 삭제는 슬롯을 비워 둔다(전체 재적재 시 압축). 최대 id보다 작은 새 id가 들어오면 순서를 지킬 수 없으므로
+ * {@link #with}가 null을 반환하고 호출자가 {@link #build}로 다시 만든다.
+ *
+ * <p>패치는 바뀐 facet 값의 비트맵만 복제하고 나머지는 이전 인덱스와 공유한다 (copy-on-write).
+ */
+final class ClubFacetIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+    /** 자동완성 순위: 좋아요 내림차순, 동률이면 이름, id 순. */
+    private static final Comparator<ClubCatalogEntry> BY_POPULARITY = Comparator
+            .comparingInt(ClubCatalogEntry::likeCount).reversed()
+            .thenComparing(ClubCatalogEntry::name)
+            .thenComparing(ClubCatalogEntry::id);
+
+    /** ordinal → 항목. 삭제된 슬롯은 null. */
+    private final ClubCatalogEntry[] slots;
+    private final Map<Long, Integer> ordinalById;
+    private final RoaringBitmap live;
+
+    private final Facet<Long> categories;
+    private final Facet<Long> colleges;
+    private final Facet<Boolean> fee;
+    private final Facet<Boolean> activity;
+    private final Facet<String> tags;
+    /** 소문자화한 이름·소개의 글자 1-gram, 2-gram → ordinal. */
+    private final Facet<String> grams;
+    /** 이름 초성 문자열의 1-gram, 2-gram → ordinal. */
+    private final Facet<String> choseongGrams;
+    /** 소문자화한 이름의 단어 시작 위치부터의 나머지 ({@link #nameTermsOf}) → ordinal. */
+    private final ClubPrefixIndex nameTerms;
+    /** 태그 이름 → ordinal. */
+    private final ClubPrefixIndex tagTerms;
+    private final ClubTextIndex text;
+
+    private ClubFacetIndex(ClubCatalogEntry[] slots, Map<Long, Integer> ordinalById, RoaringBitmap live,
+                           Facet<Long> categories, Facet<Long> colleges,
+                           Facet<Boolean> fee, Facet<Boolean> activity, Facet<String> tags, Facet<String> grams,
+                           Facet<String> choseongGrams, ClubPrefixIndex nameTerms, ClubPrefixIndex tagTerms,
+                           ClubTextIndex text) {
+        this.slots = slots;
+        this.ordinalById = ordinalById;
+        this.live = live;
+        this.categories = categories;
+        this.colleges = colleges;
+        this.fee = fee;
+        this.activity = activity;
+        this.tags = tags;
+        this.grams = grams;
+        this.choseongGrams = choseongGrams;
+        this.nameTerms = nameTerms;
+        this.tagTerms = tagTerms;
+        this.text = text;
+    }
+
+    /** @param sortedById id 오름차순으로 정렬된 항목 */
+    static ClubFacetIndex build(List<ClubCatalogEntry> sortedById) {
+        ClubCatalogEntry[] slots = sortedById.toArray(ClubCatalogEntry[]::new);
+        Map<Long, Integer> ordinalById = new HashMap<>(slots.length * 2);
+        RoaringBitmap live = new RoaringBitmap();
+        Map<Long, RoaringBitmap> categories = new HashMap<>();
+        Map<Long, RoaringBitmap> colleges = new HashMap<>();
+        Map<Boolean, RoaringBitmap> fee = new HashMap<>();
+        Map<Boolean, RoaringBitmap> activity = new HashMap<>();
+        Map<String, RoaringBitmap> tags = new HashMap<>();
+        Map<String, RoaringBitmap> grams = new HashMap<>();
+        Map<String, RoaringBitmap> choseongGrams = new HashMap<>();
+
+        for (int ordinal = 0; ordinal < slots.length; ordinal++) {
+            ClubCatalogEntry entry = slots[ordinal];
+            ordinalById.put(entry.id(), ordinal);
+            live.add(ordinal);
+            addAll(categories, Facet.single(entry.categoryId()), ordinal);
+            addAll(colleges, Facet.single(entry.collegeId()), ordinal);
+            addAll(fee, List.of(entry.hasFee()), ordinal);
+            addAll(activity, List.of(entry.hasActivity()), ordinal);
+            addAll(tags, entry.tags(), ordinal);
+            addAll(grams, gramsOf(entry), ordinal);
+            addAll(choseongGrams, choseongGramsOf(entry), ordinal);
+        }
+        live.runOptimize();
+        return new ClubFacetIndex(slots, ordinalById, live,
+                new Facet<>(categories, e -> Facet.single(e.categoryId())),
+                new Facet<>(colleges, e -> Facet.single(e.collegeId())),
+                new Facet<>(fee, e -> List.of(e.hasFee())),
+                new Facet<>(activity, e -> List.of(e.hasActivity())),
+                new Facet<>(tags, ClubCatalogEntry::tags),
+                new Facet<>(grams, ClubFacetIndex::gramsOf),
+                new Facet<>(choseongGrams, ClubFacetIndex::choseongGramsOf),
+                ClubPrefixIndex.build(slots, ClubFacetIndex::nameTermsOf),
+                ClubPrefixIndex.build(slots, ClubCatalogEntry::tags),
+                ClubTextIndex.build(slots));
+    }
+
+    /** 이름과 소개 각각의 글자 1-gram, 2-gram. 필드 경계를 넘는 2-gram은 만들지 않는다. */
+    private static Set<String> gramsOf(ClubCatalogEntry entry) {
+        Set<String> result = new HashSet<>();
+        addGrams(result, entry.name());
+        addGrams(result, entry.summary());
+        return result;
+    }
+
+    private static void addGrams(Set<String> result, String text) {
+        if (text == null) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            result.add(lower.substring(i, i + 1));
+            if (i + 1 < lower.length()) {
+                result.add(lower.substring(i, i + 2));
+            }
+        }
+    }
+
+    /** 이름 초성 문자열의 1-gram, 2-gram. 구분자({@code ' '})가 들어간 gram은 초성 검색어와 일치할 수 없으므로 뺀다. */
+    private static Set<String> choseongGramsOf(ClubCatalogEntry entry) {
+        String choseong = HangulChoseong.extract(entry.name());
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < choseong.length(); i++) {
+            if (choseong.charAt(i) == ' ') {
+                continue;
+            }
+            result.add(choseong.substring(i, i + 1));
+            if (i + 1 < choseong.length() && choseong.charAt(i + 1) != ' ') {
+                result.add(choseong.substring(i, i + 2));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 소문자화한 이름 전체와, 공백 뒤에서 시작하는 각 단어부터의 나머지.
+     * 예: "강남대 GDGoC 밴드" → "강남대 gdgoc 밴드", "gdgoc 밴드", "밴드"
+     */
+    private static Set<String> nameTermsOf(ClubCatalogEntry entry) {
+        String lower = entry.name().toLowerCase(Locale.ROOT);
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) != ' ' && (i == 0 || lower.charAt(i - 1) == ' ')) {
+                result.add(lower.substring(i));
+            }
+        }
+        return result;
+    }
+
+    private static <K> void addAll(Map<K, RoaringBitmap> bitmaps, Collection<K> keys, int ordinal) {
+        for (K key : keys) {
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    int size() {
+        return live.getCardinality();
+    }
+
+    Optional<ClubCatalogEntry> find(Long id) {
+        Integer ordinal = ordinalById.get(id);
+        return ordinal == null ? Optional.empty() : Optional.of(slots[ordinal]);
+    }
+
+    ClubCatalogEntry entryAt(int ordinal) {
+        return slots[ordinal];
+    }
+
+    /** 살아 있는 항목 전체 (ordinal = id 오름차순). */
+    List<ClubCatalogEntry> entries() {
+        List<ClubCatalogEntry> result = new ArrayList<>(live.getCardinality());
+        live.forEach((int ordinal) -> result.add(slots[ordinal]));
+        return result;
+    }
+
+    /**
+     * 항목을 추가하거나 같은 id의 항목을 교체한 새 인덱스를 반환한다.
+     *
+     * @return ordinal 순서(= id 순서)를 유지할 수 없으면 null. 호출자가 전체를 다시 만들어야 한다.
+     */
+    ClubFacetIndex with(ClubCatalogEntry entry) {
+        Integer existing = ordinalById.get(entry.id());
+        if (existing != null) {
+            ClubCatalogEntry previous = slots[existing];
+            ClubCatalogEntry[] nextSlots = slots.clone();
+            nextSlots[existing] = entry;
+            return new ClubFacetIndex(nextSlots, ordinalById, live,
+                    categories.move(existing, previous, entry),
+                    colleges.move(existing, previous, entry),
+                    fee.move(existing, previous, entry),
+                    activity.move(existing, previous, entry),
+                    tags.move(existing, previous, entry),
+                    grams.move(existing, previous, entry),
+                    choseongGrams.move(existing, previous, entry),
+                    nameTerms.move(existing, previous, entry),
+                    tagTerms.move(existing, previous, entry),
+                text.move(existing, previous, entry));
+        }
+
+        if (!live.isEmpty() && slots[live.last()].id() > entry.id()) {
+            return null;
+        }
+        int ordinal = slots.length;
+        ClubCatalogEntry[] nextSlots = Arrays.copyOf(slots, ordinal + 1);
+        nextSlots[ordinal] = entry;
+        Map<Long, Integer> nextOrdinals = new HashMap<>(ordinalById);
+        nextOrdinals.put(entry.id(), ordinal);
+        RoaringBitmap nextLive = live.clone();
+        nextLive.add(ordinal);
+        return new ClubFacetIndex(nextSlots, nextOrdinals, nextLive,
+                categories.move(ordinal, null, entry),
+                colleges.move(ordinal, null, entry),
+                fee.move(ordinal, null, entry),
+                activity.move(ordinal, null, entry),
+                tags.move(ordinal, null, entry),
+                grams.move(ordinal, null, entry),
+                choseongGrams.move(ordinal, null, entry),
+                nameTerms.move(ordinal, null, entry),
+                tagTerms.move(ordinal, null, entry),
+                text.move(ordinal, null, entry));
+    }
+
+    /** 해당 id를 제외한 새 인덱스를 반환한다. 없는 id이면 자기 자신을 반환한다. */
+    ClubFacetIndex without(Long id) {
+        Integer ordinal = ordinalById.get(id);
+        if (ordinal == null) {
+            return this;
+        }
+        ClubCatalogEntry previous = slots[ordinal];
+        ClubCatalogEntry[] nextSlots = slots.clone();
+        nextSlots[ordinal] = null;
+        Map<Long, Integer> nextOrdinals = new HashMap<>(ordinalById);
+        nextOrdinals.remove(id);
+        RoaringBitmap nextLive = live.clone();
+        nextLive.remove(ordinal);
+        return new ClubFacetIndex(nextSlots, nextOrdinals, nextLive,
+                categories.move(ordinal, previous, null),
+                colleges.move(ordinal, previous, null),
+                fee.move(ordinal, previous, null),
+                activity.move(ordinal, previous, null),
+                tags.move(ordinal, previous, null),
+                grams.move(ordinal, previous, null),
+                choseongGrams.move(ordinal, previous, null),
+                nameTerms.move(ordinal, previous, null),
+                tagTerms.move(ordinal, previous, null),
+                text.move(ordinal, previous, null));
+    }
+
+    /**
+     * 필터 조건에 맞는 ordinal 집합. {@link ClubCatalogEntry#matches}와 같은 의미를 갖는다.
+     * 반환된 비트맵은 호출자 소유이므로 수정해도 된다.
+     */
+    RoaringBitmap match(ClubFilterRequest filter) {
+        Clauses c = clauses(filter);
+        RoaringBitmap matched = and(c.category(), c.college(), c.fee(), c.activity(), c.tag());
+        return c.keyword() == null ? matched : filterByName(matched, c.keyword());
+    }
+
+    /**
+     * 이름 또는 소개에 검색어가 포함된(대소문자 무시) ordinal 집합. 반환된 비트맵은 호출자 소유다.
+     * <ul>
+     *   <li>1~2자: 해당 gram의 posting list가 곧 결과다.</li>
+     *   <li>3자 이상: 연속한 2-gram posting list의 교집합을 후보로 삼고, 실제 포함 여부를 확인한다.
+     *       (2-gram이 모두 있어도 붙어 있지 않을 수 있으므로)</li>
+     * </ul>
+     */
+    RoaringBitmap matchKeyword(String keyword) {
+        String lower = keyword.strip().toLowerCase(Locale.ROOT);
+        return matchGrams(grams, lower, entry -> contains(entry.name(), lower) || contains(entry.summary(), lower));
+    }
+
+    /**
+     * 이름의 초성 문자열에 초성 검색어가 포함된 ordinal 집합. 반환된 비트맵은 호출자 소유다.
+     * 조회 방식은 {@link #matchKeyword}와 같고, 3자 이상일 때만 후보의 이름 초성을 확인한다.
+     *
+     * @param choseong 공백 없는 초성 문자열 (예: "ㅂㄷ")
+     */
+    RoaringBitmap matchChoseong(String choseong) {
+        return matchGrams(choseongGrams, choseong, entry -> HangulChoseong.extract(entry.name()).contains(choseong));
+    }
+
+    /** 이름·태그·소개·상세 설명 전문 검색. BM25F 점수 내림차순, 동점이면 ordinal(= id) 순. */
+    List<ClubTextIndex.Hit> searchText(String query) {
+        return text.search(query);
+    }
+
+    /** 1~2자는 gram posting list 그대로, 3자 이상은 연속 2-gram의 교집합 후보 중 verify를 통과한 것. */
+    private RoaringBitmap matchGrams(Facet<String> postings, String text, Predicate<ClubCatalogEntry> verify) {
+        if (text.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        if (text.length() <= 2) {
+            return postings.get(text).clone();
+        }
+        List<RoaringBitmap> bigrams = new ArrayList<>(text.length() - 1);
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            bigrams.add(postings.get(text.substring(i, i + 2)));
+        }
+        RoaringBitmap candidates = FastAggregation.and(bigrams.iterator());
+        RoaringBitmap matched = new RoaringBitmap();
+        IntIterator it = candidates.getIntIterator();
+        while (it.hasNext()) {
+            int ordinal = it.next();
+            if (verify.test(slots[ordinal])) {
+                matched.add(ordinal);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 이름이나 이름 속 단어가 prefix(소문자)로 시작하는 항목 중 좋아요 수 상위 limit건 ({@link #BY_POPULARITY} 순).
+     * 일치 집합을 한 번 훑으며 크기 limit의 힙만 유지하므로 전체를 정렬하지 않는다.
+     *
+     * @param live 항목에 현재 좋아요 수를 덧씌우는 함수 (좋아요 수는 스냅샷이 따로 들고 있다)
+     */
+    List<ClubCatalogEntry> suggestByName(String prefix, int limit, UnaryOperator<ClubCatalogEntry> live) {
+        PriorityQueue<ClubCatalogEntry> top = new PriorityQueue<>(limit + 1, BY_POPULARITY.reversed());
+        IntIterator it = nameTerms.matchPrefix(prefix).getIntIterator();
+        while (it.hasNext()) {
+            top.add(live.apply(slots[it.next()]));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<ClubCatalogEntry> result = new ArrayList<>(top);
+        result.sort(BY_POPULARITY);
+        return result;
+    }
+
+    /** 정규화된 prefix로 시작하는 태그를 공개 동아리 수 내림차순(동률이면 이름순)으로 최대 limit건. */
+    List<TagSuggestion> suggestTags(String prefix, int limit) {
+        List<TagSuggestion> matched = new ArrayList<>();
+        tagTerms.forEachWithPrefix(prefix,
+                (tag, bitmap) -> matched.add(new TagSuggestion(tag, bitmap.getLongCardinality())));
+        matched.sort(Comparator.comparingLong(TagSuggestion::clubCount).reversed()
+                .thenComparing(TagSuggestion::name));
+        return matched.subList(0, Math.min(limit, matched.size()));
+    }
+
+    private static boolean contains(String text, String lowerKeyword) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(lowerKeyword);
+    }
+
+    /**
+     * facet 값별 개수. facet마다 자기 조건을 뺀 나머지 조건의 교집합을 기준으로
+     * 값 비트맵과의 {@link RoaringBitmap#andCardinality} 만 계산하므로 결과 비트맵을 만들지 않는다.
+     */
+    ClubFacetCountsResponse facetCounts(ClubFilterRequest filter) {
+        Clauses c = clauses(filter);
+        // 이름 조건은 facet마다 기준 집합이 다르므로 후처리 대신 전체에 대해 한 번 평가해 둔다.
+        RoaringBitmap name = c.keyword() == null ? null : filterByName(live, c.keyword());
+        return new ClubFacetCountsResponse(
+                and(c.category(), c.college(), c.fee(), c.activity(), c.tag(), name).getLongCardinality(),
+                FacetCount.sorted(categories.counts(and(c.college(), c.fee(), c.activity(), c.tag(), name))),
+                FacetCount.sorted(colleges.counts(and(c.category(), c.fee(), c.activity(), c.tag(), name))),
+                FacetCount.sorted(tags.counts(and(c.category(), c.college(), c.fee(), c.activity(), name))),
+                FacetCount.sorted(fee.counts(and(c.category(), c.college(), c.activity(), c.tag(), name))),
+                FacetCount.sorted(activity.counts(and(c.category(), c.college(), c.fee(), c.tag(), name))));
+    }
+
+    /** 필터 조건별 비트맵. 조건이 없으면 null. */
+    private record Clauses(RoaringBitmap category, RoaringBitmap college, RoaringBitmap fee,
+                           RoaringBitmap activity, RoaringBitmap tag, String keyword) {
+    }
+
+    private Clauses clauses(ClubFilterRequest filter) {
+        RoaringBitmap category = filter.categoryIds() == null || filter.categoryIds().isEmpty() ? null
+                : FastAggregation.or(filter.categoryIds().stream().map(categories::get).iterator());
+        // 태그 posting list(비트맵)의 교집합/합집합. 태그 수만큼의 비트맵을 한 번에 집계한다.
+        List<String> filterTags = filter.normalizedTags();
+        RoaringBitmap tag = null;
+        if (!filterTags.isEmpty()) {
+            tag = filter.tagMatch() == TagMatchMode.ANY
+                    ? FastAggregation.or(filterTags.stream().map(tags::get).iterator())
+                    : FastAggregation.and(filterTags.stream().map(tags::get).iterator());
+        }
+        String keyword = filter.name() == null || filter.name().isBlank() ? null : filter.name().strip().toLowerCase(Locale.ROOT);
+        return new Clauses(
+                category,
+                filter.collegeId() == null ? null : colleges.get(filter.collegeId()),
+                filter.hasFee() == null ? null : fee.get(filter.hasFee()),
+                filter.hasActivity() == null ? null : activity.get(filter.hasActivity()),
+                tag,
+                keyword);
+    }
+
+    /** 살아 있는 항목과 주어진 비트맵(null은 무시)의 교집합. 새 비트맵을 반환한다. */
+    private RoaringBitmap and(RoaringBitmap... bitmaps) {
+        List<RoaringBitmap> clauses = new ArrayList<>(bitmaps.length + 1);
+        clauses.add(live);
+        for (RoaringBitmap bitmap : bitmaps) {
+            if (bitmap != null) {
+                clauses.add(bitmap);
+            }
+        }
+        return clauses.size() == 1 ? live.clone() : FastAggregation.and(clauses.iterator());
+    }
+
+    private RoaringBitmap filterByName(RoaringBitmap candidates, String keyword) {
+        RoaringBitmap byName = new RoaringBitmap();
+        IntIterator it = candidates.getIntIterator();
+        while (it.hasNext()) {
+            int ordinal = it.next();
+            if (slots[ordinal].name().toLowerCase(Locale.ROOT).contains(keyword)) {
+                byName.add(ordinal);
+            }
+        }
+        return byName;
+    }
+
+    /**
+     * facet 값 → ordinal 비트맵. 불변이며, 변경 시 바뀐 값의 비트맵만 복제한 새 Facet을 만든다.
+     */
+    private static final class Facet<K> {
+        private final Map<K, RoaringBitmap> bitmaps;
+        private final Function<ClubCatalogEntry, Collection<K>> keysOf;
+
+        Facet(Map<K, RoaringBitmap> bitmaps, Function<ClubCatalogEntry, Collection<K>> keysOf) {
+            this.bitmaps = bitmaps;
+            this.keysOf = keysOf;
+        }
+
+        static <K> List<K> single(K key) {
+            return key == null ? List.of() : List.of(key);
+        }
+
+        RoaringBitmap get(K key) {
+            return bitmaps.getOrDefault(key, EMPTY);
+        }
+
+        /** 값마다 base와의 교집합 크기. */
+        Map<K, Long> counts(RoaringBitmap base) {
+            Map<K, Long> counts = new HashMap<>(bitmaps.size() * 2);
+            bitmaps.forEach((key, bitmap) -> counts.put(key, (long) RoaringBitmap.andCardinality(base, bitmap)));
+            return counts;
+        }
+
+        /** ordinal을 previous의 facet 값에서 빼고 next의 facet 값에 더한다. 둘 중 하나는 null일 수 있다. */
+        Facet<K> move(int ordinal, ClubCatalogEntry previous, ClubCatalogEntry next) {
+            Set<K> removed = previous == null ? Set.of() : Set.copyOf(keysOf.apply(previous));
+            Set<K> added = next == null ? Set.of() : Set.copyOf(keysOf.apply(next));
+            if (removed.equals(added)) {
+                return this;
+            }
+            Map<K, RoaringBitmap> copy = new HashMap<>(bitmaps);
+            for (K key : removed) {
+                if (!added.contains(key)) {
+                    RoaringBitmap bitmap = copy.get(key).clone();
+                    bitmap.remove(ordinal);
+                    if (bitmap.isEmpty()) {
+                        copy.remove(key);
+                    } else {
+                        copy.put(key, bitmap);
+                    }
+                }
+            }
+            for (K key : added) {
+                if (!removed.contains(key)) {
+                    RoaringBitmap bitmap = copy.containsKey(key) ? copy.get(key).clone() : new RoaringBitmap();
+                    bitmap.add(ordinal);
+                    copy.put(key, bitmap);
+                }
+            }
+            return new Facet<>(copy, keysOf);
+        }
+    }
+}
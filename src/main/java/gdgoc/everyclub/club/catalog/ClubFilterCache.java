@@ -0,0 +1,223 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.config.ClubCatalogProperties;
+import gdgoc.everyclub.club.dto.ClubFilterRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 필터 조회(GET /clubs) 결과 캐시. 같은 (필터, 페이지, 정렬) 조합의 id 목록과 전체 개수를 LRU + TTL로 보관한다.
+ *
+ * <p>키의 필터는 {@link ClubFilterRequest#canonical()}로 정규화하므로 카테고리/태그 순서나 이름 표기만 다른 요청은
+ * 같은 항목을 쓴다.
+ *
+ * <p>내용(좋아요 수 등)은 캐시하지 않고 id만 들고 있으므로, 읽는 쪽이 조회 시점의 스냅샷이나 DB에서 응답을 만든다.
+ * 따라서 동아리가 바뀌어도 결과 집합이나 순서가 바뀔 수 있는 항목만 무효화하면 된다 ({@link #invalidate}).
+ * <ul>
+ *   <li>변경 전/후 항목 중 하나라도 필터에 맞는 캐시 항목만 제거한다. 둘 다 맞고 정렬 키가 그대로이면 유지한다.</li>
+ *   <li>좋아요 수 변경({@link #invalidateLikeOrder})은 필터 결과를 바꾸지 않으므로 likeCount 정렬 항목만 본다.
+ *       이 항목들은 따로 모아 두어 좋아요마다 캐시 전체를 훑지 않는다.</li>
+ *   <li>변경 전 상태를 알 수 없을 때(스냅샷 적재 전)와 전체 재적재 때는 전부 비운다 ({@link #clear}).</li>
+ * </ul>
+ *
+ * <p>무효화와 겹친 조회가 오래된 결과를 다시 넣지 않도록, 조회 시작 시점의 {@link #generation()}을 받아
+ * 그 사이 무효화가 있었으면 {@link #put}을 버린다. 좋아요 무효화는 세대를 따로 세므로 likeCount 정렬 조회만 버린다.
+ *
+ * <p>적중/실패/제거 횟수는 {@link #stats()}로 확인하며, 전체 재적재 때마다 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class ClubFilterCache {
+
+    /** 정규화된 캐시 키. {@code filter}는 무효화 시 {@link ClubCatalogEntry#matches}로 평가한다. */
+    public record Key(ClubFilterRequest filter, int page, int size, Sort sort) {
+
+        /** 페이지 없는 조회(unpaged)는 캐시하지 않으므로 null. */
+        public static Key of(ClubFilterRequest filter, Pageable pageable) {
+            if (pageable.isUnpaged()) {
+                return null;
+            }
+            return new Key(filter.canonical(), pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+    }
+
+    /** 페이지에 담긴 id(정렬 순서)와 전체 개수. */
+    public record CachedPage(List<Long> ids, long total) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size) {
+    }
+
+    private record Entry(CachedPage page, long expiresAt) {
+    }
+
+    private static final String LIKE_COUNT = "likeCount";
+
+    private final ClubCatalogProperties.FilterCache properties;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** {@code entries} 중 likeCount로 정렬하는 키. */
+    private final Set<Key> likeOrdered = new HashSet<>();
+
+    private int generation;
+    private int likeGeneration;
+    private long hits;
+    private long misses;
+    /** 용량 초과 또는 TTL 만료로 제거된 수. */
+    private long evictions;
+    /** 동아리 변경으로 제거된 수. */
+    private long invalidations;
+
+    @Autowired
+    public ClubFilterCache(ClubCatalogProperties properties) {
+        this(properties.getFilterCache(), System::nanoTime);
+    }
+
+    ClubFilterCache(ClubCatalogProperties.FilterCache properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 무효화가 일어날 때마다 바뀌는 값. 조회 전에 읽어 두었다가 {@link #put}에 넘긴다.
+     * 상위 32비트는 동아리 변경, 하위 32비트는 좋아요 변경 세대다.
+     */
+    public synchronized long generation() {
+        return (long) generation << 32 | likeGeneration & 0xffffffffL;
+    }
+
+    /** 캐시된 페이지. 없거나 만료되었으면 null. */
+    public synchronized CachedPage get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - nanoClock.getAsLong() <= 0) {
+            entries.remove(key);
+            likeOrdered.remove(key);
+            evictions++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.page();
+    }
+
+    /**
+     * 조회 결과를 넣는다. {@code generation} 이후 무효화가 있었으면 결과가 이미 낡았을 수 있으므로 버린다.
+     */
+    public synchronized void put(Key key, List<Long> ids, long total, long generation) {
+        if (!isEnabled() || key == null || (int) (generation >>> 32) != this.generation) {
+            return;
+        }
+        boolean byLikes = isLikeOrdered(key);
+        if (byLikes && (int) generation != likeGeneration) {
+            return;
+        }
+        long expiresAt = nanoClock.getAsLong() + TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+        entries.put(key, new Entry(new CachedPage(List.copyOf(ids), total), expiresAt));
+        if (byLikes) {
+            likeOrdered.add(key);
+        }
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > properties.getMaxEntries()) {
+            likeOrdered.remove(eldest.next().getKey());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * 동아리 하나가 previous에서 next로 바뀌었을 때 영향받는 항목만 제거한다.
+     *
+     * @param previous 변경 전 공개 항목. 새로 공개되었으면 null
+     * @param next     변경 후 공개 항목. 비공개/삭제되었으면 null
+     */
+    public synchronized void invalidate(ClubCatalogEntry previous, ClubCatalogEntry next) {
+        generation++;
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            Key key = keys.next();
+            if (affects(key, previous, next)) {
+                keys.remove();
+                likeOrdered.remove(key);
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * 동아리 하나의 좋아요 수만 바뀌었을 때 호출한다. 결과 집합은 그대로이므로 그 동아리가 필터에 맞는
+     * likeCount 정렬 항목만 제거한다.
+     *
+     * @param entry 좋아요 수가 바뀐 공개 항목
+     */
+    public synchronized void invalidateLikeOrder(ClubCatalogEntry entry) {
+        likeGeneration++;
+        Iterator<Key> keys = likeOrdered.iterator();
+        while (keys.hasNext()) {
+            Key key = keys.next();
+            if (entry.matches(key.filter())) {
+                keys.remove();
+                entries.remove(key);
+                invalidations++;
+            }
+        }
+    }
+
+    /** 모든 항목을 제거한다. 변경 전 상태를 알 수 없을 때 쓴다. */
+    public synchronized void clear() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+        likeOrdered.clear();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, invalidations, entries.size());
+    }
+
+    /** 전체 재적재 직후 호출된다. 지금까지의 통계를 남기고 비운다. */
+    void onRebuild() {
+        log.info("Club filter cache before rebuild: {}", stats());
+        clear();
+    }
+
+    private static boolean isLikeOrdered(Key key) {
+        return key.sort().stream().anyMatch(order -> order.getProperty().equals(LIKE_COUNT));
+    }
+
+    private static boolean affects(Key key, ClubCatalogEntry previous, ClubCatalogEntry next) {
+        boolean matchedBefore = previous != null && previous.matches(key.filter());
+        boolean matchesAfter = next != null && next.matches(key.filter());
+        if (!matchedBefore && !matchesAfter) {
+            return false;
+        }
+        if (matchedBefore != matchesAfter) {
+            return true;
+        }
+        // 결과 집합은 같다. 정렬 키가 바뀌었으면 순서가 달라질 수 있다 (DB 전용 정렬 속성이면 알 수 없으므로 제거).
+        if (!ClubCatalogSnapshot.isSortable(key.sort())) {
+            return true;
+        }
+        Comparator<ClubCatalogEntry> order = ClubCatalogSnapshot.comparator(key.sort());
+        return order.compare(previous, next) != 0;
+    }
+}
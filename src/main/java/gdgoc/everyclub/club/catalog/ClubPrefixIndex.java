@@ -0,0 +1,128 @@
+package gdgoc.everyclub.club.catalog;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 문자열 키 → ordinal 비트맵을 키 정렬 순서로 들고 있는 불변 접두사 인덱스 (자동완성용).
+ *
+ * <p>키가 정렬된 배열이므로 같은 접두사로 시작하는 키는 한 구간에 모여 있고, 구간 시작은 이분 탐색으로 찾는다.
+ * trie와 같은 조회를 하면서 노드 객체 없이 배열 두 개만 쓰므로 스냅샷마다 복제·공유하기 쉽다.
+ *
+ * <p>{@link ClubFacetIndex}의 facet과 같은 방식으로 패치한다. 키 집합이 그대로면 바뀐 키의 비트맵만 복제하고,
+ * 키가 생기거나 사라질 때만 정렬 배열을 병합해 새로 만든다.
+ */
+final class ClubPrefixIndex {
+
+    private final String[] keys;
+    /** keys와 같은 순서의 ordinal 비트맵. */
+    private final RoaringBitmap[] postings;
+    private final Function<ClubCatalogEntry, Collection<String>> keysOf;
+
+    private ClubPrefixIndex(String[] keys, RoaringBitmap[] postings,
+                            Function<ClubCatalogEntry, Collection<String>> keysOf) {
+        this.keys = keys;
+        this.postings = postings;
+        this.keysOf = keysOf;
+    }
+
+    /** @param slots ordinal → 항목 (null 슬롯은 건너뛴다) */
+    static ClubPrefixIndex build(ClubCatalogEntry[] slots, Function<ClubCatalogEntry, Collection<String>> keysOf) {
+        Map<String, RoaringBitmap> bitmaps = new TreeMap<>();
+        for (int ordinal = 0; ordinal < slots.length; ordinal++) {
+            if (slots[ordinal] == null) {
+                continue;
+            }
+            for (String key : keysOf.apply(slots[ordinal])) {
+                bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+            }
+        }
+        return new ClubPrefixIndex(bitmaps.keySet().toArray(String[]::new),
+                bitmaps.values().toArray(RoaringBitmap[]::new), keysOf);
+    }
+
+    /** prefix로 시작하는 키와 그 비트맵을 키 순서대로 넘긴다. 비트맵은 공유 객체이므로 수정하면 안 된다. */
+    void forEachWithPrefix(String prefix, BiConsumer<String, RoaringBitmap> action) {
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            action.accept(keys[i], postings[i]);
+        }
+    }
+
+    /** prefix로 시작하는 키 중 하나라도 가진 ordinal 집합. 반환된 비트맵은 호출자 소유다. */
+    RoaringBitmap matchPrefix(String prefix) {
+        List<RoaringBitmap> matched = new ArrayList<>();
+        forEachWithPrefix(prefix, (key, bitmap) -> matched.add(bitmap));
+        return matched.isEmpty() ? new RoaringBitmap() : FastAggregation.or(matched.iterator());
+    }
+
+    private int lowerBound(String prefix) {
+        int found = Arrays.binarySearch(keys, prefix);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    /** ordinal을 previous의 키에서 빼고 next의 키에 더한다. 둘 중 하나는 null일 수 있다. */
+    ClubPrefixIndex move(int ordinal, ClubCatalogEntry previous, ClubCatalogEntry next) {
+        Set<String> removed = previous == null ? Set.of() : Set.copyOf(keysOf.apply(previous));
+        Set<String> added = next == null ? Set.of() : Set.copyOf(keysOf.apply(next));
+        if (removed.equals(added)) {
+            return this;
+        }
+
+        RoaringBitmap[] nextPostings = postings.clone();
+        boolean keyRemoved = false;
+        for (String key : removed) {
+            if (!added.contains(key)) {
+                int i = Arrays.binarySearch(keys, key);
+                RoaringBitmap bitmap = nextPostings[i].clone();
+                bitmap.remove(ordinal);
+                nextPostings[i] = bitmap.isEmpty() ? null : bitmap;
+                keyRemoved |= bitmap.isEmpty();
+            }
+        }
+        List<String> inserted = new ArrayList<>();
+        for (String key : added) {
+            if (!removed.contains(key)) {
+                int i = Arrays.binarySearch(keys, key);
+                if (i >= 0) {
+                    RoaringBitmap bitmap = nextPostings[i].clone();
+                    bitmap.add(ordinal);
+                    nextPostings[i] = bitmap;
+                } else {
+                    inserted.add(key);
+                }
+            }
+        }
+        if (!keyRemoved && inserted.isEmpty()) {
+            return new ClubPrefixIndex(keys, nextPostings, keysOf);
+        }
+
+        // 빈 키를 빼고 새 키를 정렬 위치에 끼워 넣는다.
+        Collections.sort(inserted);
+        String[] mergedKeys = new String[keys.length + inserted.size()];
+        RoaringBitmap[] mergedPostings = new RoaringBitmap[mergedKeys.length];
+        int size = 0;
+        int j = 0;
+        for (int i = 0; i <= keys.length; i++) {
+            while (j < inserted.size() && (i == keys.length || inserted.get(j).compareTo(keys[i]) < 0)) {
+                mergedKeys[size] = inserted.get(j++);
+                mergedPostings[size++] = RoaringBitmap.bitmapOf(ordinal);
+            }
+            if (i < keys.length && nextPostings[i] != null) {
+                mergedKeys[size] = keys[i];
+                mergedPostings[size++] = nextPostings[i];
+            }
+        }
+        return new ClubPrefixIndex(Arrays.copyOf(mergedKeys, size), Arrays.copyOf(mergedPostings, size), keysOf);
+    }
+}
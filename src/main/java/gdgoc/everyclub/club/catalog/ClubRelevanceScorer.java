@@ -0,0 +1,84 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.config.ClubRankingProperties;
+import gdgoc.everyclub.club.domain.HangulChoseong;
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 이름 검색 결과의 관련도 점수.
+ *
+ * <pre>
+ * score = similarityWeight * similarity
+ *       + popularityWeight * likes / (likes + popularityPivot)
+ *       + openWeight       * (모집 중이면 1, 아니면 0)
+ *       + recencyWeight    * 0.5 ^ (수정 후 경과 일수 / recencyHalfLifeDays)
+ * </pre>
+ * 동점이면 id 오름차순이다. 가중치는 {@link ClubRankingProperties}로 조정한다.
+ *
+ * <p>similarity는 경로마다 다르다. trigram 경로는 {@code word_similarity}, 짧은 검색어는 {@link #keywordSimilarity},
+ * 초성 검색은 {@link #choseongSimilarity}를 쓴다. DB 폴백 쿼리({@code ClubRankedSearchRepository})도 같은 식이다.
+ *
+ * <p>점수는 검색 인덱스가 골라 낸 후보에만 계산한다. 후보 밖의 동아리를 정렬하는 일은 없다.
+ */
+public final class ClubRelevanceScorer {
+
+    static final double NAME_EXACT = 1.0;
+    static final double NAME_PREFIX = 0.8;
+    static final double NAME_CONTAINS = 0.6;
+    static final double SUMMARY_ONLY = 0.3;
+
+    private static final double SECONDS_PER_DAY = 86_400;
+
+    private final ClubRankingProperties weights;
+    private final LocalDateTime now;
+
+    /** @param now 경과 시간 기준 시각. 한 요청 안에서는 같은 값을 써야 순위가 흔들리지 않는다. */
+    public ClubRelevanceScorer(ClubRankingProperties weights, LocalDateTime now) {
+        this.weights = weights;
+        this.now = now;
+    }
+
+    public double score(double similarity, ClubCatalogEntry entry) {
+        double likes = Math.max(entry.likeCount(), 0);
+        double score = weights.getSimilarityWeight() * similarity
+                + weights.getPopularityWeight() * likes / (likes + weights.getPopularityPivot());
+        if (entry.recruitingStatus() == RecruitingStatus.OPEN) {
+            score += weights.getOpenWeight();
+        }
+        if (entry.updatedAt() != null) {
+            double ageDays = Math.max(Duration.between(entry.updatedAt(), now).toSeconds(), 0) / SECONDS_PER_DAY;
+            score += weights.getRecencyWeight() * Math.pow(0.5, ageDays / weights.getRecencyHalfLifeDays());
+        }
+        return score;
+    }
+
+    /**
+     * 1~3자 검색어의 일치 정도. 이름 전체 일치 1.0, 이름(또는 이름 속 단어)이 검색어로 시작 0.8,
+     * 이름 중간 일치 0.6, 소개에만 있으면 0.3.
+     *
+     * @param lowerKeyword 소문자화된 검색어
+     */
+    public static double keywordSimilarity(String lowerKeyword, ClubCatalogEntry entry) {
+        String name = entry.name().toLowerCase(Locale.ROOT);
+        if (name.equals(lowerKeyword)) {
+            return NAME_EXACT;
+        }
+        if (name.startsWith(lowerKeyword) || name.contains(" " + lowerKeyword)) {
+            return NAME_PREFIX;
+        }
+        return name.contains(lowerKeyword) ? NAME_CONTAINS : SUMMARY_ONLY;
+    }
+
+    /** 초성 검색어의 일치 정도. 이름 초성 전체 일치 1.0, 앞부분 일치 0.8, 중간 일치 0.6. */
+    public static double choseongSimilarity(String choseong, ClubCatalogEntry entry) {
+        String nameChoseong = HangulChoseong.extract(entry.name());
+        if (nameChoseong.equals(choseong)) {
+            return NAME_EXACT;
+        }
+        return nameChoseong.startsWith(choseong) ? NAME_PREFIX : NAME_CONTAINS;
+    }
+}
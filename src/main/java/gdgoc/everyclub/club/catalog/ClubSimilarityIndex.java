@@ -0,0 +1,342 @@
+package gdgoc.everyclub.club.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 비슷한 동아리 추천용 이웃 표 (GET /clubs/{id}/similar).
+ *
+ * <p>두 동아리의 유사도는 태그 집합의 Jaccard 계수에 같은 카테고리, 같은 단과대 가산점을 더한 값이다.
+ * <pre>
+ * score = TAG_WEIGHT      * |A ∩ B| / |A ∪ B|
+ *       + CATEGORY_WEIGHT * (카테고리가 같으면 1, 아니면 0)
+ *       + COLLEGE_WEIGHT  * (단과대가 같으면 1, 아니면 0)
+ * </pre>
+ * 동아리마다 점수 상위 {@link #TOP_K}개(점수 내림차순, 동점이면 id 오름차순)를 미리 계산해 두며, 조회는 표를 읽기만 한다.
+ *
+ * <p>후보는 태그, 카테고리, 단과대 역색인에서 하나라도 겹치는 동아리다. 점수가 0인 쌍은 보지 않으므로
+ * 비용은 전체 쌍(n²)이 아니라 겹치는 쌍의 수에 비례한다. 다만 동아리 수가 {@link #MAX_POSTING}을 넘는 흔한 값
+ * (큰 카테고리, "스터디" 같은 태그)은 후보를 모을 때 건너뛰고 점수 가산에만 쓴다. 카탈로그가 커져도 동아리 하나의
+ * 후보 수가 값 개수 × {@link #MAX_POSTING} 이하로 묶인다. 후보 관계는 대칭이다.
+ *
+ * <p>동아리 하나가 바뀌면({@link #with}, {@link #without}) 그 동아리의 이웃을 다시 계산하고, 변경 전후 후보의 목록에서는
+ * 그 동아리 항목만 고친다. 점수가 내려가거나 빠져서 k번째 자리를 알 수 없게 된 목록만 다시 계산한다.
+ * 역색인과 표는 바뀐 항목만 새로 만들고 나머지는 이전 인덱스와 공유한다 (copy-on-write).
+ */
+final class ClubSimilarityIndex {
+
+    /** 동아리마다 보관하는 이웃 수. */
+    static final int TOP_K = 20;
+    /** 후보를 모을 때 쓰는 역색인 목록의 최대 크기. 이보다 흔한 값은 후보 생성에서 빠진다. */
+    static final int MAX_POSTING = 200;
+    static final double TAG_WEIGHT = 1.0;
+    static final double CATEGORY_WEIGHT = 0.2;
+    static final double COLLEGE_WEIGHT = 0.1;
+
+    /** 점수 내림차순, 동점이면 id 오름차순. */
+    private static final Comparator<Neighbor> BY_RANK = Comparator.comparingDouble(Neighbor::score).reversed()
+            .thenComparingLong(Neighbor::clubId);
+
+    private final Map<Long, Features> features;
+    private final Map<String, Set<Long>> byTag;
+    private final Map<Long, Set<Long>> byCategory;
+    private final Map<Long, Set<Long>> byCollege;
+    /** id → 상위 {@link #TOP_K}개 이웃 ({@link #BY_RANK} 순). */
+    private final Map<Long, List<Neighbor>> neighbors;
+
+    record Neighbor(long clubId, double score) {
+    }
+
+    /** 유사도 계산에 쓰는 값. */
+    private record Features(Set<String> tags, Long categoryId, Long collegeId) {
+
+        static Features of(ClubCatalogEntry entry) {
+            return new Features(Set.copyOf(entry.tags()), entry.categoryId(), entry.collegeId());
+        }
+    }
+
+    private ClubSimilarityIndex(Map<Long, Features> features, Map<String, Set<Long>> byTag,
+                                Map<Long, Set<Long>> byCategory, Map<Long, Set<Long>> byCollege,
+                                Map<Long, List<Neighbor>> neighbors) {
+        this.features = features;
+        this.byTag = byTag;
+        this.byCategory = byCategory;
+        this.byCollege = byCollege;
+        this.neighbors = neighbors;
+    }
+
+    static ClubSimilarityIndex build(Collection<ClubCatalogEntry> entries) {
+        Map<Long, Features> features = new HashMap<>(entries.size() * 2);
+        entries.forEach(entry -> features.put(entry.id(), Features.of(entry)));
+        return build(features);
+    }
+
+    private static ClubSimilarityIndex build(Map<Long, Features> features) {
+        ClubSimilarityIndex index = new ClubSimilarityIndex(features, new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>(features.size() * 2));
+        features.forEach((id, own) -> {
+            own.tags().forEach(tag -> index.byTag.computeIfAbsent(tag, k -> new HashSet<>()).add(id));
+            if (own.categoryId() != null) {
+                index.byCategory.computeIfAbsent(own.categoryId(), k -> new HashSet<>()).add(id);
+            }
+            if (own.collegeId() != null) {
+                index.byCollege.computeIfAbsent(own.collegeId(), k -> new HashSet<>()).add(id);
+            }
+        });
+        for (Long id : features.keySet()) {
+            index.neighbors.put(id, index.compute(id));
+        }
+        return index;
+    }
+
+    /** 해당 동아리의 이웃. 없는 id이면 빈 목록. */
+    List<Neighbor> neighbors(Long id) {
+        return neighbors.getOrDefault(id, List.of());
+    }
+
+    /** 유사도에 쓰는 값(태그, 카테고리, 단과대)이 같으면 true. 이 경우 이웃 표가 바뀌지 않는다. */
+    static boolean sameFeatures(ClubCatalogEntry a, ClubCatalogEntry b) {
+        return Features.of(a).equals(Features.of(b));
+    }
+
+    /** 항목을 추가하거나 같은 id의 항목을 교체한 새 인덱스를 반환한다. */
+    ClubSimilarityIndex with(ClubCatalogEntry entry) {
+        return patch(entry.id(), Features.of(entry));
+    }
+
+    /** 해당 id를 제외한 새 인덱스를 반환한다. 없는 id이면 자기 자신을 그대로 반환한다. */
+    ClubSimilarityIndex without(Long id) {
+        return features.containsKey(id) ? patch(id, null) : this;
+    }
+
+    /** @param next 바뀐 값. 제외하는 경우 null */
+    private ClubSimilarityIndex patch(Long id, Features next) {
+        Features previous = features.get(id);
+        ClubSimilarityIndex patched = new ClubSimilarityIndex(new HashMap<>(features), new HashMap<>(byTag),
+                new HashMap<>(byCategory), new HashMap<>(byCollege), new HashMap<>(neighbors));
+        if (next != null) {
+            patched.features.put(id, next);
+        } else {
+            patched.features.remove(id);
+        }
+        // 역색인은 바뀐 값만 고친다. 그대로인 값의 목록 크기는 변하지 않으므로 경계를 넘을 수 없다.
+        Set<String> previousTags = previous != null ? previous.tags() : Set.of();
+        Set<String> nextTags = next != null ? next.tags() : Set.of();
+        boolean crossed = false;
+        for (String tag : previousTags) {
+            if (!nextTags.contains(tag)) {
+                crossed |= unpost(patched.byTag, tag, id);
+            }
+        }
+        for (String tag : nextTags) {
+            if (!previousTags.contains(tag)) {
+                crossed |= post(patched.byTag, tag, id);
+            }
+        }
+        crossed |= repost(patched.byCategory, previous != null ? previous.categoryId() : null,
+                next != null ? next.categoryId() : null, id);
+        crossed |= repost(patched.byCollege, previous != null ? previous.collegeId() : null,
+                next != null ? next.collegeId() : null, id);
+        if (crossed) {
+            // 어떤 값이 MAX_POSTING 경계를 넘나들면 그 값을 가진 동아리 전체의 후보가 바뀌므로 다시 만든다.
+            return build(patched.features);
+        }
+
+        // 점수가 바뀔 수 있는 동아리는 변경 전 후보와 변경 후 후보뿐이다. 더는 후보가 아니면 목록에서 뺀다.
+        Set<Long> before = previous != null ? candidates(id, previous) : Set.of();
+        Set<Long> after = next != null ? patched.candidates(id, next) : Set.of();
+        Set<Long> affected = new HashSet<>(before);
+        affected.addAll(after);
+        for (Long other : affected) {
+            patched.update(other, id, after.contains(other) ? next : null);
+        }
+        if (next != null) {
+            patched.neighbors.put(id, patched.compute(id));
+        } else {
+            patched.neighbors.remove(id);
+        }
+        return patched;
+    }
+
+    /** other의 이웃 목록에서 changed 항목만 고친다. changedFeatures가 null이면 changed를 뺀다. */
+    private void update(Long other, Long changed, Features changedFeatures) {
+        List<Neighbor> current = neighbors.getOrDefault(other, List.of());
+        double score = changedFeatures == null ? 0 : score(features.get(other), changedFeatures);
+        int at = indexOf(current, changed);
+        if (at < 0 && score <= 0) {
+            return;
+        }
+        if (at >= 0 && score < current.get(at).score() && current.size() == TOP_K) {
+            // 내려간 자리를 목록 밖의 후보가 차지할 수 있으므로 다시 계산한다.
+            // 목록이 k개보다 적으면 점수가 양수인 후보가 이미 모두 들어 있으므로 고치기만 하면 된다.
+            neighbors.put(other, compute(other));
+            return;
+        }
+        List<Neighbor> next = new ArrayList<>(current);
+        if (at >= 0) {
+            next.remove(at);
+        }
+        if (score > 0) {
+            next.add(new Neighbor(changed, score));
+        }
+        next.sort(BY_RANK);
+        neighbors.put(other, List.copyOf(next.subList(0, Math.min(TOP_K, next.size()))));
+    }
+
+    /**
+     * 후보마다 점수를 매겨 크기가 k인 힙으로 상위 항목을 고른다.
+     * 공통 태그 수는 태그 역색인을 훑으며 함께 세므로 후보마다 집합 교집합을 따로 구하지 않는다.
+     */
+    private List<Neighbor> compute(Long id) {
+        Features own = features.get(id);
+        Map<Long, Integer> common = new HashMap<>();
+        List<String> skippedTags = new ArrayList<>();
+        for (String tag : own.tags()) {
+            Set<Long> ids = byTag.get(tag);
+            if (isSelective(ids)) {
+                ids.forEach(other -> common.merge(other, 1, Integer::sum));
+            } else {
+                skippedTags.add(tag);
+            }
+        }
+        addCandidates(common, postingsOf(byCategory, own.categoryId()));
+        addCandidates(common, postingsOf(byCollege, own.collegeId()));
+        common.remove(id);
+
+        // 가장 낮은 순위가 맨 위에 오는 힙
+        PriorityQueue<Neighbor> top = new PriorityQueue<>(TOP_K + 1, BY_RANK.reversed());
+        for (Map.Entry<Long, Integer> candidate : common.entrySet()) {
+            Features theirs = features.get(candidate.getKey());
+            int shared = candidate.getValue();
+            // 후보 생성에서 건너뛴 흔한 태그는 여기서 따로 센다.
+            for (String tag : skippedTags) {
+                if (theirs.tags().contains(tag)) {
+                    shared++;
+                }
+            }
+            double score = score(own, theirs, shared);
+            if (score > 0) {
+                top.add(new Neighbor(candidate.getKey(), score));
+                if (top.size() > TOP_K) {
+                    top.poll();
+                }
+            }
+        }
+        List<Neighbor> result = new ArrayList<>(top);
+        result.sort(BY_RANK);
+        return List.copyOf(result);
+    }
+
+    /** 태그, 카테고리, 단과대 중 {@link #MAX_POSTING} 이하로 흔한 값 하나라도 같은 동아리 (자기 자신 제외). */
+    private Set<Long> candidates(Long id, Features own) {
+        Set<Long> result = new HashSet<>();
+        for (String tag : own.tags()) {
+            addSelective(result, byTag.get(tag));
+        }
+        addSelective(result, postingsOf(byCategory, own.categoryId()));
+        addSelective(result, postingsOf(byCollege, own.collegeId()));
+        result.remove(id);
+        return result;
+    }
+
+    private static void addCandidates(Map<Long, Integer> common, Set<Long> ids) {
+        if (isSelective(ids)) {
+            ids.forEach(other -> common.putIfAbsent(other, 0));
+        }
+    }
+
+    private static void addSelective(Set<Long> result, Set<Long> ids) {
+        if (isSelective(ids)) {
+            result.addAll(ids);
+        }
+    }
+
+    private static boolean isSelective(Set<Long> ids) {
+        return ids != null && ids.size() <= MAX_POSTING;
+    }
+
+    private static Set<Long> postingsOf(Map<Long, Set<Long>> postings, Long key) {
+        return key == null ? null : postings.get(key);
+    }
+
+    private static double score(Features a, Features b) {
+        int common = 0;
+        for (String tag : a.tags()) {
+            if (b.tags().contains(tag)) {
+                common++;
+            }
+        }
+        return score(a, b, common);
+    }
+
+    /** @param commonTags 두 동아리의 공통 태그 수 */
+    private static double score(Features a, Features b, int commonTags) {
+        double score = 0;
+        if (commonTags > 0) {
+            score += TAG_WEIGHT * commonTags / (a.tags().size() + b.tags().size() - commonTags);
+        }
+        if (a.categoryId() != null && a.categoryId().equals(b.categoryId())) {
+            score += CATEGORY_WEIGHT;
+        }
+        if (a.collegeId() != null && a.collegeId().equals(b.collegeId())) {
+            score += COLLEGE_WEIGHT;
+        }
+        return score;
+    }
+
+    private static int indexOf(List<Neighbor> neighbors, long clubId) {
+        for (int i = 0; i < neighbors.size(); i++) {
+            if (neighbors.get(i).clubId() == clubId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** 값이 바뀐 경우에만 이전 값의 목록에서 빼고 새 값의 목록에 넣는다. @return 경계를 넘나든 목록이 있으면 true */
+    private static <K> boolean repost(Map<K, Set<Long>> postings, K previous, K next, Long id) {
+        if (Objects.equals(previous, next)) {
+            return false;
+        }
+        boolean crossed = unpost(postings, previous, id);
+        return post(postings, next, id) | crossed;
+    }
+
+    /**
+     * 역색인의 집합은 이전 인덱스와 공유될 수 있으므로 고칠 때 복제한다.
+     *
+     * @return 목록 크기가 {@link #MAX_POSTING}을 넘어서게 되었으면 true
+     */
+    private static <K> boolean post(Map<K, Set<Long>> postings, K key, Long id) {
+        if (key == null) {
+            return false;
+        }
+        Set<Long> ids = new HashSet<>(postings.getOrDefault(key, Set.of()));
+        ids.add(id);
+        postings.put(key, ids);
+        return ids.size() == MAX_POSTING + 1;
+    }
+
+    /** @return 목록 크기가 {@link #MAX_POSTING} 이하로 돌아왔으면 true */
+    private static <K> boolean unpost(Map<K, Set<Long>> postings, K key, Long id) {
+        if (key == null || !postings.containsKey(key)) {
+            return false;
+        }
+        Set<Long> ids = new HashSet<>(postings.get(key));
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            postings.remove(key);
+        } else {
+            postings.put(key, ids);
+        }
+        return ids.size() == MAX_POSTING;
+    }
+}
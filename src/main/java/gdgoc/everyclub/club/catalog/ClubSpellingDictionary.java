@@ -0,0 +1,251 @@
+package gdgoc.everyclub.club.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 결과가 비었을 때 "이것을 찾으셨나요?" 교정 후보를 찾는 철자 사전 (SymSpell의 symmetric delete 방식).
+ *
+ * <p>단어를 처음 등록할 때 글자를 최대 {@link #MAX_EDIT_DISTANCE}개 지운 변형을 모두 미리 색인해 둔다.
+ * 조회 시에는 검색어에서 지운 변형만 만들어 색인을 찾고, 찾은 후보에 대해서만 실제 편집 거리를 계산한다.
+ * 사전 크기와 무관하게 검색어 길이에만 비례하는 해시 조회 몇십 번으로 끝나므로 DB의 trigram 유사도 검색이 필요 없다.
+ *
+ * <p>변형은 앞 {@link #PREFIX_LENGTH}자에서만 만든다 (SymSpell의 prefix 근사). 긴 동아리 이름도 변형 수가
+ * 일정하게 유지되며, 앞부분이 같은 후보를 찾은 뒤 전체 문자열로 거리를 검증한다.
+ *
+ * <p>단어 표와 변형 색인({@link Vocabulary})은 {@link #build}로 만든 사전과 그로부터 {@link #with}로 이어지는 사전들이
+ * 함께 쓰는 추가 전용 구조다. 사전마다 따로 들고 있는 것은 단어별 빈도 배열뿐이므로, 동아리 하나가 바뀌면 빈도만
+ * 고치고 처음 보는 단어의 변형만 색인한다. 빈도가 0인 단어는 없는 것으로 본다.
+ * 바뀐 동아리를 빼면 읽기 전용이며, 단어 표는 전체 재적재로 사전을 새로 만들 때 정리된다.
+ *
+ * <p>단어는 소문자화·공백 정리 후 비교하며, 응답에는 처음 등장한 원래 표기를 돌려준다.
+ */
+final class ClubSpellingDictionary {
+
+    static final int MAX_EDIT_DISTANCE = 2;
+    static final int PREFIX_LENGTH = 7;
+    /** 이 길이 이하의 검색어는 거리 1까지만 교정한다. 짧은 단어에 2글자 교정을 허용하면 무관한 단어가 섞인다. */
+    private static final int SHORT_QUERY_LENGTH = 4;
+
+    private final Vocabulary vocabulary;
+    /** 단어 id별 빈도 (그 단어를 가진 동아리 수). 이 사전을 만든 뒤 추가된 단어는 범위 밖이며 빈도 0으로 본다. */
+    private final int[] counts;
+
+    private ClubSpellingDictionary(Vocabulary vocabulary, int[] counts) {
+        this.vocabulary = vocabulary;
+        this.counts = counts;
+    }
+
+    /**
+     * @param occurrences 동아리별 단어 목록. 같은 단어가 여러 동아리에 나오면 빈도가 그만큼 늘어난다.
+     */
+    static ClubSpellingDictionary build(Collection<? extends Collection<String>> occurrences) {
+        Vocabulary vocabulary = new Vocabulary();
+        List<int[]> ids = new ArrayList<>(occurrences.size());
+        for (Collection<String> words : occurrences) {
+            ids.add(vocabulary.register(words));
+        }
+        int[] counts = new int[vocabulary.size()];
+        for (int[] clubIds : ids) {
+            for (int id : clubIds) {
+                counts[id]++;
+            }
+        }
+        return new ClubSpellingDictionary(vocabulary, counts);
+    }
+
+    /**
+     * 동아리 하나의 단어 목록이 removed에서 added로 바뀐 사전을 반환한다. 추가/삭제는 빈 목록으로 표현한다.
+     * 다른 동아리도 쓰는 단어는 빈도만 바뀌고, 처음 보는 단어만 변형을 새로 색인한다.
+     */
+    ClubSpellingDictionary with(Collection<String> removed, Collection<String> added) {
+        int[] addedIds = vocabulary.register(added);
+        int[] next = Arrays.copyOf(counts, vocabulary.size());
+        for (int id : vocabulary.idsOf(removed)) {
+            next[id] = Math.max(0, next[id] - 1);
+        }
+        for (int id : addedIds) {
+            next[id]++;
+        }
+        return new ClubSpellingDictionary(vocabulary, next);
+    }
+
+    boolean contains(String word) {
+        Integer id = vocabulary.ids.get(normalize(word));
+        return id != null && counts(id) > 0;
+    }
+
+    /**
+     * 검색어와 편집 거리(인접 전치 포함)가 1 이상 허용 거리 이하인 단어를 최대 limit건 반환한다.
+     * 거리 오름차순, 빈도 내림차순, 단어 순으로 정렬한다. 사전에 그대로 있는 단어는 교정 대상이 아니므로 제외한다.
+     */
+    List<String> suggest(String query, int limit) {
+        String input = normalize(query);
+        if (input.isEmpty()) {
+            return List.of();
+        }
+        int maxDistance = input.length() <= SHORT_QUERY_LENGTH ? 1 : MAX_EDIT_DISTANCE;
+        String[] terms = vocabulary.terms;
+
+        Map<Integer, Integer> distanceById = new HashMap<>();
+        for (String variant : deletesOf(input, maxDistance)) {
+            int[] ids = vocabulary.deletes.get(variant);
+            if (ids == null) {
+                continue;
+            }
+            for (int id : ids) {
+                if (counts(id) == 0 || distanceById.containsKey(id)
+                        || Math.abs(terms[id].length() - input.length()) > maxDistance) {
+                    continue;
+                }
+                distanceById.put(id, distance(input, terms[id], maxDistance));
+            }
+        }
+
+        String[] displays = vocabulary.displays;
+        return distanceById.entrySet().stream()
+                .filter(e -> e.getValue() > 0 && e.getValue() <= maxDistance)
+                .sorted(Comparator.<Map.Entry<Integer, Integer>>comparingInt(Map.Entry::getValue)
+                        .thenComparingInt(e -> -counts[e.getKey()])
+                        .thenComparing(e -> terms[e.getKey()]))
+                .limit(limit)
+                .map(e -> displays[e.getKey()])
+                .toList();
+    }
+
+    private int counts(int id) {
+        return id < counts.length ? counts[id] : 0;
+    }
+
+    static String normalize(String word) {
+        return word == null ? "" : word.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String prefix(String term) {
+        return term.length() <= PREFIX_LENGTH ? term : term.substring(0, PREFIX_LENGTH);
+    }
+
+    /** term의 앞 PREFIX_LENGTH자에서 글자를 0~maxDistance개 지운 변형 전체 (자기 자신 포함). */
+    private static Set<String> deletesOf(String term, int maxDistance) {
+        Set<String> result = new HashSet<>();
+        List<String> frontier = List.of(prefix(term));
+        result.addAll(frontier);
+        for (int depth = 0; depth < maxDistance; depth++) {
+            List<String> next = new ArrayList<>();
+            for (String word : frontier) {
+                for (int i = 0; i < word.length(); i++) {
+                    String deleted = word.substring(0, i) + word.substring(i + 1);
+                    if (result.add(deleted)) {
+                        next.add(deleted);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return result;
+    }
+
+    /**
+     * 인접 전치를 한 번의 편집으로 보는 편집 거리 (optimal string alignment).
+     * max를 넘는 것이 확실해지면 max + 1을 반환한다.
+     */
+    static int distance(String a, String b, int max) {
+        int[] before = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, before[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = before;
+            before = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    /**
+     * 정규화된 단어 → id, 단어/표기 표, 지운 변형 → 단어 id 색인. 추가만 하며 한 번 받은 id는 바뀌지 않는다.
+     *
+     * <p>등록은 잠금 안에서 한다. 읽는 쪽은 색인에서 얻은 id나 자기 빈도 배열 범위 안의 id만 쓰며,
+     * 표 원소는 id를 색인에 넣기 전에 채우므로 잠금 없이 읽어도 된다.
+     */
+    private static final class Vocabulary {
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final Map<String, int[]> deletes = new ConcurrentHashMap<>();
+        private volatile String[] terms = new String[16];
+        private volatile String[] displays = new String[16];
+        private int size;
+
+        synchronized int size() {
+            return size;
+        }
+
+        /** 동아리 하나의 단어 목록을 등록하고 중복을 뺀 단어 id를 반환한다. 처음 보는 단어만 변형을 색인한다. */
+        synchronized int[] register(Collection<String> words) {
+            Set<Integer> result = new LinkedHashSet<>();
+            for (String word : words) {
+                String term = normalize(word);
+                if (!term.isEmpty()) {
+                    result.add(ids.computeIfAbsent(term, key -> add(key, word.strip())));
+                }
+            }
+            return result.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int[] idsOf(Collection<String> words) {
+            Set<Integer> result = new LinkedHashSet<>();
+            for (String word : words) {
+                Integer id = ids.get(normalize(word));
+                if (id != null) {
+                    result.add(id);
+                }
+            }
+            return result.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private int add(String term, String display) {
+            int id = size;
+            if (id == terms.length) {
+                terms = Arrays.copyOf(terms, id * 2);
+                displays = Arrays.copyOf(displays, id * 2);
+            }
+            terms[id] = term;
+            displays[id] = display;
+            size = id + 1;
+            for (String variant : deletesOf(term, MAX_EDIT_DISTANCE)) {
+                deletes.merge(variant, new int[]{id}, (existing, added) -> {
+                    int[] merged = Arrays.copyOf(existing, existing.length + 1);
+                    merged[existing.length] = id;
+                    return merged;
+                });
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package gdgoc.everyclub.club.catalog;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 이름·태그·소개·상세 설명에 대한 불변 전문 검색 역색인 (BM25F 순위).
+ *
+ * <p>분석기({@link #analyze}): 소문자화한 뒤 글자/숫자가 아닌 문자와 문자 체계(한글 ↔ 영문·숫자)가 바뀌는 곳에서 자른다.
+ * 한글 구간은 글자 2-gram으로(1글자면 그대로), 영문·숫자 구간은 단어 하나로 만든다.
+ * 조사가 붙은 "해커톤에서"도 "해커", "커톤"을 가지므로 형태소 분석 없이 "해커톤"과 일치한다.
+ *
+ * <p>순위는 필드별 가중치와 길이 정규화를 합친 BM25F다. 단어의 필드별 빈도를 가중 합산한 뒤 한 번만 포화시키므로
+ * 이름에 한 번 나온 단어가 긴 설명에 여러 번 나온 단어보다 높게 평가된다.
+ *
+ * <p>문서(ordinal) → 필드별 단어 빈도와 길이를 들고 있어 점수를 계산하고, 단어 → ordinal 비트맵으로 후보를 찾는다.
+ * {@link ClubFacetIndex}와 함께 패치되며, 검색 대상 텍스트가 바뀐 항목만 다시 분석하고 바뀐 단어의 비트맵만 복제한다.
+ */
+final class ClubTextIndex {
+
+    private static final double K1 = 1.2;
+
+    /** 검색 필드. 가중치가 클수록 그 필드의 일치가 점수에 크게 반영되고, b가 클수록 긴 필드가 불리해진다. */
+    enum Field {
+        NAME(3.0, 0.5),
+        TAGS(2.5, 0.3),
+        SUMMARY(1.5, 0.75),
+        DESCRIPTION(1.0, 0.75);
+
+        final double weight;
+        final double b;
+
+        Field(double weight, double b) {
+            this.weight = weight;
+            this.b = b;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+
+    /** 분석된 문서. frequencies는 단어 → 필드별 빈도 (Field 순서). */
+    record Document(Map<String, int[]> frequencies, int[] lengths) {}
+
+    /** 검색 결과 한 건. */
+    record Hit(int ordinal, double score) {}
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    /** ordinal → 문서. 빈 슬롯은 null. */
+    private final Document[] documents;
+    /** 단어 → 그 단어를 가진 ordinal. */
+    private final Map<String, RoaringBitmap> postings;
+    /** 필드별 전체 길이 합 (평균 길이 계산용). */
+    private final long[] totalLengths;
+    private final int documentCount;
+
+    private ClubTextIndex(Document[] documents, Map<String, RoaringBitmap> postings, long[] totalLengths,
+                          int documentCount) {
+        this.documents = documents;
+        this.postings = postings;
+        this.totalLengths = totalLengths;
+        this.documentCount = documentCount;
+    }
+
+    /** @param slots ordinal → 항목 (null 슬롯은 건너뛴다) */
+    static ClubTextIndex build(ClubCatalogEntry[] slots) {
+        Document[] documents = new Document[slots.length];
+        Map<String, RoaringBitmap> postings = new HashMap<>();
+        long[] totalLengths = new long[FIELDS.length];
+        int count = 0;
+        for (int ordinal = 0; ordinal < slots.length; ordinal++) {
+            if (slots[ordinal] == null) {
+                continue;
+            }
+            Document document = document(slots[ordinal]);
+            documents[ordinal] = document;
+            for (String term : document.frequencies().keySet()) {
+                postings.computeIfAbsent(term, k -> new RoaringBitmap()).add(ordinal);
+            }
+            addLengths(totalLengths, document, 1);
+            count++;
+        }
+        return new ClubTextIndex(documents, postings, totalLengths, count);
+    }
+
+    /** ordinal의 문서를 previous에서 next로 바꾼다. 둘 중 하나는 null일 수 있다. */
+    ClubTextIndex move(int ordinal, ClubCatalogEntry previous, ClubCatalogEntry next) {
+        if (previous != null && next != null && sameText(previous, next)) {
+            return this;
+        }
+        Document removed = previous == null ? null : documents[ordinal];
+        Document added = next == null ? null : document(next);
+
+        Document[] nextDocuments = Arrays.copyOf(documents, Math.max(documents.length, ordinal + 1));
+        nextDocuments[ordinal] = added;
+        long[] nextLengths = totalLengths.clone();
+        Set<String> removedTerms = removed == null ? Set.of() : removed.frequencies().keySet();
+        Set<String> addedTerms = added == null ? Set.of() : added.frequencies().keySet();
+        Map<String, RoaringBitmap> nextPostings = new HashMap<>(postings);
+        for (String term : removedTerms) {
+            if (!addedTerms.contains(term)) {
+                RoaringBitmap bitmap = nextPostings.get(term).clone();
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    nextPostings.remove(term);
+                } else {
+                    nextPostings.put(term, bitmap);
+                }
+            }
+        }
+        for (String term : addedTerms) {
+            if (!removedTerms.contains(term)) {
+                RoaringBitmap bitmap = nextPostings.containsKey(term) ? nextPostings.get(term).clone() : new RoaringBitmap();
+                bitmap.add(ordinal);
+                nextPostings.put(term, bitmap);
+            }
+        }
+        int count = documentCount;
+        if (removed != null) {
+            addLengths(nextLengths, removed, -1);
+            count--;
+        }
+        if (added != null) {
+            addLengths(nextLengths, added, 1);
+            count++;
+        }
+        return new ClubTextIndex(nextDocuments, nextPostings, nextLengths, count);
+    }
+
+    /**
+     * 검색어의 단어를 하나 이상 가진 문서를 BM25F 점수 내림차순(동점이면 ordinal 순)으로 반환한다.
+     * 검색어에서 단어가 나오지 않으면 빈 목록.
+     */
+    List<Hit> search(String query) {
+        List<String> terms = List.copyOf(new LinkedHashSet<>(analyze(query)));
+        if (terms.isEmpty() || documentCount == 0) {
+            return List.of();
+        }
+        double[] averageLengths = new double[FIELDS.length];
+        for (int f = 0; f < FIELDS.length; f++) {
+            averageLengths[f] = Math.max(1.0, (double) totalLengths[f] / documentCount);
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            RoaringBitmap bitmap = postings.getOrDefault(term, EMPTY);
+            if (bitmap.isEmpty()) {
+                continue;
+            }
+            int df = bitmap.getCardinality();
+            double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            IntIterator it = bitmap.getIntIterator();
+            while (it.hasNext()) {
+                int ordinal = it.next();
+                Document document = documents[ordinal];
+                double tf = weightedFrequency(document.frequencies().get(term), document.lengths(), averageLengths);
+                scores.merge(ordinal, idf * tf / (K1 + tf), Double::sum);
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(scores.size());
+        scores.forEach((ordinal, score) -> hits.add(new Hit(ordinal, score)));
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparingInt(Hit::ordinal));
+        return hits;
+    }
+
+    /** 필드별 빈도를 길이 정규화해 가중 합산한 값 (BM25F의 pseudo term frequency). */
+    private static double weightedFrequency(int[] frequencies, int[] lengths, double[] averageLengths) {
+        double sum = 0;
+        for (int f = 0; f < FIELDS.length; f++) {
+            if (frequencies[f] == 0) {
+                continue;
+            }
+            Field field = FIELDS[f];
+            double norm = 1 - field.b + field.b * lengths[f] / averageLengths[f];
+            sum += field.weight * frequencies[f] / norm;
+        }
+        return sum;
+    }
+
+    static Document document(ClubCatalogEntry entry) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int[] lengths = new int[FIELDS.length];
+        addField(frequencies, lengths, Field.NAME, List.of(entry.name()));
+        addField(frequencies, lengths, Field.TAGS, entry.tags());
+        addField(frequencies, lengths, Field.SUMMARY, nullable(entry.summary()));
+        addField(frequencies, lengths, Field.DESCRIPTION, nullable(entry.description()));
+        return new Document(frequencies, lengths);
+    }
+
+    private static List<String> nullable(String text) {
+        return text == null ? List.of() : List.of(text);
+    }
+
+    private static void addField(Map<String, int[]> frequencies, int[] lengths, Field field, Collection<String> texts) {
+        for (String text : texts) {
+            for (String term : analyze(text)) {
+                frequencies.computeIfAbsent(term, k -> new int[FIELDS.length])[field.ordinal()]++;
+                lengths[field.ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * 텍스트를 검색 단어로 나눈다. 한글 구간은 2-gram(1글자 구간은 그대로), 영문·숫자 구간은 단어 하나.
+     * 예: "강남대 GDGoC 해커톤2025" → "강남", "남대", "gdgoc", "해커", "커톤", "2025"
+     */
+    static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        boolean hangulRun = false;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean token = Character.isLetterOrDigit(c);
+            boolean hangul = isHangul(c);
+            if (start >= 0 && (!token || hangul != hangulRun)) {
+                emit(terms, lower.substring(start, i), hangulRun);
+                start = -1;
+            }
+            if (token && start < 0) {
+                start = i;
+                hangulRun = hangul;
+            }
+        }
+        return terms;
+    }
+
+    private static void emit(List<String> terms, String run, boolean hangul) {
+        if (!hangul || run.length() == 1) {
+            terms.add(run);
+            return;
+        }
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            terms.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static boolean sameText(ClubCatalogEntry a, ClubCatalogEntry b) {
+        return Objects.equals(a.name(), b.name())
+                && Objects.equals(a.summary(), b.summary())
+                && Objects.equals(a.description(), b.description())
+                && a.tags().equals(b.tags());
+    }
+
+    private static void addLengths(long[] totals, Document document, int sign) {
+        for (int f = 0; f < FIELDS.length; f++) {
+            totals[f] += (long) sign * document.lengths()[f];
+        }
+    }
+}
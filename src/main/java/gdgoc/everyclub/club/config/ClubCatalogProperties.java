@@ -0,0 +1,29 @@
+package gdgoc.everyclub.club.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "club.catalog")
+public class ClubCatalogProperties {
+    /** false이면 스냅샷을 적재하지 않고 모든 목록 조회가 DB 경로를 사용한다. */
+    private boolean enabled = true;
+    /** 이벤트 누락에 대비한 전체 재적재 주기(초). */
+    private int rebuildIntervalSeconds = 600;
+    private FilterCache filterCache = new FilterCache();
+
+    @Getter
+    @Setter
+    public static class FilterCache {
+        /** false이면 필터 조회 결과를 캐시하지 않는다. */
+        private boolean enabled = true;
+        /** 보관할 최대 (필터, 페이지) 조합 수. 넘치면 가장 오래 조회되지 않은 항목부터 제거한다. */
+        private int maxEntries = 1000;
+        /** 항목 유효 시간(초). 무효화 누락에 대비한 상한이다. */
+        private int ttlSeconds = 300;
+    }
+}
@@ -0,0 +1,17 @@
+package gdgoc.everyclub.club.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "club.count")
+public class ClubCountProperties {
+    /** {@code count=CACHED} 요청에서 같은 조건의 COUNT 결과를 재사용하는 시간(초). */
+    private int cacheTtlSeconds = 30;
+    /** 보관할 최대 조건 수. 넘치면 만료된 항목을 정리하고, 그래도 넘치면 모두 비운다. */
+    private int cacheMaxEntries = 10000;
+}
@@ -0,0 +1,22 @@
+package gdgoc.everyclub.club.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "club.detail-cache")
+public class ClubDetailCacheProperties {
+    /** false이면 상세 응답을 매번 직렬화한다. */
+    private boolean enabled = true;
+    /** 직렬화 결과를 보관할 최대 동아리 수. 조회가 몰리는 상위 동아리만 남도록 LRU로 제거한다. */
+    private int maxEntries = 100;
+    /**
+     * 보관 시간(초). 동아리 변경은 이벤트로 바로 제거되므로, 이벤트가 없는 변경(카테고리/학과 이름, 작성자 닉네임)이
+     * 반영되는 최대 지연이다.
+     */
+    private int ttlSeconds = 60;
+}
@@ -0,0 +1,39 @@
+package gdgoc.everyclub.club.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "club.like")
+public class ClubLikeProperties {
+    /** club.like_count ↔ club_likes 드리프트 보정 주기(cron). */
+    private String reconcileCron = "0 30 4 * * *";
+    /** 드리프트 보정 시 한 트랜잭션에서 잠그고 보정할 동아리 수. */
+    private int reconcileBatchSize = 500;
+    private WriteBehind writeBehind = new WriteBehind();
+    private LikedCache likedCache = new LikedCache();
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        /** true이면 좋아요 토글을 메모리 버퍼에 모았다가 주기적으로 일괄 반영한다. */
+        private boolean enabled = false;
+        /** 버퍼 flush 주기(밀리초). */
+        private long flushIntervalMillis = 1000;
+        /** flush 한 번에 반영할 최대 (user, club) 쌍 수. */
+        private int maxBatchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class LikedCache {
+        /** false이면 좋아요한 동아리 id를 요청마다 {@code club_likes}에서 읽는다. */
+        private boolean enabled = true;
+        /** 좋아요한 동아리 id 집합을 보관할 최대 사용자 수. 최근에 조회한 사용자만 남도록 LRU로 제거한다. */
+        private int maxUsers = 10000;
+    }
+}
@@ -0,0 +1,30 @@
+package gdgoc.everyclub.club.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이름 검색 결과의 관련도 점수 가중치. 점수 식은 {@code ClubRelevanceScorer} 참고.
+ * 각 항목은 0~1 범위로 정규화되므로 가중치끼리 직접 비교할 수 있다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "club.search.ranking")
+public class ClubRankingProperties {
+    /** false이면 기존 정렬(짧은 검색어·초성은 이름순, trigram은 유사도순)을 그대로 쓴다. */
+    private boolean enabled = true;
+    /** 검색어 일치 정도(유사도). */
+    private double similarityWeight = 1.0;
+    /** 좋아요 수. {@code likes / (likes + popularityPivot)}로 포화시킨다. */
+    private double popularityWeight = 0.3;
+    /** 인기 항목이 0.5가 되는 좋아요 수. */
+    private double popularityPivot = 20;
+    /** 모집 중({@code RecruitingStatus.OPEN})이면 더하는 값. */
+    private double openWeight = 0.3;
+    /** 최근 수정. 수정 후 {@code recencyHalfLifeDays}마다 절반으로 줄어든다. */
+    private double recencyWeight = 0.1;
+    private double recencyHalfLifeDays = 30;
+}
@@ -0,0 +1,19 @@
+package gdgoc.everyclub.club.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "club.trending")
+public class ClubTrendingProperties {
+    /** false이면 좋아요 변경을 집계하지 않고 인기 급상승 목록은 항상 비어 있다. */
+    private boolean enabled = true;
+    /** 기간별로 순위를 유지해 응답에 쓰는 상위 동아리 수. 요청 크기의 상한이기도 하다. */
+    private int topSize = 50;
+    /** 시간 버킷을 DB에 저장하는 주기(초). 재기동 시 이 주기만큼의 좋아요까지 잃을 수 있다. */
+    private int snapshotIntervalSeconds = 60;
+}
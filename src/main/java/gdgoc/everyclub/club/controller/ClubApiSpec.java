@@ -2,11 +2,18 @@ package gdgoc.everyclub.club.controller;
 
 import gdgoc.everyclub.club.dto.AddClubAdminRequest;
 import gdgoc.everyclub.club.dto.ClubAdminResponse;
+import gdgoc.everyclub.club.dto.ClubAutocompleteResponse;
+import gdgoc.everyclub.club.dto.ClubBatchResponse;
 import gdgoc.everyclub.club.dto.ClubDetailResponse;
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse;
 import gdgoc.everyclub.club.dto.ClubSummaryResponse;
+import gdgoc.everyclub.club.dto.ClubTrendingResponse;
 import gdgoc.everyclub.club.dto.ClubUpdateRequest;
 import gdgoc.everyclub.club.dto.DelegateClubAdminRequest;
+import gdgoc.everyclub.club.dto.TagMatchMode;
 import gdgoc.everyclub.common.ApiResponse;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.common.CursorSlice;
 import gdgoc.everyclub.docs.ClubDocs;
 import gdgoc.everyclub.docs.OpenApiExamples;
 import gdgoc.everyclub.security.dto.CustomUserDetails;
@@ -16,6 +23,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import org.springdoc.core.annotations.ParameterObject;
@@ -29,7 +37,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = ClubDocs.TAG_NAME, description = ClubDocs.TAG_DESCRIPTION)
@@ -41,11 +51,22 @@ public interface ClubApiSpec {
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails);
 
     @GetMapping("/liked")
-    @Operation(summary = "좋아요한 동아리 목록", description = "내가 좋아요한 공개 동아리 목록을 반환합니다.")
+    @Operation(summary = "좋아요한 동아리 목록", description = "내가 좋아요한 공개 동아리 목록을 최근에 좋아요한 순으로 반환합니다. 순서는 바꿀 수 없으며 sort 파라미터를 보내면 400을 반환합니다.")
     ApiResponse<Page<ClubSummaryResponse>> getLikedClubs(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = ClubDocs.PARAM_COUNT, example = "NONE")
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             @ParameterObject Pageable pageable);
 
+    @GetMapping("/liked/cursor")
+    @Operation(summary = "좋아요한 동아리 목록 (커서)", description = "좋아요한 동아리 목록을 최근에 좋아요한 순으로 커서 기반 페이지네이션합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 좋아요가 많아도 뒤 페이지의 조회 비용이 늘지 않습니다.")
+    ApiResponse<CursorSlice<ClubSummaryResponse>> getLikedClubsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = ClubDocs.PARAM_CURSOR)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = ClubDocs.PARAM_CURSOR_SIZE, example = "20")
+            @RequestParam(defaultValue = "20") int size);
+
     @GetMapping("/{id}/admins")
     @Operation(summary = "동아리 관리자 목록", description = "해당 동아리의 관리자 목록(LEAD/MEMBER)을 반환합니다.")
     @ApiResponses(@io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -126,7 +147,7 @@ public interface ClubApiSpec {
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails);
 
     @GetMapping
-    @Operation(summary = "동아리 목록 조회", description = "카테고리, 단과대, 활동 여부, 이름, 태그 조건으로 동아리 목록을 조회합니다.")
+    @Operation(summary = "동아리 목록 조회", description = "카테고리, 단과대, 활동 여부, 이름, 태그 조건으로 동아리 목록을 조회합니다. 여러 태그는 tags와 tagMatch(ALL/ANY)로 지정합니다. 정렬은 sort 파라미터로 지정하며, 인기순은 sort=likeCount,desc 입니다." + ClubDocs.CONDITIONAL_LIST + ClubDocs.LIKED_LIST)
     ApiResponse<Page<ClubSummaryResponse>> getClubs(
             @Parameter(description = "필터링할 카테고리 id 목록입니다. 반복 파라미터 또는 쉼표 구분을 사용할 수 있습니다.", example = "1,2")
             @RequestParam(required = false) List<Long> categoryIds,
@@ -140,22 +161,140 @@ public interface ClubApiSpec {
             @RequestParam(required = false) String name,
             @Parameter(description = ClubDocs.PARAM_TAG, example = "스터디")
             @RequestParam(required = false) String tag,
-            @ParameterObject Pageable pageable);
+            @Parameter(description = ClubDocs.PARAM_TAGS, example = "개발,스터디")
+            @RequestParam(required = false) List<String> tags,
+            @Parameter(description = ClubDocs.PARAM_TAG_MATCH, example = "ALL")
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            @Parameter(description = ClubDocs.PARAM_COUNT, example = "NONE")
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @ParameterObject Pageable pageable,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest);
+
+    @GetMapping("/cursor")
+    @Operation(summary = "동아리 목록 조회 (커서)", description = "목록 조회와 같은 필터를 이름순으로 커서 기반 페이지네이션합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 무한 스크롤용이며 전체 개수는 제공하지 않습니다." + ClubDocs.CONDITIONAL_LIST + ClubDocs.LIKED_LIST)
+    ApiResponse<CursorSlice<ClubSummaryResponse>> getClubsByCursor(
+            @Parameter(description = "필터링할 카테고리 id 목록입니다. 반복 파라미터 또는 쉼표 구분을 사용할 수 있습니다.", example = "1,2")
+            @RequestParam(required = false) List<Long> categoryIds,
+            @Parameter(description = "단과대 id 필터", example = "1")
+            @RequestParam(required = false) Long collegeId,
+            @Parameter(description = "회비 유무 필터", example = "false")
+            @RequestParam(required = false) Boolean hasFee,
+            @Parameter(description = "정기 활동 유무 필터", example = "true")
+            @RequestParam(required = false) Boolean hasActivity,
+            @Parameter(description = ClubDocs.PARAM_NAME, example = "개발")
+            @RequestParam(required = false) String name,
+            @Parameter(description = ClubDocs.PARAM_TAG, example = "스터디")
+            @RequestParam(required = false) String tag,
+            @Parameter(description = ClubDocs.PARAM_TAGS, example = "개발,스터디")
+            @RequestParam(required = false) List<String> tags,
+            @Parameter(description = ClubDocs.PARAM_TAG_MATCH, example = "ALL")
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            @Parameter(description = ClubDocs.PARAM_CURSOR)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = ClubDocs.PARAM_CURSOR_SIZE, example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest);
+
+    @GetMapping("/facets")
+    @Operation(summary = "동아리 필터 facet 개수", description = "목록 조회와 같은 필터 조건에서 카테고리, 단과대, 태그, 회비 유무, 정기 활동 유무의 값별 동아리 수를 반환합니다. 각 facet은 자기 조건을 제외한 나머지 조건으로 계산되므로 선택지를 바꿨을 때의 결과 수를 미리 보여 줄 수 있습니다. 개수가 0인 값은 포함되지 않습니다." + ClubDocs.CONDITIONAL_LIST)
+    ApiResponse<ClubFacetCountsResponse> getClubFacets(
+            @Parameter(description = "필터링할 카테고리 id 목록입니다. 반복 파라미터 또는 쉼표 구분을 사용할 수 있습니다.", example = "1,2")
+            @RequestParam(required = false) List<Long> categoryIds,
+            @Parameter(description = "단과대 id 필터", example = "1")
+            @RequestParam(required = false) Long collegeId,
+            @Parameter(description = "회비 유무 필터", example = "false")
+            @RequestParam(required = false) Boolean hasFee,
+            @Parameter(description = "정기 활동 유무 필터", example = "true")
+            @RequestParam(required = false) Boolean hasActivity,
+            @Parameter(description = ClubDocs.PARAM_NAME, example = "개발")
+            @RequestParam(required = false) String name,
+            @Parameter(description = ClubDocs.PARAM_TAG, example = "스터디")
+            @RequestParam(required = false) String tag,
+            @Parameter(description = ClubDocs.PARAM_TAGS, example = "개발,스터디")
+            @RequestParam(required = false) List<String> tags,
+            @Parameter(description = ClubDocs.PARAM_TAG_MATCH, example = "ALL")
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            WebRequest webRequest);
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "동아리 검색어 자동완성", description = "입력 중인 검색어로 시작하는 동아리 이름과 태그를 추천합니다. 동아리는 이름 전체 또는 이름 속 단어가 검색어로 시작하는 것을 좋아요 수 순으로, 태그는 # 제거·소문자화한 검색어로 시작하는 것을 동아리 수 순으로 반환합니다. 전체 개수는 세지 않습니다." + ClubDocs.CONDITIONAL_LIST)
+    ApiResponse<ClubAutocompleteResponse> autocomplete(
+            @Parameter(description = "입력 중인 검색어", example = "밴")
+            @RequestParam String q,
+            @Parameter(description = "동아리, 태그 각각의 최대 추천 개수 (1~20)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest);
+
+    @GetMapping("/batch")
+    @Operation(summary = "동아리 일괄 조회", description = "id 목록의 공개 동아리 요약 정보와 로그인 사용자의 동아리별 좋아요 여부를 한 번에 반환합니다. 최근 본 동아리, 추천 동아리처럼 클라이언트가 가진 id로 화면을 그릴 때 사용합니다. 요청한 id 순서를 유지하며, 중복 id는 한 번만 포함하고 비공개이거나 삭제된 동아리는 건너뜁니다. id는 최대 50개까지 요청할 수 있습니다.")
+    ApiResponse<ClubBatchResponse> getClubsByIds(
+            @Parameter(description = "조회할 동아리 id 목록 (1~50개). 반복 파라미터 또는 쉼표 구분을 사용할 수 있습니다.", example = "3,1,7")
+            @RequestParam List<Long> ids,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails);
+
+    @GetMapping("/trending")
+    @Operation(summary = "인기 급상승 동아리", description = "최근 24시간(window=24h) 또는 7일(window=7d) 동안 순 좋아요 수(좋아요 - 취소)가 많은 공개 동아리를 많은 순으로 반환합니다. 집계는 1시간 단위이며, 기간 동안 순 좋아요가 없는 동아리는 포함되지 않습니다. 인증된 사용자의 좋아요 상태를 함께 반환합니다.")
+    ApiResponse<List<ClubTrendingResponse>> getTrendingClubs(
+            @Parameter(description = "집계 기간 (24h, 7d)", example = "24h")
+            @RequestParam(defaultValue = "24h") String window,
+            @Parameter(description = "최대 개수 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails);
+
+    @GetMapping("/{id}/similar")
+    @Operation(summary = "비슷한 동아리", description = "태그가 많이 겹치는 순으로 비슷한 공개 동아리를 반환합니다. 태그 유사도(Jaccard)에 같은 카테고리, 같은 단과대일 때 가산점을 더해 정렬하며, 겹치는 것이 없는 동아리는 포함되지 않습니다. 인증된 사용자의 좋아요 상태를 함께 반환합니다. 공개 동아리가 아니면 404를 반환합니다. 서버 기동 직후처럼 추천 표가 아직 준비되지 않았으면 빈 목록을 반환합니다.")
+    ApiResponse<List<ClubSummaryResponse>> getSimilarClubs(
+            @Parameter(description = ClubDocs.PARAM_CLUB_ID, example = "1") @PathVariable Long id,
+            @Parameter(description = "최대 개수 (1~20)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails);
 
     @GetMapping("/{id}")
-    @Operation(summary = "동아리 상세 조회", description = "공개 동아리 상세 정보를 조회합니다. 인증된 사용자의 좋아요 상태를 함께 반환합니다.")
+    @Operation(summary = "동아리 상세 조회", description = "공개 동아리 상세 정보를 조회합니다. 인증된 사용자의 좋아요 상태를 함께 반환합니다." + ClubDocs.CONDITIONAL_DETAIL)
     ApiResponse<ClubDetailResponse> getClub(
             @Parameter(description = ClubDocs.PARAM_CLUB_ID, example = "1") @PathVariable Long id,
-            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails);
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest,
+            HttpServletResponse response) throws IOException;
 
     @GetMapping("/search")
-    @Operation(summary = "동아리 검색", description = "이름, 태그 또는 두 조건을 함께 사용해 동아리를 검색합니다. name 또는 tag 중 하나는 반드시 필요합니다.")
+    @Operation(summary = "동아리 검색", description = "이름, 태그 또는 두 조건을 함께 사용해 동아리를 검색합니다. 여러 태그는 tags와 tagMatch(ALL/ANY)로 지정합니다. 이름을 초성만으로 입력하면(예: ㅂㄷ) 이름의 초성으로 검색합니다. 이름 또는 태그만으로 검색한 첫 페이지가 비어 있으면 철자가 가까운 이름/태그 교정 후보를 suggestions로 함께 반환합니다. q를 주면 이름, 태그, 소개, 상세 설명 전체에서 검색어와 관련도가 높은 순으로 정렬합니다. q, name, tag, tags 중 하나는 반드시 필요하며 q는 다른 조건과 함께 쓸 수 없습니다." + ClubDocs.CONDITIONAL_LIST + ClubDocs.LIKED_LIST)
     ApiResponse<Page<ClubSummaryResponse>> searchClubs(
+            @Parameter(description = ClubDocs.PARAM_QUERY, example = "해커톤")
+            @RequestParam(required = false) String q,
             @Parameter(description = ClubDocs.PARAM_NAME, example = "로봇")
             @RequestParam(required = false) String name,
             @Parameter(description = ClubDocs.PARAM_TAG, example = "ai")
             @RequestParam(required = false) String tag,
-            @ParameterObject Pageable pageable);
+            @Parameter(description = ClubDocs.PARAM_TAGS, example = "개발,스터디")
+            @RequestParam(required = false) List<String> tags,
+            @Parameter(description = ClubDocs.PARAM_TAG_MATCH, example = "ALL")
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            @Parameter(description = ClubDocs.PARAM_COUNT, example = "NONE")
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @ParameterObject Pageable pageable,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest);
+
+    @GetMapping("/search/cursor")
+    @Operation(summary = "동아리 검색 (커서)", description = "동아리 검색의 커서 기반 페이지네이션 버전입니다. 이름 검색은 3자 이하이면 이름 또는 소개에 검색어가 포함된 동아리를 이름순으로, 4자 이상이면 이름 유사도순으로, 초성만 입력하면 초성이 일치하는 동아리를 이름순으로 정렬합니다. name, tag, tags 중 하나는 반드시 필요합니다." + ClubDocs.CONDITIONAL_LIST + ClubDocs.LIKED_LIST)
+    ApiResponse<CursorSlice<ClubSummaryResponse>> searchClubsByCursor(
+            @Parameter(description = ClubDocs.PARAM_NAME, example = "로봇")
+            @RequestParam(required = false) String name,
+            @Parameter(description = ClubDocs.PARAM_TAG, example = "ai")
+            @RequestParam(required = false) String tag,
+            @Parameter(description = ClubDocs.PARAM_TAGS, example = "개발,스터디")
+            @RequestParam(required = false) List<String> tags,
+            @Parameter(description = ClubDocs.PARAM_TAG_MATCH, example = "ALL")
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            @Parameter(description = ClubDocs.PARAM_CURSOR)
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = ClubDocs.PARAM_CURSOR_SIZE, example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest);
 
     @PutMapping("/{id}")
     @Operation(summary = "동아리 수정", description = "기존 동아리 정보를 수정합니다.")
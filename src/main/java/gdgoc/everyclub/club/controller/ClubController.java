@@ -2,20 +2,31 @@ package gdgoc.everyclub.club.controller;
 
 import gdgoc.everyclub.club.dto.AddClubAdminRequest;
 import gdgoc.everyclub.club.dto.ClubAdminResponse;
+import gdgoc.everyclub.club.dto.ClubAutocompleteResponse;
+import gdgoc.everyclub.club.dto.ClubBatchResponse;
 import gdgoc.everyclub.club.dto.ClubDetailResponse;
+import gdgoc.everyclub.club.dto.ClubDetailState;
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse;
 import gdgoc.everyclub.club.dto.ClubFilterRequest;
 import gdgoc.everyclub.club.dto.ClubSummaryResponse;
+import gdgoc.everyclub.club.dto.ClubTrendingResponse;
 import gdgoc.everyclub.club.dto.ClubUpdateRequest;
 import gdgoc.everyclub.club.dto.DelegateClubAdminRequest;
+import gdgoc.everyclub.club.dto.TagMatchMode;
 import gdgoc.everyclub.club.service.ClubAdminService;
 import gdgoc.everyclub.club.service.ClubService;
 import gdgoc.everyclub.common.ApiResponse;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.common.CursorSlice;
+import gdgoc.everyclub.common.HttpValidator;
 import gdgoc.everyclub.common.exception.LogicException;
 import gdgoc.everyclub.common.exception.ValidationErrorCode;
 import gdgoc.everyclub.security.dto.CustomUserDetails;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -24,7 +35,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -35,6 +48,7 @@ public class ClubController implements ClubApiSpec {
 
     private final ClubService clubService;
     private final ClubAdminService clubAdminService;
+    private final ClubDetailResponseCache detailCache;
 
     @Override
     public ApiResponse<List<ClubSummaryResponse>> getManagedClubs(
@@ -45,8 +59,17 @@ public class ClubController implements ClubApiSpec {
     @Override
     public ApiResponse<Page<ClubSummaryResponse>> getLikedClubs(
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
             Pageable pageable) {
-        return ApiResponse.success(clubAdminService.getLikedClubs(userDetails.getUserId(), pageable));
+        return ApiResponse.success(clubAdminService.getLikedClubs(userDetails.getUserId(), pageable, count));
+    }
+
+    @Override
+    public ApiResponse<CursorSlice<ClubSummaryResponse>> getLikedClubsByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(clubAdminService.getLikedClubsByCursor(userDetails.getUserId(), cursor, size));
     }
 
     @Override
@@ -91,29 +114,169 @@ public class ClubController implements ClubApiSpec {
             @RequestParam(required = false) Boolean hasActivity,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String tag,
-            Pageable pageable) {
-        ClubFilterRequest filter = new ClubFilterRequest(categoryIds, collegeId, hasFee, hasActivity, name, tag);
-        return ApiResponse.success(clubService.filterClubs(filter, pageable));
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+        Long userId = userIdOf(userDetails);
+        if (isNotModified(clubService.getCatalogValidator(userId), webRequest)) {
+            return null;
+        }
+        ClubFilterRequest filter = new ClubFilterRequest(categoryIds, collegeId, hasFee, hasActivity, name, tag, tags, tagMatch);
+        return ApiResponse.success(clubService.withLiked(clubService.filterClubs(filter, pageable, count), userId));
     }
 
     @Override
-    public ApiResponse<ClubDetailResponse> getClub(
+    public ApiResponse<CursorSlice<ClubSummaryResponse>> getClubsByCursor(
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) Long collegeId,
+            @RequestParam(required = false) Boolean hasFee,
+            @RequestParam(required = false) Boolean hasActivity,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+        Long userId = userIdOf(userDetails);
+        if (isNotModified(clubService.getCatalogValidator(userId), webRequest)) {
+            return null;
+        }
+        ClubFilterRequest filter = new ClubFilterRequest(categoryIds, collegeId, hasFee, hasActivity, name, tag, tags, tagMatch);
+        return ApiResponse.success(clubService.withLiked(clubService.filterClubsByCursor(filter, cursor, size), userId));
+    }
+
+    @Override
+    public ApiResponse<ClubFacetCountsResponse> getClubFacets(
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) Long collegeId,
+            @RequestParam(required = false) Boolean hasFee,
+            @RequestParam(required = false) Boolean hasActivity,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            WebRequest webRequest) {
+        if (isNotModified(clubService.getCatalogValidator(), webRequest)) {
+            return null;
+        }
+        ClubFilterRequest filter = new ClubFilterRequest(categoryIds, collegeId, hasFee, hasActivity, name, tag, tags, tagMatch);
+        return ApiResponse.success(clubService.getFacetCounts(filter));
+    }
+
+    @Override
+    public ApiResponse<ClubAutocompleteResponse> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        if (isNotModified(clubService.getCatalogValidator(), webRequest)) {
+            return null;
+        }
+        return ApiResponse.success(clubService.autocomplete(q, size));
+    }
+
+    @Override
+    public ApiResponse<ClubBatchResponse> getClubsByIds(
+            @RequestParam List<Long> ids,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ApiResponse.success(clubService.getPublicClubsByIds(ids, userDetails.getUserId()));
+    }
+
+    @Override
+    public ApiResponse<List<ClubTrendingResponse>> getTrendingClubs(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ApiResponse.success(clubService.getTrendingClubs(window, size, userIdOf(userDetails)));
+    }
+
+    @Override
+    public ApiResponse<List<ClubSummaryResponse>> getSimilarClubs(
             @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int size,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
-        ClubDetailResponse response = clubService.getPublicClubById(id, userDetails.getUserId());
-        return ApiResponse.success(response);
+        return ApiResponse.success(clubService.getSimilarClubs(id, size, userIdOf(userDetails)));
+    }
+
+    @Override
+    public ApiResponse<ClubDetailResponse> getClub(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+        Long userId = userDetails.getUserId();
+        ClubDetailState state = clubService.getPublicClubState(id, userId);
+        if (state == null) {
+            // 공개 동아리가 아니면 본 조회가 404를 응답한다.
+            return ApiResponse.success(clubService.getPublicClubById(id, userId));
+        }
+        if (state.validator().checkNotModified(webRequest)) {
+            return null;
+        }
+        if (!detailCache.isEnabled()) {
+            return ApiResponse.success(clubService.getPublicClubById(id, userId));
+        }
+        // 사용자와 무관한 부분은 캐시된 바이트를 쓰고, 좋아요 값만 끼워 출력 스트림에 바로 쓴다.
+        ClubDetailResponseCache.Encoded encoded = detailCache.get(id, () -> clubService.getPublicClubById(id, null));
+        detailCache.write(encoded, state.likeState(), webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), response);
+        return null;
     }
 
     @Override
     public ApiResponse<Page<ClubSummaryResponse>> searchClubs(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String tag,
-            Pageable pageable) {
-        if (name == null && tag == null) {
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+        Long userId = userIdOf(userDetails);
+        boolean hasFilter = name != null || tag != null || (tags != null && !tags.isEmpty());
+        if (q != null) {
+            if (hasFilter) {
+                throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+            }
+            if (isNotModified(clubService.getCatalogValidator(userId), webRequest)) {
+                return null;
+            }
+            return ApiResponse.success(clubService.withLiked(clubService.searchClubsFullText(q, pageable, count), userId));
+        }
+        if (!hasFilter) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+        if (isNotModified(clubService.getCatalogValidator(userId), webRequest)) {
+            return null;
+        }
+        ClubFilterRequest filter = new ClubFilterRequest(null, null, null, null, name, tag, tags, tagMatch);
+        return ApiResponse.success(clubService.withLiked(clubService.filterClubs(filter, pageable, count), userId));
+    }
+
+    @Override
+    public ApiResponse<CursorSlice<ClubSummaryResponse>> searchClubsByCursor(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) TagMatchMode tagMatch,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest) {
+        if (name == null && tag == null && (tags == null || tags.isEmpty())) {
             throw new LogicException(ValidationErrorCode.INVALID_INPUT);
         }
-        ClubFilterRequest filter = new ClubFilterRequest(null, null, null, null, name, tag);
-        return ApiResponse.success(clubService.filterClubs(filter, pageable));
+        Long userId = userIdOf(userDetails);
+        if (isNotModified(clubService.getCatalogValidator(userId), webRequest)) {
+            return null;
+        }
+        ClubFilterRequest filter = new ClubFilterRequest(null, null, null, null, name, tag, tags, tagMatch);
+        return ApiResponse.success(clubService.withLiked(clubService.filterClubsByCursor(filter, cursor, size), userId));
     }
 
     @Override
@@ -139,4 +302,14 @@ public class ClubController implements ClubApiSpec {
         boolean isLiked = clubService.toggleLike(id, userDetails.getUserId());
         return ApiResponse.success(isLiked);
     }
+
+    /** 검증자가 요청의 조건 헤더와 일치하면 304가 설정되므로, 호출자는 본문 없이 null을 반환한다. */
+    private static boolean isNotModified(HttpValidator validator, WebRequest webRequest) {
+        return validator != null && validator.checkNotModified(webRequest);
+    }
+
+    /** 목록 응답의 좋아요 여부를 채울 사용자. 인증 정보가 없으면 채우지 않는다. */
+    private static Long userIdOf(CustomUserDetails userDetails) {
+        return userDetails != null ? userDetails.getUserId() : null;
+    }
 }
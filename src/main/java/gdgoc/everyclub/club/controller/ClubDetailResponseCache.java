@@ -0,0 +1,297 @@
+package gdgoc.everyclub.club.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import gdgoc.everyclub.club.config.ClubDetailCacheProperties;
+import gdgoc.everyclub.club.dto.ClubDetailResponse;
+import gdgoc.everyclub.club.dto.ClubLikeState;
+import gdgoc.everyclub.club.event.ClubChangedEvent;
+import gdgoc.everyclub.common.ApiResponse;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 공개 동아리 상세 응답(GET /clubs/{id})의 직렬화 결과 캐시.
+ *
+ * <p>상세 조회는 소수의 인기 동아리에 몰리는데, 매번 긴 description까지 Jackson으로 직렬화한다.
+ * 사용자와 무관한 부분을 UTF-8 바이트와 deflate 바이트로 한 번만 만들어 두고,
+ * 요청마다 달라지는 {@code liked}/{@code likeCount} 값만 그 사이에 끼워 서블릿 출력 스트림에 바로 쓴다.
+ * <ul>
+ *   <li>{@code club.detail-cache.max-entries}개까지 LRU로, 최대 {@code club.detail-cache.ttl-seconds}초 동안 보관한다.</li>
+ *   <li>{@link ClubChangedEvent} 커밋 후 해당 동아리를 제거한다 (수정, 삭제, 공개 전환).</li>
+ *   <li>무효화와 겹친 적재가 낡은 결과를 넣지 않도록 {@code ClubFilterCache}처럼 세대 번호로 버린다.</li>
+ * </ul>
+ *
+ * <p>gzip 응답은 고정 조각마다 미리 압축해 둔 deflate 블록 사이에 값을 비압축(stored) 블록으로 넣어 만든다.
+ * 각 조각은 따로 압축되어 앞 조각을 참조하지 않으므로 이어 붙여도 올바른 deflate 스트림이다.
+ */
+@Component
+public class ClubDetailResponseCache {
+
+    static final String LIKED_FIELD = "liked";
+    static final String LIKE_COUNT_FIELD = "likeCount";
+
+    private static final String MARK = "\u0000";
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    /** 비압축 블록 헤더(1) + LEN(2) + NLEN(2). */
+    private static final int STORED_BLOCK_OVERHEAD = 5;
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    /**
+     * 한 동아리의 직렬화 결과. 두 값 자리를 기준으로 나눈 세 조각과 각 조각의 deflate 결과를 들고 있다.
+     *
+     * @param likedFirst {@code liked}가 {@code likeCount}보다 앞에 오면 true
+     */
+    record Encoded(byte[][] segments, byte[][] deflated, boolean likedFirst) {
+    }
+
+    private record Entry(Encoded encoded, long expiresAt) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ClubDetailCacheProperties properties;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    @Autowired
+    public ClubDetailResponseCache(ObjectMapper objectMapper, ClubDetailCacheProperties properties) {
+        this(objectMapper, properties, System::nanoTime);
+    }
+
+    ClubDetailResponseCache(ObjectMapper objectMapper, ClubDetailCacheProperties properties, LongSupplier nanoClock) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /** 캐시된 직렬화 결과. 없으면 {@code loader}로 상세 응답을 만들어 직렬화하고 넣는다. */
+    public Encoded get(Long id, Supplier<ClubDetailResponse> loader) {
+        long loadedAt;
+        synchronized (this) {
+            Entry cached = entries.get(id);
+            if (cached != null && cached.expiresAt() - nanoClock.getAsLong() > 0) {
+                return cached.encoded();
+            }
+            loadedAt = generation;
+        }
+        Encoded encoded = encode(loader.get());
+        synchronized (this) {
+            if (loadedAt == generation) {
+                long expiresAt = nanoClock.getAsLong() + TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+                entries.put(id, new Entry(encoded, expiresAt));
+                Iterator<Entry> eldest = entries.values().iterator();
+                while (entries.size() > properties.getMaxEntries()) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return encoded;
+    }
+
+    @TransactionalEventListener
+    public synchronized void onClubChanged(ClubChangedEvent event) {
+        generation++;
+        if (event.clubId() == null) {
+            entries.clear();
+        } else {
+            entries.remove(event.clubId());
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 좋아요 값을 끼워 넣은 응답을 쓴다. {@code Accept-Encoding}이 gzip을 허용하면 gzip으로 쓴다.
+     */
+    public void write(Encoded encoded, ClubLikeState likeState, String acceptEncoding, HttpServletResponse response)
+            throws IOException {
+        byte[] liked = Boolean.toString(likeState.liked()).getBytes(StandardCharsets.US_ASCII);
+        byte[] likeCount = Integer.toString(likeState.likeCount()).getBytes(StandardCharsets.US_ASCII);
+        byte[][] values = encoded.likedFirst() ? new byte[][]{liked, likeCount} : new byte[][]{likeCount, liked};
+        byte[][] segments = encoded.segments();
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ServletOutputStream out = response.getOutputStream();
+        if (!acceptsGzip(acceptEncoding)) {
+            response.setContentLength(segments[0].length + values[0].length + segments[1].length
+                    + values[1].length + segments[2].length);
+            out.write(segments[0]);
+            out.write(values[0]);
+            out.write(segments[1]);
+            out.write(values[1]);
+            out.write(segments[2]);
+            return;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(segments[0]);
+        crc.update(values[0]);
+        crc.update(segments[1]);
+        crc.update(values[1]);
+        crc.update(segments[2]);
+        int plainLength = segments[0].length + values[0].length + segments[1].length + values[1].length
+                + segments[2].length;
+        byte[][] deflated = encoded.deflated();
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(GZIP_HEADER.length + deflated[0].length + deflated[1].length + deflated[2].length
+                + 2 * STORED_BLOCK_OVERHEAD + values[0].length + values[1].length + GZIP_TRAILER_LENGTH);
+        out.write(GZIP_HEADER);
+        out.write(deflated[0]);
+        writeStoredBlock(out, values[0]);
+        out.write(deflated[1]);
+        writeStoredBlock(out, values[1]);
+        out.write(deflated[2]);
+        writeIntLE(out, (int) crc.getValue());
+        writeIntLE(out, plainLength);
+    }
+
+    Encoded encode(ClubDetailResponse detail) {
+        ObjectNode body = objectMapper.valueToTree(ApiResponse.success(detail));
+        ObjectNode data = (ObjectNode) body.get("data");
+        // 값 자리에 표식을 넣어 직렬화한 뒤 그 위치에서 자른다. 키까지 함께 찾으므로 문자열 값 안의 같은 글자와 헷갈리지 않는다.
+        data.put(LIKED_FIELD, MARK + LIKED_FIELD);
+        data.put(LIKE_COUNT_FIELD, MARK + LIKE_COUNT_FIELD);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize club detail response", e);
+        }
+
+        int[] likedSlot = slot(json, LIKED_FIELD);
+        int[] likeCountSlot = slot(json, LIKE_COUNT_FIELD);
+        boolean likedFirst = likedSlot[0] < likeCountSlot[0];
+        int[] first = likedFirst ? likedSlot : likeCountSlot;
+        int[] second = likedFirst ? likeCountSlot : likedSlot;
+        byte[][] segments = {
+                Arrays.copyOfRange(json, 0, first[0]),
+                Arrays.copyOfRange(json, first[1], second[0]),
+                Arrays.copyOfRange(json, second[1], json.length)
+        };
+        byte[][] deflated = {deflate(segments[0], false), deflate(segments[1], false), deflate(segments[2], true)};
+        return new Encoded(segments, deflated, likedFirst);
+    }
+
+    /** {@code "field":"<표식>"}에서 값(따옴표 포함)의 [시작, 끝) 위치. */
+    private int[] slot(byte[] json, String field) {
+        byte[] key;
+        try {
+            key = (objectMapper.writeValueAsString(field) + ":" + objectMapper.writeValueAsString(MARK + field))
+                    .getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize club detail response", e);
+        }
+        int start = indexOf(json, key);
+        if (start < 0) {
+            throw new IllegalStateException("Club detail field not found: " + field);
+        }
+        int keyLength = field.length() + 3;
+        return new int[]{start + keyLength, start + key.length};
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 조각 하나를 raw deflate로 압축한다. 마지막 조각이 아니면 SYNC_FLUSH로 끝내 바이트 경계에 맞추고
+     * 마지막 블록 표시(BFINAL)를 남기지 않는다.
+     */
+    private static byte[] deflate(byte[] input, boolean last) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            if (last) {
+                deflater.finish();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (true) {
+                int n = last
+                        ? deflater.deflate(buffer)
+                        : deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, n);
+                if (last ? deflater.finished() : n < buffer.length) {
+                    return out.toByteArray();
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /** BFINAL=0, BTYPE=00(비압축) 블록. 앞 조각이 SYNC_FLUSH로 끝나 바이트 경계에서 시작한다. */
+    private static void writeStoredBlock(ServletOutputStream out, byte[] value) throws IOException {
+        out.write(0);
+        out.write(value.length & 0xff);
+        out.write((value.length >>> 8) & 0xff);
+        out.write(~value.length & 0xff);
+        out.write((~value.length >>> 8) & 0xff);
+        out.write(value);
+    }
+
+    private static void writeIntLE(ServletOutputStream out, int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >>> 8) & 0xff);
+        out.write((value >>> 16) & 0xff);
+        out.write((value >>> 24) & 0xff);
+    }
+
+    /** {@code gzip;q=0}처럼 명시적으로 거부한 경우는 제외한다. */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].trim().matches("[qQ]\\s*=\\s*0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -4,6 +4,7 @@ import gdgoc.everyclub.college.domain.Major;
 import gdgoc.everyclub.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
@@ -34,6 +35,11 @@ public class Club {
     @Column(nullable = false, length = 20)
     private String name;
 
+    /** 이름의 초성 문자열 ({@link HangulChoseong#extract}). 저장 시점에 name으로부터 다시 계산된다. */
+    @ColumnDefault("''")
+    @Column(nullable = false, length = 20)
+    private String nameChoseong;
+
     @Column(nullable = false, length = 200)
     private String summary;
 
@@ -69,9 +75,13 @@ public class Club {
     @Builder.Default
     private boolean isPublic = false;
 
-    @Builder.Default
-    @ManyToMany(mappedBy = "likedClubs")
-    private Set<User> likedByUsers = new LinkedHashSet<>();
+    /**
+     * 비정규화된 찜 수. club_likes INSERT/DELETE와 같은 SQL 문에서 증감되므로
+     * ({@code ClubRepository#addLikeAtomic}) 엔티티 flush가 값을 덮어쓰지 않도록 읽기 전용으로 매핑한다.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int likeCount;
 
     /**
      * 태그 매핑 컬렉션. {@link ClubTag}가 소유 측(owning side).
@@ -110,6 +120,12 @@ public class Club {
         }
     }
 
+    @PrePersist
+    @PreUpdate
+    void syncNameChoseong() {
+        this.nameChoseong = HangulChoseong.extract(name);
+    }
+
     /** 태그 이름 목록 반환. 응답 DTO 생성 시 사용. */
     public List<String> getTagNames() {
         return clubTags.stream()
@@ -117,9 +133,13 @@ public class Club {
                 .toList();
     }
 
-    /** 기존 태그 매핑을 전부 제거한다. orphanRemoval에 의해 ClubTag 레코드가 DELETE된다. */
+    /**
+     * 기존 태그 매핑을 전부 제거한다. orphanRemoval에 의해 ClubTag 레코드가 DELETE된다.
+     * 태그만 바뀌어도 updatedAt(상세 응답의 ETag)이 갱신되도록 엔티티를 변경 상태로 만든다.
+     */
     public void clearTags() {
         this.clubTags.clear();
+        this.updatedAt = LocalDateTime.now();
     }
 
     /** 정규화된 Tag 엔티티를 이 동아리에 매핑한다. */
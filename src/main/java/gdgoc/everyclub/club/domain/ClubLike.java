@@ -0,0 +1,76 @@
+package gdgoc.everyclub.club.domain;
+
+import gdgoc.everyclub.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자-동아리 좋아요 (club_likes).
+ *
+ * <p>기본키는 (user_id, club_id)이며 좋아요한 시각을 함께 저장한다. 시간 기준 조회를 위해
+ * 사용자별 ({@code idx_club_likes_user_created})·동아리별 ({@code idx_club_likes_club_created}) 인덱스를 둔다.
+ *
+ * <p>{@link Club}/{@link User}는 좋아요 컬렉션을 들지 않는다. 인기 동아리에서 컬렉션을 건드리면 좋아요한 사용자 전체가
+ * 영속성 컨텍스트에 적재되기 때문이다. 추가/취소는 {@code club.like_count} 증감과 같은 SQL 문에서 처리된다
+ * ({@code ClubRepository#addLikeAtomic}).
+ */
+@Entity
+@Table(name = "club_likes",
+        indexes = {
+                @Index(name = "idx_club_likes_user_created", columnList = "user_id, created_at DESC, club_id DESC"),
+                @Index(name = "idx_club_likes_club_created", columnList = "club_id, created_at")})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id")
+public class ClubLike {
+
+    @EmbeddedId
+    private ClubLikeId id;
+
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @MapsId("clubId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "club_id")
+    private Club club;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static ClubLike of(User user, Club club) {
+        ClubLike like = new ClubLike();
+        like.id = new ClubLikeId(user.getId(), club.getId());
+        like.user = user;
+        like.club = club;
+        return like;
+    }
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @EqualsAndHashCode
+    public static class ClubLikeId implements Serializable {
+
+        @Column(name = "user_id")
+        private Long userId;
+
+        @Column(name = "club_id")
+        private Long clubId;
+
+        public ClubLikeId(Long userId, Long clubId) {
+            this.userId = userId;
+            this.clubId = clubId;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package gdgoc.everyclub.club.domain;
+
+/**
+ * 한글 초성 추출 유틸리티. "ㄱㄴㄷ"처럼 초성만 입력한 검색어를 동아리 이름과 비교하는 데 쓴다.
+ *
+ * <p>추출 규칙 ({@link #extract}):
+ * <ol>
+ *   <li>완성형 한글 음절(가~힣) → 초성 호환 자모 (예: 밴 → ㅂ)</li>
+ *   <li>초성으로 쓰이는 호환 자모(ㄱ~ㅎ, 쌍자음 포함)는 그대로 둔다.</li>
+ *   <li>공백은 버린다 — "밴드 연합"은 "ㅂㄷㅇㅎ"가 되어 단어를 건너 입력해도 찾을 수 있다.</li>
+ *   <li>그 밖의 문자(영문, 숫자, 기호)는 구분자 {@code ' '}로 바꾼다. 초성 검색어는 공백을 포함하지 않으므로
+ *       한글 구간을 넘나들어 일치하지 않는다.</li>
+ * </ol>
+ *
+ * <p>DB의 {@code club.name_choseong} 컬럼(V4 마이그레이션의 backfill 식)도 같은 규칙으로 계산된다.
+ */
+public final class HangulChoseong {
+
+    /** 초성 19자. 음절 코드 (c - 0xAC00) / 588 번째 문자가 초성이다. */
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private HangulChoseong() {}
+
+    /**
+     * 텍스트의 초성 문자열을 반환한다.
+     *
+     * @param text 원문 (null 허용)
+     * @return 초성 문자열, text가 null이면 빈 문자열
+     */
+    public static String extract(String text) {
+        if (text == null) return "";
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                result.append(CHOSEONG.charAt((c - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSEONG));
+            } else if (isChoseong(c)) {
+                result.append(c);
+            } else if (!Character.isWhitespace(c)) {
+                result.append(' ');
+            }
+        }
+        return result.toString();
+    }
+
+    /** 공백을 제외한 모든 문자가 초성 자모이고, 초성이 하나 이상 있는지 여부. */
+    public static boolean isChoseongQuery(String text) {
+        if (text == null || text.isBlank()) return false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isChoseong(c) && !Character.isWhitespace(c)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+}
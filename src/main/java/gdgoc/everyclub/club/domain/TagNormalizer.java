@@ -1,5 +1,7 @@
 package gdgoc.everyclub.club.domain;
 
+import java.util.Locale;
+
 /**
  * 태그 이름 정규화 유틸리티.
  *
@@ -28,7 +30,7 @@ public final class TagNormalizer {
      */
     public static String normalize(String rawTag) {
         if (rawTag == null) return null;
-        String normalized = rawTag.replace("#", "").strip().toLowerCase();
+        String normalized = rawTag.replace("#", "").strip().toLowerCase(Locale.ROOT);
         if (normalized.isBlank()) return null;
         if (normalized.length() > MAX_LENGTH) return null;
         return normalized;
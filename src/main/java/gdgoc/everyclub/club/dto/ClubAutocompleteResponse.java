@@ -0,0 +1,45 @@
+package gdgoc.everyclub.club.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * GET /clubs/autocomplete 응답. 입력 중인 검색어로 시작하는 동아리 이름과 태그 추천.
+ *
+ * <p>동아리는 이름 전체 또는 이름 속 단어가 검색어로 시작하는 것을 좋아요 수 내림차순으로,
+ * 태그는 정규화된 검색어로 시작하는 것을 공개 동아리 수 내림차순으로 담는다.
+ */
+@Schema(name = "ClubAutocompleteResponse", description = "검색어 자동완성 추천")
+public record ClubAutocompleteResponse(
+        @Schema(description = "추천 동아리 (좋아요 수 내림차순)")
+        List<ClubSuggestion> clubs,
+        @Schema(description = "추천 태그 (동아리 수 내림차순)")
+        List<TagSuggestion> tags
+) {
+    public record ClubSuggestion(
+            @Schema(description = "동아리 id", example = "1")
+            Long id,
+            @Schema(description = "동아리 slug", example = "gdgoc-knu")
+            String slug,
+            @Schema(description = "동아리 이름", example = "강남대 GDGoC")
+            String name,
+            @Schema(description = "로고 이미지 URL")
+            String logoUrl,
+            @Schema(description = "좋아요 수", example = "42")
+            int likeCount
+    ) {
+        public static ClubSuggestion from(ClubSummaryResponse summary) {
+            return new ClubSuggestion(summary.getId(), summary.getSlug(), summary.getName(),
+                    summary.getLogoUrl(), summary.getLikeCount());
+        }
+    }
+
+    public record TagSuggestion(
+            @Schema(description = "정규화된 태그 이름", example = "개발")
+            String name,
+            @Schema(description = "이 태그를 가진 공개 동아리 수", example = "7")
+            long clubCount
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package gdgoc.everyclub.club.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /clubs/batch 응답. 요청한 id 순서대로의 공개 동아리 목록과 동아리별 좋아요 여부.
+ *
+ * <p>비공개이거나 삭제된 동아리, 존재하지 않는 id는 목록과 좋아요 여부 모두에서 빠진다.
+ */
+@Schema(name = "ClubBatchResponse", description = "동아리 일괄 조회 결과")
+public record ClubBatchResponse(
+        @Schema(description = "요청한 id 순서대로의 공개 동아리 (중복 id는 한 번만 포함)")
+        List<ClubSummaryResponse> clubs,
+        @Schema(description = "동아리 id별 로그인 사용자의 좋아요 여부", example = "{\"3\": true, \"1\": false}")
+        Map<Long, Boolean> liked
+) {
+    public static ClubBatchResponse empty() {
+        return new ClubBatchResponse(List.of(), Map.of());
+    }
+}
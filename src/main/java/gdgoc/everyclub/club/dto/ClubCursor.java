@@ -0,0 +1,71 @@
+package gdgoc.everyclub.club.dto;
+
+import gdgoc.everyclub.common.exception.LogicException;
+import gdgoc.everyclub.common.exception.ValidationErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 동아리 목록/검색 커서. 마지막 항목의 정렬 키와 id를 담으며 클라이언트에는 base64url 문자열로만 노출된다.
+ *
+ * <p>정렬 키는 경로에 따라 다르다: 이름순(목록, ILIKE 검색)은 동아리 이름, trigram 검색은 word_similarity 값,
+ * 좋아요한 동아리 목록은 좋아요한 시각(ISO-8601).
+ */
+public record ClubCursor(String key, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static ClubCursor of(float similarity, Long id) {
+        return new ClubCursor(Float.toString(similarity), id);
+    }
+
+    public static ClubCursor of(LocalDateTime likedAt, Long id) {
+        return new ClubCursor(likedAt.toString(), id);
+    }
+
+    public String encode() {
+        // id를 앞에 두어 이름에 구분자가 포함되어도 첫 구분자로 나눌 수 있게 한다.
+        String raw = id + String.valueOf(SEPARATOR) + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor가 null 또는 빈 문자열이면 null (첫 페이지)
+     * @throws LogicException 형식이 올바르지 않은 경우 (INVALID_INPUT)
+     */
+    public static ClubCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            if (sep <= 0) {
+                throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+            }
+            return new ClubCursor(raw.substring(sep + 1), Long.parseLong(raw.substring(0, sep)));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, NumberFormatException 모두 IllegalArgumentException의 하위 타입
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+    }
+
+    public float similarity() {
+        try {
+            return Float.parseFloat(key);
+        } catch (NumberFormatException e) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+    }
+
+    public LocalDateTime likedAt() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+    }
+}
@@ -3,12 +3,17 @@ package gdgoc.everyclub.club.dto;
 import gdgoc.everyclub.club.domain.Club;
 import gdgoc.everyclub.club.domain.RecruitingStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Schema(description = "동아리 상세 응답")
 public class ClubDetailResponse {
     @Schema(description = "동아리 id", example = "1")
@@ -87,4 +92,8 @@ public class ClubDetailResponse {
         this.createdAt = club.getCreatedAt();
         this.updatedAt = club.getUpdatedAt();
     }
+
+    public ClubDetailResponse withLikes(boolean isLiked, int likeCount) {
+        return toBuilder().isLiked(isLiked).likeCount(likeCount).build();
+    }
 }
@@ -0,0 +1,26 @@
+package gdgoc.everyclub.club.dto;
+
+import gdgoc.everyclub.common.HttpValidator;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 상세 조회에서 본문을 만들기 전에 얻는 값. 조건부 요청 검증과 캐시된 본문에 끼울 좋아요 값에 함께 쓴다.
+ *
+ * @param id        동아리 id
+ * @param updatedAt 동아리 수정 시각
+ * @param likeState 요청한 사용자의 좋아요 여부와 좋아요 수
+ */
+public record ClubDetailState(Long id, LocalDateTime updatedAt, ClubLikeState likeState) {
+
+    /**
+     * ETag는 수정 시각, 좋아요 수, 좋아요 여부로 만든다.
+     * 좋아요 변경은 수정 시각을 바꾸지 않으므로 Last-Modified는 쓰지 않는다 ({@link HttpValidator}는 ETag만 지원한다).
+     */
+    public HttpValidator validator() {
+        long modified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String etag = id + "-" + Long.toString(modified, 36) + "-" + likeState.likeCount() + "-" + (likeState.liked() ? 1 : 0);
+        return new HttpValidator(etag);
+    }
+}
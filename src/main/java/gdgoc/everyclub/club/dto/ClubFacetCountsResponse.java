@@ -0,0 +1,47 @@
+package gdgoc.everyclub.club.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /clubs/facets 응답. 현재 필터 기준으로 각 facet 값을 선택했을 때의 결과 개수.
+ *
+ * <p>facet마다 자기 자신의 조건은 빼고 나머지 조건만 적용해 센다. 예를 들어 {@code categoryIds=1}이 선택된
+ * 상태에서도 {@code categories}에는 다른 카테고리의 개수가 함께 담기므로, 필터 UI가 선택지를 바꿨을 때의
+ * 결과 수를 미리 보여 줄 수 있다. 개수가 0인 값은 포함하지 않는다.
+ */
+@Schema(name = "ClubFacetCountsResponse", description = "필터 facet별 동아리 개수")
+public record ClubFacetCountsResponse(
+        @Schema(description = "현재 필터 조건 전체를 만족하는 동아리 수", example = "42")
+        long total,
+        @Schema(description = "카테고리 id별 개수")
+        List<FacetCount<Long>> categories,
+        @Schema(description = "단과대 id별 개수")
+        List<FacetCount<Long>> colleges,
+        @Schema(description = "태그별 개수")
+        List<FacetCount<String>> tags,
+        @Schema(description = "회비 유무별 개수")
+        List<FacetCount<Boolean>> hasFee,
+        @Schema(description = "정기 활동 유무별 개수")
+        List<FacetCount<Boolean>> hasActivity
+) {
+    public record FacetCount<T extends Comparable<T>>(
+            @Schema(description = "facet 값")
+            T value,
+            @Schema(description = "해당 값을 선택했을 때의 동아리 수", example = "7")
+            long count
+    ) {
+        /** 개수 내림차순, 동률이면 값 오름차순으로 정렬한다. 개수가 0인 값은 제외한다. */
+        public static <T extends Comparable<T>> List<FacetCount<T>> sorted(Map<T, Long> counts) {
+            return counts.entrySet().stream()
+                    .filter(e -> e.getValue() > 0)
+                    .map(e -> new FacetCount<>(e.getKey(), e.getValue()))
+                    .sorted(Comparator.<FacetCount<T>>comparingLong(FacetCount::count).reversed()
+                            .thenComparing(FacetCount::value))
+                    .toList();
+        }
+    }
+}
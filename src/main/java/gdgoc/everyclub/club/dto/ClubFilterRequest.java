@@ -1,6 +1,12 @@
 package gdgoc.everyclub.club.dto;
 
+import gdgoc.everyclub.club.domain.TagNormalizer;
+
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * GET /clubs 필터 파라미터.
@@ -16,6 +22,9 @@ import java.util.List;
  *   <li>{@code hasActivity} — 정기 모임 유무.
  *       {@code activityCycle} 컬럼이 null이거나 공백 문자열이면 "없음"(false),
  *       값이 존재하면 "있음"(true)으로 해석한다.</li>
+ *   <li>{@code tag}, {@code tags} — 태그 조건. 둘 다 주어지면 합쳐서 하나의 태그 목록으로 본다.
+ *       정규화({@link TagNormalizer}) 후 유효하지 않은 태그는 무시한다.</li>
+ *   <li>{@code tagMatch} — 태그가 여러 개일 때 결합 방식. null이면 {@link TagMatchMode#ALL}.</li>
  * </ul>
  */
 public record ClubFilterRequest(
@@ -24,8 +33,25 @@ public record ClubFilterRequest(
         Boolean hasFee,
         Boolean hasActivity,
         String name,
-        String tag
+        String tag,
+        List<String> tags,
+        TagMatchMode tagMatch
 ) {
+    public ClubFilterRequest {
+        tagMatch = tagMatch == null ? TagMatchMode.ALL : tagMatch;
+    }
+
+    /** 단일 태그 조건만 사용하는 필터. */
+    public ClubFilterRequest(List<Long> categoryIds, Long collegeId, Boolean hasFee, Boolean hasActivity,
+                             String name, String tag) {
+        this(categoryIds, collegeId, hasFee, hasActivity, name, tag, null, null);
+    }
+
+    /** 조건이 하나도 없는 필터 (공개 동아리 전체). */
+    public static ClubFilterRequest empty() {
+        return new ClubFilterRequest(null, null, null, null, null, null);
+    }
+
     /** 모든 조건이 비어 있으면 필터 없음으로 판단한다. */
     public boolean isEmpty() {
         return (categoryIds == null || categoryIds.isEmpty())
@@ -33,16 +59,55 @@ public record ClubFilterRequest(
                 && hasFee == null
                 && hasActivity == null
                 && (name == null || name.isBlank())
-                && (tag == null || tag.isBlank());
+                && normalizedTags().isEmpty();
     }
 
     /** 이름 검색만 요청된 경우 (다른 필터 없음). trigram 최적화 경로에 사용. */
     public boolean isNameOnly() {
         return (name != null && !name.isBlank())
-                && (tag == null || tag.isBlank())
+                && normalizedTags().isEmpty()
+                && (categoryIds == null || categoryIds.isEmpty())
+                && collegeId == null
+                && hasFee == null
+                && hasActivity == null;
+    }
+
+    /** 태그 검색만 요청된 경우 (이름 등 다른 필터 없음). */
+    public boolean isTagOnly() {
+        return !normalizedTags().isEmpty()
+                && (name == null || name.isBlank())
                 && (categoryIds == null || categoryIds.isEmpty())
                 && collegeId == null
                 && hasFee == null
                 && hasActivity == null;
     }
-}
\ No newline at end of file
+
+    /**
+     * 같은 결과를 내는 요청을 같은 값으로 만든 정규형. 캐시 키로 쓴다.
+     * 카테고리 id와 태그는 정렬·중복 제거하고, 이름은 공백 제거 후 소문자로 바꾸며, 태그가 하나 이하이면 결합 방식을 ALL로 둔다.
+     */
+    public ClubFilterRequest canonical() {
+        List<Long> sortedCategoryIds = categoryIds == null ? List.of()
+                : categoryIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        List<String> sortedTags = normalizedTags().stream().sorted().toList();
+        String keyword = name == null || name.isBlank() ? null : name.strip().toLowerCase(Locale.ROOT);
+        return new ClubFilterRequest(
+                sortedCategoryIds.isEmpty() ? null : sortedCategoryIds,
+                collegeId, hasFee, hasActivity, keyword,
+                null, sortedTags.isEmpty() ? null : sortedTags,
+                sortedTags.size() > 1 ? tagMatch : TagMatchMode.ALL);
+    }
+
+    /** {@code tag}와 {@code tags}를 정규화해 합친 목록. 중복과 유효하지 않은 값은 제외되며 입력 순서를 유지한다. */
+    public List<String> normalizedTags() {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tag != null) {
+            normalized.add(TagNormalizer.normalize(tag));
+        }
+        if (tags != null) {
+            tags.forEach(t -> normalized.add(TagNormalizer.normalize(t)));
+        }
+        normalized.remove(null);
+        return List.copyOf(normalized);
+    }
+}
@@ -0,0 +1,10 @@
+package gdgoc.everyclub.club.dto;
+
+/**
+ * 상세 응답에서 요청마다 달라지는 좋아요 값.
+ *
+ * @param liked     요청한 사용자의 좋아요 여부
+ * @param likeCount write-behind 미반영분까지 더한 좋아요 수
+ */
+public record ClubLikeState(boolean liked, int likeCount) {
+}
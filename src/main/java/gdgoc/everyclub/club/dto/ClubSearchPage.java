@@ -0,0 +1,29 @@
+package gdgoc.everyclub.club.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 결과가 없는 이름/태그 검색의 응답 페이지. 일반 페이지 필드에 "이것을 찾으셨나요?" 교정 후보를 더한다.
+ *
+ * <p>{@link org.springframework.data.domain.Page}를 그대로 구현하므로 기존 응답 형태는 바뀌지 않고
+ * {@code suggestions} 필드만 추가된다. 사용자가 다시 입력하지 않고 후보를 눌러 재검색할 수 있게 한다.
+ */
+@Schema(name = "ClubSearchPage", description = "검색 결과 페이지 (결과가 없으면 교정 후보 포함)")
+public class ClubSearchPage extends PageImpl<ClubSummaryResponse> {
+
+    private final List<String> suggestions;
+
+    public ClubSearchPage(Pageable pageable, List<String> suggestions) {
+        super(List.of(), pageable, 0);
+        this.suggestions = List.copyOf(suggestions);
+    }
+
+    @Schema(description = "철자가 가까운 동아리 이름/단어 또는 태그 (편집 거리, 빈도 순)", example = "[\"GDGoC\"]")
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+}
@@ -3,12 +3,17 @@ package gdgoc.everyclub.club.dto;
 import gdgoc.everyclub.club.domain.Club;
 import gdgoc.everyclub.club.domain.RecruitingStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Schema(description = "동아리 목록 응답용 요약 정보")
 public class ClubSummaryResponse {
     @Schema(description = "동아리 id", example = "1")
@@ -29,6 +34,8 @@ public class ClubSummaryResponse {
     private final boolean hasFee;
     @Schema(description = "좋아요 수", example = "12")
     private final int likeCount;
+    @Schema(description = "현재 사용자의 좋아요 여부", example = "true")
+    private final boolean isLiked;
     @Schema(description = "정규화된 태그 목록", example = "[\"개발\", \"스터디\", \"커뮤니티\"]")
     private final List<String> tags;
     @Schema(description = "카테고리 id", nullable = true, example = "2")
@@ -56,6 +63,7 @@ public class ClubSummaryResponse {
         this.activityCycle = club.getActivityCycle();
         this.hasFee = club.isHasFee();
         this.likeCount = likeCount;
+        this.isLiked = false;
         this.tags = club.getTagNames();
         this.categoryId = club.getCategory() != null ? club.getCategory().getId() : null;
         this.categoryName = club.getCategory() != null ? club.getCategory().getName() : null;
@@ -63,4 +71,12 @@ public class ClubSummaryResponse {
         this.createdAt = club.getCreatedAt();
         this.updatedAt = club.getUpdatedAt();
     }
+
+    public ClubSummaryResponse withLikeCount(int likeCount) {
+        return toBuilder().likeCount(likeCount).build();
+    }
+
+    public ClubSummaryResponse withLiked(boolean isLiked) {
+        return isLiked == this.isLiked ? this : toBuilder().isLiked(isLiked).build();
+    }
 }
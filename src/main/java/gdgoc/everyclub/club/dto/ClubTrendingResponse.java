@@ -0,0 +1,15 @@
+package gdgoc.everyclub.club.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * GET /clubs/trending 응답 항목.
+ */
+@Schema(name = "ClubTrendingResponse", description = "인기 급상승 동아리")
+public record ClubTrendingResponse(
+        @Schema(description = "동아리 요약 정보")
+        ClubSummaryResponse club,
+        @Schema(description = "집계 기간 동안의 순 좋아요 수 (좋아요 - 취소)", example = "12")
+        int recentLikes
+) {
+}
@@ -0,0 +1,16 @@
+package gdgoc.everyclub.club.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 태그로 필터링할 때의 결합 방식.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TagMatchMode {
+    ALL("모든 태그를 가진 동아리"),
+    ANY("태그 중 하나 이상을 가진 동아리");
+
+    private final String description;
+}
@@ -0,0 +1,34 @@
+package gdgoc.everyclub.club.dto;
+
+import gdgoc.everyclub.common.exception.LogicException;
+import gdgoc.everyclub.common.exception.ValidationErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 급상승 집계 기간. 최근 {@link #hours}시간(현재 시각이 속한 1시간 버킷 포함)의 순 좋아요 수로 순위를 매긴다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+    DAY("24h", 24),
+    WEEK("7d", 24 * 7);
+
+    private final String value;
+    private final int hours;
+
+    /** 가장 긴 기간. 시간 버킷은 이만큼만 보관한다. */
+    public static final int MAX_HOURS = WEEK.hours;
+
+    /**
+     * @throws LogicException 24h, 7d가 아닌 경우 (INVALID_INPUT)
+     */
+    public static TrendingWindow from(String value) {
+        for (TrendingWindow window : values()) {
+            if (window.value.equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+        throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+    }
+}
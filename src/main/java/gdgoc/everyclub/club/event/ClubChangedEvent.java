@@ -0,0 +1,12 @@
+package gdgoc.everyclub.club.event;
+
+/**
+ * 동아리 생성/수정/삭제 이벤트.
+ *
+ * <p>트랜잭션 커밋 이후({@code @TransactionalEventListener}) 인메모리 카탈로그 등
+ * 파생 상태를 갱신하는 데 사용한다. 변경 내용은 담지 않으며, 구독자는 커밋된 DB 상태를 다시 읽는다.
+ *
+ * @param clubId 변경된 동아리 id
+ */
+public record ClubChangedEvent(Long clubId) {
+}
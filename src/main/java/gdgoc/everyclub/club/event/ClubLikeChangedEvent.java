@@ -0,0 +1,11 @@
+package gdgoc.everyclub.club.event;
+
+/**
+ * 좋아요 상태 변경 이벤트. 실제로 DB 상태가 바뀐 경우에만 발행된다.
+ *
+ * @param clubId 동아리 id
+ * @param userId 사용자 id
+ * @param liked  변경 후 좋아요 여부 (true: 추가, false: 취소)
+ */
+public record ClubLikeChangedEvent(Long clubId, Long userId, boolean liked) {
+}
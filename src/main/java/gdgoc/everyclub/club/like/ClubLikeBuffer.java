@@ -0,0 +1,217 @@
+package gdgoc.everyclub.club.like;
+
+import gdgoc.everyclub.club.config.ClubLikeProperties;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.repository.ClubRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 좋아요 토글 write-behind 버퍼 ({@code club.like.write-behind.enabled=true}일 때만 사용).
+ *
+ * <p>토글은 (userId, clubId) 키의 최종 상태로 합쳐지고, 주기적으로 그리고 종료 시에
+ * 다중 행 INSERT/DELETE({@link ClubRepository#addLikesBatch}, {@link ClubRepository#removeLikesBatch})로 반영된다.
+ * 짧은 시간에 같은 쌍을 여러 번 누르면 DB에는 최종 상태 한 번만 기록된다.
+ * {@link ClubLikeChangedEvent}는 실제로 추가/삭제된 쌍에만 발행한다.
+ *
+ * <p>동시성: {@link ConcurrentHashMap#compute}의 bin 단위 잠금으로 키마다 직렬화되며 전역 잠금은 없다.
+ * 아직 반영되지 않은 상태는 {@link #pendingState}, {@link #pendingDelta}로 조회해 읽기 결과에 덧씌운다.
+ * flush 커밋 직후 버퍼 정리 전의 아주 짧은 구간에는 좋아요 수가 일시적으로 중복 반영될 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubLikeBuffer implements SmartLifecycle {
+
+    /** 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024) 이후에 멈춰, 마지막 요청까지 받은 뒤 flush한다. */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ClubRepository clubRepository;
+    private final ClubLikeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<LikeKey, PendingLike> pending = new ConcurrentHashMap<>();
+    /** clubId → 미반영 좋아요 수 변화량. 0이 되면 제거된다. */
+    private final ConcurrentHashMap<Long, Integer> deltaByClub = new ConcurrentHashMap<>();
+    /** 미반영 좋아요 수가 바뀔 때마다 증가한다. */
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean running;
+
+    record LikeKey(Long userId, Long clubId) {
+    }
+
+    /**
+     * @param persisted DB에 반영된 상태
+     * @param desired   사용자가 마지막으로 요청한 상태
+     */
+    record PendingLike(boolean persisted, boolean desired) {
+        boolean dirty() {
+            return persisted != desired;
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.getWriteBehind().isEnabled();
+    }
+
+    /**
+     * 좋아요 상태를 뒤집고 새 상태를 반환한다.
+     *
+     * @param persistedState 버퍼에 해당 쌍이 없을 때만 호출되어 DB 상태를 읽는다 (존재 검증 포함).
+     */
+    public boolean toggle(Long userId, Long clubId, BooleanSupplier persistedState) {
+        LikeKey key = new LikeKey(userId, clubId);
+        // DB 조회는 bin 잠금 밖에서 한다. 그 사이 다른 스레드가 먼저 넣었다면 그 값을 이어서 토글한다.
+        // 조회 직후 flush로 제거된 항목은 desired == persisted였으므로 desired가 곧 DB 상태다.
+        PendingLike existing = pending.get(key);
+        boolean loaded = existing != null ? existing.desired() : persistedState.getAsBoolean();
+        PendingLike next = pending.compute(key, (k, current) -> {
+            PendingLike base = current != null ? current : new PendingLike(loaded, loaded);
+            PendingLike toggled = new PendingLike(base.persisted(), !base.desired());
+            addDelta(clubId, toggled.desired() ? 1 : -1);
+            return toggled;
+        });
+        return next.desired();
+    }
+
+    /** 미반영 상태가 있으면 그 값을, 없으면 null을 반환한다. */
+    public Boolean pendingState(Long userId, Long clubId) {
+        PendingLike state = pending.get(new LikeKey(userId, clubId));
+        return state != null ? state.desired() : null;
+    }
+
+    public int pendingDelta(Long clubId) {
+        return deltaByClub.getOrDefault(clubId, 0);
+    }
+
+    /** 미반영 좋아요 수가 바뀔 때마다 증가하는 값. 목록 응답의 ETag에 쓴다. */
+    public long version() {
+        return version.get();
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${club.like.write-behind.flush-interval-millis:1000}")
+    public void scheduledFlush() {
+        if (isEnabled()) {
+            flush();
+        }
+    }
+
+    /**
+     * 변경된 쌍을 최대 {@code max-batch-size}개까지 한 트랜잭션으로 반영한다.
+     * 실패하면 버퍼를 그대로 두고 다음 주기에 재시도한다.
+     *
+     * @return 반영한 쌍의 수
+     */
+    public int flush() {
+        int limit = properties.getWriteBehind().getMaxBatchSize();
+        List<Map.Entry<LikeKey, PendingLike>> batch = new ArrayList<>();
+        for (Map.Entry<LikeKey, PendingLike> entry : pending.entrySet()) {
+            if (!entry.getValue().dirty()) {
+                // 토글이 상쇄된 쌍은 DB에 쓸 것이 없다.
+                pending.remove(entry.getKey(), entry.getValue());
+            } else if (batch.size() < limit) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<LikeKey> adds = new ArrayList<>();
+        List<LikeKey> removes = new ArrayList<>();
+        batch.forEach(e -> (e.getValue().desired() ? adds : removes).add(e.getKey()));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 이미 반영돼 있거나 사용자/동아리가 없어 무시된 쌍은 이벤트를 내지 않는다 (toggleLike의 직접 경로와 같음).
+                if (!adds.isEmpty()) {
+                    clubRepository.addLikesBatch(userIds(adds), clubIds(adds)).forEach(pair ->
+                            eventPublisher.publishEvent(new ClubLikeChangedEvent(pair.getClubId(), pair.getUserId(), true)));
+                }
+                if (!removes.isEmpty()) {
+                    clubRepository.removeLikesBatch(userIds(removes), clubIds(removes)).forEach(pair ->
+                            eventPublisher.publishEvent(new ClubLikeChangedEvent(pair.getClubId(), pair.getUserId(), false)));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Like buffer flush failed, {} pairs kept for retry", batch.size(), e);
+            return 0;
+        }
+
+        batch.forEach(e -> markFlushed(e.getKey(), e.getValue().desired()));
+        return batch.size();
+    }
+
+    /** flush된 상태를 persisted로 반영한다. 그 사이 다시 토글되지 않았으면 버퍼에서 제거한다. */
+    private void markFlushed(LikeKey key, boolean flushed) {
+        pending.computeIfPresent(key, (k, current) -> {
+            if (current.persisted() != flushed) {
+                addDelta(key.clubId(), flushed ? -1 : 1);
+            }
+            return current.desired() == flushed ? null : new PendingLike(flushed, current.desired());
+        });
+    }
+
+    private void addDelta(Long clubId, int delta) {
+        deltaByClub.merge(clubId, delta, (a, b) -> a + b == 0 ? null : a + b);
+        version.incrementAndGet();
+    }
+
+    private static Long[] userIds(List<LikeKey> keys) {
+        return keys.stream().map(LikeKey::userId).toArray(Long[]::new);
+    }
+
+    private static Long[] clubIds(List<LikeKey> keys) {
+        return keys.stream().map(LikeKey::clubId).toArray(Long[]::new);
+    }
+
+    // ── Lifecycle: graceful shutdown 시 남은 버퍼 flush ─────────────────────────
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!isEnabled()) {
+            return;
+        }
+        int remaining = pending.size();
+        while (!pending.isEmpty()) {
+            if (flush() == 0 && pending.values().stream().anyMatch(PendingLike::dirty)) {
+                log.error("Like buffer flush failed on shutdown, {} pairs lost", pending.size());
+                break;
+            }
+        }
+        log.info("Like buffer drained on shutdown ({} pairs)", remaining);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
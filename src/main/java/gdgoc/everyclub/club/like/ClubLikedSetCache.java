@@ -0,0 +1,143 @@
+package gdgoc.everyclub.club.like;
+
+import gdgoc.everyclub.club.config.ClubLikeProperties;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.repository.ClubRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 좋아요한 동아리 id 집합 캐시. 목록 응답의 {@code liked}를 DB 조회 없이 채우는 데 쓴다.
+ *
+ * <p>집합은 오름차순 {@code long[]}로 들고 이진 탐색으로 찾는다 (박싱 없음, 사용자당 8바이트 × 좋아요 수).
+ * <ul>
+ *   <li>처음 조회할 때 {@link ClubRepository#findLikedClubIdsByUserId} 한 문장으로 읽는다
+ *       ({@code club_likes} 기본키 범위 스캔).</li>
+ *   <li>{@code club.like.liked-cache.max-users}명까지 LRU로 보관한다.</li>
+ *   <li>{@link ClubLikeChangedEvent} 커밋 후 해당 사용자 집합에 id를 넣거나 빼서 그 자리에서 갱신한다.
+ *       write-behind 모드에서는 flush 때 이벤트가 오므로, 그 전의 토글은 읽는 쪽이 버퍼 상태를 덧씌운다.</li>
+ * </ul>
+ *
+ * <p>갱신과 겹친 적재가 오래된 집합을 넣지 않도록, 적재 중 같은 사용자의 이벤트가 있었으면 결과를 응답에만 쓰고
+ * 캐시에 넣지 않는다. 적재 표식은 사용자별이라 다른 사용자의 좋아요는 적재를 무효화하지 않는다.
+ */
+@Component
+public class ClubLikedSetCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ClubRepository clubRepository;
+    private final ClubLikeProperties.LikedCache properties;
+    private final LinkedHashMap<Long, long[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /** 적재 중인 사용자 → 적재 표식. 적재 중 그 사용자의 이벤트가 오면 지워져 결과를 캐시에 넣지 않는다. */
+    private final Map<Long, Object> loading = new HashMap<>();
+
+    @Autowired
+    public ClubLikedSetCache(ClubRepository clubRepository, ClubLikeProperties properties) {
+        this(clubRepository, properties.getLikedCache());
+    }
+
+    ClubLikedSetCache(ClubRepository clubRepository, ClubLikeProperties.LikedCache properties) {
+        this.clubRepository = clubRepository;
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /** 사용자가 좋아요한 동아리 id (오름차순). 캐시에 없으면 읽어 넣는다. 반환한 배열은 수정하지 않는다. */
+    public long[] get(Long userId) {
+        if (!isEnabled()) {
+            return toSortedArray(clubRepository.findLikedClubIdsByUserId(userId));
+        }
+        Object token = new Object();
+        synchronized (this) {
+            long[] cached = entries.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            loading.put(userId, token);
+        }
+        long[] loaded = null;
+        try {
+            loaded = toSortedArray(clubRepository.findLikedClubIdsByUserId(userId));
+            return loaded;
+        } finally {
+            synchronized (this) {
+                // 같은 사용자의 적재가 겹쳤으면 마지막에 시작한 적재만 넣는다.
+                if (loading.remove(userId, token) && loaded != null) {
+                    put(userId, loaded);
+                }
+            }
+        }
+    }
+
+    private void put(Long userId, long[] likedIds) {
+        entries.put(userId, likedIds);
+        Iterator<long[]> eldest = entries.values().iterator();
+        while (entries.size() > properties.getMaxUsers()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    public static boolean contains(long[] likedIds, long clubId) {
+        return Arrays.binarySearch(likedIds, clubId) >= 0;
+    }
+
+    @TransactionalEventListener
+    public synchronized void onLikeChanged(ClubLikeChangedEvent event) {
+        loading.remove(event.userId());
+        long[] current = entries.get(event.userId());
+        if (current != null) {
+            entries.put(event.userId(), event.liked() ? with(current, event.clubId()) : without(current, event.clubId()));
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /** 배열은 읽는 쪽과 공유되므로 제자리 수정 대신 복사본을 만든다. */
+    private static long[] with(long[] ids, long clubId) {
+        int index = Arrays.binarySearch(ids, clubId);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, insertAt);
+        next[insertAt] = clubId;
+        System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+        return next;
+    }
+
+    private static long[] without(long[] ids, long clubId) {
+        int index = Arrays.binarySearch(ids, clubId);
+        if (index < 0) {
+            return ids;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, index);
+        System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+        return next;
+    }
+}
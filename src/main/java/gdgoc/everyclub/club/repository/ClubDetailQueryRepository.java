@@ -0,0 +1,100 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import gdgoc.everyclub.club.dto.ClubDetailResponse;
+import gdgoc.everyclub.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 동아리 상세 응답({@link ClubDetailResponse}) 전용 읽기 경로.
+ *
+ * <p>엔티티 조회(작성자/카테고리 fetch join) + 태그/학과/단과대 지연 로딩 + 좋아요 여부 조회 대신,
+ * 응답 전체를 SQL 한 문장으로 읽는다.
+ * <ul>
+ *   <li>좋아요 여부: {@code club_likes} 기본키 EXISTS ({@code users} 조인 없음)</li>
+ *   <li>좋아요 수: 비정규화 컬럼 {@code club.like_count}</li>
+ *   <li>태그: {@link ClubSummaryQueryRepository}와 같은 {@code array_agg} 상관 서브쿼리</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubDetailQueryRepository {
+
+    /** 비공개/삭제된 동아리는 조회되지 않는다. userId가 null이면 liked는 false. */
+    private static final String FIND_PUBLIC_BY_ID = """
+            SELECT c.id, c.slug, c.name, c.summary, c.description, c.logo_url, c.banner_url, c.join_form_url,
+                   c.recruiting_status, c.major_id, m.name AS major_name, col.name AS college_name,
+                   c.activity_cycle, c.has_fee, c.is_public, c.like_count,
+                   EXISTS (SELECT 1 FROM club_likes l WHERE l.user_id = :userId AND l.club_id = c.id) AS liked,
+                   c.category_id, cat.name AS category_name,
+                   u.nickname AS author_nickname, u.email AS author_email,
+                   c.created_at, c.updated_at,
+                   (SELECT array_agg(t.name ORDER BY ct.id)
+                    FROM club_tag ct JOIN tag t ON t.id = ct.tag_id
+                    WHERE ct.club_id = c.id) AS tags
+            FROM club c
+            LEFT JOIN major m ON m.id = c.major_id
+            LEFT JOIN college col ON col.id = m.college_id
+            LEFT JOIN category cat ON cat.id = c.category_id
+            LEFT JOIN users u ON u.id = c.created_by
+            WHERE c.id = :id AND c.is_public AND c.deleted_at IS NULL
+            """;
+
+    private static final RowMapper<ClubDetailResponse> ROW_MAPPER = (rs, rowNum) -> {
+        String email = rs.getString("author_email");
+        return ClubDetailResponse.builder()
+                .id(rs.getLong("id"))
+                .slug(rs.getString("slug"))
+                .name(rs.getString("name"))
+                .summary(rs.getString("summary"))
+                .description(rs.getString("description"))
+                .logoUrl(rs.getString("logo_url"))
+                .bannerUrl(rs.getString("banner_url"))
+                .joinFormUrl(rs.getString("join_form_url"))
+                .recruitingStatus(RecruitingStatus.valueOf(rs.getString("recruiting_status")))
+                .majorId(rs.getObject("major_id", Long.class))
+                .majorName(rs.getString("major_name"))
+                .collegeName(rs.getString("college_name"))
+                .activityCycle(rs.getString("activity_cycle"))
+                .hasFee(rs.getBoolean("has_fee"))
+                .isPublic(rs.getBoolean("is_public"))
+                .isLiked(rs.getBoolean("liked"))
+                .likeCount(rs.getInt("like_count"))
+                .tags(toList(rs.getArray("tags")))
+                .categoryId(rs.getObject("category_id", Long.class))
+                .categoryName(rs.getString("category_name"))
+                .authorName(email != null ? User.displayName(rs.getString("author_nickname"), email) : "Unknown")
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 공개 동아리 상세를 사용자의 좋아요 여부와 함께 읽는다. */
+    public Optional<ClubDetailResponse> findPublicById(Long id, Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("userId", userId, Types.BIGINT);
+        return jdbcTemplate.query(FIND_PUBLIC_BY_ID, params, ROW_MAPPER).stream().findFirst();
+    }
+
+    private static List<String> toList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.asList((String[]) array.getArray());
+    }
+}
@@ -0,0 +1,122 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse;
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse.FacetCount;
+import gdgoc.everyclub.club.dto.ClubFilterRequest;
+import gdgoc.everyclub.club.dto.TagMatchMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 필터 facet 개수({@link ClubFacetCountsResponse})의 DB 경로. 카탈로그 스냅샷이 없을 때만 사용된다.
+ *
+ * <p>facet 값마다 {@link ClubSpecification}으로 COUNT 쿼리를 만드는 대신, 공개 동아리를 한 번만 읽어
+ * 조건별 일치 여부를 컬럼으로 계산한 CTE 위에서 facet별 GROUP BY를 {@code UNION ALL}로 묶는다 (SQL 한 문장).
+ * facet마다 자기 조건을 뺀 나머지 조건만 적용하는 규칙은 카탈로그 경로와 같다.
+ * 각 조건의 의미는 {@link ClubSpecification}의 해당 메서드와 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubFacetQueryRepository {
+
+    private static final String FACET_COUNTS = """
+            WITH base AS (
+                SELECT c.id, c.category_id, m.college_id, c.has_fee,
+                       (c.activity_cycle IS NOT NULL AND TRIM(c.activity_cycle) <> '') AS has_activity,
+                       (CAST(:categoryIds AS bigint[]) IS NULL
+                           OR c.category_id = ANY(CAST(:categoryIds AS bigint[]))) AS m_category,
+                       (CAST(:collegeId AS bigint) IS NULL OR m.college_id = CAST(:collegeId AS bigint)) AS m_college,
+                       (CAST(:hasFee AS boolean) IS NULL OR c.has_fee = CAST(:hasFee AS boolean)) AS m_fee,
+                       (CAST(:tags AS text[]) IS NULL OR (
+                           SELECT COUNT(*) FROM club_tag ct JOIN tag t ON t.id = ct.tag_id
+                           WHERE ct.club_id = c.id AND t.name = ANY(CAST(:tags AS text[]))) >= :requiredTags) AS m_tag,
+                       (CAST(:name AS text) IS NULL
+                           OR LOWER(c.name) LIKE '%' || CAST(:name AS text) || '%') AS m_name
+                FROM club c
+                LEFT JOIN major m ON m.id = c.major_id
+                WHERE c.is_public AND c.deleted_at IS NULL
+            ), filtered AS (
+                SELECT b.*,
+                       (CAST(:hasActivity AS boolean) IS NULL
+                           OR b.has_activity = CAST(:hasActivity AS boolean)) AS m_activity
+                FROM base b
+            )
+            SELECT 'total' AS facet, NULL AS value, COUNT(*) AS cnt FROM filtered
+            WHERE m_category AND m_college AND m_fee AND m_activity AND m_tag AND m_name
+            UNION ALL
+            SELECT 'category', CAST(category_id AS text), COUNT(*) FROM filtered
+            WHERE m_college AND m_fee AND m_activity AND m_tag AND m_name
+            GROUP BY category_id
+            UNION ALL
+            SELECT 'college', CAST(college_id AS text), COUNT(*) FROM filtered
+            WHERE college_id IS NOT NULL AND m_category AND m_fee AND m_activity AND m_tag AND m_name
+            GROUP BY college_id
+            UNION ALL
+            SELECT 'hasFee', CAST(has_fee AS text), COUNT(*) FROM filtered
+            WHERE m_category AND m_college AND m_activity AND m_tag AND m_name
+            GROUP BY has_fee
+            UNION ALL
+            SELECT 'hasActivity', CAST(has_activity AS text), COUNT(*) FROM filtered
+            WHERE m_category AND m_college AND m_fee AND m_tag AND m_name
+            GROUP BY has_activity
+            UNION ALL
+            SELECT 'tag', t.name, COUNT(*) FROM filtered f
+            JOIN club_tag ct ON ct.club_id = f.id
+            JOIN tag t ON t.id = ct.tag_id
+            WHERE m_category AND m_college AND m_fee AND m_activity AND m_name
+            GROUP BY t.name
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ClubFacetCountsResponse countFacets(ClubFilterRequest filter) {
+        List<String> tags = filter.normalizedTags();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("categoryIds", filter.categoryIds() == null || filter.categoryIds().isEmpty()
+                        ? null : filter.categoryIds().toArray(Long[]::new))
+                .addValue("collegeId", filter.collegeId())
+                .addValue("hasFee", filter.hasFee())
+                .addValue("hasActivity", filter.hasActivity())
+                .addValue("tags", tags.isEmpty() ? null : tags.toArray(String[]::new))
+                // ALL이면 모든 태그, ANY이면 하나 이상 일치해야 한다.
+                .addValue("requiredTags", filter.tagMatch() == TagMatchMode.ANY ? 1 : tags.size())
+                .addValue("name", filter.name() == null || filter.name().isBlank()
+                        ? null : filter.name().strip().toLowerCase(Locale.ROOT));
+
+        long[] total = {0};
+        Map<Long, Long> categories = new HashMap<>();
+        Map<Long, Long> colleges = new HashMap<>();
+        Map<String, Long> tags = new HashMap<>();
+        Map<Boolean, Long> hasFee = new HashMap<>();
+        Map<Boolean, Long> hasActivity = new HashMap<>();
+
+        jdbcTemplate.query(FACET_COUNTS, params, (RowCallbackHandler) rs -> {
+            String value = rs.getString("value");
+            long count = rs.getLong("cnt");
+            switch (rs.getString("facet")) {
+                case "total" -> total[0] = count;
+                case "category" -> categories.put(Long.valueOf(value), count);
+                case "college" -> colleges.put(Long.valueOf(value), count);
+                case "hasFee" -> hasFee.put(Boolean.valueOf(value), count);
+                case "hasActivity" -> hasActivity.put(Boolean.valueOf(value), count);
+                case "tag" -> tags.put(value, count);
+                default -> throw new IllegalStateException("Unknown facet: " + rs.getString("facet"));
+            }
+        });
+
+        return new ClubFacetCountsResponse(total[0],
+                FacetCount.sorted(categories),
+                FacetCount.sorted(colleges),
+                FacetCount.sorted(tags),
+                FacetCount.sorted(hasFee),
+                FacetCount.sorted(hasActivity));
+    }
+}
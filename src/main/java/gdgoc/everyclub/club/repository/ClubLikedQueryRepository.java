@@ -0,0 +1,87 @@
+package gdgoc.everyclub.club.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 좋아요한 동아리 목록의 id 페이지 조회.
+ *
+ * <p>엔티티 페이지 쿼리({@code Page<Club>} + 컬렉션 EntityGraph)는 LIMIT를 SQL에 넣지 못하고 전체 결과를
+ * 메모리에서 자른다 (HHH90003004). 여기서는 {@code club_likes}에서 페이지에 해당하는 id만 SQL로 잘라 읽고,
+ * 응답 컬럼은 호출자가 {@link ClubSummaryQueryRepository#findByIds}로 읽는다 (입력 순서 보존).
+ *
+ * <p>정렬은 좋아요한 시각 내림차순, 같은 시각이면 club_id 내림차순이며
+ * {@code idx_club_likes_user_created} 범위 스캔으로 처리된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubLikedQueryRepository {
+
+    private static final String FROM_LIKED = """
+            FROM club_likes l
+            JOIN club c ON c.id = l.club_id AND c.is_public = true AND c.deleted_at IS NULL
+            WHERE l.user_id = :userId
+            """;
+
+    private static final String ORDER_LIMIT = """
+            ORDER BY l.created_at DESC, l.club_id DESC
+            LIMIT :limit
+            """;
+
+    private static final String SELECT = "SELECT l.club_id, l.created_at ";
+
+    private static final String FIND_IDS = SELECT + FROM_LIKED + ORDER_LIMIT + "OFFSET :offset";
+
+    private static final String FIND_FIRST = SELECT + FROM_LIKED + ORDER_LIMIT;
+
+    /** 행 값 비교로 (created_at, club_id) 인덱스 순서를 그대로 이어 읽는다. */
+    private static final String FIND_IDS_BEFORE = SELECT + FROM_LIKED
+            + "AND (l.created_at, l.club_id) < (:likedAt, :clubId)\n" + ORDER_LIMIT;
+
+    private static final String COUNT = "SELECT COUNT(*) " + FROM_LIKED;
+
+    private static final RowMapper<LikedId> ROW_MAPPER = (rs, rowNum) ->
+            new LikedId(rs.getLong("club_id"), rs.getObject("created_at", LocalDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 좋아요한 동아리 id와 좋아요한 시각. 시각은 keyset 커서에 쓴다. */
+    public record LikedId(Long clubId, LocalDateTime likedAt) {
+    }
+
+    /** offset 위치부터 최대 limit개의 id를 좋아요한 시각 내림차순으로 반환한다. */
+    public List<Long> findIds(Long userId, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_IDS, params, ROW_MAPPER).stream().map(LikedId::clubId).toList();
+    }
+
+    /**
+     * (likedAt, clubId)보다 뒤에 오는 항목을 최대 limit개 반환한다.
+     *
+     * @param likedAt 직전 페이지 마지막 항목의 좋아요 시각. null이면 첫 페이지
+     */
+    public List<LikedId> findIdsBefore(Long userId, LocalDateTime likedAt, Long clubId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+        if (likedAt == null) {
+            return jdbcTemplate.query(FIND_FIRST, params, ROW_MAPPER);
+        }
+        params.addValue("likedAt", likedAt).addValue("clubId", clubId);
+        return jdbcTemplate.query(FIND_IDS_BEFORE, params, ROW_MAPPER);
+    }
+
+    public long count(Long userId) {
+        Long count = jdbcTemplate.queryForObject(COUNT, new MapSqlParameterSource("userId", userId), Long.class);
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,93 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.catalog.ClubRelevanceScorer;
+import gdgoc.everyclub.club.config.ClubRankingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이름 검색의 관련도 순 DB 경로. 점수 식은 {@link ClubRelevanceScorer}와 같다.
+ *
+ * <p>WHERE 조건은 {@link ClubRepository}의 같은 이름 쿼리와 같으므로 후보 집합과 개수({@code countBy...})는 바뀌지 않는다.
+ * 점수는 인덱스(trigram GIN 등)로 걸러진 후보 행에만 계산되며, PostgreSQL은 {@code LIMIT}이 있으면
+ * 후보 중 상위 offset + limit건만 유지하는 top-N 힙 정렬을 쓴다. 테이블 전체를 정렬하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubRankedSearchRepository {
+
+    /** %1$s: 후보 조건, %2$s: 0~1 유사도 식. */
+    private static final String RANKED_IDS = """
+            SELECT id FROM club
+            WHERE is_public = true AND deleted_at IS NULL
+              AND (%1$s)
+            ORDER BY CAST(:similarityWeight AS double precision) * (%2$s)
+                   + CAST(:popularityWeight AS double precision) * like_count
+                         / (like_count + CAST(:popularityPivot AS double precision))
+                   + CASE WHEN recruiting_status = 'OPEN' THEN CAST(:openWeight AS double precision) ELSE 0 END
+                   + CAST(:recencyWeight AS double precision) * POWER(0.5,
+                         GREATEST(EXTRACT(EPOCH FROM (CAST(:now AS timestamp) - updated_at)), 0)
+                         / (86400 * CAST(:recencyHalfLifeDays AS double precision))) DESC,
+                     id
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String BY_NAME_TRGM = RANKED_IDS.formatted(
+            ":keyword <% name",
+            "word_similarity(:keyword, name)");
+
+    private static final String BY_KEYWORD_ILIKE = RANKED_IDS.formatted(
+            "name ILIKE '%' || :keyword || '%' OR summary ILIKE '%' || :keyword || '%'",
+            """
+            CASE WHEN LOWER(name) = LOWER(:keyword) THEN 1.0
+                 WHEN name ILIKE :keyword || '%' OR name ILIKE '% ' || :keyword || '%' THEN 0.8
+                 WHEN name ILIKE '%' || :keyword || '%' THEN 0.6
+                 ELSE 0.3 END""");
+
+    private static final String BY_CHOSEONG = RANKED_IDS.formatted(
+            "name_choseong LIKE '%' || :keyword || '%'",
+            """
+            CASE WHEN name_choseong = :keyword THEN 1.0
+                 WHEN name_choseong LIKE :keyword || '%' THEN 0.8
+                 ELSE 0.6 END""");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** {@link ClubRepository#findIdsByNameTrgm}의 관련도 순 버전 (4자 이상). */
+    public List<Long> findIdsByNameTrgm(String keyword, ClubRankingProperties weights, LocalDateTime now,
+                                        int limit, int offset) {
+        return jdbcTemplate.queryForList(BY_NAME_TRGM, params(keyword, weights, now, limit, offset), Long.class);
+    }
+
+    /** {@link ClubRepository#findIdsByKeywordIlike}의 관련도 순 버전 (1~3자). */
+    public List<Long> findIdsByKeywordIlike(String keyword, ClubRankingProperties weights, LocalDateTime now,
+                                            int limit, int offset) {
+        return jdbcTemplate.queryForList(BY_KEYWORD_ILIKE, params(keyword, weights, now, limit, offset), Long.class);
+    }
+
+    /** {@link ClubRepository#findIdsByChoseong}의 관련도 순 버전. */
+    public List<Long> findIdsByChoseong(String choseong, ClubRankingProperties weights, LocalDateTime now,
+                                        int limit, int offset) {
+        return jdbcTemplate.queryForList(BY_CHOSEONG, params(choseong, weights, now, limit, offset), Long.class);
+    }
+
+    private static MapSqlParameterSource params(String keyword, ClubRankingProperties weights, LocalDateTime now,
+                                                int limit, int offset) {
+        return new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("similarityWeight", weights.getSimilarityWeight())
+                .addValue("popularityWeight", weights.getPopularityWeight())
+                .addValue("popularityPivot", weights.getPopularityPivot())
+                .addValue("openWeight", weights.getOpenWeight())
+                .addValue("recencyWeight", weights.getRecencyWeight())
+                .addValue("recencyHalfLifeDays", weights.getRecencyHalfLifeDays())
+                .addValue("now", now)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+    }
+}
@@ -9,7 +9,9 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,43 +25,192 @@ public interface ClubRepository extends JpaRepository<Club, Long>, JpaSpecificat
 
     boolean existsBySlug(String slug);
 
+    boolean existsByIdAndIsPublicTrue(Long id);
+
     @EntityGraph(attributePaths = {"author", "category"})
     Page<Club> findAllByIsPublicTrue(Pageable pageable);
 
-    @Query("SELECT COUNT(u) > 0 FROM User u JOIN u.likedClubs c WHERE u.id = :userId AND c.id = :clubId")
+    /** {@code club_likes} 기본키만 확인한다. {@code users}/{@code club}은 조인하지 않는다. */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM club_likes WHERE user_id = :userId AND club_id = :clubId)",
+            nativeQuery = true)
     boolean existsLikeByUserIdAndClubId(@Param("userId") Long userId, @Param("clubId") Long clubId);
 
-    @Query("SELECT COUNT(u) FROM User u JOIN u.likedClubs c WHERE c.id = :clubId")
+    /** 비정규화된 {@code club.like_count}를 읽는다. 집계 쿼리를 실행하지 않는다. */
+    @Query("SELECT c.likeCount FROM Club c WHERE c.id = :clubId")
     int countLikesByClubId(@Param("clubId") Long clubId);
 
+    /** 상세 응답의 ETag를 만드는 값. */
+    interface ClubVersion {
+        LocalDateTime getUpdatedAt();
+
+        int getLikeCount();
+
+        boolean isLiked();
+    }
+
+    /**
+     * 공개 동아리의 수정 시각, 좋아요 수, 사용자의 좋아요 여부를 기본키 조회 한 문장으로 읽는다.
+     * 엔티티나 연관을 로딩하지 않는다. 비공개/삭제된 동아리이면 빈 값.
+     */
+    @Query("""
+            SELECT c.updatedAt AS updatedAt, c.likeCount AS likeCount,
+                   CASE WHEN EXISTS (SELECT 1 FROM ClubLike l WHERE l.id.userId = :userId AND l.id.clubId = c.id)
+                        THEN true ELSE false END AS liked
+            FROM Club c WHERE c.id = :id AND c.isPublic = true
+            """)
+    Optional<ClubVersion> findPublicVersion(@Param("id") Long id, @Param("userId") Long userId);
+
     /**
-     * Atomically adds a like entry. Returns 1 if inserted, 0 if already exists.
+     * Atomically adds a like entry and increments {@code club.like_count} in the same statement.
+     * Returns 1 if inserted, 0 if already exists.
+     * The persistence context is cleared afterwards so that a managed {@link Club} does not keep a stale {@code likeCount}.
      * Uses native query with ON CONFLICT DO NOTHING for PostgreSQL to handle race conditions.
      */
-    @Modifying
-    @Query(value = "INSERT INTO club_likes (user_id, club_id) VALUES (:userId, :clubId) " +
-                   "ON CONFLICT (user_id, club_id) DO NOTHING",
-           nativeQuery = true)
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO club_likes (user_id, club_id) VALUES (:userId, :clubId)
+                ON CONFLICT (user_id, club_id) DO NOTHING
+                RETURNING club_id
+            )
+            UPDATE club SET like_count = like_count + 1
+            WHERE id IN (SELECT club_id FROM inserted)
+            """, nativeQuery = true)
     int addLikeAtomic(@Param("userId") Long userId, @Param("clubId") Long clubId);
 
     /**
-     * Atomically removes a like entry. Returns 1 if deleted, 0 if didn't exist.
+     * Atomically removes a like entry and decrements {@code club.like_count} in the same statement.
+     * Returns 1 if deleted, 0 if didn't exist.
      */
-    @Modifying
-    @Query(value = "DELETE FROM club_likes WHERE user_id = :userId AND club_id = :clubId",
-           nativeQuery = true)
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            WITH deleted AS (
+                DELETE FROM club_likes WHERE user_id = :userId AND club_id = :clubId
+                RETURNING club_id
+            )
+            UPDATE club SET like_count = GREATEST(like_count - 1, 0)
+            WHERE id IN (SELECT club_id FROM deleted)
+            """, nativeQuery = true)
     int removeLikeAtomic(@Param("userId") Long userId, @Param("clubId") Long clubId);
 
-    // ── Name search: ILIKE path (keyword length 1~3) ──────────────────────────
+    /** 일괄 좋아요 반영에서 실제로 추가되거나 삭제된 (userId, clubId) 쌍. */
+    interface LikePair {
+        Long getUserId();
+
+        Long getClubId();
+    }
+
+    /**
+     * 좋아요 여러 건을 한 문장으로 추가하고 동아리별 {@code club.like_count}를 함께 증가시킨다.
+     * 두 배열은 같은 길이의 (userId, clubId) 쌍이며, 이미 존재하는 쌍이나 없는(탈퇴한) 사용자/동아리는 무시된다.
+     *
+     * @return 실제로 추가된 쌍. 무시된 쌍은 포함하지 않는다.
+     */
+    @Transactional
+    @Query(value = """
+            WITH input AS (
+                SELECT * FROM unnest(CAST(:userIds AS bigint[]), CAST(:clubIds AS bigint[])) AS t(user_id, club_id)
+            ), inserted AS (
+                INSERT INTO club_likes (user_id, club_id)
+                SELECT i.user_id, i.club_id FROM input i
+                JOIN users u ON u.id = i.user_id AND u.deleted_at IS NULL
+                JOIN club c ON c.id = i.club_id
+                ON CONFLICT (user_id, club_id) DO NOTHING
+                RETURNING user_id, club_id
+            ), counted AS (
+                UPDATE club SET like_count = like_count + s.cnt
+                FROM (SELECT club_id, COUNT(*) AS cnt FROM inserted GROUP BY club_id) s
+                WHERE club.id = s.club_id
+            )
+            SELECT user_id AS "userId", club_id AS "clubId" FROM inserted
+            """, nativeQuery = true)
+    List<LikePair> addLikesBatch(@Param("userIds") Long[] userIds, @Param("clubIds") Long[] clubIds);
+
+    /**
+     * 좋아요 여러 건을 한 문장으로 삭제하고 동아리별 {@code club.like_count}를 함께 감소시킨다.
+     *
+     * @return 실제로 삭제된 쌍. 이미 없던 쌍은 포함하지 않는다.
+     */
+    @Transactional
+    @Query(value = """
+            WITH deleted AS (
+                DELETE FROM club_likes l
+                USING unnest(CAST(:userIds AS bigint[]), CAST(:clubIds AS bigint[])) AS t(user_id, club_id)
+                WHERE l.user_id = t.user_id AND l.club_id = t.club_id
+                RETURNING l.user_id, l.club_id
+            ), counted AS (
+                UPDATE club SET like_count = GREATEST(like_count - s.cnt, 0)
+                FROM (SELECT club_id, COUNT(*) AS cnt FROM deleted GROUP BY club_id) s
+                WHERE club.id = s.club_id
+            )
+            SELECT user_id AS "userId", club_id AS "clubId" FROM deleted
+            """, nativeQuery = true)
+    List<LikePair> removeLikesBatch(@Param("userIds") Long[] userIds, @Param("clubIds") Long[] clubIds);
+
+    // ── 회원 탈퇴: 사용자의 좋아요 전체 삭제 ─────────────────────────────────
+    // 사용자 soft delete는 club_likes를 건드리지 않으므로 따로 지워야 한다. 잠금 조회 → 삭제 → 감소를 한 트랜잭션에서
+    // 차례로 실행한다 (데이터 변경 CTE를 쓰지 않으므로 H2 테스트 프로필에서도 같은 경로를 탄다).
+
+    /**
+     * 사용자가 좋아요한 동아리 id를 읽으면서 그 좋아요 행을 잠근다.
+     * 같은 좋아요의 동시 취소는 이 트랜잭션이 끝날 때까지 기다렸다가 0건 삭제로 끝나므로 like_count를 두 번 줄이지 않는다.
+     */
+    @Query(value = "SELECT club_id FROM club_likes WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    List<Long> lockLikedClubIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM club_likes WHERE user_id = :userId AND club_id IN (:clubIds)", nativeQuery = true)
+    int deleteLikesByUserId(@Param("userId") Long userId, @Param("clubIds") List<Long> clubIds);
+
+    /** 동아리별 {@code club.like_count}를 1씩 줄인다. 관리 중인 {@link Club}이 없는 경로에서만 쓰므로 컨텍스트를 비우지 않는다. */
+    @Modifying
+    @Query(value = "UPDATE club SET like_count = GREATEST(like_count - 1, 0) WHERE id IN (:clubIds)", nativeQuery = true)
+    int decrementLikeCounts(@Param("clubIds") List<Long> clubIds);
+
+    // ── like_count 드리프트 보정 ─────────────────────────────────────────────
+    // 동아리 행을 id 순으로 묶음마다 잠근 뒤 다음 문장에서 실제 행 수를 센다. READ COMMITTED에서는 문장마다 새 스냅숏을
+    // 쓰므로, 잠금 전에 커밋된 토글은 집계에 보이고 잠금 뒤의 토글은 like_count 갱신에서 기다렸다가 보정값 위에 더해진다.
+
+    /**
+     * id가 {@code afterId}보다 큰 동아리를 최대 {@code limit}개 잠그고 그 id를 오름차순으로 반환한다.
+     * 삭제된 동아리도 포함한다(복구 시 값이 맞아야 하므로).
+     */
+    @Query(value = "SELECT id FROM club WHERE id > :afterId ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockClubIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 주어진 동아리의 {@code club.like_count}를 club_likes 실제 행 수와 비교해 어긋난 행만 보정한다.
+     * 행마다 상관 서브쿼리로 세며, 탈퇴한 사용자의 좋아요는 세지 않는다. 반환값은 보정된 동아리 수.
+     * {@link #lockClubIdsAfter}로 잠근 같은 트랜잭션 안에서 호출해야 동시 토글을 잃지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE club c
+            SET like_count = (
+                SELECT COUNT(*) FROM club_likes l
+                JOIN users u ON u.id = l.user_id AND u.deleted_at IS NULL
+                WHERE l.club_id = c.id
+            )
+            WHERE c.id IN (:clubIds)
+              AND c.like_count <> (
+                SELECT COUNT(*) FROM club_likes l
+                JOIN users u ON u.id = l.user_id AND u.deleted_at IS NULL
+                WHERE l.club_id = c.id
+            )
+            """, nativeQuery = true)
+    int reconcileLikeCounts(@Param("clubIds") List<Long> clubIds);
+
+    // ── Short keyword search: ILIKE fallback (keyword length 1~3) ─────────────
+    // 카탈로그 스냅샷이 있으면 메모리의 글자 n-gram 역색인이 대신 응답한다. 이름 또는 소개 부분 일치.
 
     @Query(value = """
             SELECT id FROM club
             WHERE is_public = true AND deleted_at IS NULL
-              AND name ILIKE '%' || :keyword || '%'
-            ORDER BY name
+              AND (name ILIKE '%' || :keyword || '%' OR summary ILIKE '%' || :keyword || '%')
+            ORDER BY name, id
             LIMIT :limit OFFSET :offset
             """, nativeQuery = true)
-    List<Long> findIdsByNameIlike(
+    List<Long> findIdsByKeywordIlike(
             @Param("keyword") String keyword,
             @Param("limit") int limit,
             @Param("offset") int offset);
@@ -67,9 +218,78 @@ public interface ClubRepository extends JpaRepository<Club, Long>, JpaSpecificat
     @Query(value = """
             SELECT COUNT(*) FROM club
             WHERE is_public = true AND deleted_at IS NULL
-              AND name ILIKE '%' || :keyword || '%'
+              AND (name ILIKE '%' || :keyword || '%' OR summary ILIKE '%' || :keyword || '%')
+            """, nativeQuery = true)
+    long countByKeywordIlike(@Param("keyword") String keyword);
+
+    // ── Full-text search: ILIKE fallback (GET /clubs/search?q=) ───────────────
+    // 카탈로그 스냅샷이 있으면 메모리의 BM25F 역색인(ClubTextIndex)이 관련도 순으로 응답한다.
+    // 스냅샷이 없을 때만 쓰이며, 이름·소개·상세 설명·태그 이름 중 하나라도 검색어 전체를 포함하면 (name, id) 순으로 반환한다.
+
+    @Query(value = """
+            SELECT c.id FROM club c
+            WHERE c.is_public = true AND c.deleted_at IS NULL
+              AND (c.name ILIKE '%' || :query || '%'
+                   OR c.summary ILIKE '%' || :query || '%'
+                   OR c.description ILIKE '%' || :query || '%'
+                   OR EXISTS (SELECT 1 FROM club_tag ct JOIN tag t ON t.id = ct.tag_id
+                              WHERE ct.club_id = c.id AND t.name ILIKE '%' || :query || '%'))
+            ORDER BY c.name, c.id
+            LIMIT :limit OFFSET :offset
             """, nativeQuery = true)
-    long countByNameIlike(@Param("keyword") String keyword);
+    List<Long> findIdsByFullTextIlike(
+            @Param("query") String query,
+            @Param("limit") int limit,
+            @Param("offset") int offset);
+
+    @Query(value = """
+            SELECT COUNT(*) FROM club c
+            WHERE c.is_public = true AND c.deleted_at IS NULL
+              AND (c.name ILIKE '%' || :query || '%'
+                   OR c.summary ILIKE '%' || :query || '%'
+                   OR c.description ILIKE '%' || :query || '%'
+                   OR EXISTS (SELECT 1 FROM club_tag ct JOIN tag t ON t.id = ct.tag_id
+                              WHERE ct.club_id = c.id AND t.name ILIKE '%' || :query || '%'))
+            """, nativeQuery = true)
+    long countByFullTextIlike(@Param("query") String query);
+
+    // ── Choseong search: DB fallback (jamo-only keyword, e.g. "ㅂㄷ") ─────────
+    // 카탈로그 스냅샷이 있으면 메모리의 초성 n-gram 역색인이 대신 응답한다.
+    // name_choseong은 저장 시점에 계산된 컬럼이므로 행마다 초성을 분해하지 않는다 (3자 이상은 trigram GIN 인덱스 사용).
+
+    @Query(value = """
+            SELECT id FROM club
+            WHERE is_public = true AND deleted_at IS NULL
+              AND name_choseong LIKE '%' || :choseong || '%'
+            ORDER BY name, id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Long> findIdsByChoseong(
+            @Param("choseong") String choseong,
+            @Param("limit") int limit,
+            @Param("offset") int offset);
+
+    @Query(value = """
+            SELECT COUNT(*) FROM club
+            WHERE is_public = true AND deleted_at IS NULL
+              AND name_choseong LIKE '%' || :choseong || '%'
+            """, nativeQuery = true)
+    long countByChoseong(@Param("choseong") String choseong);
+
+    /** 초성 경로의 keyset 페이지. (name, id) 순서로 커서 다음 항목부터 읽는다. 첫 페이지는 lastName = '', lastId = 0. */
+    @Query(value = """
+            SELECT id FROM club
+            WHERE is_public = true AND deleted_at IS NULL
+              AND name_choseong LIKE '%' || :choseong || '%'
+              AND (name, id) > (:lastName, :lastId)
+            ORDER BY name, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findIdsByChoseongAfter(
+            @Param("choseong") String choseong,
+            @Param("lastName") String lastName,
+            @Param("lastId") Long lastId,
+            @Param("limit") int limit);
 
     // ── Name search: pg_trgm path (keyword length 4+) ─────────────────────────
 
@@ -92,6 +312,59 @@ public interface ClubRepository extends JpaRepository<Club, Long>, JpaSpecificat
             """, nativeQuery = true)
     long countByNameTrgm(@Param("keyword") String keyword);
 
+    // ── Autocomplete: DB fallback ──────────────────────────────────────────────
+    // 카탈로그 스냅샷이 있으면 메모리 접두사 인덱스가 대신 응답한다.
+
+    /** 이름 또는 이름 속 단어(공백 뒤)가 prefix(소문자)로 시작하는 공개 동아리 id. 좋아요 내림차순, 이름, id 순. */
+    @Query(value = """
+            SELECT id FROM club
+            WHERE is_public = true AND deleted_at IS NULL
+              AND (LOWER(name) LIKE :prefix || '%' OR LOWER(name) LIKE '% ' || :prefix || '%')
+            ORDER BY like_count DESC, name, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findIdsByNamePrefix(@Param("prefix") String prefix, @Param("limit") int limit);
+
+    // ── Name search: keyset (cursor) variants ──────────────────────────────────
+
+    /**
+     * ILIKE 경로의 keyset 페이지. (name, id) 순서로 커서 다음 항목부터 읽는다.
+     * 첫 페이지는 lastName = '', lastId = 0을 넘긴다. {@code idx_club_public_name_id}로 범위 스캔한다.
+     */
+    @Query(value = """
+            SELECT id FROM club
+            WHERE is_public = true AND deleted_at IS NULL
+              AND (name ILIKE '%' || :keyword || '%' OR summary ILIKE '%' || :keyword || '%')
+              AND (name, id) > (:lastName, :lastId)
+            ORDER BY name, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findIdsByKeywordIlikeAfter(
+            @Param("keyword") String keyword,
+            @Param("lastName") String lastName,
+            @Param("lastId") Long lastId,
+            @Param("limit") int limit);
+
+    /**
+     * trigram 경로의 keyset 페이지. (유사도 내림차순, id 오름차순)으로 커서 다음 항목부터 읽는다.
+     * 첫 페이지는 lastSimilarity = 2(최댓값 1보다 큼), lastId = 0을 넘긴다.
+     * 반환값: [clubId(Long), similarity(Float)] 형태의 Object[] 리스트.
+     */
+    @Query(value = """
+            SELECT id, word_similarity(:keyword, name) AS sim FROM club
+            WHERE is_public = true AND deleted_at IS NULL
+              AND :keyword <% name
+              AND (word_similarity(:keyword, name) < CAST(:lastSimilarity AS real)
+                   OR (word_similarity(:keyword, name) = CAST(:lastSimilarity AS real) AND id > :lastId))
+            ORDER BY sim DESC, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Object[]> findIdsByNameTrgmAfter(
+            @Param("keyword") String keyword,
+            @Param("lastSimilarity") float lastSimilarity,
+            @Param("lastId") Long lastId,
+            @Param("limit") int limit);
+
     // ── Batch-fetch entities with associations (used after ID-only queries) ───
 
     /**
@@ -102,18 +375,31 @@ public interface ClubRepository extends JpaRepository<Club, Long>, JpaSpecificat
     @Query("SELECT DISTINCT c FROM Club c WHERE c.id IN :ids")
     List<Club> findAllByIdInWithGraph(@Param("ids") List<Long> ids);
 
+    // ── Catalog snapshot loading ──────────────────────────────────────────────
+
+    /**
+     * 인메모리 카탈로그 적재용. 공개 동아리 전체를 목록 응답과 필터 평가에 필요한 연관까지 한 번에 로딩한다.
+     */
+    @EntityGraph(attributePaths = {"author", "category", "major.college", "clubTags.tag"})
+    @Query("SELECT DISTINCT c FROM Club c WHERE c.isPublic = true")
+    List<Club> findAllPublicWithGraph();
+
+    @EntityGraph(attributePaths = {"author", "category", "major.college", "clubTags.tag"})
+    @Query("SELECT c FROM Club c WHERE c.id = :id")
+    Optional<Club> findByIdWithGraph(@Param("id") Long id);
+
     // ── Liked clubs by user ───────────────────────────────────────────────────
 
-    @EntityGraph(attributePaths = {"author", "category", "clubTags.tag"})
-    @Query("SELECT c FROM Club c JOIN c.likedByUsers u WHERE u.id = :userId AND c.isPublic = true")
-    Page<Club> findLikedClubsByUserId(@Param("userId") Long userId, Pageable pageable);
+    /** 사용자가 좋아요한 모든 동아리 id. {@code club_likes} 기본키 선두 컬럼으로 범위 스캔한다. */
+    @Query("SELECT l.id.clubId FROM ClubLike l WHERE l.id.userId = :userId")
+    List<Long> findLikedClubIdsByUserId(@Param("userId") Long userId);
 
     // ── Filter: like count batch (used after Specification page query) ────────
 
     /**
-     * 주어진 ID 목록에 대한 찜 수를 배치로 조회한다.
+     * 주어진 ID 목록에 대한 찜 수를 배치로 조회한다. 비정규화 컬럼을 PK로 읽으므로 좋아요 수와 무관하게 비용이 일정하다.
      * 반환값: [clubId(Long), likeCount(Long)] 형태의 Object[] 리스트.
      */
-    @Query("SELECT c.id, COUNT(u) FROM Club c LEFT JOIN c.likedByUsers u WHERE c.id IN :ids GROUP BY c.id")
+    @Query("SELECT c.id, CAST(c.likeCount AS Long) FROM Club c WHERE c.id IN :ids")
     List<Object[]> findLikeCountsByIds(@Param("ids") List<Long> ids);
 }
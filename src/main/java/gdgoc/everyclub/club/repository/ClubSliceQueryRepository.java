@@ -0,0 +1,53 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.domain.Club;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * COUNT 없는 Specification 페이지 조회 (slice).
+ *
+ * <p>{@code findAll(spec, pageable)}은 페이지가 가득 차면 같은 조건으로 COUNT를 한 번 더 실행한다.
+ * 여기서는 id만 {@code pageSize + 1}건 읽어 다음 페이지 존재 여부를 판단하므로 쿼리가 하나다.
+ * 응답 컬럼은 호출자가 {@link ClubSummaryQueryRepository#findByIds}로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubSliceQueryRepository {
+
+    private final EntityManager entityManager;
+
+    /** pageable 위치부터 최대 {@code pageSize + 1}개의 id를 pageable 정렬 순서(동률은 id 오름차순)로 반환한다. */
+    public List<Long> findIds(Specification<Club> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Club> root = query.from(Club.class);
+        query.select(root.get("id"));
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        query.orderBy(QueryUtils.toOrders(withIdTiebreaker(pageable.getSort()), root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+    }
+
+    /**
+     * 정렬 키가 같은 행의 순서는 DB가 정하지 않으므로 OFFSET 페이지 사이에 행이 겹치거나 빠질 수 있다.
+     * 마지막 키로 id 오름차순을 붙여 순서를 고정한다.
+     */
+    static Sort withIdTiebreaker(Sort sort) {
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+}
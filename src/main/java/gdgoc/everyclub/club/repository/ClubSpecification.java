@@ -3,6 +3,7 @@ package gdgoc.everyclub.club.repository;
 import gdgoc.everyclub.club.domain.Club;
 import gdgoc.everyclub.club.domain.ClubTag;
 import gdgoc.everyclub.club.domain.TagNormalizer;
+import gdgoc.everyclub.club.dto.TagMatchMode;
 import gdgoc.everyclub.college.domain.Major;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
@@ -11,6 +12,7 @@ import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
+import java.util.Locale;
 
 /**
  * {@link Club} 엔티티에 대한 JPA Specification 팩토리 클래스.
@@ -92,6 +94,45 @@ public class ClubSpecification {
         };
     }
 
+    /**
+     * 복수 태그 필터 — {@code club_tag} 한 번의 그룹 조회로 평가한다.
+     * <ul>
+     *   <li>{@link TagMatchMode#ANY}: 태그 중 하나라도 가진 동아리. {@code EXISTS (... tag.name IN :tags)}</li>
+     *   <li>{@link TagMatchMode#ALL}: 모든 태그를 가진 동아리.
+     *       {@code id IN (SELECT club_id ... WHERE tag.name IN :tags GROUP BY club_id HAVING COUNT(*) = :n)}</li>
+     * </ul>
+     * 두 경우 모두 태그 이름 → tag_id 조회 후 {@code idx_club_tag_tag_club (tag_id, club_id)} 범위를 태그 수만큼 읽으므로,
+     * 태그마다 EXISTS를 하나씩 붙이는 방식과 달리 태그 수가 늘어도 서브쿼리는 하나다.
+     * ({@code uk_club_tag_club_tag}로 같은 태그가 중복 연결되지 않으므로 {@code COUNT(*)}가 곧 일치한 태그 수다.)
+     *
+     * @param normalizedTags {@link TagNormalizer}로 정규화된 중복 없는 태그. null 또는 빈 리스트이면 null 반환 (조건 무시)
+     */
+    public static Specification<Club> hasTags(List<String> normalizedTags, TagMatchMode mode) {
+        if (normalizedTags == null || normalizedTags.isEmpty()) return null;
+        if (normalizedTags.size() == 1) return hasTag(normalizedTags.get(0));
+        if (mode == TagMatchMode.ANY) {
+            return (root, query, cb) -> {
+                Subquery<Long> sub = query.subquery(Long.class);
+                Root<ClubTag> ctRoot = sub.from(ClubTag.class);
+                sub.select(ctRoot.get("id"))
+                   .where(
+                       cb.equal(ctRoot.get("club"), root),
+                       ctRoot.get("tag").get("name").in(normalizedTags)
+                   );
+                return cb.exists(sub);
+            };
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> sub = query.subquery(Long.class);
+            Root<ClubTag> ctRoot = sub.from(ClubTag.class);
+            sub.select(ctRoot.get("club").get("id"))
+               .where(ctRoot.get("tag").get("name").in(normalizedTags))
+               .groupBy(ctRoot.get("club").get("id"))
+               .having(cb.equal(cb.count(ctRoot), (long) normalizedTags.size()));
+            return root.get("id").in(sub);
+        };
+    }
+
     /**
      * 이름 LIKE 필터 (대소문자 무시, 부분 일치).
      *
@@ -103,7 +144,7 @@ public class ClubSpecification {
     public static Specification<Club> hasNameLike(String name) {
         if (name == null || name.isBlank()) return null;
         return (root, query, cb) ->
-                cb.like(cb.lower(root.get("name")), "%" + name.strip().toLowerCase() + "%");
+                cb.like(cb.lower(root.get("name")), "%" + name.strip().toLowerCase(Locale.ROOT) + "%");
     }
 
     /**
@@ -133,4 +174,23 @@ public class ClubSpecification {
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 이름순 keyset 커서 조건: {@code (name, id) > (:name, :id)}.
+     *
+     * <p>Criteria API는 행 값 비교를 지원하지 않으므로 {@code name >= :name AND (name > :name OR id > :id)}로 풀어 쓴다.
+     * 앞의 {@code name >=} 조건이 {@code idx_club_public_name_id} 범위 스캔의 시작점이 된다.
+     *
+     * @param name null이면 null 반환 (첫 페이지)
+     */
+    public static Specification<Club> afterName(String name, Long id) {
+        if (name == null || id == null) return null;
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("name"), name),
+                cb.or(
+                        cb.greaterThan(root.get("name"), name),
+                        cb.greaterThan(root.get("id"), id)
+                )
+        );
+    }
+}
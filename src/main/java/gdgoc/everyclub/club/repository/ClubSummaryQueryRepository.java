@@ -0,0 +1,104 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import gdgoc.everyclub.club.dto.ClubSummaryResponse;
+import gdgoc.everyclub.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 동아리 목록 응답({@link ClubSummaryResponse}) 전용 읽기 경로.
+ *
+ * <p>엔티티 + EntityGraph 배치 페치 + like count 배치 조회(3쿼리) 대신, 응답에 필요한 컬럼만
+ * SQL 한 문장으로 읽어 바로 DTO로 매핑한다. 영속성 컨텍스트를 거치지 않으므로 스냅샷/더티 체킹 비용이 없다.
+ * <ul>
+ *   <li>태그: {@code array_agg} 상관 서브쿼리 ({@code uk_club_tag_club_tag} 인덱스 사용)</li>
+ *   <li>좋아요 수: 비정규화 컬럼 {@code club.like_count}</li>
+ *   <li>작성자 이름: {@link User#displayName} 규칙 (닉네임, 없으면 이메일 앞부분)</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubSummaryQueryRepository {
+
+    /** 입력 id 순서를 ordinality로 보존한다. 삭제된 동아리는 제외된다. */
+    private static final String FIND_BY_IDS = findByIdsSql("");
+
+    private static final String FIND_PUBLIC_BY_IDS = findByIdsSql(" AND c.is_public = true");
+
+    private static final RowMapper<ClubSummaryResponse> ROW_MAPPER = (rs, rowNum) -> {
+        String email = rs.getString("author_email");
+        return ClubSummaryResponse.builder()
+                .id(rs.getLong("id"))
+                .slug(rs.getString("slug"))
+                .name(rs.getString("name"))
+                .summary(rs.getString("summary"))
+                .logoUrl(rs.getString("logo_url"))
+                .recruitingStatus(RecruitingStatus.valueOf(rs.getString("recruiting_status")))
+                .activityCycle(rs.getString("activity_cycle"))
+                .hasFee(rs.getBoolean("has_fee"))
+                .likeCount(rs.getInt("like_count"))
+                .tags(toList(rs.getArray("tags")))
+                .categoryId(rs.getObject("category_id", Long.class))
+                .categoryName(rs.getString("category_name"))
+                .authorName(email != null ? User.displayName(rs.getString("author_nickname"), email) : "Unknown")
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * id 목록을 목록 응답으로 변환한다. 결과는 입력 순서를 따르며, 없는 id는 빠진다.
+     */
+    public List<ClubSummaryResponse> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids.toArray(Long[]::new));
+        return jdbcTemplate.query(FIND_BY_IDS, params, ROW_MAPPER);
+    }
+
+    /** {@link #findByIds}의 공개 동아리 버전. id를 메모리 집계 등 DB 밖에서 얻어 비공개 전환을 알 수 없을 때 쓴다. */
+    public List<ClubSummaryResponse> findPublicByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids.toArray(Long[]::new));
+        return jdbcTemplate.query(FIND_PUBLIC_BY_IDS, params, ROW_MAPPER);
+    }
+
+    private static String findByIdsSql(String clubCondition) {
+        return """
+                SELECT c.id, c.slug, c.name, c.summary, c.logo_url, c.recruiting_status, c.activity_cycle,
+                       c.has_fee, c.like_count, c.category_id, cat.name AS category_name,
+                       u.nickname AS author_nickname, u.email AS author_email,
+                       c.created_at, c.updated_at,
+                       (SELECT array_agg(t.name ORDER BY ct.id)
+                        FROM club_tag ct JOIN tag t ON t.id = ct.tag_id
+                        WHERE ct.club_id = c.id) AS tags
+                FROM unnest(CAST(:ids AS bigint[])) WITH ORDINALITY AS input(id, ord)
+                JOIN club c ON c.id = input.id AND c.deleted_at IS NULL%s
+                LEFT JOIN category cat ON cat.id = c.category_id
+                LEFT JOIN users u ON u.id = c.created_by
+                ORDER BY input.ord
+                """.formatted(clubCondition);
+    }
+
+    private static List<String> toList(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return Arrays.asList((String[]) array.getArray());
+    }
+}
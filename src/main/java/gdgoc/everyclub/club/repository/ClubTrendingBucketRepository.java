@@ -0,0 +1,57 @@
+package gdgoc.everyclub.club.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 인기 급상승 시간 버킷 스냅샷 ({@code club_trending_bucket}) 읽기/쓰기.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubTrendingBucketRepository {
+
+    /** 세 배열은 같은 길이의 (clubId, hour, likes) 묶음이다. 이미 있는 버킷은 값을 덮어쓴다. */
+    private static final String UPSERT = """
+            INSERT INTO club_trending_bucket (club_id, bucket_hour, likes)
+            SELECT * FROM unnest(CAST(:clubIds AS bigint[]), CAST(:hours AS bigint[]), CAST(:likes AS integer[]))
+            ON CONFLICT (club_id, bucket_hour) DO UPDATE SET likes = EXCLUDED.likes
+            """;
+
+    private static final String DELETE_BEFORE = "DELETE FROM club_trending_bucket WHERE bucket_hour < :hour";
+
+    private static final String FIND_SINCE = """
+            SELECT club_id, bucket_hour, likes FROM club_trending_bucket
+            WHERE bucket_hour >= :hour AND likes <> 0
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record Bucket(long clubId, long hour, int likes) {
+    }
+
+    public void upsert(List<Bucket> buckets) {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("clubIds", buckets.stream().map(Bucket::clubId).toArray(Long[]::new))
+                .addValue("hours", buckets.stream().map(Bucket::hour).toArray(Long[]::new))
+                .addValue("likes", buckets.stream().map(Bucket::likes).toArray(Integer[]::new));
+        jdbcTemplate.update(UPSERT, params);
+    }
+
+    /** hour보다 이전 버킷을 삭제한다. */
+    public int deleteBefore(long hour) {
+        return jdbcTemplate.update(DELETE_BEFORE, new MapSqlParameterSource("hour", hour));
+    }
+
+    /** hour 이후(포함)의 0이 아닌 버킷. */
+    public List<Bucket> findSince(long hour) {
+        return jdbcTemplate.query(FIND_SINCE, new MapSqlParameterSource("hour", hour),
+                (rs, rowNum) -> new Bucket(rs.getLong("club_id"), rs.getLong("bucket_hour"), rs.getInt("likes")));
+    }
+}
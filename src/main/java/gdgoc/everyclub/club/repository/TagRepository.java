@@ -2,10 +2,31 @@ package gdgoc.everyclub.club.repository;
 
 import gdgoc.everyclub.club.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
     Optional<Tag> findByName(String name);
+
+    /**
+     * 자동완성 DB 폴백. 정규화된 prefix로 시작하는 태그와 태그별 공개 동아리 수를
+     * 동아리 수 내림차순, 이름순으로 조회한다. {@code uk_tag_name} 인덱스로 접두사 범위를 찾는다.
+     * 반환값: [name(String), clubCount(Number)] 형태의 Object[] 리스트.
+     */
+    @Query(value = """
+            SELECT t.name, COUNT(*) AS club_count
+            FROM tag t
+            JOIN club_tag ct ON ct.tag_id = t.id
+            JOIN club c ON c.id = ct.club_id
+            WHERE t.name LIKE :prefix || '%'
+              AND c.is_public = true AND c.deleted_at IS NULL
+            GROUP BY t.name
+            ORDER BY club_count DESC, t.name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Object[]> findSuggestionsByPrefix(@Param("prefix") String prefix, @Param("limit") int limit);
 }
@@ -4,13 +4,21 @@ import gdgoc.everyclub.club.domain.Club;
 import gdgoc.everyclub.club.domain.ClubAdmin;
 import gdgoc.everyclub.club.domain.ClubAdminRole;
 import gdgoc.everyclub.club.dto.ClubAdminResponse;
+import gdgoc.everyclub.club.dto.ClubCursor;
 import gdgoc.everyclub.club.dto.ClubSummaryResponse;
 import gdgoc.everyclub.club.dto.DelegateClubAdminRequest.FormerLeaderAction;
 import gdgoc.everyclub.club.repository.ClubAdminRepository;
+import gdgoc.everyclub.club.repository.ClubLikedQueryRepository;
+import gdgoc.everyclub.club.repository.ClubLikedQueryRepository.LikedId;
 import gdgoc.everyclub.club.repository.ClubRepository;
+import gdgoc.everyclub.club.repository.ClubSummaryQueryRepository;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.common.CursorSlice;
+import gdgoc.everyclub.common.SlicePage;
 import gdgoc.everyclub.common.exception.BusinessErrorCode;
 import gdgoc.everyclub.common.exception.LogicException;
 import gdgoc.everyclub.common.exception.ResourceErrorCode;
+import gdgoc.everyclub.common.exception.ValidationErrorCode;
 import gdgoc.everyclub.user.domain.User;
 import gdgoc.everyclub.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,9 +38,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ClubAdminService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final ClubAdminRepository clubAdminRepository;
     private final ClubRepository clubRepository;
     private final UserService userService;
+    private final ClubCountCache countCache;
+    private final ClubLikedQueryRepository clubLikedQueryRepository;
+    private final ClubSummaryQueryRepository clubSummaryQueryRepository;
 
     /** 내가 관리하는 동아리 목록 (ClubAdmin 기준, isPublic 무관). */
     public List<ClubSummaryResponse> getManagedClubs(Long userId) {
@@ -57,29 +71,64 @@ public class ClubAdminService {
 
     /** 좋아요한 공개 동아리 목록. */
     public Page<ClubSummaryResponse> getLikedClubs(Long userId, Pageable pageable) {
-        Page<Club> page = clubRepository.findLikedClubsByUserId(userId, pageable);
-        List<Long> ids = page.map(Club::getId).toList();
-        if (ids.isEmpty()) {
-            return page.map(club -> new ClubSummaryResponse(club, 0));
+        return getLikedClubs(userId, pageable, CountMode.EXACT);
+    }
+
+    /**
+     * 좋아요한 공개 동아리 목록 (최근에 좋아요한 순). 페이지의 id만 SQL로 잘라 읽은 뒤
+     * {@link ClubSummaryQueryRepository#findByIds}로 채운다.
+     *
+     * <p>EXACT가 아니면 COUNT 없이 한 건 더 읽어 다음 페이지 여부만 판단하고,
+     * CACHED이면 사용자별 개수를 {@link ClubCountCache}에서 꺼낸다.
+     *
+     * @throws LogicException pageable에 정렬이 지정된 경우 (INVALID_INPUT). 순서는 좋아요한 시각으로 고정이다.
+     */
+    public Page<ClubSummaryResponse> getLikedClubs(Long userId, Pageable pageable, CountMode count) {
+        if (pageable.getSort().isSorted()) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+        if (count == CountMode.EXACT) {
+            List<Long> ids = clubLikedQueryRepository.findIds(userId, pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(toLikedSummaries(ids), pageable, clubLikedQueryRepository.count(userId));
         }
+        List<Long> ids = clubLikedQueryRepository.findIds(userId, pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        Long total = count == CountMode.CACHED
+                ? countCache.get(new ClubCountCache.Key(ClubCountCache.LIKED, userId),
+                        () -> clubLikedQueryRepository.count(userId))
+                : null;
+        return new SlicePage<>(toLikedSummaries(hasNext ? ids.subList(0, pageable.getPageSize()) : ids),
+                pageable, hasNext, total);
+    }
 
-        Map<Long, Integer> likeCountById = clubRepository.findLikeCountsByIds(ids).stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
+    /**
+     * 좋아요한 공개 동아리 목록의 커서 페이지네이션 버전. (좋아요한 시각, id) keyset이므로
+     * 좋아요가 많아도 페이지마다 size + 1건만 읽는다.
+     *
+     * @param cursor 직전 응답의 nextCursor. null 또는 빈 문자열이면 첫 페이지
+     * @throws LogicException size가 1~100 범위를 벗어나거나 커서 형식이 올바르지 않은 경우 (INVALID_INPUT)
+     */
+    public CursorSlice<ClubSummaryResponse> getLikedClubsByCursor(Long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+        ClubCursor after = ClubCursor.decode(cursor);
+        List<LikedId> rows = clubLikedQueryRepository.findIdsBefore(userId,
+                after != null ? after.likedAt() : null, after != null ? after.id() : null, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<LikedId> page = hasNext ? rows.subList(0, size) : rows;
+        Map<Long, LocalDateTime> likedAtById = page.stream()
+                .collect(Collectors.toMap(LikedId::clubId, LikedId::likedAt));
+        List<ClubSummaryResponse> content = toLikedSummaries(page.stream().map(LikedId::clubId).toList());
+        return CursorSlice.of(content, hasNext,
+                last -> ClubCursor.of(likedAtById.get(last.getId()), last.getId()).encode());
+    }
 
-        List<ClubSummaryResponse> content = ids.stream()
-                .map(id -> {
-                    Club club = page.getContent().stream()
-                            .filter(c -> c.getId().equals(id))
-                            .findFirst()
-                            .orElseThrow();
-                    return new ClubSummaryResponse(club, likeCountById.getOrDefault(id, 0));
-                })
+    /** 좋아요한 동아리 목록이므로 모든 항목의 좋아요 여부가 true다. */
+    private List<ClubSummaryResponse> toLikedSummaries(List<Long> ids) {
+        return clubSummaryQueryRepository.findByIds(ids).stream()
+                .map(summary -> summary.withLiked(true))
                 .toList();
-
-        return new PageImpl<>(content, pageable, page.getTotalElements());
     }
 
     /** 동아리 관리자 목록 조회 */
@@ -0,0 +1,58 @@
+package gdgoc.everyclub.club.service;
+
+import gdgoc.everyclub.club.config.ClubCountProperties;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.common.CountMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link CountMode#CACHED} 요청의 COUNT 결과 캐시. 조건(쿼리 종류 + 정규화된 인자)마다 TTL 동안 재사용한다.
+ *
+ * <p>정확한 개수가 아니라 "최근 N초 이내의 개수"를 약속하므로 동아리 변경으로 무효화하지 않는다.
+ * 좋아요한 동아리 수만은 본인이 방금 바꾼 값이 바로 보이도록 {@link ClubLikeChangedEvent}에서 해당 사용자 항목을 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClubCountCache {
+
+    /** 캐시 키. {@code query}는 쿼리 종류, {@code argument}는 equals가 정의된 정규화된 조건이다. */
+    public record Key(String query, Object argument) {
+    }
+
+    static final String LIKED = "liked";
+
+    private record Entry(long count, long expiresAt) {
+    }
+
+    private final ClubCountProperties properties;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /** 캐시된 개수. 없거나 만료되었으면 {@code count}로 세어 넣는다. */
+    public long get(Key key, LongSupplier count) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            return entry.count();
+        }
+        long counted = count.getAsLong();
+        if (entries.size() >= properties.getCacheMaxEntries()) {
+            entries.values().removeIf(e -> e.expiresAt() - now <= 0);
+            if (entries.size() >= properties.getCacheMaxEntries()) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(counted, now + TimeUnit.SECONDS.toNanos(properties.getCacheTtlSeconds())));
+        return counted;
+    }
+
+    @TransactionalEventListener
+    public void onLikeChanged(ClubLikeChangedEvent event) {
+        entries.remove(new Key(LIKED, event.userId()));
+    }
+}
@@ -0,0 +1,70 @@
+package gdgoc.everyclub.club.service;
+
+import gdgoc.everyclub.club.catalog.ClubCatalog;
+import gdgoc.everyclub.club.config.ClubLikeProperties;
+import gdgoc.everyclub.club.repository.ClubRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 비정규화된 {@code club.like_count}와 club_likes 실제 행 수의 드리프트를 주기적으로 보정한다.
+ *
+ * <p>정상 경로에서는 좋아요 추가/취소 SQL 문이 두 값을 함께 바꾸므로 어긋나지 않는다.
+ * 수동 데이터 수정이나 마이그레이션 등 그 외 경로로 생긴 차이를 잡기 위한 안전망이다.
+ *
+ * <p>동아리를 {@code reconcile-batch-size}개씩 잠그고 보정해 커밋한다. 잠금 없이 집계하면 집계 스냅숏 이후에 커밋된
+ * 토글의 증감을 덮어쓸 수 있고, 전체를 한 번에 잠그면 보정이 끝날 때까지 모든 토글이 멈춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubLikeCountReconciler {
+
+    private final ClubRepository clubRepository;
+    private final ClubCatalog clubCatalog;
+    private final ClubLikeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 어긋난 행만 갱신한다. 보정이 있었다면 카탈로그 스냅샷도 DB 기준으로 다시 적재한다.
+     *
+     * @return 보정된 동아리 수
+     */
+    @Scheduled(cron = "${club.like.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        int batchSize = properties.getReconcileBatchSize();
+        int repaired = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            Batch batch = transactionTemplate.execute(status -> {
+                List<Long> clubIds = clubRepository.lockClubIdsAfter(cursor, batchSize);
+                if (clubIds.isEmpty()) {
+                    return new Batch(cursor, 0, 0);
+                }
+                return new Batch(clubIds.get(clubIds.size() - 1), clubIds.size(),
+                        clubRepository.reconcileLikeCounts(clubIds));
+            });
+            repaired += batch.repaired();
+            if (batch.locked() < batchSize) {
+                break;
+            }
+            afterId = batch.lastId();
+        }
+        if (repaired > 0) {
+            log.warn("Repaired like_count drift on {} clubs", repaired);
+            clubCatalog.rebuild();
+        } else {
+            log.debug("No like_count drift detected");
+        }
+        return repaired;
+    }
+
+    private record Batch(long lastId, int locked, int repaired) {
+    }
+}
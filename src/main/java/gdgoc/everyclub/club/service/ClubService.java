@@ -1,16 +1,38 @@
 package gdgoc.everyclub.club.service;
 
+import gdgoc.everyclub.club.catalog.ClubCatalog;
+import gdgoc.everyclub.club.catalog.ClubCatalogEntry;
+import gdgoc.everyclub.club.catalog.ClubCatalogSnapshot;
+import gdgoc.everyclub.club.catalog.ClubFilterCache;
+import gdgoc.everyclub.club.catalog.ClubRelevanceScorer;
+import gdgoc.everyclub.club.config.ClubRankingProperties;
 import gdgoc.everyclub.club.domain.Category;
 import gdgoc.everyclub.club.domain.Club;
+import gdgoc.everyclub.club.domain.HangulChoseong;
 import gdgoc.everyclub.club.domain.Tag;
 import gdgoc.everyclub.club.domain.TagNormalizer;
 import gdgoc.everyclub.club.dto.*;
+import gdgoc.everyclub.club.event.ClubChangedEvent;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.like.ClubLikeBuffer;
+import gdgoc.everyclub.club.like.ClubLikedSetCache;
 import gdgoc.everyclub.club.repository.CategoryRepository;
+import gdgoc.everyclub.club.repository.ClubDetailQueryRepository;
+import gdgoc.everyclub.club.repository.ClubFacetQueryRepository;
+import gdgoc.everyclub.club.repository.ClubRankedSearchRepository;
 import gdgoc.everyclub.club.repository.ClubRepository;
+import gdgoc.everyclub.club.repository.ClubSliceQueryRepository;
 import gdgoc.everyclub.club.repository.ClubSpecification;
+import gdgoc.everyclub.club.repository.ClubSummaryQueryRepository;
 import gdgoc.everyclub.club.repository.TagRepository;
+import gdgoc.everyclub.club.trending.ClubTrendingCounter;
+import gdgoc.everyclub.club.trending.ClubTrendingCounter.Ranked;
 import gdgoc.everyclub.college.domain.Major;
 import gdgoc.everyclub.college.repository.MajorRepository;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.common.CursorSlice;
+import gdgoc.everyclub.common.HttpValidator;
+import gdgoc.everyclub.common.SlicePage;
 import gdgoc.everyclub.common.exception.BusinessErrorCode;
 import gdgoc.everyclub.common.exception.LogicException;
 import gdgoc.everyclub.common.exception.ResourceErrorCode;
@@ -18,16 +40,26 @@ import gdgoc.everyclub.common.exception.ValidationErrorCode;
 import gdgoc.everyclub.user.domain.User;
 import gdgoc.everyclub.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,18 +71,41 @@ public class ClubService {
     private final MajorRepository majorRepository;
     private final TagRepository tagRepository;
     private final UserService userService;
+    private final ClubCatalog clubCatalog;
+    private final ClubFilterCache filterCache;
+    private final ClubLikeBuffer clubLikeBuffer;
+    private final ClubLikedSetCache likedSetCache;
+    private final ClubSummaryQueryRepository clubSummaryQueryRepository;
+    private final ClubDetailQueryRepository clubDetailQueryRepository;
+    private final ClubSliceQueryRepository clubSliceQueryRepository;
+    private final ClubCountCache countCache;
+    private final ClubRankingProperties ranking;
+    private final ClubRankedSearchRepository clubRankedSearchRepository;
+    private final ClubFacetQueryRepository clubFacetQueryRepository;
+    private final ClubTrendingCounter trendingCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 커서 페이지네이션 정렬. {@code idx_club_public_name_id}와 같은 순서여야 한다. */
+    private static final Sort KEYSET_SORT = Sort.by("name", "id");
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final int MAX_TRENDING_SIZE = 50;
+    /** 결과가 없는 검색에 붙이는 교정 후보 최대 개수. */
+    private static final int MAX_CORRECTIONS = 5;
 
     /**
      * 공개 동아리 전체를 페이지 단위로 조회한다 (like count 포함).
      *
-     * <p>Specification {@code isPublic()} 하나만 적용해 전체 공개 동아리를 반환한다.
-     * 2단계 페치 패턴(ID 조회 → EntityGraph 배치 페치)으로 N+1을 방지한다.
+     * <p>카탈로그 스냅샷이 있으면 메모리에서 응답하고, 없으면 Specification {@code isPublic()} 하나만 적용해
+     * 2단계 페치 패턴(ID 조회 → projection 조회)으로 조회한다.
      */
     public Page<ClubSummaryResponse> getClubsWithLikeCounts(Pageable pageable) {
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
-        return fetchWithLikeCounts(Specification.allOf(ClubSpecification.isPublic()), pageable);
+        return filterPublicClubs(ClubFilterRequest.empty(), Specification.allOf(ClubSpecification.isPublic()), pageable,
+                CountMode.EXACT);
     }
 
     public Page<Club> getClubs(Pageable pageable) {
@@ -69,20 +124,253 @@ public class ClubService {
         return getPublicClubById(id, null);
     }
 
+    /**
+     * 공개 동아리 상세. {@link ClubDetailQueryRepository#findPublicById}로 좋아요 여부와 좋아요 수까지 SQL 한 문장으로 읽고,
+     * write-behind 버퍼에 아직 반영되지 않은 토글이 있으면 덧씌운다 (read-your-writes).
+     */
     public ClubDetailResponse getPublicClubById(Long id, Long userId) {
-        Club club = getClubById(id);
-        if (!club.isPublic()) {
-            throw new LogicException(ResourceErrorCode.RESOURCE_NOT_FOUND);
+        ClubDetailResponse detail = clubDetailQueryRepository.findPublicById(id, userId)
+                .orElseThrow(() -> new LogicException(ResourceErrorCode.RESOURCE_NOT_FOUND));
+        Boolean pending = userId != null ? clubLikeBuffer.pendingState(userId, id) : null;
+        int delta = clubLikeBuffer.pendingDelta(id);
+        if (pending == null && delta == 0) {
+            return detail;
+        }
+        return detail.withLikes(pending != null ? pending : detail.isLiked(), detail.getLikeCount() + delta);
+    }
+
+    /**
+     * 상세 조회(GET /clubs/{id})에서 본문을 만들기 전에 필요한 값: 조건부 요청 검증자와 본문에 끼울 좋아요 값.
+     *
+     * <p>스냅샷에 있는 동아리는 수정 시각과 좋아요 수를 DB 없이 얻고 좋아요 여부만 {@code club_likes} 기본키로 확인한다.
+     * 없으면 {@link ClubRepository#findPublicVersion} 한 문장으로 세 값을 읽는다.
+     * 어느 쪽이든 write-behind 미반영분을 덧씌운다.
+     *
+     * @return 공개 동아리가 아니면 null. 조건 검사 없이 본 조회가 404를 응답한다.
+     */
+    public ClubDetailState getPublicClubState(Long id, Long userId) {
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        ClubCatalogEntry entry = snapshot != null ? snapshot.find(id).orElse(null) : null;
+        if (entry != null) {
+            return detailState(id, entry.updatedAt(), entry.likeCount(), isLiked(id, userId));
+        }
+        // 스냅샷 적재 전이거나 공개 직후 아직 패치되지 않은 경우
+        Boolean pending = userId != null ? clubLikeBuffer.pendingState(userId, id) : null;
+        return clubRepository.findPublicVersion(id, userId)
+                .map(v -> detailState(id, v.getUpdatedAt(), v.getLikeCount(), pending != null ? pending : v.isLiked()))
+                .orElse(null);
+    }
+
+    /**
+     * 공개 동아리 목록/검색/facet 응답의 조건부 요청 검증자.
+     *
+     * <p>이 응답들은 모두 카탈로그를 패치하는 변경 이벤트로만 바뀌는 데이터에서 만들어지므로,
+     * 스냅샷 버전(write-behind 모드이면 미반영 좋아요 버전 포함)이 같으면 같은 URL의 응답도 같다.
+     * 응답을 만들기 전에 읽으므로 그 사이 변경이 있어도 다음 요청은 새 응답을 받는다.
+     *
+     * @return 스냅샷 적재 전이면 null (조건 검사 생략)
+     */
+    public HttpValidator getCatalogValidator() {
+        String version = clubCatalog.versionTag();
+        if (version == null) {
+            return null;
+        }
+        return new HttpValidator(clubLikeBuffer.isEnabled() ? version + "-" + clubLikeBuffer.version() : version);
+    }
+
+    /**
+     * 좋아요 여부를 채운 목록 응답({@link #withLiked})의 조건부 요청 검증자.
+     * {@link #getCatalogValidator()}에 사용자의 좋아요 집합(개수와 해시)을 더한다.
+     * 좋아요한 동아리가 같은 사용자끼리는 응답도 같으므로 같은 ETag를 받는다.
+     */
+    public HttpValidator getCatalogValidator(Long userId) {
+        HttpValidator catalog = getCatalogValidator();
+        if (catalog == null || userId == null) {
+            return catalog;
+        }
+        long[] likedIds = likedSetCache.get(userId);
+        return new HttpValidator(catalog.etag() + "-" + likedIds.length + "-"
+                + Integer.toString(Arrays.hashCode(likedIds), 36));
+    }
+
+    /**
+     * 목록 페이지에 사용자의 좋아요 여부를 채운다. {@link ClubLikedSetCache}의 집합으로 판단하므로
+     * 캐시된 사용자는 DB 조회가 없고, 처음 보는 사용자도 한 문장이다.
+     *
+     * @param userId null이면 그대로 반환한다
+     */
+    public Page<ClubSummaryResponse> withLiked(Page<ClubSummaryResponse> page, Long userId) {
+        if (userId == null || page.isEmpty()) {
+            return page;
+        }
+        LongPredicate liked = likedChecker(userId);
+        return page.map(summary -> summary.withLiked(liked.test(summary.getId())));
+    }
+
+    /** {@link #withLiked(Page, Long)}의 커서 페이지 버전. */
+    public CursorSlice<ClubSummaryResponse> withLiked(CursorSlice<ClubSummaryResponse> slice, Long userId) {
+        if (userId == null || slice.content().isEmpty()) {
+            return slice;
+        }
+        LongPredicate liked = likedChecker(userId);
+        List<ClubSummaryResponse> content = slice.content().stream()
+                .map(summary -> summary.withLiked(liked.test(summary.getId())))
+                .toList();
+        return new CursorSlice<>(content, slice.nextCursor(), slice.hasNext());
+    }
+
+    /** 좋아요 집합으로 판단하되, write-behind 버퍼에 아직 반영되지 않은 토글이 있으면 그 상태를 우선한다. */
+    private LongPredicate likedChecker(Long userId) {
+        long[] likedIds = likedSetCache.get(userId);
+        if (!clubLikeBuffer.isEnabled()) {
+            return clubId -> ClubLikedSetCache.contains(likedIds, clubId);
+        }
+        return clubId -> {
+            Boolean pending = clubLikeBuffer.pendingState(userId, clubId);
+            return pending != null ? pending : ClubLikedSetCache.contains(likedIds, clubId);
+        };
+    }
+
+    /**
+     * 동아리 일괄 조회 (GET /clubs/batch). 클라이언트가 가진 id 목록(최근 본 동아리, 추천 등)을 한 번에 응답으로 바꾼다.
+     *
+     * <p>{@link ClubRepository#findAllByIdInWithGraph}, {@link ClubRepository#findLikeCountsByIds} 두 문장으로 끝나며
+     * id 개수와 무관하다. 좋아요 여부는 {@link ClubLikedSetCache}에서 읽는다.
+     * 입력 순서를 유지하고 중복 id는 한 번만 담는다. 비공개/삭제된 동아리와 없는 id는 건너뛴다.
+     */
+    public ClubBatchResponse getPublicClubsByIds(List<Long> ids, Long userId) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+        List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (requested.isEmpty()) {
+            return ClubBatchResponse.empty();
+        }
+        Map<Long, Club> clubById = clubRepository.findAllByIdInWithGraph(requested).stream()
+                .filter(Club::isPublic)
+                .collect(Collectors.toMap(Club::getId, Function.identity()));
+        List<Long> found = requested.stream().filter(clubById::containsKey).toList();
+        if (found.isEmpty()) {
+            return ClubBatchResponse.empty();
+        }
+
+        Map<Long, Integer> likeCountById = clubRepository.findLikeCountsByIds(found).stream()
+                .collect(Collectors.toMap(
+                        arr -> (Long) arr[0],
+                        arr -> ((Long) arr[1]).intValue()
+                ));
+        LongPredicate likedChecker = likedChecker(userId);
+
+        List<ClubSummaryResponse> clubs = new ArrayList<>(found.size());
+        Map<Long, Boolean> liked = new LinkedHashMap<>();
+        for (Long id : found) {
+            int likeCount = likeCountById.getOrDefault(id, 0) + clubLikeBuffer.pendingDelta(id);
+            boolean isLiked = likedChecker.test(id);
+            clubs.add(new ClubSummaryResponse(clubById.get(id), likeCount).withLiked(isLiked));
+            liked.put(id, isLiked);
+        }
+        return new ClubBatchResponse(clubs, liked);
+    }
+
+    /**
+     * 인기 급상승 동아리 (GET /clubs/trending). 순위는 {@link ClubTrendingCounter}가 메모리에 유지한다.
+     *
+     * <p>카탈로그 스냅샷이 있으면 응답도 메모리에서 만들고, 없으면 상위 id를
+     * {@link ClubSummaryQueryRepository#findPublicByIds} 한 문장으로 채운다. 어느 쪽이든 비용은 응답 크기에만 비례한다.
+     * 집계 이후 비공개로 바뀌었거나 삭제된 동아리는 건너뛴다. 좋아요 여부는 {@link #likedChecker}로 채운다.
+     *
+     * @param window 24h 또는 7d
+     * @param userId null이면 좋아요 여부를 채우지 않는다
+     * @throws LogicException 기간이 올바르지 않거나 size가 1~50 범위를 벗어난 경우 (INVALID_INPUT)
+     */
+    public List<ClubTrendingResponse> getTrendingClubs(String window, int size, Long userId) {
+        TrendingWindow trendingWindow = TrendingWindow.from(window);
+        if (size < 1 || size > MAX_TRENDING_SIZE) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+        List<Ranked> ranked = trendingCounter.top(trendingWindow);
+        if (ranked.isEmpty()) {
+            return List.of();
         }
 
-        boolean isLiked = false;
-        if (userId != null) {
-            isLiked = clubRepository.existsLikeByUserIdAndClubId(userId, id);
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        Map<Long, ClubSummaryResponse> summaryById = snapshot != null
+                ? null
+                : hydratePublic(ranked.stream().map(Ranked::clubId).toList()).stream()
+                        .collect(Collectors.toMap(ClubSummaryResponse::getId, Function.identity()));
+        LongPredicate liked = userId != null ? likedChecker(userId) : null;
+
+        List<ClubTrendingResponse> result = new ArrayList<>(Math.min(size, ranked.size()));
+        for (Ranked entry : ranked) {
+            if (result.size() >= size) {
+                break;
+            }
+            ClubSummaryResponse summary = snapshot != null
+                    ? snapshot.find(entry.clubId()).map(this::toSummaryWithPendingLikes).orElse(null)
+                    : summaryById.get(entry.clubId());
+            if (summary != null) {
+                if (liked != null) {
+                    summary = summary.withLiked(liked.test(entry.clubId()));
+                }
+                result.add(new ClubTrendingResponse(summary, entry.likes()));
+            }
         }
+        return result;
+    }
 
-        int likeCount = clubRepository.countLikesByClubId(id);
+    /**
+     * 비슷한 동아리 (GET /clubs/{id}/similar). 카탈로그 스냅샷이 미리 계산해 둔 이웃 표를 조회만 한다.
+     * 태그, 카테고리, 단과대가 바뀌면 {@code ClubChangedEvent}로 스냅샷이 교체되면서 영향받는 이웃만 다시 계산된다.
+     *
+     * <p>이웃 표는 스냅샷에만 있으므로 스냅샷이 없으면(적재 전, 비활성화) 기본키 조회로 공개 동아리인지만 확인하고
+     * 빈 목록을 반환한다 (degraded mode). 이 경우에도 없거나 비공개인 동아리는 404다.
+     *
+     * @param userId null이면 좋아요 여부를 채우지 않는다
+     * @throws LogicException size가 1~{@link ClubCatalogSnapshot#MAX_SIMILAR} 범위를 벗어난 경우 (INVALID_INPUT),
+     *                        공개 동아리가 아닌 경우 (RESOURCE_NOT_FOUND)
+     */
+    public List<ClubSummaryResponse> getSimilarClubs(Long id, int size, Long userId) {
+        if (size < 1 || size > ClubCatalogSnapshot.MAX_SIMILAR) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        boolean found = snapshot != null ? snapshot.find(id).isPresent() : clubRepository.existsByIdAndIsPublicTrue(id);
+        if (!found) {
+            throw new LogicException(ResourceErrorCode.RESOURCE_NOT_FOUND);
+        }
+        if (snapshot == null) {
+            return List.of();
+        }
+        List<ClubSummaryResponse> similar = snapshot.similarTo(id, size).stream()
+                .map(this::toSummaryWithPendingLikes)
+                .toList();
+        if (userId == null || similar.isEmpty()) {
+            return similar;
+        }
+        LongPredicate liked = likedChecker(userId);
+        return similar.stream().map(summary -> summary.withLiked(liked.test(summary.getId()))).toList();
+    }
+
+    /**
+     * write-behind 버퍼에 아직 반영되지 않은 토글이 있으면 그 상태를 우선한다 (read-your-writes).
+     * 없으면 {@link ClubLikedSetCache}의 집합을, 캐시를 끄면 {@code club_likes} 기본키를 확인한다.
+     */
+    private boolean isLiked(Long clubId, Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Boolean pending = clubLikeBuffer.pendingState(userId, clubId);
+        if (pending != null) {
+            return pending;
+        }
+        if (likedSetCache.isEnabled()) {
+            return ClubLikedSetCache.contains(likedSetCache.get(userId), clubId);
+        }
+        return clubRepository.existsLikeByUserIdAndClubId(userId, clubId);
+    }
 
-        return new ClubDetailResponse(club, isLiked, likeCount);
+    private ClubDetailState detailState(Long id, LocalDateTime updatedAt, int likeCount, boolean liked) {
+        return new ClubDetailState(id, updatedAt, new ClubLikeState(liked, likeCount + clubLikeBuffer.pendingDelta(id)));
     }
 
     @Transactional
@@ -108,16 +396,23 @@ public class ClubService {
                 request.isPublic()
         );
         resolveAndSetTags(club, request.tags());
+        eventPublisher.publishEvent(new ClubChangedEvent(id));
     }
 
     @Transactional
     public void deleteClub(Long id) {
         Club club = getClubById(id);
         clubRepository.delete(club);
+        eventPublisher.publishEvent(new ClubChangedEvent(id));
     }
 
     @Transactional
     public boolean toggleLike(Long clubId, Long userId) {
+        // Write-behind mode: the buffer coalesces toggles and only asks the DB on the first touch of a pair
+        if (clubLikeBuffer.isEnabled()) {
+            return clubLikeBuffer.toggle(userId, clubId, () -> loadPersistedLike(clubId, userId));
+        }
+
         // Validate club exists first using lightweight exists query
         if (!clubRepository.existsById(clubId)) {
             throw new LogicException(ResourceErrorCode.RESOURCE_NOT_FOUND);
@@ -134,41 +429,149 @@ public class ClubService {
 
         if (inserted > 0) {
             // Like was added
+            eventPublisher.publishEvent(new ClubLikeChangedEvent(clubId, userId, true));
             return true;
         } else {
             // Already liked, so remove it
-            clubRepository.removeLikeAtomic(userId, clubId);
+            int removed = clubRepository.removeLikeAtomic(userId, clubId);
+            if (removed > 0) {
+                eventPublisher.publishEvent(new ClubLikeChangedEvent(clubId, userId, false));
+            }
             return false;
         }
     }
 
+    /** write-behind 모드에서 버퍼에 없는 쌍을 처음 토글할 때 존재 검증과 함께 현재 DB 상태를 읽는다. */
+    private boolean loadPersistedLike(Long clubId, Long userId) {
+        if (!clubRepository.existsById(clubId) || !userService.existsById(userId)) {
+            throw new LogicException(ResourceErrorCode.RESOURCE_NOT_FOUND);
+        }
+        return clubRepository.existsLikeByUserIdAndClubId(userId, clubId);
+    }
+
     /**
      * 동아리 필터 조회.
      *
      * <p>조회 전략:
      * <ul>
      *   <li>이름 단독 검색 → trigram/ILIKE 최적화 경로 ({@link #searchClubsByName})</li>
-     *   <li>그 외 (empty 포함) → {@code isPublic()} + 조건 Specification → {@link #fetchWithLikeCounts}</li>
+     *   <li>태그 단독 검색 → {@link #searchClubsByTags} (결과가 없으면 태그 교정 후보 포함)</li>
+     *   <li>그 외 (empty 포함) → 카탈로그 스냅샷에서 필터/정렬/페이지 처리.
+     *       스냅샷이 없거나 지원하지 않는 정렬이면 {@code isPublic()} + 조건 Specification → {@link #fetchWithLikeCounts}</li>
      * </ul>
-     * 태그 조건은 {@link ClubSpecification#hasTag(String)} EXISTS 서브쿼리로 Tag/ClubTag 조인 정확 매칭한다.
+     * 태그 조건은 {@link ClubSpecification#hasTags} 서브쿼리 하나로 Tag/ClubTag 조인 정확 매칭한다 (ALL/ANY).
      */
     public Page<ClubSummaryResponse> filterClubs(ClubFilterRequest filter, Pageable pageable) {
+        return filterClubs(filter, pageable, CountMode.EXACT);
+    }
+
+    /**
+     * {@link #filterClubs(ClubFilterRequest, Pageable)}에 전체 개수 계산 방식을 지정한다.
+     * EXACT가 아니면 DB 경로는 요청 크기보다 한 건 더 읽어 {@code hasNext}를 정하는 {@link SlicePage}를 반환한다.
+     */
+    public Page<ClubSummaryResponse> filterClubs(ClubFilterRequest filter, Pageable pageable, CountMode count) {
         // 이름 단독 검색 → trigram/ILIKE 최적화 경로
         if (filter.isNameOnly()) {
-            return searchClubsByName(filter.name(), pageable);
+            return searchClubsByName(filter.name(), pageable, count);
+        }
+        if (filter.isTagOnly()) {
+            return searchClubsByTags(filter.normalizedTags(), filter.tagMatch(), pageable, count);
+        }
+
+        return filterPublicClubs(filter, toSpecification(filter), pageable, count);
+    }
+
+    /**
+     * 필터 facet 값별 동아리 개수 (GET /clubs/facets).
+     *
+     * <p>카탈로그 스냅샷이 있으면 facet 비트맵의 교집합 크기로 계산하며, 필터가 없는 요청은 스냅샷마다
+     * 한 번 계산한 결과를 재사용한다. 스냅샷이 없으면 {@link ClubFacetQueryRepository} SQL 한 문장으로 센다.
+     * 이름 조건은 두 경로 모두 부분 일치({@link ClubSpecification#hasNameLike})로 해석한다.
+     */
+    public ClubFacetCountsResponse getFacetCounts(ClubFilterRequest filter) {
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        if (snapshot != null) {
+            return snapshot.facetCounts(filter);
+        }
+        return clubFacetQueryRepository.countFacets(filter);
+    }
+
+    /**
+     * 검색어 자동완성 (GET /clubs/autocomplete). 입력할 때마다 호출되므로 카운트나 엔티티 로딩 없이 상위 size건만 찾는다.
+     * <ul>
+     *   <li>동아리: 이름 전체 또는 이름 속 단어가 검색어(소문자)로 시작. 좋아요 내림차순</li>
+     *   <li>태그: {@link TagNormalizer}로 정규화한 검색어로 시작. 공개 동아리 수 내림차순</li>
+     * </ul>
+     * 카탈로그 스냅샷이 있으면 정렬된 접두사 인덱스에서 DB 없이 응답하고,
+     * 없으면 {@link ClubRepository#findIdsByNamePrefix}, {@link TagRepository#findSuggestionsByPrefix}로 폴백한다.
+     */
+    public ClubAutocompleteResponse autocomplete(String query, int size) {
+        if (query == null || query.isBlank() || size < 1 || size > MAX_AUTOCOMPLETE_SIZE) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
         }
+        String prefix = query.strip().toLowerCase(Locale.ROOT);
+        String tagPrefix = TagNormalizer.normalize(query);
+
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        if (snapshot != null) {
+            List<ClubAutocompleteResponse.ClubSuggestion> clubs = snapshot.suggestClubs(prefix, size).stream()
+                    .map(this::toSummaryWithPendingLikes)
+                    .map(ClubAutocompleteResponse.ClubSuggestion::from)
+                    .toList();
+            return new ClubAutocompleteResponse(clubs,
+                    tagPrefix == null ? List.of() : snapshot.suggestTags(tagPrefix, size));
+        }
+
+        List<ClubAutocompleteResponse.ClubSuggestion> clubs = hydrate(clubRepository.findIdsByNamePrefix(prefix, size))
+                .stream()
+                .map(ClubAutocompleteResponse.ClubSuggestion::from)
+                .toList();
+        List<ClubAutocompleteResponse.TagSuggestion> tags = tagPrefix == null ? List.of()
+                : tagRepository.findSuggestionsByPrefix(tagPrefix, size).stream()
+                        .map(row -> new ClubAutocompleteResponse.TagSuggestion((String) row[0], ((Number) row[1]).longValue()))
+                        .toList();
+        return new ClubAutocompleteResponse(clubs, tags);
+    }
+
+    /**
+     * 동아리 필터 조회의 커서 페이지네이션 버전. 이름순(name, id)으로 정렬하며 전체 개수를 세지 않는다.
+     *
+     * <p>이름 단독 검색은 {@link #searchClubsByNameCursor}로 위임한다. 그 외에는 필터 Specification에
+     * {@link ClubSpecification#afterName} keyset 조건을 더해 {@code size + 1}건만 조회한다.
+     *
+     * @param cursor 이전 응답의 nextCursor. null이면 첫 페이지
+     */
+    public CursorSlice<ClubSummaryResponse> filterClubsByCursor(ClubFilterRequest filter, String cursor, int size) {
+        if (filter.isNameOnly()) {
+            return searchClubsByNameCursor(filter.name(), cursor, size);
+        }
+        validateCursorSize(size);
+        ClubCursor after = ClubCursor.decode(cursor);
 
         Specification<Club> spec = Specification.allOf(
+                toSpecification(filter),
+                after != null ? ClubSpecification.afterName(after.key(), after.id()) : null
+        );
+        List<Long> ids = clubRepository.findBy(spec, query -> query.sortBy(KEYSET_SORT).limit(size + 1).all())
+                .stream()
+                .map(Club::getId)
+                .toList();
+
+        boolean hasNext = ids.size() > size;
+        List<ClubSummaryResponse> content = hydrate(hasNext ? ids.subList(0, size) : ids);
+        return CursorSlice.of(content, hasNext, last -> new ClubCursor(last.getName(), last.getId()).encode());
+    }
+
+    private static Specification<Club> toSpecification(ClubFilterRequest filter) {
+        return Specification.allOf(
                 ClubSpecification.isPublic(),
                 ClubSpecification.hasCategories(filter.categoryIds()),
                 ClubSpecification.hasCollege(filter.collegeId()),
                 ClubSpecification.hasFee(filter.hasFee()),
                 ClubSpecification.hasActivity(filter.hasActivity()),
-                ClubSpecification.hasTag(filter.tag()),
+                ClubSpecification.hasTags(filter.normalizedTags(), filter.tagMatch()),
                 ClubSpecification.hasNameLike(filter.name())
         );
-
-        return fetchWithLikeCounts(spec, pageable);
     }
 
     /**
@@ -181,18 +584,48 @@ public class ClubService {
         if (tag == null || tag.isBlank()) {
             throw new IllegalArgumentException("Tag cannot be null or blank");
         }
-        String normalized = TagNormalizer.normalize(tag);
-        if (normalized == null) {
+        return searchClubsByTags(List.of(tag), TagMatchMode.ALL, pageable);
+    }
+
+    /**
+     * 여러 태그로 동아리를 검색한다. {@code mode}가 ALL이면 모든 태그를, ANY이면 하나 이상을 가진 동아리를 반환한다.
+     *
+     * <p>스냅샷 경로는 태그별 비트맵의 AND/OR, DB 경로는 {@link ClubSpecification#hasTags}의 그룹 서브쿼리 하나로 평가한다.
+     *
+     * <p>첫 페이지가 비면 공개 동아리에 없는 태그마다 철자가 가까운 태그를 {@link ClubSearchPage}에 담아 반환한다.
+     * 교정 후보는 스냅샷의 철자 사전에서 찾으며 DB를 다시 조회하지 않는다 (스냅샷이 없으면 빈 목록).
+     *
+     * @throws IllegalArgumentException 정규화 후 유효한 태그가 하나도 없는 경우
+     */
+    public Page<ClubSummaryResponse> searchClubsByTags(List<String> tags, TagMatchMode mode, Pageable pageable) {
+        return searchClubsByTags(tags, mode, pageable, CountMode.EXACT);
+    }
+
+    public Page<ClubSummaryResponse> searchClubsByTags(List<String> tags, TagMatchMode mode, Pageable pageable,
+                                                       CountMode count) {
+        if (tags == null || tags.isEmpty() || tags.stream().map(TagNormalizer::normalize).anyMatch(Objects::isNull)) {
             throw new IllegalArgumentException("Tag cannot be null or blank");
         }
         if (pageable == null) {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
+        ClubFilterRequest filter = new ClubFilterRequest(null, null, null, null, null, null, tags, mode);
         Specification<Club> spec = Specification.allOf(
                 ClubSpecification.isPublic(),
-                ClubSpecification.hasTag(normalized)
+                ClubSpecification.hasTags(filter.normalizedTags(), filter.tagMatch())
         );
-        return fetchWithLikeCounts(spec, pageable);
+        Page<ClubSummaryResponse> result = filterPublicClubs(filter, spec, pageable, count);
+        if (!isEmptyFirstPage(result)) {
+            return result;
+        }
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        return new ClubSearchPage(pageable,
+                snapshot == null ? List.of() : snapshot.correctTags(filter.normalizedTags(), MAX_CORRECTIONS));
+    }
+
+    /** 교정 후보는 첫 페이지가 비었을 때만 계산한다. 뒤 페이지가 빈 것은 오타가 아니라 결과를 다 넘긴 것이다. */
+    private static boolean isEmptyFirstPage(Page<ClubSummaryResponse> page) {
+        return page.getNumber() == 0 && !page.hasContent();
     }
 
     private Major findMajorById(Long majorId) {
@@ -210,71 +643,300 @@ public class ClubService {
      * <p>검색어 길이에 따라 쿼리 전략을 분기한다.
      * <ul>
      *   <li>공백만 입력 → 거부 (400)</li>
-     *   <li>1~3자 → {@code ILIKE '%keyword%'}<br>
-     *       trigram은 3글자부터 추출되므로 1~2자는 GIN 인덱스 효과가 없고
-     *       3자도 trigram 1개뿐이라 사실상 full scan에 가깝다. 데이터 규모가
-     *       커지면 최소 글자 수 정책 도입을 검토해야 한다.</li>
+     *   <li>초성만 입력 (예: "ㅂㄷ") → 이름의 초성 부분 일치, (name, id) 순.<br>
+     *       스냅샷이 있으면 초성 n-gram 역색인({@link ClubCatalogSnapshot#searchChoseong}),
+     *       없으면 저장 시점에 계산해 둔 {@code club.name_choseong} 컬럼을 조회한다.</li>
+     *   <li>1~3자 → 이름 또는 소개 부분 일치, (name, id) 순.<br>
+     *       trigram은 3글자부터 추출되므로 1~2자는 GIN 인덱스 효과가 없고 {@code ILIKE}는 full scan이 된다.
+     *       카탈로그 스냅샷이 있으면 글자 1-gram/2-gram 역색인({@link ClubCatalogSnapshot#searchKeyword})으로 찾고,
+     *       없을 때만 {@code ILIKE '%keyword%'}로 폴백한다.</li>
      *   <li>4자 이상 → {@code pg_trgm <%} 연산자 (GIN 인덱스 활용, 유사도 내림차순)<br>
      *       결과가 너무 적을 경우 DB의 {@code pg_trgm.word_similarity_threshold}
      *       (기본값 0.6)를 낮추는 것을 검토한다.</li>
      * </ul>
      *
-     * <p>N+1 방지를 위해 native 쿼리로 ID만 조회한 뒤 {@code @EntityGraph}로
-     * 엔티티를 배치 페치하는 2단계 패턴을 사용한다. {@code IN (:ids)} 쿼리는
-     * 반환 순서를 보장하지 않으므로, {@code Map<Long, Club>}을 경유해
-     * 1차 쿼리의 순서(유사도 순)를 명시적으로 복원한다.
+     * <p>{@code club.search.ranking.enabled}(기본값)이면 세 경로 모두 위 후보 집합 안에서 관련도 점수 순으로 정렬한다
+     * ({@link ClubRelevanceScorer}: 일치 정도, 좋아요 수, 모집 중 여부, 최근 수정). 후보와 전체 개수는 같다.
+     * 스냅샷은 {@link ClubCatalogSnapshot#rankKeyword}/{@link ClubCatalogSnapshot#rankChoseong},
+     * DB는 {@link ClubRankedSearchRepository}가 같은 식으로 계산한다.
+     * 커서 버전({@link #searchClubsByNameCursor})은 keyset이 필요하므로 기존 정렬을 유지한다.
+     *
+     * <p>native 쿼리로 ID만 조회한 뒤 {@link #hydrate}로 응답 컬럼을 한 번에 읽는 2단계 패턴을 사용한다.
+     * projection 쿼리는 입력 id 순서를 보존하므로 1차 쿼리의 순서(유사도 순)가 그대로 유지된다.
+     *
+     * <p>첫 페이지가 비면 철자가 가까운 동아리 이름/단어를 {@link ClubSearchPage}에 담아 반환한다.
+     * 스냅샷의 SymSpell 사전({@link ClubCatalogSnapshot#correctName})에서 찾으므로 trigram 쿼리를 더 보내지 않는다.
      */
     public Page<ClubSummaryResponse> searchClubsByName(String keyword, Pageable pageable) {
+        return searchClubsByName(keyword, pageable, CountMode.EXACT);
+    }
+
+    public Page<ClubSummaryResponse> searchClubsByName(String keyword, Pageable pageable, CountMode count) {
         if (keyword == null || keyword.isBlank()) {
             throw new LogicException(ValidationErrorCode.INVALID_INPUT);
         }
 
         String trimmed = keyword.strip();
-        int limit = pageable.getPageSize();
+        Page<ClubSummaryResponse> result = findClubsByName(trimmed, pageable, count);
+        if (!isEmptyFirstPage(result)) {
+            return result;
+        }
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        return new ClubSearchPage(pageable,
+                snapshot == null ? List.of() : snapshot.correctName(trimmed, MAX_CORRECTIONS));
+    }
+
+    private Page<ClubSummaryResponse> findClubsByName(String trimmed, Pageable pageable, CountMode count) {
+        int limit = fetchSize(pageable, count);
         int offset = (int) pageable.getOffset();
+        boolean ranked = ranking.isEnabled();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (HangulChoseong.isChoseongQuery(trimmed)) {
+            String choseong = HangulChoseong.extract(trimmed);
+            ClubCatalogSnapshot snapshot = clubCatalog.current();
+            if (snapshot != null) {
+                Page<ClubCatalogEntry> page = ranked
+                        ? snapshot.rankChoseong(choseong, pageable, new ClubRelevanceScorer(ranking, now))
+                        : snapshot.searchChoseong(choseong, pageable);
+                return withCountMode(page.map(this::toSummaryWithPendingLikes), count);
+            }
+            List<Long> ids = ranked
+                    ? clubRankedSearchRepository.findIdsByChoseong(choseong, ranking, now, limit, offset)
+                    : clubRepository.findIdsByChoseong(choseong, limit, offset);
+            return toPage(ids, pageable, count,
+                    new ClubCountCache.Key("choseong", choseong), () -> clubRepository.countByChoseong(choseong));
+        }
+        if (trimmed.length() <= 3) {
+            ClubCatalogSnapshot snapshot = clubCatalog.current();
+            if (snapshot != null) {
+                Page<ClubCatalogEntry> page = ranked
+                        ? snapshot.rankKeyword(trimmed, pageable, new ClubRelevanceScorer(ranking, now))
+                        : snapshot.searchKeyword(trimmed, pageable);
+                return withCountMode(page.map(this::toSummaryWithPendingLikes), count);
+            }
+            List<Long> ids = ranked
+                    ? clubRankedSearchRepository.findIdsByKeywordIlike(trimmed, ranking, now, limit, offset)
+                    : clubRepository.findIdsByKeywordIlike(trimmed, limit, offset);
+            return toPage(ids, pageable, count,
+                    new ClubCountCache.Key("ilike", trimmed), () -> clubRepository.countByKeywordIlike(trimmed));
+        }
+        List<Long> ids = ranked
+                ? clubRankedSearchRepository.findIdsByNameTrgm(trimmed, ranking, now, limit, offset)
+                : clubRepository.findIdsByNameTrgm(trimmed, limit, offset);
+        return toPage(ids, pageable, count,
+                new ClubCountCache.Key("trgm", trimmed), () -> clubRepository.countByNameTrgm(trimmed));
+    }
+
+    /**
+     * 이름·태그·소개·상세 설명 전문 검색. 관련도 순으로 정렬된 페이지를 반환한다.
+     *
+     * <p>카탈로그 스냅샷의 역색인({@link ClubCatalogSnapshot#searchText})에서 BM25F 점수로 순위를 매긴다.
+     * 한글은 글자 2-gram으로 나누므로 조사가 붙은 본문("해커톤에서")도 검색어("해커톤")와 일치한다.
+     * 동아리 수정은 {@code ClubChangedEvent}로 스냅샷에 반영되고, 색인은 바뀐 동아리만 다시 분석한다.
+     *
+     * <p>스냅샷이 없으면(기동 직후 등) 네 필드 중 하나에 검색어 전체가 포함된 동아리를 (name, id) 순으로 폴백 조회한다.
+     * 이 경로에는 순위가 없다.
+     *
+     * @throws LogicException 검색어가 비어 있는 경우 ({@link ValidationErrorCode#INVALID_INPUT})
+     */
+    public Page<ClubSummaryResponse> searchClubsFullText(String query, Pageable pageable) {
+        return searchClubsFullText(query, pageable, CountMode.EXACT);
+    }
+
+    public Page<ClubSummaryResponse> searchClubsFullText(String query, Pageable pageable, CountMode count) {
+        if (query == null || query.isBlank()) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+        String trimmed = query.strip();
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        if (snapshot != null) {
+            return withCountMode(snapshot.searchText(trimmed, pageable).map(this::toSummaryWithPendingLikes), count);
+        }
+        List<Long> ids = clubRepository.findIdsByFullTextIlike(trimmed, fetchSize(pageable, count), (int) pageable.getOffset());
+        return toPage(ids, pageable, count,
+                new ClubCountCache.Key("fulltext", trimmed), () -> clubRepository.countByFullTextIlike(trimmed));
+    }
+
+    /** EXACT가 아니면 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다. */
+    private static int fetchSize(Pageable pageable, CountMode count) {
+        return count == CountMode.EXACT ? pageable.getPageSize() : pageable.getPageSize() + 1;
+    }
 
-        List<Long> ids;
-        long total;
+    /**
+     * native 쿼리로 읽은 id를 count 방식에 맞는 페이지로 만든다.
+     * <ul>
+     *   <li>EXACT: {@code counter}로 전체 개수를 센다 (기존 동작).</li>
+     *   <li>CACHED: {@code ids}는 {@link #fetchSize}만큼 읽은 것이고, 전체 개수는 {@link ClubCountCache}에서 꺼낸다.</li>
+     *   <li>NONE: 개수를 세지 않는다.</li>
+     * </ul>
+     */
+    private Page<ClubSummaryResponse> toPage(List<Long> ids, Pageable pageable, CountMode count,
+                                             ClubCountCache.Key countKey, LongSupplier counter) {
+        if (count == CountMode.EXACT) {
+            long total = counter.getAsLong();
+            return ids.isEmpty() ? new PageImpl<>(List.of(), pageable, 0) : new PageImpl<>(hydrate(ids), pageable, total);
+        }
+        Long total = count == CountMode.CACHED ? countCache.get(countKey, counter) : null;
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        List<Long> pageIds = hasNext ? ids.subList(0, pageable.getPageSize()) : ids;
+        return new SlicePage<>(pageIds.isEmpty() ? List.of() : hydrate(pageIds), pageable, hasNext, total);
+    }
+
+    /** 개수를 이미 아는 페이지(스냅샷 경로)는 EXACT가 아니어도 개수를 그대로 담는다. 응답 형태만 {@link SlicePage}로 맞춘다. */
+    private static Page<ClubSummaryResponse> withCountMode(Page<ClubSummaryResponse> page, CountMode count) {
+        return count == CountMode.EXACT ? page : SlicePage.from(page);
+    }
+
+    /**
+     * 동아리 이름 검색의 커서 페이지네이션 버전. 경로 분기는 {@link #searchClubsByName}과 같다.
+     * <ul>
+     *   <li>초성만 입력 → (name, id) keyset. 스냅샷의 초성 n-gram 역색인, 없으면 {@code name_choseong} 조회</li>
+     *   <li>1~3자 → (name, id) keyset. 스냅샷의 n-gram 역색인, 없으면 ILIKE + {@code idx_club_public_name_id} 범위 스캔</li>
+     *   <li>4자 이상 (trigram) → (유사도 내림차순, id) keyset. 커서에 마지막 항목의 유사도를 담는다.</li>
+     * </ul>
+     * OFFSET이 없으므로 뒤 페이지로 갈수록 앞 페이지를 다시 읽는 비용이 사라진다.
+     */
+    public CursorSlice<ClubSummaryResponse> searchClubsByNameCursor(String keyword, String cursor, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
+        }
+        validateCursorSize(size);
+
+        String trimmed = keyword.strip();
+        ClubCursor after = ClubCursor.decode(cursor);
+
+        String lastName = after != null ? after.key() : null;
+        Long lastId = after != null ? after.id() : null;
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+
+        if (HangulChoseong.isChoseongQuery(trimmed)) {
+            String choseong = HangulChoseong.extract(trimmed);
+            if (snapshot != null) {
+                return toNameCursorSlice(snapshot.searchChoseongAfter(choseong, lastName, lastId, size + 1)
+                        .stream()
+                        .map(this::toSummaryWithPendingLikes)
+                        .toList(), size);
+            }
+            return hydrateNameCursorSlice(clubRepository.findIdsByChoseongAfter(choseong,
+                    lastName != null ? lastName : "", lastId != null ? lastId : 0L, size + 1), size);
+        }
 
         if (trimmed.length() <= 3) {
-            ids = clubRepository.findIdsByNameIlike(trimmed, limit, offset);
-            total = clubRepository.countByNameIlike(trimmed);
-        } else {
-            ids = clubRepository.findIdsByNameTrgm(trimmed, limit, offset);
-            total = clubRepository.countByNameTrgm(trimmed);
+            if (snapshot != null) {
+                return toNameCursorSlice(snapshot.searchKeywordAfter(trimmed, lastName, lastId, size + 1)
+                        .stream()
+                        .map(this::toSummaryWithPendingLikes)
+                        .toList(), size);
+            }
+            return hydrateNameCursorSlice(clubRepository.findIdsByKeywordIlikeAfter(trimmed,
+                    lastName != null ? lastName : "", lastId != null ? lastId : 0L, size + 1), size);
         }
 
-        if (ids.isEmpty()) {
-            return new PageImpl<>(List.of(), pageable, 0);
+        List<Object[]> rows = clubRepository.findIdsByNameTrgmAfter(trimmed,
+                after != null ? after.similarity() : 2f, after != null ? after.id() : 0L, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<Object[]> page = hasNext ? rows.subList(0, size) : rows;
+        Map<Long, Float> similarityById = page.stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).floatValue()));
+        List<ClubSummaryResponse> content = hydrate(page.stream().map(row -> (Long) row[0]).toList());
+        return CursorSlice.of(content, hasNext,
+                last -> ClubCursor.of(similarityById.get(last.getId()), last.getId()).encode());
+    }
+
+    /** (name, id) keyset으로 size + 1건까지 읽은 결과를 슬라이스로 자른다. 커서는 마지막 항목의 (name, id)다. */
+    private static CursorSlice<ClubSummaryResponse> toNameCursorSlice(List<ClubSummaryResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        return CursorSlice.of(hasNext ? rows.subList(0, size) : rows, hasNext,
+                last -> new ClubCursor(last.getName(), last.getId()).encode());
+    }
+
+    /** {@link #toNameCursorSlice}의 id 버전. 잘라 낸 size건만 {@link #hydrate}한다. */
+    private CursorSlice<ClubSummaryResponse> hydrateNameCursorSlice(List<Long> ids, int size) {
+        boolean hasNext = ids.size() > size;
+        List<ClubSummaryResponse> content = hydrate(hasNext ? ids.subList(0, size) : ids);
+        return CursorSlice.of(content, hasNext, last -> new ClubCursor(last.getName(), last.getId()).encode());
+    }
+
+    private static void validateCursorSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new LogicException(ValidationErrorCode.INVALID_INPUT);
         }
+    }
 
-        // 2단계 페치: IN (:ids)는 순서 비보장 → Map 경유로 1차 쿼리 순서 복원
-        Map<Long, Club> clubById = clubRepository.findAllByIdInWithGraph(ids)
-                .stream()
-                .collect(Collectors.toMap(Club::getId, c -> c));
+    /**
+     * 카탈로그 스냅샷으로 필터 조회를 처리하고, 사용할 수 없으면 동일 조건의 Specification으로 DB를 조회한다.
+     *
+     * <p>결과의 id 목록과 전체 개수는 정규화된 (필터, 페이지, 정렬)을 키로 {@link ClubFilterCache}에 보관한다.
+     * 캐시 적중 시 스냅샷에서 id로 항목을 꺼내거나(스냅샷이 없으면 {@link #hydrate} 한 번) 응답을 만들므로
+     * 필터 평가, 정렬, count 쿼리를 건너뛰고 좋아요 수는 항상 현재 값이다.
+     *
+     * <p>EXACT가 아니어도 스냅샷 경로와 캐시 적중은 개수를 공짜로 알므로 그대로 담는다. DB 경로만 COUNT를 생략하거나
+     * ({@link ClubSliceQueryRepository}) {@link ClubCountCache}에서 꺼내며, 이 결과는 필터 캐시에 넣지 않는다.
+     *
+     * @param filter 스냅샷 경로에서 평가할 조건
+     * @param spec   DB 경로에서 사용할 조건 (filter와 같은 의미여야 한다)
+     */
+    private Page<ClubSummaryResponse> filterPublicClubs(ClubFilterRequest filter, Specification<Club> spec,
+                                                        Pageable pageable, CountMode count) {
+        ClubFilterCache.Key key = filterCache.isEnabled() ? ClubFilterCache.Key.of(filter, pageable) : null;
+        long generation = filterCache.generation();
+        ClubCatalogSnapshot snapshot = clubCatalog.current();
+        if (key != null) {
+            ClubFilterCache.CachedPage cached = filterCache.get(key);
+            Page<ClubSummaryResponse> page = cached == null ? null : fromCache(cached, snapshot, pageable);
+            if (page != null) {
+                return withCountMode(page, count);
+            }
+        }
 
-        // 3단계: like count 배치 조회
-        Map<Long, Integer> likeCountById = clubRepository.findLikeCountsByIds(ids).stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
+        Page<ClubSummaryResponse> result;
+        if (snapshot != null && snapshot.supports(pageable.getSort())) {
+            result = snapshot.filter(filter, pageable).map(this::toSummaryWithPendingLikes);
+        } else if (count != CountMode.EXACT && pageable.isPaged()) {
+            return toPage(clubSliceQueryRepository.findIds(spec, pageable), pageable, count,
+                    new ClubCountCache.Key("filter", filter.canonical()), () -> clubRepository.count(spec));
+        } else {
+            result = fetchWithLikeCounts(spec, pageable);
+        }
+        if (key != null) {
+            filterCache.put(key, result.map(ClubSummaryResponse::getId).getContent(), result.getTotalElements(), generation);
+        }
+        return withCountMode(result, count);
+    }
 
-        List<ClubSummaryResponse> content = ids.stream()
-                .map(id -> new ClubSummaryResponse(clubById.get(id), likeCountById.getOrDefault(id, 0)))
-                .toList();
+    /** 캐시된 id로 응답 페이지를 만든다. 스냅샷에서 빠진 id가 있으면(무효화 직전 경합) null을 반환해 다시 조회하게 한다. */
+    private Page<ClubSummaryResponse> fromCache(ClubFilterCache.CachedPage cached, ClubCatalogSnapshot snapshot,
+                                                Pageable pageable) {
+        if (cached.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, cached.total());
+        }
+        if (snapshot == null) {
+            return new PageImpl<>(hydrate(cached.ids()), pageable, cached.total());
+        }
+        List<ClubSummaryResponse> content = new ArrayList<>(cached.ids().size());
+        for (Long id : cached.ids()) {
+            ClubCatalogEntry entry = snapshot.find(id).orElse(null);
+            if (entry == null) {
+                return null;
+            }
+            content.add(toSummaryWithPendingLikes(entry));
+        }
+        return new PageImpl<>(content, pageable, cached.total());
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    private ClubSummaryResponse toSummaryWithPendingLikes(ClubCatalogEntry entry) {
+        int delta = clubLikeBuffer.pendingDelta(entry.id());
+        return (delta == 0 ? entry : entry.withLikeCount(entry.likeCount() + delta)).toSummaryResponse();
     }
 
     /**
      * Specification으로 공개 동아리를 페이지 조회하고 like count까지 조합해 반환한다.
      *
-     * <p>2단계 + like count 배치 패턴:
+     * <p>2단계 패턴:
      * <ol>
      *   <li>Specification으로 ID + total count 조회</li>
-     *   <li>{@code findAllByIdInWithGraph}로 author/category/clubTags EntityGraph 배치 페치</li>
-     *   <li>{@code findLikeCountsByIds}로 like count 배치 조회</li>
+     *   <li>{@link #hydrate}로 응답 컬럼을 projection 한 문장으로 조회</li>
      * </ol>
      */
     private Page<ClubSummaryResponse> fetchWithLikeCounts(Specification<Club> spec, Pageable pageable) {
@@ -284,20 +946,35 @@ public class ClubService {
             return page.map(club -> new ClubSummaryResponse(club, 0));
         }
 
-        Map<Long, Club> clubById = clubRepository.findAllByIdInWithGraph(ids).stream()
-                .collect(Collectors.toMap(Club::getId, c -> c));
+        return new PageImpl<>(hydrate(ids), pageable, page.getTotalElements());
+    }
 
-        Map<Long, Integer> likeCountById = clubRepository.findLikeCountsByIds(ids).stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
+    /**
+     * ID 목록을 목록 응답으로 변환한다. 입력 순서를 그대로 유지하며, 그 사이 삭제된 동아리는 제외된다.
+     *
+     * <p>{@link ClubSummaryQueryRepository#findByIds}가 태그, 좋아요 수, 작성자 이름까지 SQL 한 문장으로
+     * 읽어 오므로 엔티티 로딩이나 별도 like count 조회가 없다. write-behind 버퍼의 미반영 좋아요만 덧씌운다.
+     */
+    private List<ClubSummaryResponse> hydrate(List<Long> ids) {
+        List<ClubSummaryResponse> summaries = clubSummaryQueryRepository.findByIds(ids);
+        if (clubLikeBuffer.isEnabled()) {
+            return summaries.stream().map(this::withPendingLikes).toList();
+        }
+        return summaries;
+    }
 
-        List<ClubSummaryResponse> content = ids.stream()
-                .map(id -> new ClubSummaryResponse(clubById.get(id), likeCountById.getOrDefault(id, 0)))
-                .toList();
+    /** {@link #hydrate}의 공개 동아리 버전. */
+    private List<ClubSummaryResponse> hydratePublic(List<Long> ids) {
+        List<ClubSummaryResponse> summaries = clubSummaryQueryRepository.findPublicByIds(ids);
+        if (clubLikeBuffer.isEnabled()) {
+            return summaries.stream().map(this::withPendingLikes).toList();
+        }
+        return summaries;
+    }
 
-        return new PageImpl<>(content, pageable, page.getTotalElements());
+    private ClubSummaryResponse withPendingLikes(ClubSummaryResponse summary) {
+        int delta = clubLikeBuffer.pendingDelta(summary.getId());
+        return delta == 0 ? summary : summary.withLikeCount(summary.getLikeCount() + delta);
     }
 
     /**
@@ -0,0 +1,325 @@
+package gdgoc.everyclub.club.trending;
+
+import gdgoc.everyclub.club.config.ClubTrendingProperties;
+import gdgoc.everyclub.club.dto.TrendingWindow;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.like.ClubLikeBuffer;
+import gdgoc.everyclub.club.repository.ClubTrendingBucketRepository;
+import gdgoc.everyclub.club.repository.ClubTrendingBucketRepository.Bucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 인기 급상승 동아리 집계 (GET /clubs/trending).
+ *
+ * <p>동아리마다 최근 {@link TrendingWindow#MAX_HOURS}시간의 1시간 버킷을 링 버퍼({@code int[]})로 들고,
+ * 기간별 합계를 함께 유지한다.
+ * <ul>
+ *   <li>{@link ClubLikeChangedEvent} 커밋 후 현재 시간 버킷과 기간별 합계를 ±1 한다.
+ *       write-behind 모드에서는 flush 시각에 집계된다.</li>
+ *   <li>시간이 바뀌면 기간 밖으로 밀려난 버킷만큼 합계에서 빼고, 가장 오래된 버킷을 비워 재사용한다.</li>
+ *   <li>기간별 순위는 (합계 내림차순, id) 정렬 집합으로 유지해 변경된 동아리만 O(log n)에 다시 자리 잡는다.
+ *       조회는 상위 {@code club.trending.top-size}개를 잘라 둔 목록을 그대로 돌려주므로 좋아요 수와 무관하다.</li>
+ *   <li>변경된 버킷은 {@code club.trending.snapshot-interval-seconds} 주기와 종료 시 {@code club_trending_bucket}에
+ *       저장하고, 기동 시 최근 7일 버킷을 읽어 복원한다.
+ *       종료 시 스냅샷은 {@link ClubLikeBuffer}가 남은 좋아요를 flush한 뒤에 찍는다.</li>
+ * </ul>
+ *
+ * <p>집계는 인스턴스 메모리 기준이므로 단일 인스턴스 배포를 전제로 한다 ({@code ClubLikeBuffer}와 같음).
+ */
+@Slf4j
+@Component
+public class ClubTrendingCounter implements SmartLifecycle {
+
+    /** {@link ClubLikeBuffer#PHASE}보다 늦게 멈춰, 종료 시 flush된 좋아요까지 스냅샷에 담는다. */
+    public static final int PHASE = ClubLikeBuffer.PHASE - 1024;
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final int SLOTS = TrendingWindow.MAX_HOURS;
+    private static final TrendingWindow[] WINDOWS = TrendingWindow.values();
+
+    private final ClubTrendingBucketRepository bucketRepository;
+    private final ClubTrendingProperties properties;
+    private final LongSupplier clock;
+
+    private final Map<Long, ClubCounter> counters = new HashMap<>();
+    private final List<TreeSet<ClubCounter>> rankings = new ArrayList<>();
+    /** 마지막 스냅샷 이후 바뀐 버킷. */
+    private final Set<BucketKey> dirty = new HashSet<>();
+    private long currentHour;
+    private List<List<Ranked>> published;
+    private boolean stale = true;
+    private volatile boolean running;
+
+    /** 순위 항목. likes는 기간 동안의 순 좋아요 수. */
+    public record Ranked(long clubId, int likes) {
+    }
+
+    private record BucketKey(long clubId, long hour) {
+    }
+
+    private static final class ClubCounter {
+        private final long clubId;
+        private final int[] buckets = new int[SLOTS];
+        private final int[] sums = new int[WINDOWS.length];
+
+        private ClubCounter(long clubId) {
+            this.clubId = clubId;
+        }
+    }
+
+    @Autowired
+    public ClubTrendingCounter(ClubTrendingBucketRepository bucketRepository, ClubTrendingProperties properties) {
+        this(bucketRepository, properties, System::currentTimeMillis);
+    }
+
+    ClubTrendingCounter(ClubTrendingBucketRepository bucketRepository, ClubTrendingProperties properties,
+                        LongSupplier clock) {
+        this.bucketRepository = bucketRepository;
+        this.properties = properties;
+        this.clock = clock;
+        for (TrendingWindow window : WINDOWS) {
+            int w = window.ordinal();
+            rankings.add(new TreeSet<>(Comparator.<ClubCounter>comparingInt(c -> -c.sums[w])
+                    .thenComparingLong(c -> c.clubId)));
+        }
+        this.currentHour = hourNow();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @TransactionalEventListener
+    public void onLikeChanged(ClubLikeChangedEvent event) {
+        if (isEnabled()) {
+            record(event.clubId(), event.liked() ? 1 : -1);
+        }
+    }
+
+    public synchronized void record(long clubId, int delta) {
+        advanceTo(hourNow());
+        ClubCounter counter = counters.computeIfAbsent(clubId, ClubCounter::new);
+        counter.buckets[slot(currentHour)] += delta;
+        for (TrendingWindow window : WINDOWS) {
+            adjust(counter, window.ordinal(), delta);
+        }
+        dirty.add(new BucketKey(clubId, currentHour));
+    }
+
+    /** 기간 내 순 좋아요 수가 양수인 동아리를 많은 순으로 최대 {@code top-size}개. 반환한 목록은 수정하지 않는다. */
+    public synchronized List<Ranked> top(TrendingWindow window) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        advanceTo(hourNow());
+        if (stale) {
+            publish();
+        }
+        return published.get(window.ordinal());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        if (!isEnabled()) {
+            return;
+        }
+        List<Bucket> buckets;
+        try {
+            buckets = bucketRepository.findSince(hourNow() - SLOTS + 1);
+        } catch (RuntimeException e) {
+            log.warn("Trending bucket restore failed, starting from empty counters", e);
+            return;
+        }
+        synchronized (this) {
+            advanceTo(hourNow());
+            for (Bucket bucket : buckets) {
+                load(bucket);
+            }
+        }
+        log.info("Trending counters restored: {} buckets, {} clubs", buckets.size(), counters.size());
+    }
+
+    @Scheduled(fixedDelayString = "${club.trending.snapshot-interval-seconds:60}",
+            initialDelayString = "${club.trending.snapshot-interval-seconds:60}",
+            timeUnit = TimeUnit.SECONDS)
+    public void scheduledSnapshot() {
+        if (isEnabled()) {
+            snapshot();
+        }
+    }
+
+    /**
+     * 바뀐 버킷을 저장하고 기간이 지난 버킷을 지운다. 실패하면 바뀐 버킷을 다음 주기로 넘긴다.
+     * 값은 누적이 아니라 현재 버킷 값으로 덮어쓰므로 재시도해도 중복 집계되지 않는다.
+     *
+     * @return 저장한 버킷 수
+     */
+    public int snapshot() {
+        List<Bucket> changed = new ArrayList<>();
+        long oldestHour;
+        synchronized (this) {
+            advanceTo(hourNow());
+            oldestHour = currentHour - SLOTS + 1;
+            for (BucketKey key : dirty) {
+                if (key.hour() >= oldestHour) {
+                    ClubCounter counter = counters.get(key.clubId());
+                    changed.add(new Bucket(key.clubId(), key.hour(),
+                            counter != null ? counter.buckets[slot(key.hour())] : 0));
+                }
+            }
+            dirty.clear();
+        }
+        if (changed.isEmpty()) {
+            // 저장된 버킷은 변경과 함께만 생기므로 만료 정리도 다음 변경 때 한다.
+            return 0;
+        }
+        try {
+            bucketRepository.upsert(changed);
+            bucketRepository.deleteBefore(oldestHour);
+            return changed.size();
+        } catch (RuntimeException e) {
+            log.warn("Trending snapshot failed, {} buckets kept for retry", changed.size(), e);
+            synchronized (this) {
+                changed.forEach(bucket -> dirty.add(new BucketKey(bucket.clubId(), bucket.hour())));
+            }
+            return 0;
+        }
+    }
+
+    // ── Lifecycle: 종료 시 마지막 스냅샷 ─────────────────────────────────────────
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (isEnabled()) {
+            snapshot();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void load(Bucket bucket) {
+        if (bucket.hour() > currentHour || bucket.hour() <= currentHour - SLOTS) {
+            return;
+        }
+        ClubCounter counter = counters.computeIfAbsent(bucket.clubId(), ClubCounter::new);
+        counter.buckets[slot(bucket.hour())] += bucket.likes();
+        for (TrendingWindow window : WINDOWS) {
+            if (bucket.hour() > currentHour - window.getHours()) {
+                adjust(counter, window.ordinal(), bucket.likes());
+            }
+        }
+    }
+
+    /** 한 시간씩 넘기며 기간 밖으로 밀려난 버킷을 합계에서 뺀다. 기간 전체보다 오래 멈춰 있었으면 모두 비운다. */
+    private void advanceTo(long hour) {
+        if (hour <= currentHour) {
+            return;
+        }
+        if (hour - currentHour >= SLOTS) {
+            counters.clear();
+            rankings.forEach(TreeSet::clear);
+            currentHour = hour;
+            stale = true;
+            return;
+        }
+        while (currentHour < hour) {
+            currentHour++;
+            expire(currentHour);
+        }
+    }
+
+    private void expire(long hour) {
+        Iterator<ClubCounter> iterator = counters.values().iterator();
+        while (iterator.hasNext()) {
+            ClubCounter counter = iterator.next();
+            for (TrendingWindow window : WINDOWS) {
+                int leaving = counter.buckets[slot(hour - window.getHours())];
+                if (leaving != 0) {
+                    adjust(counter, window.ordinal(), -leaving);
+                }
+            }
+            // 가장 긴 기간에서 밀려난 버킷과 같은 칸이다.
+            counter.buckets[slot(hour)] = 0;
+            if (isEmpty(counter)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void adjust(ClubCounter counter, int w, int delta) {
+        TreeSet<ClubCounter> ranking = rankings.get(w);
+        ranking.remove(counter);
+        counter.sums[w] += delta;
+        if (counter.sums[w] > 0) {
+            ranking.add(counter);
+        }
+        stale = true;
+    }
+
+    private void publish() {
+        int limit = properties.getTopSize();
+        List<List<Ranked>> next = new ArrayList<>(WINDOWS.length);
+        for (int w = 0; w < WINDOWS.length; w++) {
+            List<Ranked> top = new ArrayList<>();
+            for (ClubCounter counter : rankings.get(w)) {
+                if (top.size() >= limit) {
+                    break;
+                }
+                top.add(new Ranked(counter.clubId, counter.sums[w]));
+            }
+            next.add(List.copyOf(top));
+        }
+        published = next;
+        stale = false;
+    }
+
+    private static boolean isEmpty(ClubCounter counter) {
+        for (int bucket : counter.buckets) {
+            if (bucket != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long hourNow() {
+        return Math.floorDiv(clock.getAsLong(), HOUR_MILLIS);
+    }
+
+    private static int slot(long hour) {
+        return (int) Math.floorMod(hour, (long) SLOTS);
+    }
+}
@@ -8,6 +8,7 @@ import gdgoc.everyclub.club.domain.ClubAdmin;
 import gdgoc.everyclub.club.domain.ClubAdminRole;
 import gdgoc.everyclub.club.domain.Tag;
 import gdgoc.everyclub.club.domain.TagNormalizer;
+import gdgoc.everyclub.club.event.ClubChangedEvent;
 import gdgoc.everyclub.club.repository.CategoryRepository;
 import gdgoc.everyclub.club.repository.ClubAdminRepository;
 import gdgoc.everyclub.club.repository.ClubRepository;
@@ -31,6 +32,7 @@ import gdgoc.everyclub.common.exception.ValidationErrorCode;
 import gdgoc.everyclub.user.domain.User;
 import gdgoc.everyclub.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,6 +55,7 @@ public class ClubRequestService {
     private final TagRepository tagRepository;
     private final UserService userService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ClubRegistrationResponse createClubRequest(Long userId, ClubRegistrationRequest request) {
@@ -154,6 +157,7 @@ public class ClubRequestService {
 
         User admin = userService.getUserById(adminUserId);
         clubRequest.approve(admin);
+        eventPublisher.publishEvent(new ClubChangedEvent(club.getId()));
 
         return ClubRegistrationResponse.from(clubRequest);
     }
@@ -0,0 +1,20 @@
+package gdgoc.everyclub.common;
+
+/**
+ * 페이지 조회의 전체 개수 계산 방식. 목록 API의 {@code count} 파라미터로 지정한다.
+ *
+ * <ul>
+ *   <li>{@link #EXACT} — 매 요청마다 COUNT를 실행한다 (기본값, 기존 동작).</li>
+ *   <li>{@link #CACHED} — 같은 조건의 COUNT 결과를 일정 시간 재사용한다. 목록은 요청 크기보다 한 건 더 읽어
+ *       {@code hasNext}를 정확히 계산하고, 전체 개수만 최대 TTL만큼 늦게 반영된다.</li>
+ *   <li>{@link #NONE} — COUNT 없이 한 건 더 읽어 {@code hasNext}만 계산한다 (무한 스크롤용).
+ *       따로 계산하지 않아도 알 수 있는 경우(인메모리 카탈로그 등)가 아니면 전체 개수는 -1이다.</li>
+ * </ul>
+ *
+ * @see SlicePage
+ */
+public enum CountMode {
+    EXACT,
+    CACHED,
+    NONE
+}
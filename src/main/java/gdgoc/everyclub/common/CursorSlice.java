@@ -0,0 +1,29 @@
+package gdgoc.everyclub.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답. 전체 개수를 세지 않으며, 다음 페이지는 {@code nextCursor}로 요청한다.
+ */
+@Schema(name = "CursorSlice", description = "커서 기반 페이지 응답")
+public record CursorSlice<T>(
+        @Schema(description = "현재 페이지 항목")
+        List<T> content,
+        @Schema(description = "다음 페이지 요청에 전달할 커서. 마지막 페이지이면 null", nullable = true)
+        String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
+) {
+    /**
+     * @param content  현재 페이지 항목 (요청 크기만큼 잘라낸 것)
+     * @param hasNext  요청 크기보다 하나 더 조회되었는지 여부
+     * @param cursorOf 마지막 항목으로부터 다음 커서를 만드는 함수
+     */
+    public static <T> CursorSlice<T> of(List<T> content, boolean hasNext, Function<T, String> cursorOf) {
+        String next = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorSlice<>(content, next, hasNext);
+    }
+}
@@ -0,0 +1,22 @@
+package gdgoc.everyclub.common;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET 검증자. 응답 본문을 만들기 전에 계산해 {@code If-None-Match}와 비교한다.
+ *
+ * <p>ETag만 지원한다. 목록과 상세 응답 모두 좋아요 수처럼 수정 시각과 무관하게 바뀌는 값을 담으므로
+ * Last-Modified로는 검증할 수 없고, {@code If-Modified-Since}는 무시한다.
+ *
+ * @param etag 따옴표 없는 강한 ETag 값
+ */
+public record HttpValidator(String etag) {
+
+    /**
+     * 요청의 {@code If-None-Match}와 비교하고 응답에 ETag 헤더를 설정한다.
+     * true이면 304가 설정된 상태이므로 컨트롤러는 본문 없이 null을 반환하면 된다.
+     */
+    public boolean checkNotModified(WebRequest request) {
+        return request.checkNotModified(etag);
+    }
+}
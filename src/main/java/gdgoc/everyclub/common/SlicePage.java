@@ -0,0 +1,74 @@
+package gdgoc.everyclub.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 전체 개수를 세지 않았을 수 있는 페이지 ({@link CountMode#CACHED}, {@link CountMode#NONE}).
+ *
+ * <p>다음 페이지 존재 여부는 개수가 아니라 요청 크기보다 한 건 더 조회되었는지로 정한다.
+ * {@link Page}를 그대로 구현하므로 응답 형태는 일반 페이지와 같고 {@code hasNext}가 추가된다.
+ * 개수를 모르면 {@code totalElements}와 {@code totalPages}는 -1이다.
+ */
+@Schema(name = "SlicePage", description = "전체 개수 계산을 생략할 수 있는 페이지 응답")
+public class SlicePage<T> extends PageImpl<T> {
+
+    private final boolean hasNext;
+    /** 전체 개수. 모르면 null. */
+    private final Long total;
+
+    public SlicePage(List<T> content, Pageable pageable, boolean hasNext, Long total) {
+        super(content, pageable, total != null ? total : pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+        this.hasNext = hasNext;
+        this.total = total;
+    }
+
+    /**
+     * 요청 크기보다 최대 한 건 더 조회한 결과로 만든다. 넘친 한 건은 잘라 내고 {@code hasNext}로만 쓴다.
+     *
+     * @param total 전체 개수. 세지 않았으면 null
+     */
+    public static <T> SlicePage<T> of(List<T> fetched, Pageable pageable, Long total) {
+        boolean hasNext = fetched.size() > pageable.getPageSize();
+        return new SlicePage<>(hasNext ? fetched.subList(0, pageable.getPageSize()) : fetched, pageable, hasNext, total);
+    }
+
+    /** 개수를 아는 페이지를 같은 응답 형태로 바꾼다. */
+    public static <T> SlicePage<T> from(Page<T> page) {
+        return new SlicePage<>(page.getContent(), page.getPageable(), page.hasNext(), page.getTotalElements());
+    }
+
+    @Override
+    @JsonProperty("hasNext")
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public boolean isLast() {
+        return !hasNext;
+    }
+
+    @Override
+    @Schema(description = "전체 개수. 세지 않았으면 -1", example = "-1")
+    public long getTotalElements() {
+        return total == null ? -1 : total;
+    }
+
+    @Override
+    public int getTotalPages() {
+        return total == null ? -1 : super.getTotalPages();
+    }
+
+    @Override
+    public <U> SlicePage<U> map(Function<? super T, ? extends U> converter) {
+        return new SlicePage<>(getContent().stream().<U>map(converter).toList(), getPageable(), hasNext, total);
+    }
+}
@@ -11,6 +11,21 @@ public final class ClubDocs {
     /** getClubs, searchClubs 두 엔드포인트에서 공통으로 사용 */
     public static final String PARAM_NAME = "동아리 이름 검색어";
     public static final String PARAM_TAG = "태그 검색어";
+    public static final String PARAM_TAGS = "태그 목록. 반복 파라미터 또는 쉼표 구분을 사용할 수 있으며, tag와 함께 주면 합쳐집니다.";
+    public static final String PARAM_TAG_MATCH = "태그가 여러 개일 때 결합 방식. ALL(모두 포함, 기본값) 또는 ANY(하나 이상 포함)";
+    public static final String PARAM_QUERY = "전문 검색어. 이름, 태그, 소개, 상세 설명에서 찾아 관련도순으로 정렬합니다. name/tag/tags와 함께 쓸 수 없습니다";
+
+    /** 오프셋 페이지 목록 엔드포인트(getClubs, searchClubs, getLikedClubs)에서 공통으로 사용 */
+    public static final String PARAM_COUNT = "전체 개수 계산 방식. EXACT(매번 계산, 기본값), CACHED(최근 계산 결과 재사용), NONE(계산 생략, totalElements/totalPages는 -1). 다음 페이지 여부는 hasNext로 확인합니다";
+
+    /** 커서 페이지네이션 엔드포인트에서 공통으로 사용 */
+    public static final String PARAM_CURSOR = "이전 응답의 nextCursor. 생략하면 첫 페이지";
+    public static final String PARAM_CURSOR_SIZE = "페이지 크기 (1~100)";
+
+    /** 조건부 GET을 지원하는 엔드포인트 설명 뒤에 붙인다 */
+    public static final String CONDITIONAL_LIST = " 응답의 ETag를 If-None-Match로 보내면 그 사이 동아리나 좋아요 수 변경이 없을 때 본문 없이 304를 반환합니다.";
+    public static final String CONDITIONAL_DETAIL = " 응답의 ETag를 If-None-Match로 보내면 동아리, 좋아요 수, 내 좋아요 상태에 변경이 없을 때 본문 없이 304를 반환합니다. 좋아요 변경은 수정 시각을 바꾸지 않으므로 Last-Modified는 보내지 않습니다.";
+    public static final String LIKED_LIST = " 각 항목의 liked는 로그인 사용자의 좋아요 여부이며, 내 좋아요가 바뀌어도 ETag가 달라집니다.";
 
     private ClubDocs() {}
 }
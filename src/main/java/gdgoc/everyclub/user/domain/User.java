@@ -1,6 +1,5 @@
 package gdgoc.everyclub.user.domain;
 
-import gdgoc.everyclub.club.domain.Club;
 import gdgoc.everyclub.user.dto.UserCreateRequest;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -13,8 +12,6 @@ import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
 @Entity
 @Table(name = "users")
@@ -40,15 +37,6 @@ public class User {
     @Column(name = "email_verified", nullable = false)
     private boolean emailVerified = false;
 
-    @ManyToMany
-    @JoinTable(
-            name = "club_likes",
-            joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "club_id"),
-            uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "club_id"})
-    )
-    private Set<Club> likedClubs = new LinkedHashSet<>();
-
     private String nickname;
 
     private String profileImageUrl;
@@ -112,6 +100,13 @@ public class User {
      * Uses nickname if available, otherwise falls back to email prefix.
      */
     public String getName() {
+        return displayName(nickname, email);
+    }
+
+    /**
+     * {@link #getName()}과 같은 규칙. 엔티티를 로딩하지 않는 projection 조회에서 사용한다.
+     */
+    public static String displayName(String nickname, String email) {
         if (nickname != null) {
             return nickname;
         }
@@ -1,6 +1,8 @@
 package gdgoc.everyclub.user.service;
 
 import gdgoc.everyclub.auth.service.SignupService;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.repository.ClubRepository;
 import gdgoc.everyclub.common.exception.BusinessErrorCode;
 import gdgoc.everyclub.common.exception.LogicException;
 import gdgoc.everyclub.common.exception.ResourceErrorCode;
@@ -10,6 +12,7 @@ import gdgoc.everyclub.user.dto.UserCreateRequest;
 import gdgoc.everyclub.user.dto.UserUpdateRequest;
 import gdgoc.everyclub.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,6 +27,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final SignupService signupService;
     private final PasswordEncoder passwordEncoder;
+    private final ClubRepository clubRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long createUser(UserCreateRequest request) {
@@ -76,9 +81,19 @@ public class UserService {
                 request.studentId(), request.phoneNumber(), request.bio());
     }
 
+    /**
+     * 회원 탈퇴 (soft delete). 좋아요는 함께 삭제하고 동아리 좋아요 수를 줄인 뒤,
+     * 동아리마다 {@link ClubLikeChangedEvent}를 발행해 카탈로그, 좋아요 캐시, 인기 급상승 집계에도 반영한다.
+     */
     @Transactional
     public void deleteUser(Long id) {
         User user = getUserById(id);
+        List<Long> likedClubIds = clubRepository.lockLikedClubIdsByUserId(id);
+        if (!likedClubIds.isEmpty()) {
+            clubRepository.deleteLikesByUserId(id, likedClubIds);
+            clubRepository.decrementLikeCounts(likedClubIds);
+            likedClubIds.forEach(clubId -> eventPublisher.publishEvent(new ClubLikeChangedEvent(clubId, id, false)));
+        }
         userRepository.delete(user);
     }
 }
@@ -0,0 +1,18 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- club.like_count: club_likes 집계의 비정규화 컬럼
+--   좋아요 추가/취소 SQL 문 안에서 함께 증감된다 (ClubRepository.addLikeAtomic/removeLikeAtomic).
+--   드리프트는 ClubLikeCountReconciler가 주기적으로 보정한다.
+-- ─────────────────────────────────────────────────────────────────────────────
+ALTER TABLE club ADD COLUMN like_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE club c
+SET like_count = s.cnt
+FROM (SELECT club_id, COUNT(*) AS cnt FROM club_likes GROUP BY club_id) s
+WHERE s.club_id = c.id;
+
+-- 인기순 정렬(sort=likeCount,desc) 전용. 공개 목록 조회 조건과 동일한 부분 인덱스.
+CREATE INDEX idx_club_public_like_count ON club (like_count DESC, id)
+    WHERE is_public = true AND deleted_at IS NULL;
+
+-- 재집계(club_id 기준 GROUP BY) 시 PK(user_id, club_id) 대신 사용할 인덱스.
+CREATE INDEX idx_club_likes_club_id ON club_likes (club_id);
@@ -0,0 +1,7 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- 커서 페이지네이션 (GET /clubs/cursor, GET /clubs/search/cursor) 지원 인덱스
+--   이름순 keyset 조건 (name, id) > (:name, :id)를 인덱스 범위 스캔으로 처리해
+--   몇 번째 페이지든 페이지 크기만큼만 읽는다.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE INDEX idx_club_public_name_id ON club (name, id)
+    WHERE is_public = true AND deleted_at IS NULL;
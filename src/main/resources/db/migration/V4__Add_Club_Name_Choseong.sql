@@ -0,0 +1,24 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- club.name_choseong: 동아리 이름의 초성 문자열 (초성 검색 "ㅂㄷ" → "밴드")
+--   애플리케이션이 INSERT/UPDATE 시 HangulChoseong.extract(name)으로 채운다 (Club @PrePersist/@PreUpdate).
+--   카탈로그 스냅샷이 없을 때의 DB 검색 경로(ClubRepository.findIdsByChoseong*)에서만 사용된다.
+-- ─────────────────────────────────────────────────────────────────────────────
+ALTER TABLE club ADD COLUMN name_choseong VARCHAR(20) NOT NULL DEFAULT '';
+
+-- 기존 행 backfill. HangulChoseong.extract와 같은 규칙:
+--   음절(U+AC00~U+D7A3) → 초성, 초성 자모는 그대로, 공백은 제거, 그 밖의 문자는 ' '
+UPDATE club c
+SET name_choseong = (
+    SELECT COALESCE(string_agg(
+               CASE
+                   WHEN ascii(t.ch) BETWEEN 44032 AND 55203
+                       THEN substr('ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ', (ascii(t.ch) - 44032) / 588 + 1, 1)
+                   WHEN position(t.ch IN 'ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ') > 0 THEN t.ch
+                   WHEN t.ch ~ '\s' THEN ''
+                   ELSE ' '
+               END, '' ORDER BY t.ord), '')
+    FROM regexp_split_to_table(c.name, '') WITH ORDINALITY AS t(ch, ord)
+);
+
+-- 3자 이상 초성 검색의 LIKE '%...%'를 trigram GIN 인덱스로 처리한다.
+CREATE INDEX idx_club_name_choseong_gin ON club USING GIN (name_choseong gin_trgm_ops);
@@ -0,0 +1,11 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- club_likes.created_at: 좋아요한 시각
+--   "좋아요한 동아리" 목록 (GET /clubs/liked, GET /clubs/liked/cursor)을
+--   최근에 좋아요한 순으로 정렬한다. 기존 행은 마이그레이션 시각으로 채워지며
+--   같은 시각끼리는 club_id 내림차순으로 정렬된다.
+-- ─────────────────────────────────────────────────────────────────────────────
+ALTER TABLE club_likes ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT NOW();
+
+-- 사용자별 (created_at, club_id) keyset 조건을 인덱스 범위 스캔으로 처리해
+-- 좋아요 수와 무관하게 페이지 크기만큼만 읽는다.
+CREATE INDEX idx_club_likes_user_created ON club_likes (user_id, created_at DESC, club_id DESC);
@@ -0,0 +1,9 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- club_likes를 ClubLike 엔티티로 매핑하면서 동아리 기준 시간 인덱스를 추가한다.
+--   (club_id, created_at): 동아리별 최근 좋아요 구간 조회, 재집계(club_id 기준 GROUP BY).
+--   선두 컬럼이 같으므로 V2의 idx_club_likes_club_id를 대체한다.
+--   사용자 기준 (user_id, created_at DESC, club_id DESC)는 V5에서 추가되었다.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE INDEX idx_club_likes_club_created ON club_likes (club_id, created_at);
+
+DROP INDEX idx_club_likes_club_id;
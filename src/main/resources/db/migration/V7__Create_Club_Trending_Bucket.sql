@@ -0,0 +1,14 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- club_trending_bucket: 인기 급상승(GET /clubs/trending) 집계의 시간 버킷 스냅샷
+--   메모리의 동아리별 1시간 버킷(ClubTrendingCounter)을 주기적으로 저장해 재기동 후 복원한다.
+--   bucket_hour는 epoch 기준 시간 번호(epoch millis / 3,600,000)이며 7일이 지난 버킷은 삭제된다.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE TABLE club_trending_bucket (
+    club_id     BIGINT  NOT NULL,
+    bucket_hour BIGINT  NOT NULL,
+    likes       INTEGER NOT NULL,
+    PRIMARY KEY (club_id, bucket_hour)
+);
+
+-- 복원(최근 7일)과 만료 삭제를 시간 범위로 처리한다.
+CREATE INDEX idx_club_trending_bucket_hour ON club_trending_bucket (bucket_hour);
@@ -0,0 +1,271 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.config.ClubRankingProperties;
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse;
+import gdgoc.everyclub.club.dto.ClubFacetCountsResponse.FacetCount;
+import gdgoc.everyclub.club.dto.ClubFilterRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClubCatalogSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 16, 9, 0);
+
+    @Test
+    @DisplayName("필터 조건은 ClubSpecification과 같은 의미로 평가된다")
+    void filter_MatchesSpecificationSemantics() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "밴드", 1L, 10L, false, "매주 금요일", List.of("음악")),
+                entry(2L, "축구부", 2L, null, true, "  ", List.of("운동")),
+                entry(3L, "개발 동아리", 1L, 10L, false, null, List.of("개발", "스터디"))
+        ));
+
+        // when & then
+        assertThat(ids(snapshot.filter(new ClubFilterRequest(List.of(1L), null, null, null, null, null), PageRequest.of(0, 10))))
+                .containsExactly(1L, 3L);
+        assertThat(ids(snapshot.filter(new ClubFilterRequest(null, 10L, null, null, null, null), PageRequest.of(0, 10))))
+                .containsExactly(1L, 3L);
+        assertThat(ids(snapshot.filter(new ClubFilterRequest(null, null, true, null, null, null), PageRequest.of(0, 10))))
+                .containsExactly(2L);
+        assertThat(ids(snapshot.filter(new ClubFilterRequest(null, null, null, false, null, null), PageRequest.of(0, 10))))
+                .containsExactly(2L, 3L);
+        assertThat(ids(snapshot.filter(new ClubFilterRequest(null, null, null, null, null, "#스터디"), PageRequest.of(0, 10))))
+                .containsExactly(3L);
+        assertThat(ids(snapshot.filter(new ClubFilterRequest(null, null, null, null, " 동아리 ", null), PageRequest.of(0, 10))))
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("정렬 후 페이지 단위로 잘라내고 전체 개수를 함께 반환한다")
+    void filter_SortsAndPaginates() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "다", 1L, null, false, null, List.of()),
+                entry(2L, "가", 1L, null, false, null, List.of()),
+                entry(3L, "나", 1L, null, false, null, List.of())
+        ));
+
+        // when
+        Page<ClubCatalogEntry> page = snapshot.filter(ClubFilterRequest.empty(), PageRequest.of(1, 2, Sort.by("name")));
+
+        // then
+        assertThat(ids(page)).containsExactly(1L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("likeCount 내림차순 정렬을 지원하며 동률은 id 순으로 정렬된다")
+    void filter_SortsByLikeCountDesc() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "가", 1L, null, false, null, List.of()).withLikeCount(3),
+                entry(2L, "나", 1L, null, false, null, List.of()).withLikeCount(7),
+                entry(3L, "다", 1L, null, false, null, List.of()).withLikeCount(3)
+        ));
+
+        // when
+        Page<ClubCatalogEntry> page = snapshot.filter(ClubFilterRequest.empty(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "likeCount")));
+
+        // then
+        assertThat(ids(page)).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("facet 개수는 facet마다 자기 조건을 제외한 나머지 조건으로 계산된다")
+    void facetCounts_ExcludeOwnCondition() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "밴드", 1L, 10L, false, "매주 금요일", List.of("음악")),
+                entry(2L, "축구부", 2L, null, true, null, List.of("운동")),
+                entry(3L, "개발 동아리", 1L, 10L, true, null, List.of("개발", "스터디")),
+                entry(4L, "농구부", 2L, null, false, null, List.of("운동"))
+        ));
+
+        // when
+        ClubFacetCountsResponse counts = snapshot.facetCounts(
+                new ClubFilterRequest(List.of(1L), null, true, null, null, null));
+
+        // then
+        assertThat(counts.total()).isEqualTo(1);
+        // 카테고리 facet: hasFee=true만 적용 → 1번(1건), 2번(1건)
+        assertThat(counts.categories()).containsExactly(new FacetCount<>(1L, 1), new FacetCount<>(2L, 1));
+        // 회비 facet: category=1만 적용 → false(1건), true(1건)
+        assertThat(counts.hasFee()).containsExactly(new FacetCount<>(false, 1), new FacetCount<>(true, 1));
+        assertThat(counts.tags()).containsExactly(new FacetCount<>("개발", 1), new FacetCount<>("스터디", 1));
+        assertThat(counts.colleges()).containsExactly(new FacetCount<>(10L, 1));
+    }
+
+    @Test
+    @DisplayName("필터 없는 facet 개수는 스냅샷마다 캐시되며 좋아요 수 변경 후에도 재사용된다")
+    void facetCounts_UnfilteredIsCached() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "밴드", 1L, null, false, null, List.of("음악")),
+                entry(2L, "축구부", 2L, null, false, null, List.of("운동"))
+        ));
+
+        // when
+        ClubFacetCountsResponse first = snapshot.facetCounts(ClubFilterRequest.empty());
+        snapshot.adjustLikeCount(1L, 1);
+        ClubFacetCountsResponse afterLike = snapshot.facetCounts(ClubFilterRequest.empty());
+        ClubFacetCountsResponse afterRemove = snapshot.without(2L).facetCounts(ClubFilterRequest.empty());
+
+        // then
+        assertThat(snapshot.facetCounts(ClubFilterRequest.empty())).isSameAs(first);
+        assertThat(afterLike).isSameAs(first);
+        assertThat(first.total()).isEqualTo(2);
+        assertThat(afterRemove.total()).isEqualTo(1);
+        assertThat(afterRemove.categories()).containsExactly(new FacetCount<>(1L, 1));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬 속성은 거부된다")
+    void filter_UnsupportedSort() {
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of());
+
+        assertThat(snapshot.supports(Sort.by("summary"))).isFalse();
+        assertThatThrownBy(() -> snapshot.filter(ClubFilterRequest.empty(), PageRequest.of(0, 10, Sort.by("summary"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("패치는 새 스냅샷을 만들고 버전을 올리며 기존 스냅샷은 변하지 않는다")
+    void patch_IsCopyOnWrite() {
+        // given
+        ClubCatalogSnapshot original = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "밴드", 1L, null, false, null, List.of())));
+
+        // when
+        ClubCatalogSnapshot added = original.with(entry(2L, "축구부", 1L, null, false, null, List.of()));
+        ClubCatalogSnapshot removed = added.without(1L);
+
+        // then
+        assertThat(original.size()).isEqualTo(1);
+        assertThat(added.size()).isEqualTo(2);
+        assertThat(removed.find(1L)).isEmpty();
+        assertThat(original.find(1L)).isPresent();
+        assertThat(removed.getVersion()).isEqualTo(3L);
+        assertThat(removed.without(99L)).isSameAs(removed);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 보정은 새 스냅샷을 만들지 않고, 패치로 이어진 스냅샷 모두의 조회, 정렬, 좋아요 버전에 반영된다")
+    void adjustLikeCount_IsSharedAcrossPatches() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "밴드", 1L, null, false, null, List.of()),
+                entry(2L, "축구부", 1L, null, false, null, List.of())));
+        ClubCatalogSnapshot added = snapshot.with(entry(3L, "합창단", 1L, null, false, null, List.of()));
+        long likeVersion = added.likeVersion();
+
+        // when
+        Optional<ClubCatalogEntry> liked = snapshot.adjustLikeCount(2L, 2);
+        snapshot.adjustLikeCount(1L, -1);
+
+        // then: 0 아래로 내려가지 않는다
+        assertThat(liked.orElseThrow().likeCount()).isEqualTo(2);
+        assertThat(added.getVersion()).isEqualTo(2L);
+        assertThat(added.find(2L).orElseThrow().likeCount()).isEqualTo(2);
+        assertThat(added.find(1L).orElseThrow().likeCount()).isZero();
+        assertThat(added.likeVersion()).isGreaterThan(likeVersion);
+        assertThat(ids(added.filter(ClubFilterRequest.empty(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "likeCount"))))).containsExactly(2L, 1L, 3L);
+        assertThat(snapshot.adjustLikeCount(99L, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("교정 후보는 이름 단어와 없는 태그에 대해 찾으며 이름/태그 변경을 따라간다")
+    void corrections_FollowPatches() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "강남대 GDGoC", 1L, null, false, null, List.of("개발", "스터디")),
+                entry(2L, "밴드 동아리", 1L, null, false, null, List.of("음악"))
+        ));
+
+        // when
+        snapshot.adjustLikeCount(1L, 1);
+        ClubCatalogSnapshot renamed = snapshot.with(entry(1L, "강남대 코딩클럽", 1L, null, false, null, List.of("개발")));
+
+        // then
+        assertThat(snapshot.correctName("gdgco", 5)).containsExactly("GDGoC");
+        assertThat(snapshot.correctName("벤드", 5)).containsExactly("밴드");
+        assertThat(snapshot.correctTags(List.of("개발", "스타디"), 5)).containsExactly("스터디");
+        assertThat(renamed.correctName("gdgco", 5)).isEmpty();
+        assertThat(renamed.correctTags(List.of("스타디"), 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관련도 순 검색은 후보 안에서 모집 중·인기·최근 수정 동아리를 앞에 두고 페이지를 나눈다")
+    void rankKeyword_OrdersCandidatesByScore() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                scored(1L, "밴드부", RecruitingStatus.CLOSED, 0, NOW.minusDays(200)),
+                scored(2L, "밴드 연합", RecruitingStatus.OPEN, 50, NOW),
+                scored(3L, "락밴드", RecruitingStatus.OPEN, 0, NOW.minusDays(200)),
+                scored(4L, "축구부", RecruitingStatus.OPEN, 100, NOW)
+        ));
+        ClubRelevanceScorer scorer = new ClubRelevanceScorer(new ClubRankingProperties(), NOW);
+
+        // when
+        Page<ClubCatalogEntry> first = snapshot.rankKeyword("밴드", PageRequest.of(0, 2), scorer);
+        Page<ClubCatalogEntry> second = snapshot.rankKeyword("밴드", PageRequest.of(1, 2), scorer);
+
+        // then: 후보(이름에 "밴드")와 개수는 이름순 검색과 같다
+        assertThat(ids(first)).containsExactly(2L, 3L);
+        assertThat(ids(second)).containsExactly(1L);
+        assertThat(first.getTotalElements()).isEqualTo(snapshot.searchKeyword("밴드", PageRequest.of(0, 2)).getTotalElements());
+        assertThat(ids(snapshot.rankChoseong("ㅂㄷ", PageRequest.of(0, 10), scorer))).containsExactly(2L, 3L, 1L);
+    }
+
+    private static List<Long> ids(Page<ClubCatalogEntry> page) {
+        return page.getContent().stream().map(ClubCatalogEntry::id).toList();
+    }
+
+    @Test
+    @DisplayName("비슷한 동아리는 태그가 바뀐 패치를 반영하고, 좋아요 수는 현재 값으로 반환한다")
+    void similarTo_FollowsPatches() {
+        // given
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, List.of(
+                entry(1L, "밴드", 1L, null, false, null, List.of("음악", "공연")),
+                entry(2L, "합창단", 2L, null, false, null, List.of("음악")),
+                entry(3L, "개발 동아리", 3L, null, false, null, List.of("개발"))
+        ));
+
+        // when
+        ClubCatalogSnapshot retagged = snapshot.with(entry(3L, "개발 동아리", 3L, null, false, null, List.of("공연", "음악")));
+        retagged.adjustLikeCount(2L, 1);
+
+        // then
+        assertThat(snapshot.similarTo(1L, 10)).extracting(ClubCatalogEntry::id).containsExactly(2L);
+        assertThat(retagged.similarTo(1L, 10)).extracting(ClubCatalogEntry::id).containsExactly(3L, 2L);
+        assertThat(retagged.similarTo(1L, 1)).extracting(ClubCatalogEntry::id).containsExactly(3L);
+        assertThat(retagged.similarTo(3L, 10).get(1).likeCount()).isEqualTo(1);
+        assertThat(retagged.without(3L).similarTo(1L, 10)).extracting(ClubCatalogEntry::id).containsExactly(2L);
+        assertThat(snapshot.similarTo(99L, 10)).isEmpty();
+    }
+
+    private static ClubCatalogEntry entry(Long id, String name, Long categoryId, Long collegeId,
+                                          boolean hasFee, String activityCycle, List<String> tags) {
+        return new ClubCatalogEntry(id, "slug-" + id, name, "summary", null, null, RecruitingStatus.OPEN,
+                activityCycle, hasFee, 0, tags, categoryId, "category", null, collegeId, "author", NOW, NOW);
+    }
+
+    private static ClubCatalogEntry scored(Long id, String name, RecruitingStatus status, int likeCount,
+                                           LocalDateTime updatedAt) {
+        return new ClubCatalogEntry(id, "slug-" + id, name, "summary", null, null, status,
+                null, false, likeCount, List.of(), 1L, "category", null, null, "author", NOW, updatedAt);
+    }
+}
@@ -0,0 +1,351 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.domain.HangulChoseong;
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import gdgoc.everyclub.club.dto.ClubAutocompleteResponse.TagSuggestion;
+import gdgoc.everyclub.club.dto.ClubFilterRequest;
+import gdgoc.everyclub.club.dto.TagMatchMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubFacetIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 16, 9, 0);
+    private static final List<String> TAGS = List.of("개발", "스터디", "운동", "음악", "봉사");
+
+    @Test
+    @DisplayName("비트맵 필터 결과는 항목별 matches() 평가와 같다")
+    void match_EquivalentToEntryMatches() {
+        // given
+        Random random = new Random(7);
+        List<ClubCatalogEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            entries.add(randomEntry(random, id));
+        }
+        ClubFacetIndex index = ClubFacetIndex.build(entries);
+
+        // when & then
+        for (int i = 0; i < 200; i++) {
+            ClubFilterRequest filter = randomFilter(random);
+            assertThat(ids(index, index.match(filter)))
+                    .as("filter %s", filter)
+                    .isEqualTo(entries.stream().filter(e -> e.matches(filter)).map(ClubCatalogEntry::id).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("증분 패치 결과는 같은 항목으로 새로 만든 인덱스와 같은 필터 결과를 낸다")
+    void patch_EquivalentToRebuild() {
+        // given
+        Random random = new Random(11);
+        List<ClubCatalogEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            entries.add(randomEntry(random, id));
+        }
+        ClubFacetIndex patched = ClubFacetIndex.build(entries);
+
+        // when: 교체, 삭제, 끝에 추가
+        for (long id = 1; id <= 100; id += 3) {
+            ClubCatalogEntry updated = randomEntry(random, id);
+            patched = patched.with(updated);
+            entries.set((int) id - 1, updated);
+        }
+        for (long id = 2; id <= 100; id += 5) {
+            patched = patched.without(id);
+        }
+        final ClubFacetIndex afterRemoval = patched;
+        entries.removeIf(e -> afterRemoval.find(e.id()).isEmpty());
+        for (long id = 101; id <= 120; id++) {
+            ClubCatalogEntry added = randomEntry(random, id);
+            patched = patched.with(added);
+            entries.add(added);
+        }
+        ClubFacetIndex rebuilt = ClubFacetIndex.build(entries);
+
+        // then
+        assertThat(patched.size()).isEqualTo(rebuilt.size());
+        for (int i = 0; i < 200; i++) {
+            ClubFilterRequest filter = randomFilter(random);
+            assertThat(ids(patched, patched.match(filter))).isEqualTo(ids(rebuilt, rebuilt.match(filter)));
+        }
+    }
+
+    @Test
+    @DisplayName("짧은 검색어 n-gram 조회는 이름/소개 부분 일치 전체 스캔과 같은 결과를 낸다")
+    void matchKeyword_EquivalentToContainsScan() {
+        // given
+        Random random = new Random(13);
+        List<ClubCatalogEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            entries.add(textEntry(id, randomText(random, 2 + random.nextInt(6)), randomText(random, random.nextInt(12))));
+        }
+        ClubFacetIndex index = ClubFacetIndex.build(entries);
+
+        // when & then
+        for (int i = 0; i < 300; i++) {
+            String keyword = randomText(random, 1 + random.nextInt(3)).strip();
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            String lower = keyword.toLowerCase();
+            assertThat(ids(index, index.matchKeyword(keyword)))
+                    .as("keyword %s", keyword)
+                    .isEqualTo(entries.stream()
+                            .filter(e -> e.name().toLowerCase().contains(lower)
+                                    || e.summary() != null && e.summary().toLowerCase().contains(lower))
+                            .map(ClubCatalogEntry::id)
+                            .toList());
+        }
+    }
+
+    @Test
+    @DisplayName("이름이 바뀌면 n-gram posting list도 함께 갱신된다")
+    void matchKeyword_FollowsPatches() {
+        // given
+        ClubFacetIndex index = ClubFacetIndex.build(List.of(textEntry(1L, "밴드부", "음악 동아리"), textEntry(2L, "축구부", null)));
+
+        // when
+        ClubFacetIndex renamed = index.with(textEntry(1L, "합창단", "노래"));
+        ClubFacetIndex removed = renamed.without(2L);
+
+        // then
+        assertThat(ids(index, index.matchKeyword("밴드"))).containsExactly(1L);
+        assertThat(ids(index, index.matchKeyword("부"))).containsExactly(1L, 2L);
+        assertThat(ids(renamed, renamed.matchKeyword("밴드"))).isEmpty();
+        assertThat(ids(renamed, renamed.matchKeyword("합창단"))).containsExactly(1L);
+        assertThat(ids(removed, removed.matchKeyword("축구"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("3자 검색어는 2-gram이 모두 있어도 연속으로 포함되지 않으면 제외된다")
+    void matchKeyword_VerifiesThreeCharacterCandidates() {
+        // given: "가나", "나다" 2-gram은 모두 있지만 "가나다"는 없다
+        ClubFacetIndex index = ClubFacetIndex.build(List.of(textEntry(1L, "가나 나다", null), textEntry(2L, "가나다라", null)));
+
+        // when & then
+        assertThat(ids(index, index.matchKeyword("가나다"))).containsExactly(2L);
+        assertThat(ids(index, index.matchKeyword("나 나"))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("초성 조회는 이름 초성 문자열 부분 일치 전체 스캔과 같은 결과를 낸다")
+    void matchChoseong_EquivalentToExtractScan() {
+        // given
+        Random random = new Random(17);
+        List<ClubCatalogEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            entries.add(textEntry(id, randomText(random, 2 + random.nextInt(6)), null));
+        }
+        ClubFacetIndex index = ClubFacetIndex.build(entries);
+
+        // when & then
+        for (int i = 0; i < 300; i++) {
+            String choseong = HangulChoseong.extract(randomText(random, 1 + random.nextInt(4)));
+            if (choseong.isEmpty() || choseong.contains(" ")) {
+                continue;
+            }
+            assertThat(ids(index, index.matchChoseong(choseong)))
+                    .as("choseong %s", choseong)
+                    .isEqualTo(entries.stream()
+                            .filter(e -> HangulChoseong.extract(e.name()).contains(choseong))
+                            .map(ClubCatalogEntry::id)
+                            .toList());
+        }
+    }
+
+    @Test
+    @DisplayName("초성 posting list는 공백을 건너 일치하고 이름 변경을 따라간다")
+    void matchChoseong_FollowsPatches() {
+        // given
+        ClubFacetIndex index = ClubFacetIndex.build(List.of(textEntry(1L, "밴드 연합", null), textEntry(2L, "AI 보드게임", null)));
+
+        // when
+        ClubFacetIndex renamed = index.with(textEntry(1L, "합창단", null));
+
+        // then
+        assertThat(ids(index, index.matchChoseong("ㄷㅇ"))).containsExactly(1L);
+        assertThat(ids(index, index.matchChoseong("ㅂㄷㅇㅎ"))).containsExactly(1L);
+        assertThat(ids(index, index.matchChoseong("ㅂㄷ"))).containsExactly(1L, 2L);
+        assertThat(ids(renamed, renamed.matchChoseong("ㅂㄷ"))).containsExactly(2L);
+        assertThat(ids(renamed, renamed.matchChoseong("ㅎㅊㄷ"))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이름 자동완성은 이름 또는 단어 시작이 접두사와 같은 항목을 좋아요 순으로 반환하고 패치를 따라간다")
+    void suggestByName_RanksByLikeCountAndFollowsPatches() {
+        // given
+        ClubFacetIndex index = ClubFacetIndex.build(List.of(
+                textEntry(1L, "밴드부", null).withLikeCount(3),
+                textEntry(2L, "강남 밴드", null).withLikeCount(10),
+                textEntry(3L, "밴드 연합", null).withLikeCount(3),
+                textEntry(4L, "축구부", null).withLikeCount(50)));
+
+        // when
+        ClubFacetIndex renamed = index.with(textEntry(1L, "합창단", null).withLikeCount(3));
+        ClubFacetIndex added = renamed.with(textEntry(5L, "Banjo 밴조", null).withLikeCount(20));
+        ClubFacetIndex removed = added.without(2L);
+
+        // then: 좋아요 동률(1, 3)은 이름순
+        assertThat(suggestionIds(index.suggestByName("밴", 10, UnaryOperator.identity()))).containsExactly(2L, 3L, 1L);
+        assertThat(suggestionIds(index.suggestByName("밴", 2, UnaryOperator.identity()))).containsExactly(2L, 3L);
+        assertThat(suggestionIds(index.suggestByName("구부", 10, UnaryOperator.identity()))).isEmpty();
+        assertThat(suggestionIds(renamed.suggestByName("밴", 10, UnaryOperator.identity()))).containsExactly(2L, 3L);
+        assertThat(suggestionIds(added.suggestByName("밴", 10, UnaryOperator.identity()))).containsExactly(5L, 2L, 3L);
+        assertThat(suggestionIds(added.suggestByName("ban", 10, UnaryOperator.identity()))).containsExactly(5L);
+        assertThat(suggestionIds(removed.suggestByName("밴", 10, UnaryOperator.identity()))).containsExactly(5L, 3L);
+        assertThat(suggestionIds(index.suggestByName("밴", 10, UnaryOperator.identity()))).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("패치를 거친 이름 자동완성 결과는 전체 스캔과 같다")
+    void suggestByName_EquivalentToScanAfterPatches() {
+        // given
+        Random random = new Random(17);
+        List<ClubCatalogEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            entries.add(textEntry(id, randomText(random, 1 + random.nextInt(6)), null).withLikeCount(random.nextInt(5)));
+        }
+        ClubFacetIndex index = ClubFacetIndex.build(entries);
+        for (long id = 1; id <= 200; id += 4) {
+            ClubCatalogEntry renamed = textEntry(id, randomText(random, 1 + random.nextInt(6)), null)
+                    .withLikeCount(random.nextInt(5));
+            index = index.with(renamed);
+            entries.set((int) id - 1, renamed);
+        }
+        for (long id = 3; id <= 200; id += 7) {
+            index = index.without(id);
+        }
+        final ClubFacetIndex patched = index;
+        entries.removeIf(e -> patched.find(e.id()).isEmpty());
+
+        // when & then
+        for (int i = 0; i < 200; i++) {
+            String prefix = randomText(random, 1 + random.nextInt(2)).strip().toLowerCase();
+            if (prefix.isEmpty()) {
+                continue;
+            }
+            List<Long> expected = entries.stream()
+                    .filter(e -> e.name().toLowerCase().startsWith(prefix) || e.name().toLowerCase().contains(" " + prefix))
+                    .sorted(Comparator.comparingInt(ClubCatalogEntry::likeCount).reversed()
+                            .thenComparing(ClubCatalogEntry::name)
+                            .thenComparing(ClubCatalogEntry::id))
+                    .limit(5)
+                    .map(ClubCatalogEntry::id)
+                    .toList();
+            assertThat(suggestionIds(patched.suggestByName(prefix, 5, UnaryOperator.identity()))).as("prefix %s", prefix).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("태그 자동완성은 접두사가 같은 태그를 동아리 수 내림차순으로 반환한다")
+    void suggestTags_RanksByClubCount() {
+        // given
+        ClubFacetIndex index = ClubFacetIndex.build(List.of(
+                taggedEntry(1L, List.of("개발", "스터디")),
+                taggedEntry(2L, List.of("개발", "개발자")),
+                taggedEntry(3L, List.of("개발자")),
+                taggedEntry(4L, List.of("개발자", "운동"))));
+
+        // when
+        ClubFacetIndex patched = index.without(4L).with(taggedEntry(5L, List.of("개발팀")));
+
+        // then
+        assertThat(index.suggestTags("개발", 10))
+                .containsExactly(new TagSuggestion("개발자", 3), new TagSuggestion("개발", 2));
+        assertThat(index.suggestTags("개발", 1)).containsExactly(new TagSuggestion("개발자", 3));
+        assertThat(patched.suggestTags("개발", 10)).containsExactly(
+                new TagSuggestion("개발", 2), new TagSuggestion("개발자", 2), new TagSuggestion("개발팀", 1));
+        assertThat(patched.suggestTags("운", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 id보다 작은 새 id는 순서를 유지할 수 없으므로 null을 반환한다")
+    void with_SmallerNewIdRequiresRebuild() {
+        ClubFacetIndex index = ClubFacetIndex.build(List.of(randomEntry(new Random(1), 10L)));
+
+        assertThat(index.with(randomEntry(new Random(2), 5L))).isNull();
+    }
+
+    @Test
+    @DisplayName("패치는 이전 인덱스를 변경하지 않는다")
+    void patch_DoesNotMutatePrevious() {
+        // given
+        Random random = new Random(3);
+        ClubCatalogEntry entry = randomEntry(random, 1L);
+        ClubFacetIndex original = ClubFacetIndex.build(List.of(entry));
+        ClubFilterRequest byCategory = new ClubFilterRequest(List.of(entry.categoryId()), null, null, null, null, null);
+
+        // when
+        ClubFacetIndex removed = original.without(1L);
+
+        // then
+        assertThat(original.match(byCategory).getCardinality()).isEqualTo(1);
+        assertThat(removed.match(byCategory).isEmpty()).isTrue();
+    }
+
+    private static List<Long> ids(ClubFacetIndex index, RoaringBitmap ordinals) {
+        List<Long> ids = new ArrayList<>();
+        ordinals.forEach((int ordinal) -> ids.add(index.entryAt(ordinal).id()));
+        return ids;
+    }
+
+    private static ClubCatalogEntry randomEntry(Random random, long id) {
+        List<String> tags = TAGS.stream().filter(t -> random.nextInt(3) == 0).toList();
+        Long collegeId = random.nextBoolean() ? null : (long) (1 + random.nextInt(3));
+        String activityCycle = switch (random.nextInt(3)) {
+            case 0 -> null;
+            case 1 -> " ";
+            default -> "매주";
+        };
+        return new ClubCatalogEntry(id, "slug-" + id, "동아리" + (char) ('가' + random.nextInt(5)) + id, "summary", null, null,
+                random.nextBoolean() ? RecruitingStatus.OPEN : RecruitingStatus.CLOSED, activityCycle,
+                random.nextBoolean(), 0, tags, (long) (1 + random.nextInt(4)), "category",
+                collegeId == null ? null : collegeId * 10, collegeId, "author", NOW, NOW);
+    }
+
+    private static final String SYLLABLES = "밴드축구부개발음악AbC ";
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return text.toString();
+    }
+
+    private static ClubCatalogEntry textEntry(long id, String name, String summary) {
+        return new ClubCatalogEntry(id, "slug-" + id, name, summary, null, null, RecruitingStatus.OPEN, null,
+                false, 0, List.of(), 1L, "category", null, null, "author", NOW, NOW);
+    }
+
+    private static ClubCatalogEntry taggedEntry(long id, List<String> tags) {
+        return new ClubCatalogEntry(id, "slug-" + id, "동아리" + id, null, null, null, RecruitingStatus.OPEN, null,
+                false, 0, tags, 1L, "category", null, null, "author", NOW, NOW);
+    }
+
+    private static List<Long> suggestionIds(List<ClubCatalogEntry> entries) {
+        return entries.stream().map(ClubCatalogEntry::id).toList();
+    }
+
+    private static ClubFilterRequest randomFilter(Random random) {
+        return new ClubFilterRequest(
+                random.nextBoolean() ? null : List.of((long) (1 + random.nextInt(4)), (long) (1 + random.nextInt(4))),
+                random.nextInt(3) == 0 ? (long) (1 + random.nextInt(3)) : null,
+                random.nextInt(3) == 0 ? random.nextBoolean() : null,
+                random.nextInt(3) == 0 ? random.nextBoolean() : null,
+                random.nextInt(4) == 0 ? "가" : null,
+                random.nextInt(3) == 0 ? "#" + TAGS.get(random.nextInt(TAGS.size())) : null,
+                random.nextInt(3) == 0 ? List.of(TAGS.get(random.nextInt(TAGS.size())), TAGS.get(random.nextInt(TAGS.size()))) : null,
+                random.nextBoolean() ? TagMatchMode.ALL : TagMatchMode.ANY);
+    }
+}
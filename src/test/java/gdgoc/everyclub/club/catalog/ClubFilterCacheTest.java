@@ -0,0 +1,168 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.config.ClubCatalogProperties;
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import gdgoc.everyclub.club.dto.ClubFilterRequest;
+import gdgoc.everyclub.club.dto.TagMatchMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubFilterCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 16, 9, 0);
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("카테고리/태그 순서, 이름 공백·대소문자, 태그 하나일 때의 결합 방식이 달라도 같은 키가 된다")
+    void key_IsCanonical() {
+        ClubFilterCache.Key a = ClubFilterCache.Key.of(
+                new ClubFilterRequest(List.of(2L, 1L, 2L), null, false, null, " GDG ", null, List.of("#스터디", "개발"), TagMatchMode.ALL),
+                FIRST_PAGE);
+        ClubFilterCache.Key b = ClubFilterCache.Key.of(
+                new ClubFilterRequest(List.of(1L, 2L), null, false, null, "gdg", "개발", List.of("스터디"), null),
+                FIRST_PAGE);
+        ClubFilterCache.Key single = ClubFilterCache.Key.of(
+                new ClubFilterRequest(null, null, null, null, null, "개발", null, TagMatchMode.ANY), FIRST_PAGE);
+
+        assertThat(a).isEqualTo(b);
+        assertThat(single).isEqualTo(ClubFilterCache.Key.of(
+                new ClubFilterRequest(null, null, null, null, null, "개발"), FIRST_PAGE));
+        assertThat(ClubFilterCache.Key.of(ClubFilterRequest.empty(), FIRST_PAGE))
+                .isNotEqualTo(ClubFilterCache.Key.of(ClubFilterRequest.empty(), PageRequest.of(1, 10)));
+        assertThat(ClubFilterCache.Key.of(ClubFilterRequest.empty(), Pageable.unpaged()))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 항목부터, TTL이 지나면 조회 시 제거된다")
+    void evictsLeastRecentlyUsedAndExpired() {
+        // given: 최대 2개, TTL 60초
+        ClubFilterCache cache = cache(2, 60);
+        ClubFilterCache.Key first = key(1L);
+        ClubFilterCache.Key second = key(2L);
+        ClubFilterCache.Key third = key(3L);
+        cache.put(first, List.of(1L), 1, cache.generation());
+        cache.put(second, List.of(2L), 1, cache.generation());
+
+        // when: first를 조회해 최근 사용으로 만든 뒤 third를 넣는다
+        assertThat(cache.get(first)).isNotNull();
+        cache.put(third, List.of(3L), 1, cache.generation());
+
+        // then
+        assertThat(cache.get(second)).isNull();
+        assertThat(cache.get(first).ids()).containsExactly(1L);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        assertThat(cache.get(third)).isNull();
+        assertThat(cache.stats()).isEqualTo(new ClubFilterCache.Stats(2, 2, 2, 0, 1));
+    }
+
+    @Test
+    @DisplayName("변경 전/후 항목이 필터에 맞는 캐시 항목만 무효화하고, 결과 집합과 순서가 그대로이면 유지한다")
+    void invalidate_IsPrecise() {
+        // given
+        ClubFilterCache cache = cache(100, 60);
+        ClubFilterCache.Key music = ClubFilterCache.Key.of(tagFilter("음악"), FIRST_PAGE);
+        ClubFilterCache.Key sports = ClubFilterCache.Key.of(tagFilter("운동"), FIRST_PAGE);
+        ClubFilterCache.Key musicByLikes = ClubFilterCache.Key.of(tagFilter("음악"),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "likeCount")));
+        ClubFilterCache.Key musicByName = ClubFilterCache.Key.of(tagFilter("음악"), PageRequest.of(0, 10, Sort.by("name")));
+        for (ClubFilterCache.Key key : List.of(music, sports, musicByLikes, musicByName)) {
+            cache.put(key, List.of(1L), 1, cache.generation());
+        }
+        ClubCatalogEntry band = entry(1L, "밴드", List.of("음악"));
+
+        // when: 좋아요 수만 바뀌면 likeCount 정렬 항목만 제거된다
+        cache.invalidate(band, band.withLikeCount(5));
+
+        // then
+        assertThat(cache.get(musicByLikes)).isNull();
+        assertThat(cache.get(music)).isNotNull();
+        assertThat(cache.get(musicByName)).isNotNull();
+
+        // when: 이름이 바뀌면 이름 정렬 항목이, 태그가 바뀌면 전/후 필터 항목이 제거된다
+        cache.invalidate(band, entry(1L, "밴드부", List.of("음악")));
+        assertThat(cache.get(musicByName)).isNull();
+        assertThat(cache.get(music)).isNotNull();
+        assertThat(cache.get(sports)).isNotNull();
+
+        cache.invalidate(entry(1L, "밴드부", List.of("음악")), entry(1L, "밴드부", List.of("운동")));
+        assertThat(cache.get(music)).isNull();
+        assertThat(cache.get(sports)).isNull();
+        assertThat(cache.stats().invalidations()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("좋아요 무효화는 그 동아리가 맞는 likeCount 정렬 항목만 제거하고, 겹친 조회도 likeCount 정렬만 버린다")
+    void invalidateLikeOrder_OnlyLikeSorted() {
+        // given
+        ClubFilterCache cache = cache(100, 60);
+        PageRequest byLikes = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "likeCount"));
+        ClubFilterCache.Key music = ClubFilterCache.Key.of(tagFilter("음악"), FIRST_PAGE);
+        ClubFilterCache.Key musicByLikes = ClubFilterCache.Key.of(tagFilter("음악"), byLikes);
+        ClubFilterCache.Key sportsByLikes = ClubFilterCache.Key.of(tagFilter("운동"), byLikes);
+        for (ClubFilterCache.Key key : List.of(music, musicByLikes, sportsByLikes)) {
+            cache.put(key, List.of(1L), 1, cache.generation());
+        }
+        long generation = cache.generation();
+
+        // when
+        cache.invalidateLikeOrder(entry(1L, "밴드", List.of("음악")));
+        cache.put(key(1L), List.of(1L), 1, generation);
+        cache.put(ClubFilterCache.Key.of(ClubFilterRequest.empty(), byLikes), List.of(1L), 1, generation);
+
+        // then
+        assertThat(cache.get(musicByLikes)).isNull();
+        assertThat(cache.get(sportsByLikes)).isNotNull();
+        assertThat(cache.get(music)).isNotNull();
+        assertThat(cache.get(key(1L))).isNotNull();
+        assertThat(cache.get(ClubFilterCache.Key.of(ClubFilterRequest.empty(), byLikes))).isNull();
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 시작 후 무효화가 있었으면 그 결과는 캐시에 넣지 않는다")
+    void put_RejectsStaleGeneration() {
+        // given
+        ClubFilterCache cache = cache(100, 60);
+        long generation = cache.generation();
+
+        // when
+        cache.invalidate(null, entry(1L, "밴드", List.of()));
+        cache.put(key(1L), List.of(1L), 1, generation);
+
+        // then
+        assertThat(cache.get(key(1L))).isNull();
+    }
+
+    private ClubFilterCache cache(int maxEntries, int ttlSeconds) {
+        ClubCatalogProperties.FilterCache properties = new ClubCatalogProperties.FilterCache();
+        properties.setMaxEntries(maxEntries);
+        properties.setTtlSeconds(ttlSeconds);
+        return new ClubFilterCache(properties, nanos::get);
+    }
+
+    private static ClubFilterCache.Key key(Long categoryId) {
+        return ClubFilterCache.Key.of(new ClubFilterRequest(List.of(categoryId), null, null, null, null, null), FIRST_PAGE);
+    }
+
+    private static ClubFilterRequest tagFilter(String tag) {
+        return new ClubFilterRequest(null, null, true, null, null, tag);
+    }
+
+    private static ClubCatalogEntry entry(long id, String name, List<String> tags) {
+        return new ClubCatalogEntry(id, "slug-" + id, name, "summary", null, null, RecruitingStatus.OPEN,
+                null, true, 0, tags, 1L, "category", null, null, "author", NOW, NOW);
+    }
+}
@@ -0,0 +1,52 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.config.ClubRankingProperties;
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ClubRelevanceScorerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 16, 9, 0);
+
+    @Test
+    @DisplayName("짧은 검색어는 이름 전체, 이름·단어 앞부분, 이름 중간, 소개 순으로 일치 정도가 낮아진다")
+    void keywordSimilarity() {
+        assertThat(ClubRelevanceScorer.keywordSimilarity("밴드", entry("밴드", RecruitingStatus.OPEN, 0, NOW))).isEqualTo(1.0);
+        assertThat(ClubRelevanceScorer.keywordSimilarity("밴드", entry("밴드부", RecruitingStatus.OPEN, 0, NOW))).isEqualTo(0.8);
+        assertThat(ClubRelevanceScorer.keywordSimilarity("밴드", entry("강남 밴드부", RecruitingStatus.OPEN, 0, NOW))).isEqualTo(0.8);
+        assertThat(ClubRelevanceScorer.keywordSimilarity("밴드", entry("락밴드", RecruitingStatus.OPEN, 0, NOW))).isEqualTo(0.6);
+        assertThat(ClubRelevanceScorer.keywordSimilarity("밴드", entry("음악회", RecruitingStatus.OPEN, 0, NOW))).isEqualTo(0.3);
+        assertThat(ClubRelevanceScorer.choseongSimilarity("ㅂㄷㅂ", entry("밴드부", RecruitingStatus.OPEN, 0, NOW))).isEqualTo(1.0);
+        assertThat(ClubRelevanceScorer.choseongSimilarity("ㅂㄷ", entry("락밴드", RecruitingStatus.OPEN, 0, NOW))).isEqualTo(0.6);
+    }
+
+    @Test
+    @DisplayName("점수는 가중치를 곱한 유사도, 좋아요 포화값, 모집 중 여부, 수정 후 반감기의 합이다")
+    void score_CombinesWeightedSignals() {
+        // given
+        ClubRankingProperties weights = new ClubRankingProperties();
+        weights.setPopularityPivot(20);
+        weights.setRecencyHalfLifeDays(30);
+        ClubRelevanceScorer scorer = new ClubRelevanceScorer(weights, NOW);
+
+        // when
+        double fresh = scorer.score(0.5, entry("밴드", RecruitingStatus.OPEN, 20, NOW));
+        double stale = scorer.score(0.5, entry("밴드", RecruitingStatus.CLOSED, 0, NOW.minusDays(30)));
+
+        // then
+        assertThat(fresh).isCloseTo(1.0 * 0.5 + 0.3 * 0.5 + 0.3 + 0.1, within(1e-9));
+        assertThat(stale).isCloseTo(1.0 * 0.5 + 0.1 * 0.5, within(1e-9));
+    }
+
+    private static ClubCatalogEntry entry(String name, RecruitingStatus status, int likeCount, LocalDateTime updatedAt) {
+        return new ClubCatalogEntry(1L, "slug", name, "밴드 공연 동아리", null, null, status,
+                null, false, likeCount, List.of(), 1L, "category", null, null, "author", NOW, updatedAt);
+    }
+}
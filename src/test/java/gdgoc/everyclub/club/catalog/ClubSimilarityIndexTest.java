@@ -0,0 +1,157 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.catalog.ClubSimilarityIndex.Neighbor;
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ClubSimilarityIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 16, 9, 0);
+
+    @Test
+    @DisplayName("태그 Jaccard 계수에 같은 카테고리, 같은 단과대 가산점을 더한 점수 순으로 이웃을 매긴다")
+    void build_RanksByBlendedScore() {
+        // given
+        ClubSimilarityIndex index = ClubSimilarityIndex.build(List.of(
+                entry(1L, 1L, 10L, "개발", "스터디"),
+                entry(2L, 2L, 20L, "개발", "스터디"),
+                entry(3L, 1L, 10L, "개발"),
+                entry(4L, 1L, 20L, "음악"),
+                entry(5L, 3L, 30L, "운동")
+        ));
+
+        // when
+        List<Neighbor> neighbors = index.neighbors(1L);
+
+        // then: 2번은 태그가 모두 같고, 3번은 태그 절반 + 카테고리 + 단과대, 4번은 카테고리만 같다
+        assertThat(neighbors).extracting(Neighbor::clubId).containsExactly(2L, 3L, 4L);
+        assertThat(neighbors.get(0).score()).isCloseTo(1.0, within(1e-9));
+        assertThat(neighbors.get(1).score()).isCloseTo(0.5 + ClubSimilarityIndex.CATEGORY_WEIGHT
+                + ClubSimilarityIndex.COLLEGE_WEIGHT, within(1e-9));
+        assertThat(neighbors.get(2).score()).isCloseTo(ClubSimilarityIndex.CATEGORY_WEIGHT, within(1e-9));
+        assertThat(index.neighbors(5L)).isEmpty();
+        assertThat(index.neighbors(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동아리마다 상위 TOP_K개만 보관한다")
+    void build_KeepsTopK() {
+        // given
+        List<ClubCatalogEntry> entries = LongStream.rangeClosed(1, ClubSimilarityIndex.TOP_K + 5)
+                .mapToObj(id -> entry(id, 1L, null, "개발"))
+                .toList();
+
+        // when
+        ClubSimilarityIndex index = ClubSimilarityIndex.build(entries);
+
+        // then: 점수가 같으면 id 오름차순
+        assertThat(index.neighbors(1L)).hasSize(ClubSimilarityIndex.TOP_K)
+                .extracting(Neighbor::clubId)
+                .startsWith(2L, 3L)
+                .doesNotContain(1L);
+    }
+
+    @Test
+    @DisplayName("태그 변경, 추가, 제외를 반영한 결과는 전체를 다시 만든 결과와 같다")
+    void patch_MatchesFullBuild() {
+        // given: 1번은 이웃이 TOP_K개로 꽉 차 있다
+        Map<Long, ClubCatalogEntry> entries = new TreeMap<>();
+        for (long id = 1; id <= ClubSimilarityIndex.TOP_K + 5; id++) {
+            entries.put(id, entry(id, id % 3, id % 2 == 0 ? 10L : null, "개발", "t" + id % 4));
+        }
+        ClubSimilarityIndex index = ClubSimilarityIndex.build(entries.values());
+        List<ClubCatalogEntry> changes = List.of(
+                entry(2L, 0L, null, "음악"),            // 이웃 목록 안에서 점수가 내려간다
+                entry(30L, 1L, 10L, "개발", "t1"),       // 새 동아리
+                entry(3L, 1L, 10L, "개발", "t1", "t2"),  // 점수가 올라간다
+                entry(6L, 2L, null, "운동")
+        );
+
+        // when & then
+        for (ClubCatalogEntry change : changes) {
+            entries.put(change.id(), change);
+            index = index.with(change);
+            assertSameAsBuild(index, entries);
+        }
+        entries.remove(1L);
+        index = index.without(1L);
+        assertSameAsBuild(index, entries);
+        assertThat(index.neighbors(1L)).isEmpty();
+        assertThat(index.without(1L)).isSameAs(index);
+    }
+
+    @Test
+    @DisplayName("MAX_POSTING보다 흔한 값은 후보를 모을 때 쓰지 않고 점수 가산에만 쓴다")
+    void candidates_SkipCommonValues() {
+        // given: 모든 동아리가 같은 카테고리이고, 1번과 2번만 태그를 함께 가진다
+        List<ClubCatalogEntry> entries = new ArrayList<>();
+        entries.add(entry(1L, 1L, null, "개발", "로봇"));
+        entries.add(entry(2L, 1L, null, "로봇"));
+        for (long id = 3; id <= ClubSimilarityIndex.MAX_POSTING + 1; id++) {
+            entries.add(entry(id, 1L, null));
+        }
+
+        // when
+        ClubSimilarityIndex index = ClubSimilarityIndex.build(entries);
+
+        // then
+        assertThat(index.neighbors(1L)).extracting(Neighbor::clubId).containsExactly(2L);
+        assertThat(index.neighbors(1L).get(0).score())
+                .isCloseTo(0.5 + ClubSimilarityIndex.CATEGORY_WEIGHT, within(1e-9));
+        assertThat(index.neighbors(3L)).isEmpty();
+
+        // when: 한 건이 빠져 카테고리가 다시 후보 생성에 쓰인다
+        ClubSimilarityIndex patched = index.without(ClubSimilarityIndex.MAX_POSTING + 1L);
+
+        // then
+        assertThat(patched.neighbors(3L)).hasSize(ClubSimilarityIndex.TOP_K);
+    }
+
+    @Test
+    @DisplayName("MAX_POSTING을 넘는 값이 그대로인 변경은 전체를 다시 만들지 않는다")
+    void patch_UnchangedCommonValueDoesNotRebuild() {
+        // given: 카테고리 목록이 MAX_POSTING + 1개이고, 1번과 2번, 3번과 4번이 태그를 함께 가진다
+        Map<Long, ClubCatalogEntry> entries = new TreeMap<>();
+        entries.put(1L, entry(1L, 1L, null, "로봇"));
+        entries.put(2L, entry(2L, 1L, null, "로봇"));
+        entries.put(3L, entry(3L, 1L, null, "음악"));
+        entries.put(4L, entry(4L, 1L, null, "음악"));
+        for (long id = 5; id <= ClubSimilarityIndex.MAX_POSTING + 1; id++) {
+            entries.put(id, entry(id, 1L, null));
+        }
+        ClubSimilarityIndex index = ClubSimilarityIndex.build(entries.values());
+
+        // when: 1번의 태그만 바뀌고 카테고리는 그대로다
+        ClubCatalogEntry change = entry(1L, 1L, null, "로봇", "개발");
+        entries.put(1L, change);
+        ClubSimilarityIndex patched = index.with(change);
+
+        // then: 영향받지 않은 목록은 이전 인덱스와 공유한다
+        assertSameAsBuild(patched, entries);
+        assertThat(patched.neighbors(3L)).isSameAs(index.neighbors(3L));
+        assertThat(patched.neighbors(1L)).extracting(Neighbor::clubId).containsExactly(2L);
+    }
+
+    private static void assertSameAsBuild(ClubSimilarityIndex index, Map<Long, ClubCatalogEntry> entries) {
+        ClubSimilarityIndex rebuilt = ClubSimilarityIndex.build(entries.values());
+        for (Long id : entries.keySet()) {
+            assertThat(index.neighbors(id)).as("neighbors of %d", id).isEqualTo(rebuilt.neighbors(id));
+        }
+    }
+
+    private static ClubCatalogEntry entry(Long id, Long categoryId, Long collegeId, String... tags) {
+        return new ClubCatalogEntry(id, "slug-" + id, "club " + id, "summary", null, null, RecruitingStatus.OPEN,
+                null, false, 0, List.of(tags), categoryId, "category", null, collegeId, "author", NOW, NOW);
+    }
+}
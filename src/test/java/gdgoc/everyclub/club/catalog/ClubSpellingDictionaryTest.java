@@ -0,0 +1,154 @@
+package gdgoc.everyclub.club.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubSpellingDictionaryTest {
+
+    @Test
+    @DisplayName("치환, 삽입, 삭제, 인접 전치 한 번은 거리 1로 교정된다")
+    void suggest_SingleEdits() {
+        ClubSpellingDictionary dictionary = ClubSpellingDictionary.build(List.of(List.of("GDGoC"), List.of("밴드부")));
+
+        assertThat(dictionary.suggest("gdgoo", 5)).containsExactly("GDGoC");
+        assertThat(dictionary.suggest("gdgocc", 5)).containsExactly("GDGoC");
+        assertThat(dictionary.suggest("gdgo", 5)).containsExactly("GDGoC");
+        assertThat(dictionary.suggest("gdgco", 5)).containsExactly("GDGoC");
+        assertThat(dictionary.suggest("밴드브", 5)).containsExactly("밴드부");
+    }
+
+    @Test
+    @DisplayName("거리 오름차순, 같은 거리는 빈도 내림차순으로 정렬하고 사전에 있는 단어는 제외한다")
+    void suggest_RanksByDistanceThenCount() {
+        // given: "coding" 2개 동아리, "codinx" 1개, "cooking" 1개
+        ClubSpellingDictionary dictionary = ClubSpellingDictionary.build(List.of(
+                List.of("coding"), List.of("coding", "codinx"), List.of("cooking")));
+
+        // when & then
+        assertThat(dictionary.suggest("codinz", 5)).containsExactly("coding", "codinx");
+        assertThat(dictionary.suggest("coding", 5)).containsExactly("codinx", "cooking");
+        assertThat(dictionary.suggest("codinz", 1)).containsExactly("coding");
+        assertThat(dictionary.contains("CODING")).isTrue();
+        assertThat(dictionary.contains("codin")).isFalse();
+    }
+
+    @Test
+    @DisplayName("4자 이하 검색어는 거리 1까지만 교정한다")
+    void suggest_ShortQueryAllowsOneEdit() {
+        ClubSpellingDictionary dictionary = ClubSpellingDictionary.build(List.of(List.of("밴드"), List.of("music")));
+
+        assertThat(dictionary.suggest("벤드", 5)).containsExactly("밴드");
+        assertThat(dictionary.suggest("벤두", 5)).isEmpty();
+        assertThat(dictionary.suggest("muzik", 5)).containsExactly("music");
+    }
+
+    @Test
+    @DisplayName("접두사 길이 이하의 단어는 전체 편집 거리 계산과 같은 후보를 찾는다")
+    void suggest_EquivalentToBruteForce() {
+        // given
+        Random random = new Random(19);
+        List<List<String>> occurrences = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            occurrences.add(List.of(randomWord(random, 2 + random.nextInt(ClubSpellingDictionary.PREFIX_LENGTH - 1))));
+        }
+        ClubSpellingDictionary dictionary = ClubSpellingDictionary.build(occurrences);
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        occurrences.forEach(words -> counts.merge(words.get(0), 1, Integer::sum));
+
+        // when & then
+        for (int i = 0; i < 300; i++) {
+            String query = randomWord(random, 2 + random.nextInt(ClubSpellingDictionary.PREFIX_LENGTH - 1));
+            int max = query.length() <= 4 ? 1 : 2;
+            List<String> expected = counts.keySet().stream()
+                    .filter(term -> {
+                        int distance = ClubSpellingDictionary.distance(query, term, max);
+                        return distance > 0 && distance <= max;
+                    })
+                    .sorted(Comparator.<String>comparingInt(term -> ClubSpellingDictionary.distance(query, term, max))
+                            .thenComparing(term -> -counts.get(term))
+                            .thenComparing(Comparator.naturalOrder()))
+                    .toList();
+            assertThat(dictionary.suggest(query, Integer.MAX_VALUE)).as("query %s", query).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("동아리 단어가 바뀌면 빈도만 고치고, 다른 동아리도 쓰는 단어는 남긴다")
+    void with_AdjustsCounts() {
+        // given: "coding" 2개 동아리, "cooking" 1개
+        ClubSpellingDictionary base = ClubSpellingDictionary.build(List.of(
+                List.of("coding"), List.of("coding"), List.of("cooking")));
+
+        // when: "coding" 동아리 하나를 "codinx"로 바꾸고, "cooking" 동아리를 지운다
+        ClubSpellingDictionary renamed = base.with(List.of("coding"), List.of("codinx"));
+        ClubSpellingDictionary removed = renamed.with(List.of("cooking"), List.of());
+
+        // then
+        assertThat(renamed.suggest("codinz", 5)).containsExactly("coding", "codinx");
+        assertThat(removed.contains("coding")).isTrue();
+        assertThat(removed.contains("cooking")).isFalse();
+        assertThat(removed.suggest("cookin", 5)).isEmpty();
+        // 이전 사전은 그대로다
+        assertThat(base.contains("codinx")).isFalse();
+        assertThat(base.suggest("cookin", 5)).containsExactly("cooking");
+    }
+
+    @Test
+    @DisplayName("패치를 이어 만든 사전은 같은 내용으로 새로 만든 사전과 같은 후보를 찾는다")
+    void with_EquivalentToBuild() {
+        // given
+        Random random = new Random(23);
+        List<List<String>> occurrences = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            occurrences.add(List.of(randomWord(random, 4 + random.nextInt(3)), randomWord(random, 5)));
+        }
+        ClubSpellingDictionary patched = ClubSpellingDictionary.build(occurrences);
+
+        // when: 무작위로 단어를 바꾸거나 동아리를 지운다
+        for (int i = 0; i < 100; i++) {
+            int club = random.nextInt(occurrences.size());
+            List<String> next = random.nextInt(5) == 0
+                    ? List.of()
+                    : List.of(randomWord(random, 4 + random.nextInt(3)), randomWord(random, 5));
+            patched = patched.with(occurrences.get(club), next);
+            occurrences.set(club, next);
+        }
+
+        // then
+        ClubSpellingDictionary rebuilt = ClubSpellingDictionary.build(occurrences);
+        for (int i = 0; i < 200; i++) {
+            String query = randomWord(random, 4 + random.nextInt(3));
+            assertThat(patched.suggest(query, Integer.MAX_VALUE)).as("query %s", query)
+                    .isEqualTo(rebuilt.suggest(query, Integer.MAX_VALUE));
+            assertThat(patched.contains(query)).as("query %s", query).isEqualTo(rebuilt.contains(query));
+        }
+    }
+
+    @Test
+    @DisplayName("편집 거리는 인접 전치를 한 번으로 센다")
+    void distance() {
+        assertThat(ClubSpellingDictionary.distance("abcd", "abdc", 2)).isEqualTo(1);
+        assertThat(ClubSpellingDictionary.distance("kitten", "sitting", 5)).isEqualTo(3);
+        assertThat(ClubSpellingDictionary.distance("kitten", "sitting", 2)).isEqualTo(3);
+        assertThat(ClubSpellingDictionary.distance("", "ab", 2)).isEqualTo(2);
+    }
+
+    private static final String LETTERS = "abcd밴드";
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return word.toString();
+    }
+}
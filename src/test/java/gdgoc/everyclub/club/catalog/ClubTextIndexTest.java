@@ -0,0 +1,132 @@
+package gdgoc.everyclub.club.catalog;
+
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubTextIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 16, 9, 0);
+
+    @Test
+    @DisplayName("분석기는 한글을 글자 2-gram으로, 영문·숫자는 단어 단위로 나눈다")
+    void analyze() {
+        assertThat(ClubTextIndex.analyze("강남대 GDGoC 해커톤2025!"))
+                .containsExactly("강남", "남대", "gdgoc", "해커", "커톤", "2025");
+        assertThat(ClubTextIndex.analyze("AI 봇")).containsExactly("ai", "봇");
+        assertThat(ClubTextIndex.analyze("  ")).isEmpty();
+        assertThat(ClubTextIndex.analyze(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상세 설명에만 있는 단어도 찾으며 조사가 붙은 형태와도 일치한다")
+    void search_MatchesDescription() {
+        // given
+        ClubTextIndex index = ClubTextIndex.build(new ClubCatalogEntry[]{
+                entry(1L, "코딩클럽", List.of("개발"), "함께 공부합니다", "매 학기 교내 해커톤에서 프로젝트를 만듭니다."),
+                entry(2L, "밴드부", List.of("음악"), "공연 동아리", null)
+        });
+
+        // when & then
+        assertThat(ordinals(index.search("해커톤"))).containsExactly(0);
+        assertThat(ordinals(index.search("공연"))).containsExactly(1);
+        assertThat(index.search("축구")).isEmpty();
+        assertThat(index.search("!!")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름에 나온 단어는 긴 설명에 나온 같은 단어보다 높게 평가된다")
+    void search_WeightsFields() {
+        // given: 0번은 설명에만, 1번은 이름에만 "로봇"이 있다
+        ClubTextIndex index = ClubTextIndex.build(new ClubCatalogEntry[]{
+                entry(1L, "메이커스", List.of(), "만들기 동아리", "아두이노와 로봇 키트로 매주 작품을 만들고 전시합니다. 로봇 대회도 나갑니다."),
+                entry(2L, "로봇연구회", List.of(), "하드웨어 동아리", null),
+                entry(3L, "밴드부", List.of(), "공연 동아리", null)
+        });
+
+        // when
+        List<ClubTextIndex.Hit> hits = index.search("로봇");
+
+        // then
+        assertThat(ordinals(hits)).containsExactly(1, 0);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("여러 단어 검색어는 더 많은 단어가 일치하는 동아리를 먼저 반환한다")
+    void search_RanksByMatchedTerms() {
+        // given
+        ClubTextIndex index = ClubTextIndex.build(new ClubCatalogEntry[]{
+                entry(1L, "독서회", List.of(), "책 읽는 모임", null),
+                entry(2L, "영어 독서회", List.of(), "원서 읽는 모임", null),
+                entry(3L, "영어회화", List.of(), "회화 스터디", null)
+        });
+
+        // when & then
+        assertThat(ordinals(index.search("영어 독서"))).containsExactly(1, 0, 2);
+    }
+
+    @Test
+    @DisplayName("패치 결과는 같은 항목으로 새로 만든 색인과 같은 순위와 점수를 낸다")
+    void move_EquivalentToRebuild() {
+        // given
+        Random random = new Random(13);
+        ClubCatalogEntry[] slots = new ClubCatalogEntry[40];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = randomEntry(random, i + 1);
+        }
+        ClubTextIndex patched = ClubTextIndex.build(slots.clone());
+
+        // when: 수정, 삭제, 텍스트가 같은 수정(좋아요 수만 변경)을 섞어 적용한다
+        for (int step = 0; step < 200; step++) {
+            int ordinal = random.nextInt(slots.length);
+            ClubCatalogEntry previous = slots[ordinal];
+            ClubCatalogEntry next = switch (random.nextInt(3)) {
+                case 0 -> null;
+                case 1 -> previous == null ? null : previous.withLikeCount(step);
+                default -> randomEntry(random, ordinal + 1);
+            };
+            if (previous == null && next == null) {
+                continue;
+            }
+            patched = patched.move(ordinal, previous, next);
+            slots[ordinal] = next;
+        }
+        ClubTextIndex rebuilt = ClubTextIndex.build(slots);
+
+        // then
+        for (String query : List.of("가나", "나다 라", "ab", "다라마", "cd 가")) {
+            assertThat(patched.search(query)).as("query %s", query).isEqualTo(rebuilt.search(query));
+        }
+    }
+
+    private static List<Integer> ordinals(List<ClubTextIndex.Hit> hits) {
+        return hits.stream().map(ClubTextIndex.Hit::ordinal).toList();
+    }
+
+    private static ClubCatalogEntry randomEntry(Random random, long id) {
+        return entry(id, randomText(random, 2 + random.nextInt(5)), List.of(randomText(random, 2)),
+                randomText(random, random.nextInt(10)), random.nextBoolean() ? null : randomText(random, 20));
+    }
+
+    private static final String LETTERS = "가나다라마 ab cd";
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return text.toString();
+    }
+
+    private static ClubCatalogEntry entry(long id, String name, List<String> tags, String summary, String description) {
+        return new ClubCatalogEntry(id, "slug-" + id, name, summary, description, null, RecruitingStatus.OPEN,
+                null, false, 0, tags, 1L, "category", null, null, "author", NOW, NOW);
+    }
+}
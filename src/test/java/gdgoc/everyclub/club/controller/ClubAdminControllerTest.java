@@ -7,6 +7,8 @@ import gdgoc.everyclub.club.dto.ClubAdminResponse;
 import gdgoc.everyclub.club.dto.DelegateClubAdminRequest;
 import gdgoc.everyclub.club.service.ClubAdminService;
 import gdgoc.everyclub.club.service.ClubService;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.common.CursorSlice;
 import gdgoc.everyclub.security.dto.CustomUserDetails;
 import gdgoc.everyclub.security.jwt.JwtProvider;
 import gdgoc.everyclub.support.TestAuthenticationPrincipalConfig;
@@ -55,6 +57,9 @@ class ClubAdminControllerTest {
     @MockitoBean
     ClubAdminService clubAdminService;
 
+    @MockitoBean
+    ClubDetailResponseCache clubDetailResponseCache;
+
     @MockitoBean
     JwtProvider jwtProvider;
 
@@ -87,7 +92,7 @@ class ClubAdminControllerTest {
     void getLikedClubs_returnsLikedClubs() throws Exception {
         Long userId = 1L;
         CustomUserDetails principal = userDetails(userId);
-        given(clubAdminService.getLikedClubs(eq(userId), any())).willReturn(new PageImpl<>(List.of()));
+        given(clubAdminService.getLikedClubs(eq(userId), any(), any())).willReturn(new PageImpl<>(List.of()));
 
         mockMvc.perform(get("/clubs/liked")
                         .with(user(principal)))
@@ -95,7 +100,27 @@ class ClubAdminControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("SUCCESS"));
 
-        verify(clubAdminService).getLikedClubs(eq(userId), any());
+        verify(clubAdminService).getLikedClubs(eq(userId), any(), eq(CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("GET /clubs/liked/cursor - 좋아요한 동아리 목록을 커서로 반환한다")
+    void getLikedClubsByCursor_returnsSlice() throws Exception {
+        Long userId = 1L;
+        CustomUserDetails principal = userDetails(userId);
+        given(clubAdminService.getLikedClubsByCursor(userId, "abc", 10))
+                .willReturn(new CursorSlice<>(List.of(), "next", true));
+
+        mockMvc.perform(get("/clubs/liked/cursor")
+                        .param("cursor", "abc")
+                        .param("size", "10")
+                        .with(user(principal)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        verify(clubAdminService).getLikedClubsByCursor(userId, "abc", 10);
     }
 
     // ── GET /clubs/{id}/admins ─────────────────────────────────────────────
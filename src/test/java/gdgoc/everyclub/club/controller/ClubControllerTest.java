@@ -1,24 +1,34 @@
 package gdgoc.everyclub.club.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import gdgoc.everyclub.club.config.ClubDetailCacheProperties;
 import gdgoc.everyclub.club.domain.Category;
 import gdgoc.everyclub.club.domain.Club;
 import gdgoc.everyclub.club.domain.RecruitingStatus;
 import gdgoc.everyclub.club.dto.*;
+import gdgoc.everyclub.club.event.ClubChangedEvent;
 import gdgoc.everyclub.club.service.ClubAdminService;
 import gdgoc.everyclub.club.service.ClubService;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.common.CursorSlice;
+import gdgoc.everyclub.common.HttpValidator;
+import gdgoc.everyclub.common.SlicePage;
 import gdgoc.everyclub.common.exception.ValidationErrorCode;
 import gdgoc.everyclub.common.exception.LogicException;
 import gdgoc.everyclub.security.jwt.JwtProvider;
 import gdgoc.everyclub.common.exception.ResourceErrorCode;
 import gdgoc.everyclub.support.TestAuthenticationPrincipalConfig;
 import gdgoc.everyclub.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
@@ -26,23 +36,31 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import gdgoc.everyclub.security.dto.CustomUserDetails;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(value = ClubController.class, excludeAutoConfiguration = SecurityAutoConfiguration.class)
-@Import(TestAuthenticationPrincipalConfig.class)
+@Import({TestAuthenticationPrincipalConfig.class, ClubDetailResponseCache.class, ClubDetailCacheProperties.class})
 @ActiveProfiles("test")
 class ClubControllerTest {
 
@@ -61,6 +79,18 @@ class ClubControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ClubDetailResponseCache clubDetailResponseCache;
+
+    @BeforeEach
+    void clearDetailCache() {
+        // 컨텍스트가 테스트 간에 재사용되므로 이전 테스트가 남긴 직렬화 결과를 비운다.
+        clubDetailResponseCache.onClubChanged(new ClubChangedEvent(null));
+        // 좋아요 여부 채우기는 서비스 테스트에서 검증하므로 여기서는 그대로 통과시킨다.
+        given(clubService.withLiked(any(Page.class), any())).willAnswer(invocation -> invocation.getArgument(0));
+        given(clubService.withLiked(any(CursorSlice.class), any())).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
     @Test
     @DisplayName("모든 동아리 조회 시 200 OK와 동아리 리스트를 반환한다")
     void getClubs() throws Exception {
@@ -79,7 +109,7 @@ class ClubControllerTest {
                 .build();
         ReflectionTestUtils.setField(club, "id", 1L);
 
-        given(clubService.filterClubs(any(ClubFilterRequest.class), any())).willReturn(new PageImpl<>(List.of(new ClubSummaryResponse(club, 0))));
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any())).willReturn(new PageImpl<>(List.of(new ClubSummaryResponse(club, 0))));
 
         // when & then
         mockMvc.perform(get("/clubs")
@@ -115,7 +145,8 @@ class ClubControllerTest {
                 .build();
         ReflectionTestUtils.setField(club, "id", clubId);
 
-        given(clubService.getPublicClubById(clubId, userId)).willReturn(new ClubDetailResponse(club));
+        given(clubService.getPublicClubState(clubId, userId)).willReturn(state(clubId, true, 5));
+        given(clubService.getPublicClubById(clubId, null)).willReturn(new ClubDetailResponse(club));
 
         // when & then
         mockMvc.perform(get("/clubs/{id}", clubId)
@@ -124,7 +155,190 @@ class ClubControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("SUCCESS"))
                 .andExpect(jsonPath("$.data.name").value("Name"))
-                .andExpect(jsonPath("$.data.description").value("Description"));
+                .andExpect(jsonPath("$.data.description").value("Description"))
+                .andExpect(jsonPath("$.data.liked").value(true))
+                .andExpect(jsonPath("$.data.likeCount").value(5));
+    }
+
+    @Test
+    @DisplayName("동아리 상세는 캐시된 직렬화 결과를 재사용하고 요청마다 좋아요 값만 바꿔 gzip으로도 응답한다")
+    void getClub_CachedBytes() throws Exception {
+        // given
+        Long clubId = 1L;
+        CustomUserDetails first = new CustomUserDetails(1L, "user1@example.com", null, "GUEST");
+        CustomUserDetails second = new CustomUserDetails(2L, "user2@example.com", null, "GUEST");
+        given(clubService.getPublicClubById(clubId, null)).willReturn(new ClubDetailResponse(buildClub()));
+        given(clubService.getPublicClubState(clubId, 1L)).willReturn(state(clubId, true, 8));
+        given(clubService.getPublicClubState(clubId, 2L)).willReturn(state(clubId, false, 8));
+
+        // when
+        mockMvc.perform(get("/clubs/{id}", clubId).with(user(first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.liked").value(true));
+        byte[] gzipped = mockMvc.perform(get("/clubs/{id}", clubId)
+                        .header("Accept-Encoding", "gzip, deflate")
+                        .with(user(second)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            body = objectMapper.readTree(in);
+        }
+        assertThat(body.at("/data/name").asText()).isEqualTo("Name");
+        assertThat(body.at("/data/liked").asBoolean()).isFalse();
+        assertThat(body.at("/data/likeCount").asInt()).isEqualTo(8);
+        verify(clubService, times(1)).getPublicClubById(clubId, null);
+    }
+
+    @Test
+    @DisplayName("동아리 상세 조회 시 ETag만 응답하고, If-None-Match가 일치하면 본문 없이 304를 반환한다")
+    void getClub_NotModified() throws Exception {
+        // given
+        Long clubId = 1L;
+        Long userId = 1L;
+        CustomUserDetails principal = new CustomUserDetails(userId, "user@example.com", null, "GUEST");
+        ClubDetailState state = state(clubId, true, 3);
+        String etag = "\"" + state.validator().etag() + "\"";
+        given(clubService.getPublicClubState(clubId, userId)).willReturn(state);
+        given(clubService.getPublicClubById(clubId, null)).willReturn(new ClubDetailResponse(buildClub()));
+
+        // when & then: 첫 요청은 검증자 헤더와 본문을 받는다
+        mockMvc.perform(get("/clubs/{id}", clubId)
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().doesNotExist("Last-Modified"));
+
+        // when & then: 같은 ETag로 다시 요청하면 본문을 만들지 않고 304
+        mockMvc.perform(get("/clubs/{id}", clubId)
+                        .header("If-None-Match", etag)
+                        .with(user(principal)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // when & then: If-Modified-Since만으로는 좋아요 변경을 알 수 없으므로 304를 주지 않는다
+        mockMvc.perform(get("/clubs/{id}", clubId)
+                        .header("If-Modified-Since", "Wed, 01 Jan 2099 00:00:00 GMT")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag));
+
+        verify(clubService, times(3)).getPublicClubState(clubId, userId);
+        verify(clubService, times(1)).getPublicClubById(clubId, null);
+    }
+
+    @Test
+    @DisplayName("동아리 일괄 조회는 요청한 id 순서의 요약과 동아리별 좋아요 여부를 반환한다")
+    void getClubsByIds() throws Exception {
+        // given
+        Long userId = 1L;
+        CustomUserDetails principal = new CustomUserDetails(userId, "user@example.com", null, "GUEST");
+        ClubSummaryResponse summary = new ClubSummaryResponse(buildClub(), 3);
+        given(clubService.getPublicClubsByIds(List.of(1L, 7L), userId))
+                .willReturn(new ClubBatchResponse(List.of(summary), Map.of(1L, true)));
+
+        // when & then
+        mockMvc.perform(get("/clubs/batch")
+                        .param("ids", "1,7")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.clubs[0].id").value(1))
+                .andExpect(jsonPath("$.data.clubs[0].likeCount").value(3))
+                .andExpect(jsonPath("$.data.liked['1']").value(true));
+    }
+
+    @Test
+    @DisplayName("인기 급상승 동아리 조회는 기간, 크기, 사용자 id를 넘겨 순위와 좋아요 여부를 반환한다")
+    void getTrendingClubs() throws Exception {
+        // given
+        Long userId = 1L;
+        CustomUserDetails principal = new CustomUserDetails(userId, "user@example.com", null, "GUEST");
+        ClubSummaryResponse summary = new ClubSummaryResponse(buildClub(), 3).withLiked(true);
+        given(clubService.getTrendingClubs("7d", 5, userId)).willReturn(List.of(new ClubTrendingResponse(summary, 2)));
+
+        // when & then
+        mockMvc.perform(get("/clubs/trending")
+                        .param("window", "7d")
+                        .param("size", "5")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].club.id").value(1))
+                .andExpect(jsonPath("$.data[0].club.liked").value(true))
+                .andExpect(jsonPath("$.data[0].recentLikes").value(2));
+    }
+
+    @Test
+    @DisplayName("비슷한 동아리 조회는 동아리 id, 크기, 사용자 id를 넘겨 목록과 좋아요 여부를 반환한다")
+    void getSimilarClubs() throws Exception {
+        // given
+        Long userId = 1L;
+        CustomUserDetails principal = new CustomUserDetails(userId, "user@example.com", null, "GUEST");
+        given(clubService.getSimilarClubs(1L, 5, userId))
+                .willReturn(List.of(new ClubSummaryResponse(buildClub(), 3).withLiked(true)));
+
+        // when & then
+        mockMvc.perform(get("/clubs/1/similar")
+                        .param("size", "5")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].likeCount").value(3))
+                .andExpect(jsonPath("$.data[0].liked").value(true));
+    }
+
+    @Test
+    @DisplayName("목록 조회는 카탈로그 버전 ETag가 일치하면 목록을 조회하지 않고 304를 반환한다")
+    void getClubs_NotModified() throws Exception {
+        // given
+        given(clubService.getCatalogValidator(null)).willReturn(new HttpValidator("m1x2-7"));
+
+        // when & then
+        mockMvc.perform(get("/clubs")
+                        .header("If-None-Match", "\"m1x2-7\"")
+                        .param("page", "0").param("size", "10"))
+                .andExpect(status().isNotModified());
+
+        verify(clubService, never()).filterClubs(any(ClubFilterRequest.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("카탈로그가 바뀌어 ETag가 다르면 목록을 다시 조회해 새 ETag와 함께 반환한다")
+    void getClubs_Modified() throws Exception {
+        // given
+        given(clubService.getCatalogValidator(null)).willReturn(new HttpValidator("m1x2-8"));
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
+                .willReturn(new PageImpl<>(List.of(new ClubSummaryResponse(buildClub(), 0))));
+
+        // when & then
+        mockMvc.perform(get("/clubs")
+                        .header("If-None-Match", "\"m1x2-7\"")
+                        .param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"m1x2-8\""))
+                .andExpect(jsonPath("$.data.content[0].name").value("Name"));
+    }
+
+    @Test
+    @DisplayName("로그인 사용자의 목록 조회는 사용자별 ETag를 쓰고 항목마다 좋아요 여부를 채운다")
+    void getClubs_Liked() throws Exception {
+        // given
+        Long userId = 1L;
+        CustomUserDetails principal = new CustomUserDetails(userId, "user@example.com", null, "GUEST");
+        Page<ClubSummaryResponse> page = new PageImpl<>(List.of(new ClubSummaryResponse(buildClub(), 2)));
+        given(clubService.getCatalogValidator(userId)).willReturn(new HttpValidator("m1x2-8-1-abc"));
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any())).willReturn(page);
+        given(clubService.withLiked(page, userId)).willReturn(page.map(summary -> summary.withLiked(true)));
+
+        // when & then
+        mockMvc.perform(get("/clubs")
+                        .param("page", "0").param("size", "10")
+                        .with(user(principal)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"m1x2-8-1-abc\""))
+                .andExpect(jsonPath("$.data.content[0].liked").value(true));
     }
 
     @Test
@@ -166,7 +380,7 @@ class ClubControllerTest {
     void getClubs_WithName() throws Exception {
         // given
         ClubSummaryResponse response = new ClubSummaryResponse(buildClub(), 0);
-        given(clubService.filterClubs(any(ClubFilterRequest.class), any()))
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
                 .willReturn(new PageImpl<>(List.of(response)));
 
         // when & then
@@ -179,7 +393,7 @@ class ClubControllerTest {
 
         verify(clubService).filterClubs(
                 argThat(f -> "축구".equals(f.name()) && f.tag() == null),
-                any());
+                any(), eq(CountMode.EXACT));
     }
 
     @Test
@@ -187,7 +401,7 @@ class ClubControllerTest {
     void getClubs_WithTag() throws Exception {
         // given
         ClubSummaryResponse response = new ClubSummaryResponse(buildClub(), 0);
-        given(clubService.filterClubs(any(ClubFilterRequest.class), any()))
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
                 .willReturn(new PageImpl<>(List.of(response)));
 
         // when & then
@@ -199,14 +413,14 @@ class ClubControllerTest {
 
         verify(clubService).filterClubs(
                 argThat(f -> "운동".equals(f.tag()) && f.name() == null),
-                any());
+                any(), eq(CountMode.EXACT));
     }
 
     @Test
     @DisplayName("GET /clubs?name=&tag=으로 name+tag AND 검색 시 200 OK를 반환한다")
     void getClubs_WithNameAndTag() throws Exception {
         // given
-        given(clubService.filterClubs(any(ClubFilterRequest.class), any()))
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
                 .willReturn(new PageImpl<>(List.of()));
 
         // when & then
@@ -219,14 +433,14 @@ class ClubControllerTest {
         // then: name과 tag가 모두 filterClubs에 전달됨 (AND 조건)
         verify(clubService).filterClubs(
                 argThat(f -> "축구".equals(f.name()) && "운동".equals(f.tag())),
-                any());
+                any(), eq(CountMode.EXACT));
     }
 
     @Test
     @DisplayName("GET /clubs?name=&categoryIds=으로 이름 검색 + 필터 조합 시 200 OK를 반환한다")
     void getClubs_WithNameAndFilters() throws Exception {
         // given
-        given(clubService.filterClubs(any(ClubFilterRequest.class), any()))
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
                 .willReturn(new PageImpl<>(List.of()));
 
         // when & then
@@ -241,7 +455,45 @@ class ClubControllerTest {
                 argThat(f -> "축구".equals(f.name())
                         && f.categoryIds() != null && f.categoryIds().contains(1L)
                         && Boolean.FALSE.equals(f.hasFee())),
-                any());
+                any(), eq(CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("GET /clubs?tags=&tagMatch=ANY로 복수 태그와 결합 방식을 전달한다")
+    void getClubs_WithTagsAny() throws Exception {
+        // given
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
+                .willReturn(new PageImpl<>(List.of()));
+
+        // when & then
+        mockMvc.perform(get("/clubs")
+                        .param("tags", "밴드,음악")
+                        .param("tagMatch", "ANY"))
+                .andExpect(status().isOk());
+
+        verify(clubService).filterClubs(
+                argThat(f -> f.normalizedTags().equals(List.of("밴드", "음악")) && f.tagMatch() == TagMatchMode.ANY),
+                any(), eq(CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("GET /clubs?count=NONE이면 개수 계산 방식을 전달하고 hasNext와 totalElements=-1을 반환한다")
+    void getClubs_WithCountNone() throws Exception {
+        // given
+        ClubSummaryResponse response = new ClubSummaryResponse(buildClub(), 0);
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
+                .willReturn(new SlicePage<>(List.of(response), PageRequest.of(0, 1), true, null));
+
+        // when & then
+        mockMvc.perform(get("/clubs")
+                        .param("categoryIds", "1")
+                        .param("count", "NONE")
+                        .param("page", "0").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").value(-1));
+
+        verify(clubService).filterClubs(any(ClubFilterRequest.class), any(), eq(CountMode.NONE));
     }
 
     // ── GET /clubs/search ─────────────────────────────────────────────────────
@@ -259,7 +511,7 @@ class ClubControllerTest {
     @DisplayName("GET /clubs/search?name=&tag=으로 AND 검색 시 filterClubs에 위임된다")
     void searchClubs_WithNameAndTag_DelegatesToFilterClubs() throws Exception {
         // given
-        given(clubService.filterClubs(any(ClubFilterRequest.class), any()))
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
                 .willReturn(new PageImpl<>(List.of()));
 
         // when & then
@@ -271,7 +523,115 @@ class ClubControllerTest {
 
         verify(clubService).filterClubs(
                 argThat(f -> "축구".equals(f.name()) && "운동".equals(f.tag())),
-                any());
+                any(), eq(CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("GET /clubs/search?q=는 전문 검색(searchClubsFullText)에 위임된다")
+    void searchClubs_WithQuery_DelegatesToFullText() throws Exception {
+        // given
+        ClubSummaryResponse response = new ClubSummaryResponse(buildClub(), 0);
+        given(clubService.searchClubsFullText(eq("해커톤"), any(), any()))
+                .willReturn(new PageImpl<>(List.of(response)));
+
+        // when & then
+        mockMvc.perform(get("/clubs/search")
+                        .param("q", "해커톤")
+                        .param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].name").value("Name"));
+
+        verify(clubService).searchClubsFullText(eq("해커톤"), any(), eq(CountMode.EXACT));
+        verify(clubService, never()).filterClubs(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /clubs/search에 q와 name을 함께 주면 400을 반환한다")
+    void searchClubs_QueryWithName_Returns400() throws Exception {
+        mockMvc.perform(get("/clubs/search")
+                        .param("q", "해커톤")
+                        .param("name", "축구"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("ERROR"));
+
+        verify(clubService, never()).searchClubsFullText(any(), any(), any());
+    }
+
+    // ── GET /clubs/cursor, /clubs/search/cursor ──────────────────────────────
+
+    @Test
+    @DisplayName("GET /clubs/cursor는 커서와 크기를 filterClubsByCursor에 위임하고 nextCursor를 반환한다")
+    void getClubsByCursor() throws Exception {
+        // given
+        ClubSummaryResponse response = new ClubSummaryResponse(buildClub(), 0);
+        given(clubService.filterClubsByCursor(any(ClubFilterRequest.class), eq("abc"), eq(10)))
+                .willReturn(new CursorSlice<>(List.of(response), "next", true));
+
+        // when & then
+        mockMvc.perform(get("/clubs/cursor")
+                        .param("categoryIds", "1")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].name").value("Name"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        verify(clubService).filterClubsByCursor(argThat(f -> f.categoryIds().equals(List.of(1L))), eq("abc"), eq(10));
+    }
+
+    @Test
+    @DisplayName("GET /clubs/facets는 목록 조회와 같은 필터로 facet 개수를 반환한다")
+    void getClubFacets() throws Exception {
+        // given
+        ClubFacetCountsResponse response = new ClubFacetCountsResponse(3,
+                List.of(new ClubFacetCountsResponse.FacetCount<>(1L, 3), new ClubFacetCountsResponse.FacetCount<>(2L, 1)),
+                List.of(),
+                List.of(new ClubFacetCountsResponse.FacetCount<>("스터디", 2)),
+                List.of(new ClubFacetCountsResponse.FacetCount<>(false, 3)),
+                List.of(new ClubFacetCountsResponse.FacetCount<>(true, 3)));
+        given(clubService.getFacetCounts(any(ClubFilterRequest.class))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/clubs/facets")
+                        .param("categoryIds", "1")
+                        .param("hasFee", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total").value(3))
+                .andExpect(jsonPath("$.data.categories[1].value").value(2))
+                .andExpect(jsonPath("$.data.categories[1].count").value(1))
+                .andExpect(jsonPath("$.data.tags[0].value").value("스터디"));
+
+        verify(clubService).getFacetCounts(argThat(f -> f.categoryIds().equals(List.of(1L)) && Boolean.FALSE.equals(f.hasFee())));
+    }
+
+    @Test
+    @DisplayName("GET /clubs/autocomplete는 검색어와 size로 동아리/태그 추천을 반환한다")
+    void autocomplete() throws Exception {
+        // given
+        given(clubService.autocomplete("밴", 5)).willReturn(new ClubAutocompleteResponse(
+                List.of(new ClubAutocompleteResponse.ClubSuggestion(1L, "band", "밴드부", null, 12)),
+                List.of(new ClubAutocompleteResponse.TagSuggestion("밴드", 3))));
+
+        // when & then
+        mockMvc.perform(get("/clubs/autocomplete")
+                        .param("q", "밴")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.clubs[0].name").value("밴드부"))
+                .andExpect(jsonPath("$.data.clubs[0].likeCount").value(12))
+                .andExpect(jsonPath("$.data.tags[0].name").value("밴드"))
+                .andExpect(jsonPath("$.data.tags[0].clubCount").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /clubs/search/cursor 파라미터 없으면 400을 반환한다")
+    void searchClubsByCursor_NoParams_Returns400() throws Exception {
+        mockMvc.perform(get("/clubs/search/cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("ERROR"));
+
+        verify(clubService, never()).filterClubsByCursor(any(), any(), anyInt());
     }
 
     @Test
@@ -280,7 +640,7 @@ class ClubControllerTest {
         // given: /clubs/search는 filterClubs에 위임됨
         String tag = "운동";
         ClubSummaryResponse response = new ClubSummaryResponse(buildClub(), 0);
-        given(clubService.filterClubs(any(ClubFilterRequest.class), any()))
+        given(clubService.filterClubs(any(ClubFilterRequest.class), any(), any()))
                 .willReturn(new PageImpl<>(List.of(response)));
 
         // when & then
@@ -295,7 +655,7 @@ class ClubControllerTest {
 
         verify(clubService).filterClubs(
                 argThat(f -> tag.equals(f.tag()) && f.name() == null),
-                any());
+                any(), eq(CountMode.EXACT));
     }
 
     @Test
@@ -346,6 +706,10 @@ class ClubControllerTest {
         return club;
     }
 
+    private ClubDetailState state(Long clubId, boolean liked, int likeCount) {
+        return new ClubDetailState(clubId, LocalDateTime.of(2026, 3, 16, 9, 0), new ClubLikeState(liked, likeCount));
+    }
+
     private ClubUpdateRequest createUpdateRequest(String name) {
         return ClubUpdateRequest.builder()
                 .name(name)
@@ -0,0 +1,197 @@
+package gdgoc.everyclub.club.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gdgoc.everyclub.club.config.ClubDetailCacheProperties;
+import gdgoc.everyclub.club.domain.Category;
+import gdgoc.everyclub.club.domain.Club;
+import gdgoc.everyclub.club.domain.RecruitingStatus;
+import gdgoc.everyclub.club.dto.ClubDetailResponse;
+import gdgoc.everyclub.club.dto.ClubLikeState;
+import gdgoc.everyclub.club.event.ClubChangedEvent;
+import gdgoc.everyclub.common.ApiResponse;
+import gdgoc.everyclub.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubDetailResponseCacheTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private ClubDetailCacheProperties properties;
+    private final AtomicLong now = new AtomicLong();
+    private ClubDetailResponseCache cache;
+    private Club club;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ClubDetailCacheProperties();
+        cache = new ClubDetailResponseCache(objectMapper, properties, now::get);
+
+        User author = User.builder().email("author@example.com").nickname("Author").build();
+        club = Club.builder()
+                .name("밴드부")
+                .author(author)
+                .category(new Category("Art"))
+                .slug("band")
+                .summary("공연 동아리")
+                // 표식과 같은 글자, 따옴표, 역슬래시가 있어도 자리를 잘못 찾지 않아야 한다
+                .description("\"liked\":\"\\u0000liked\" 정기 공연\n".repeat(200))
+                .recruitingStatus(RecruitingStatus.OPEN)
+                .activityCycle("WEEKLY")
+                .isPublic(true)
+                .build();
+        ReflectionTestUtils.setField(club, "id", 1L);
+        ReflectionTestUtils.setField(club, "updatedAt", LocalDateTime.of(2026, 3, 16, 9, 0));
+    }
+
+    @Test
+    @DisplayName("좋아요 값을 끼운 응답은 같은 값으로 직렬화한 응답과 바이트 단위로 같다")
+    void write_SameAsJackson() throws Exception {
+        // given
+        ClubDetailResponseCache.Encoded encoded = cache.encode(new ClubDetailResponse(club, false, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        cache.write(encoded, new ClubLikeState(true, 1234), null, response);
+
+        // then
+        byte[] expected = objectMapper.writeValueAsBytes(ApiResponse.success(new ClubDetailResponse(club, true, 1234)));
+        assertThat(response.getContentAsByteArray()).isEqualTo(expected);
+        assertThat(response.getContentLength()).isEqualTo(expected.length);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    @DisplayName("gzip 응답은 풀었을 때 같은 JSON이며 압축 결과는 원문보다 작다")
+    void write_Gzip() throws Exception {
+        // given
+        ClubDetailResponseCache.Encoded encoded = cache.encode(new ClubDetailResponse(club, false, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        cache.write(encoded, new ClubLikeState(false, 7), "br, gzip;q=0.8", response);
+
+        // then
+        byte[] expected = objectMapper.writeValueAsBytes(ApiResponse.success(new ClubDetailResponse(club, false, 7)));
+        byte[] gzipped = response.getContentAsByteArray();
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentLength()).isEqualTo(gzipped.length);
+        assertThat(gzipped.length).isLessThan(expected.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(in.readAllBytes()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("캐시된 동아리는 다시 직렬화하지 않으며, 변경 이벤트를 받으면 그 동아리만 제거한다")
+    void get_EvictsOnChange() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return new ClubDetailResponse(club);
+        });
+        cache.get(2L, () -> new ClubDetailResponse(club));
+
+        // when
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return new ClubDetailResponse(club);
+        });
+        cache.onClubChanged(new ClubChangedEvent(1L));
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 도중 변경이 있었으면 결과를 응답에만 쓰고 캐시에 넣지 않는다")
+    void get_DiscardsStaleLoad() {
+        // when
+        ClubDetailResponseCache.Encoded encoded = cache.get(1L, () -> {
+            cache.onClubChanged(new ClubChangedEvent(1L));
+            return new ClubDetailResponse(club);
+        });
+
+        // then
+        assertThat(encoded).isNotNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 동아리부터 제거한다")
+    void get_EvictsLeastRecentlyUsed() {
+        // given
+        properties.setMaxEntries(2);
+        cache.get(1L, () -> new ClubDetailResponse(club));
+        cache.get(2L, () -> new ClubDetailResponse(club));
+        cache.get(1L, () -> new ClubDetailResponse(club));
+
+        // when
+        cache.get(3L, () -> new ClubDetailResponse(club));
+
+        // then: 2번이 제거되어 다시 적재된다
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return new ClubDetailResponse(club);
+        });
+        cache.get(2L, () -> {
+            loads.incrementAndGet();
+            return new ClubDetailResponse(club);
+        });
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나면 이벤트가 없어도 다시 적재한다")
+    void get_ExpiresAfterTtl() {
+        // given
+        properties.setTtlSeconds(60);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return new ClubDetailResponse(club);
+        });
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return new ClubDetailResponse(club);
+        });
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return new ClubDetailResponse(club);
+        });
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding이 gzip을 허용할 때만 gzip으로 응답한다")
+    void acceptsGzip() {
+        assertThat(ClubDetailResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ClubDetailResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(ClubDetailResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ClubDetailResponseCache.acceptsGzip("br")).isFalse();
+        assertThat(ClubDetailResponseCache.acceptsGzip(null)).isFalse();
+    }
+}
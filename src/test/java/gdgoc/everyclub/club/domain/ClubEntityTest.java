@@ -51,7 +51,7 @@ class ClubEntityTest {
         assertThat(club.getActivityCycle()).isEqualTo("WEEKLY");
         assertThat(club.isHasFee()).isTrue();
         assertThat(club.isPublic()).isTrue();
-        assertThat(club.getLikedByUsers()).isEmpty();
+        assertThat(club.getLikeCount()).isZero();
     }
 
     @Test
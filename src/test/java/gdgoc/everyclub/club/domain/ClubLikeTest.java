@@ -0,0 +1,37 @@
+package gdgoc.everyclub.club.domain;
+
+import gdgoc.everyclub.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubLikeTest {
+
+    @Test
+    @DisplayName("좋아요는 (사용자 id, 동아리 id)를 기본키로 가지며 같은 쌍이면 같은 좋아요다")
+    void of_UsesUserAndClubIdAsKey() {
+        // given
+        User user = new User("Liker", "liker@example.com");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Club club = Club.builder()
+                .name("Name")
+                .author(user)
+                .category(new Category("Academic"))
+                .slug("slug")
+                .summary("Summary")
+                .build();
+        ReflectionTestUtils.setField(club, "id", 10L);
+
+        // when
+        ClubLike like = ClubLike.of(user, club);
+
+        // then
+        assertThat(like.getId().getUserId()).isEqualTo(1L);
+        assertThat(like.getId().getClubId()).isEqualTo(10L);
+        assertThat(like.getUser()).isSameAs(user);
+        assertThat(like.getClub()).isSameAs(club);
+        assertThat(like).isEqualTo(ClubLike.of(user, club));
+    }
+}
@@ -99,8 +99,8 @@ class ClubTest {
     }
 
     @Test
-    @DisplayName("동아리는 생성 시 빈 좋아요 목록과 0개의 좋아요 수를 가진다")
-    void clubHasEmptyLikesByDefault() {
+    @DisplayName("동아리는 생성 시 0개의 좋아요 수를 가진다")
+    void clubHasNoLikesByDefault() {
         // given
         User author = new User("John Doe", "john@example.com");
         Category category = new Category("Academic");
@@ -113,29 +113,6 @@ class ClubTest {
                 .build();
 
         // then
-        assertThat(club.getLikedByUsers()).isEmpty();
-        assertThat(club.getLikedByUsers().size()).isZero();
-    }
-
-    @Test
-    @DisplayName("좋아요를 누른 유저가 추가되면 좋아요 수가 증가한다")
-    void getLikeCountIncrementsOnAdd() {
-        // given
-        User author = new User("John Doe", "john@example.com");
-        Category category = new Category("Academic");
-        Club club = Club.builder()
-                .name("Name")
-                .author(author)
-                .category(category)
-                .slug("slug")
-                .summary("Summary")
-                .build();
-        User user = new User("Liker", "liker@example.com");
-
-        // when
-        club.getLikedByUsers().add(user);
-
-        // then
-        assertThat(club.getLikedByUsers().size()).isEqualTo(1);
+        assertThat(club.getLikeCount()).isZero();
     }
 }
@@ -0,0 +1,43 @@
+package gdgoc.everyclub.club.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulChoseongTest {
+
+    @Test
+    @DisplayName("완성형 음절은 초성으로 바뀌고 공백은 제거된다")
+    void extract_Syllables() {
+        assertThat(HangulChoseong.extract("밴드")).isEqualTo("ㅂㄷ");
+        assertThat(HangulChoseong.extract("밴드 연합")).isEqualTo("ㅂㄷㅇㅎ");
+        assertThat(HangulChoseong.extract("까치 힣")).isEqualTo("ㄲㅊㅎ");
+    }
+
+    @Test
+    @DisplayName("한글이 아닌 문자는 구분자로 바뀐다")
+    void extract_NonHangulBecomesSeparator() {
+        assertThat(HangulChoseong.extract("강남대 GDGoC")).isEqualTo("ㄱㄴㄷ     ");
+        assertThat(HangulChoseong.extract("AI연구회")).isEqualTo("  ㅇㄱㅎ");
+    }
+
+    @Test
+    @DisplayName("초성 자모는 그대로 두고 null은 빈 문자열을 반환한다")
+    void extract_JamoAndNull() {
+        assertThat(HangulChoseong.extract("ㄱㄴ ㄷ")).isEqualTo("ㄱㄴㄷ");
+        assertThat(HangulChoseong.extract(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공백을 제외하고 초성 자모로만 이루어진 입력만 초성 검색어로 본다")
+    void isChoseongQuery() {
+        assertThat(HangulChoseong.isChoseongQuery("ㅂㄷ")).isTrue();
+        assertThat(HangulChoseong.isChoseongQuery(" ㄱㄴ ㄷ ")).isTrue();
+        assertThat(HangulChoseong.isChoseongQuery("ㅂ드")).isFalse();
+        assertThat(HangulChoseong.isChoseongQuery("ㅏ")).isFalse();
+        assertThat(HangulChoseong.isChoseongQuery("ab")).isFalse();
+        assertThat(HangulChoseong.isChoseongQuery("  ")).isFalse();
+        assertThat(HangulChoseong.isChoseongQuery(null)).isFalse();
+    }
+}
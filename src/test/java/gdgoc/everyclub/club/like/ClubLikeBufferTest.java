@@ -0,0 +1,155 @@
+package gdgoc.everyclub.club.like;
+
+import gdgoc.everyclub.club.config.ClubLikeProperties;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.repository.ClubRepository;
+import gdgoc.everyclub.club.repository.ClubRepository.LikePair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ClubLikeBufferTest {
+
+    @Mock
+    private ClubRepository clubRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ClubLikeBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        ClubLikeProperties properties = new ClubLikeProperties();
+        properties.getWriteBehind().setEnabled(true);
+        buffer = new ClubLikeBuffer(clubRepository, properties, new TransactionTemplate(transactionManager), eventPublisher);
+    }
+
+    @Test
+    @DisplayName("같은 쌍의 연속 토글은 DB 상태를 한 번만 읽고 최종 상태로 합쳐진다")
+    void toggle_CoalescesToFinalState() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        boolean first = buffer.toggle(2L, 1L, () -> loads.incrementAndGet() < 0);
+        boolean second = buffer.toggle(2L, 1L, () -> loads.incrementAndGet() < 0);
+        boolean third = buffer.toggle(2L, 1L, () -> loads.incrementAndGet() < 0);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(third).isTrue();
+        assertThat(loads).hasValue(1);
+        assertThat(buffer.pendingState(2L, 1L)).isTrue();
+        assertThat(buffer.pendingDelta(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush는 변경된 쌍을 일괄 반영하고 이벤트를 발행한 뒤 버퍼를 비운다")
+    void flush_WritesBatchAndClears() {
+        // given
+        buffer.toggle(2L, 1L, () -> false);
+        buffer.toggle(3L, 1L, () -> true);
+        given(clubRepository.addLikesBatch(new Long[]{2L}, new Long[]{1L})).willReturn(List.of(pair(2L, 1L)));
+        given(clubRepository.removeLikesBatch(new Long[]{3L}, new Long[]{1L})).willReturn(List.of(pair(3L, 1L)));
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(eventPublisher).publishEvent(new ClubLikeChangedEvent(1L, 2L, true));
+        verify(eventPublisher).publishEvent(new ClubLikeChangedEvent(1L, 3L, false));
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.pendingDelta(1L)).isZero();
+        assertThat(buffer.pendingState(2L, 1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("flush는 DB에서 실제로 추가/삭제된 쌍에만 이벤트를 발행한다")
+    void flush_PublishesOnlyAffectedPairs() {
+        // given: 2번은 이미 좋아요가 있었고(ON CONFLICT), 4번은 탈퇴해 무시된다
+        buffer.toggle(2L, 1L, () -> false);
+        buffer.toggle(3L, 1L, () -> false);
+        buffer.toggle(4L, 1L, () -> false);
+        given(clubRepository.addLikesBatch(any(), any())).willReturn(List.of(pair(3L, 1L)));
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(3);
+        verify(eventPublisher).publishEvent(new ClubLikeChangedEvent(1L, 3L, true));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.pendingDelta(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("상쇄된 토글은 DB에 쓰지 않는다")
+    void flush_SkipsCancelledToggles() {
+        // given
+        buffer.toggle(2L, 1L, () -> false);
+        buffer.toggle(2L, 1L, () -> false);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(buffer.size()).isZero();
+        verify(clubRepository, never()).addLikesBatch(any(), any());
+        verify(clubRepository, never()).removeLikesBatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("flush가 실패하면 버퍼를 유지해 다음 주기에 재시도한다")
+    void flush_KeepsPendingOnFailure() {
+        // given
+        buffer.toggle(2L, 1L, () -> false);
+        given(clubRepository.addLikesBatch(any(), any())).willThrow(new IllegalStateException("db down"));
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(buffer.pendingState(2L, 1L)).isTrue();
+        assertThat(buffer.pendingDelta(1L)).isEqualTo(1);
+    }
+
+    private static LikePair pair(Long userId, Long clubId) {
+        return new LikePair() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getClubId() {
+                return clubId;
+            }
+        };
+    }
+}
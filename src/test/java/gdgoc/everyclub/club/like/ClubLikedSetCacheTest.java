@@ -0,0 +1,131 @@
+package gdgoc.everyclub.club.like;
+
+import gdgoc.everyclub.club.config.ClubLikeProperties;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.repository.ClubRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ClubLikedSetCacheTest {
+
+    @Mock
+    private ClubRepository clubRepository;
+
+    private ClubLikeProperties.LikedCache properties;
+    private ClubLikedSetCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ClubLikeProperties.LikedCache();
+        cache = new ClubLikedSetCache(clubRepository, properties);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 한 번만 읽고 오름차순 집합으로 보관한다")
+    void get_LoadsOnce() {
+        // given
+        given(clubRepository.findLikedClubIdsByUserId(1L)).willReturn(List.of(7L, 3L, 5L));
+
+        // when
+        long[] first = cache.get(1L);
+        long[] second = cache.get(1L);
+
+        // then
+        assertThat(first).containsExactly(3L, 5L, 7L);
+        assertThat(second).isSameAs(first);
+        assertThat(ClubLikedSetCache.contains(first, 5L)).isTrue();
+        assertThat(ClubLikedSetCache.contains(first, 4L)).isFalse();
+        verify(clubRepository, times(1)).findLikedClubIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 변경 이벤트는 캐시된 집합을 그 자리에서 갱신하고 이전 배열은 바꾸지 않는다")
+    void onLikeChanged_UpdatesInPlace() {
+        // given
+        given(clubRepository.findLikedClubIdsByUserId(1L)).willReturn(List.of(3L, 7L));
+        long[] before = cache.get(1L);
+
+        // when
+        cache.onLikeChanged(new ClubLikeChangedEvent(5L, 1L, true));
+        cache.onLikeChanged(new ClubLikeChangedEvent(3L, 1L, false));
+        cache.onLikeChanged(new ClubLikeChangedEvent(9L, 2L, true));
+
+        // then
+        assertThat(cache.get(1L)).containsExactly(5L, 7L);
+        assertThat(before).containsExactly(3L, 7L);
+        assertThat(cache.size()).isEqualTo(1);
+        verify(clubRepository, times(1)).findLikedClubIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("적재 도중 좋아요가 바뀌었으면 결과를 응답에만 쓰고 캐시에 넣지 않는다")
+    void get_DiscardsStaleLoad() {
+        // given
+        given(clubRepository.findLikedClubIdsByUserId(1L)).willAnswer(invocation -> {
+            cache.onLikeChanged(new ClubLikeChangedEvent(5L, 1L, true));
+            return List.of(3L);
+        });
+
+        // when
+        long[] loaded = cache.get(1L);
+
+        // then
+        assertThat(loaded).containsExactly(3L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 도중 다른 사용자의 좋아요가 바뀌어도 적재 결과를 캐시에 넣는다")
+    void get_KeepsLoadWhenOtherUserChanges() {
+        // given
+        given(clubRepository.findLikedClubIdsByUserId(1L)).willAnswer(invocation -> {
+            cache.onLikeChanged(new ClubLikeChangedEvent(5L, 2L, true));
+            return List.of(3L);
+        });
+
+        // when
+        cache.get(1L);
+        long[] cached = cache.get(1L);
+
+        // then
+        assertThat(cached).containsExactly(3L);
+        assertThat(cache.size()).isEqualTo(1);
+        verify(clubRepository, times(1)).findLikedClubIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 오래 조회되지 않은 사용자부터 제거하고, 끄면 보관하지 않는다")
+    void get_EvictsLeastRecentlyUsed() {
+        // given
+        properties.setMaxUsers(2);
+        given(clubRepository.findLikedClubIdsByUserId(anyLong())).willReturn(List.of());
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+
+        // when
+        cache.get(3L);
+        cache.get(1L);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        verify(clubRepository, times(1)).findLikedClubIdsByUserId(1L);
+
+        properties.setEnabled(false);
+        cache.get(1L);
+        verify(clubRepository, times(2)).findLikedClubIdsByUserId(1L);
+    }
+}
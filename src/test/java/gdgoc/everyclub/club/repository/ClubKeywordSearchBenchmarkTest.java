@@ -0,0 +1,133 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.catalog.ClubCatalogEntry;
+import gdgoc.everyclub.club.catalog.ClubCatalogLoader;
+import gdgoc.everyclub.club.catalog.ClubCatalogSnapshot;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1~3자 검색어 경로 비교 벤치마크 (동아리 100k건).
+ * <ul>
+ *   <li>ilike: {@code findIdsByKeywordIlike} + {@code countByKeywordIlike} (이름/소개 {@code ILIKE '%kw%'}, full scan)</li>
+ *   <li>ngram: {@link ClubCatalogSnapshot#searchKeyword} (메모리 글자 1-gram/2-gram 역색인)</li>
+ * </ul>
+ * 검색어마다 첫 페이지(20건)와 전체 개수를 구하는 평균 시간을 출력한다. 두 경로 모두 응답 DTO 변환은 제외한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@Disabled("Requires Docker for Testcontainers. Run manually with Docker available.")
+class ClubKeywordSearchBenchmarkTest {
+
+    private static final int CLUB_COUNT = 100_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+    private static final List<String> KEYWORDS = List.of("밴", "밴드", "축구부", "연구회", "부", "함께", "없음");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        // 실제 스키마(인덱스 포함)로 측정한다.
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("club.catalog.enabled", () -> "false");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private ClubCatalogLoader clubCatalogLoader;
+
+    @Test
+    @DisplayName("짧은 검색어의 ILIKE full scan과 n-gram 역색인 조회 시간을 비교한다")
+    void compareShortKeywordSearch() {
+        seed();
+        List<ClubCatalogEntry> entries = clubCatalogLoader.loadAll();
+        long buildStart = System.nanoTime();
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, entries);
+        System.out.printf("[%d clubs] snapshot build (facets + n-grams): %d ms%n",
+                CLUB_COUNT, (System.nanoTime() - buildStart) / 1_000_000);
+
+        PageRequest firstPage = PageRequest.of(0, 20);
+        for (String keyword : KEYWORDS) {
+            // 두 경로의 결과가 같은지 먼저 확인
+            assertThat(snapshot.searchKeyword(keyword, firstPage).getTotalElements())
+                    .isEqualTo(clubRepository.countByKeywordIlike(keyword));
+
+            long ilikeNanos = measure(keyword, kw -> {
+                clubRepository.findIdsByKeywordIlike(kw, 20, 0);
+                return clubRepository.countByKeywordIlike(kw);
+            });
+            long ngramNanos = measure(keyword, kw -> snapshot.searchKeyword(kw, firstPage).getTotalElements());
+
+            System.out.printf("[%s] matches: %d, ilike: %d us, ngram: %d us (x%.1f)%n",
+                    keyword, clubRepository.countByKeywordIlike(keyword),
+                    ilikeNanos / 1_000, ngramNanos / 1_000, (double) ilikeNanos / ngramNanos);
+        }
+    }
+
+    private static long measure(String keyword, Function<String, Long> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            path.apply(keyword);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            path.apply(keyword);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private void seed() {
+        jdbcTemplate.execute("TRUNCATE club_likes, club_tag, tag, club, category, users RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("""
+                INSERT INTO users (email, nickname, role, email_verified, created_at)
+                SELECT 'user' || g || '@kangnam.ac.kr', '회원' || g, 'USER', true, NOW()
+                FROM generate_series(1, 1000) g
+                """);
+        jdbcTemplate.update("INSERT INTO category (name) SELECT '분류' || g FROM generate_series(1, 10) g");
+        // 이름: "<주제><접미사> <번호>" (예: "밴드부 17"), 소개: "함께 <주제> 활동을 하는 동아리입니다"
+        jdbcTemplate.update("""
+                INSERT INTO club (slug, name, summary, recruiting_status, has_fee, is_public,
+                                  category_id, created_by, created_at, updated_at)
+                SELECT 'club-' || g,
+                       (ARRAY['밴드','축구','개발','음악','사진','영화','독서','댄스','봉사','여행',
+                              '농구','바둑','요리','연극','로봇','창업','코딩','미술','합창','등산'])[1 + g % 20]
+                           || (ARRAY['부','회','단','클럽','연구회'])[1 + (g / 20) % 5] || ' ' || g,
+                       '함께 ' || (ARRAY['공부','운동','공연','탐방','토론'])[1 + g % 5] || ' 활동을 하는 동아리입니다',
+                       'OPEN', g % 2 = 0, true, 1 + g % 10, 1 + g % 1000, NOW(), NOW()
+                FROM generate_series(1, ?) g
+                """, CLUB_COUNT);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -1,6 +1,7 @@
 package gdgoc.everyclub.club.repository;
 
 import gdgoc.everyclub.club.domain.*;
+import gdgoc.everyclub.club.dto.TagMatchMode;
 import gdgoc.everyclub.user.domain.User;
 import gdgoc.everyclub.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -91,6 +94,40 @@ class ClubRepositoryTest {
         assertThat(result.getContent().get(0).getName()).isEqualTo("GDGOC");
     }
 
+    @Test
+    @DisplayName("복수 태그는 ALL이면 모두 가진 동아리, ANY이면 하나 이상 가진 동아리를 조회한다")
+    void findByTags_AllAndAny() {
+        // given
+        User author = userRepository.save(new User("John Doe", "john@example.com"));
+        Category category = categoryRepository.save(new Category("Academic"));
+
+        Tag tagDev   = tagRepository.save(Tag.of("개발"));
+        Tag tagStudy = tagRepository.save(Tag.of("스터디"));
+        Tag tagBand  = tagRepository.save(Tag.of("밴드"));
+
+        Club devStudy = clubRepository.save(buildClub("Dev Study", "slug1", author, category));
+        devStudy.addTag(tagDev);
+        devStudy.addTag(tagStudy);
+
+        Club dev = clubRepository.save(buildClub("Dev", "slug2", author, category));
+        dev.addTag(tagDev);
+
+        Club band = clubRepository.save(buildClub("Band", "slug3", author, category));
+        band.addTag(tagBand);
+
+        // when
+        Page<Club> all = clubRepository.findAll(Specification.allOf(ClubSpecification.isPublic(),
+                ClubSpecification.hasTags(List.of("개발", "스터디"), TagMatchMode.ALL)), PageRequest.of(0, 10));
+        Page<Club> any = clubRepository.findAll(Specification.allOf(ClubSpecification.isPublic(),
+                ClubSpecification.hasTags(List.of("스터디", "밴드"), TagMatchMode.ANY)), PageRequest.of(0, 10));
+
+        // then
+        assertThat(all.getContent()).extracting(Club::getName).containsExactly("Dev Study");
+        assertThat(all.getTotalElements()).isEqualTo(1);
+        assertThat(any.getContent()).extracting(Club::getName).containsExactlyInAnyOrder("Dev Study", "Band");
+        assertThat(any.getTotalElements()).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("slug로 동아리 존재 여부를 확인한다")
     void existsBySlug() {
@@ -135,6 +172,25 @@ class ClubRepositoryTest {
         assertThat(publicClubs.getContent()).allMatch(Club::isPublic);
     }
 
+    @Test
+    @DisplayName("저장과 이름 변경 시 이름 초성 컬럼이 함께 채워진다")
+    void nameChoseong_SyncedOnPersistAndUpdate() {
+        // given
+        User author = userRepository.save(User.builder().email("john@example.com").nickname("John Doe").build());
+        Category category = categoryRepository.save(new Category("Academic"));
+        Club club = clubRepository.saveAndFlush(buildClub("밴드 연합", "band", author, category));
+        String persisted = club.getNameChoseong();
+
+        // when
+        club.update("강남 합창단", club.getSummary(), null, null, null, null,
+                RecruitingStatus.OPEN, null, null, false, true);
+        clubRepository.flush();
+
+        // then
+        assertThat(persisted).isEqualTo("ㅂㄷㅇㅎ");
+        assertThat(club.getNameChoseong()).isEqualTo("ㄱㄴㅎㅊㄷ");
+    }
+
     private Club buildClub(String name, String slug, User author, Category category) {
         return Club.builder()
                 .name(name)
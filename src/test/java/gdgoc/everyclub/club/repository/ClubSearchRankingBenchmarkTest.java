@@ -0,0 +1,149 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.catalog.ClubCatalogLoader;
+import gdgoc.everyclub.club.catalog.ClubCatalogSnapshot;
+import gdgoc.everyclub.club.catalog.ClubRelevanceScorer;
+import gdgoc.everyclub.club.config.ClubRankingProperties;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관련도 순 이름 검색의 지연 시간 벤치마크.
+ * <ul>
+ *   <li>trgm: {@link ClubRankedSearchRepository#findIdsByNameTrgm} (GIN 후보 → 점수 top-N)</li>
+ *   <li>ngram: {@link ClubCatalogSnapshot#rankKeyword} (메모리 n-gram 후보 → 크기 제한 힙)</li>
+ * </ul>
+ * 검색어에 일치하는 동아리는 항상 {@value #MATCHING}건이고 나머지 동아리 수만 늘린다.
+ * 점수는 후보에만 계산하므로 카탈로그가 커져도 p50/p99가 거의 같아야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@Disabled("Requires Docker for Testcontainers. Run manually with Docker available.")
+class ClubSearchRankingBenchmarkTest {
+
+    private static final int MATCHING = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        // 실제 스키마(인덱스 포함)로 측정한다.
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("club.catalog.enabled", () -> "false");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private ClubRankedSearchRepository clubRankedSearchRepository;
+
+    @Autowired
+    private ClubCatalogLoader clubCatalogLoader;
+
+    @ParameterizedTest(name = "{0} clubs")
+    @ValueSource(ints = {10_000, 100_000, 300_000})
+    @DisplayName("일치 후보 수가 같으면 카탈로그 크기와 무관하게 관련도 순 검색의 p99가 일정하다")
+    void rankedSearchLatencyIsFlat(int clubCount) {
+        seed(clubCount);
+        ClubRankingProperties weights = new ClubRankingProperties();
+        LocalDateTime now = LocalDateTime.now();
+        ClubCatalogSnapshot snapshot = ClubCatalogSnapshot.of(1L, clubCatalogLoader.loadAll());
+        ClubRelevanceScorer scorer = new ClubRelevanceScorer(weights, now);
+        PageRequest firstPage = PageRequest.of(0, PAGE_SIZE);
+
+        // 후보 집합은 정렬 방식과 무관하다
+        assertThat(snapshot.rankKeyword("밴드", firstPage, scorer).getTotalElements())
+                .isEqualTo(clubRepository.countByKeywordIlike("밴드"))
+                .isEqualTo(MATCHING);
+
+        long[] trgm = measure(() -> clubRankedSearchRepository.findIdsByNameTrgm("강남밴드연합", weights, now, PAGE_SIZE, 0));
+        long[] ngram = measure(() -> snapshot.rankKeyword("밴드", firstPage, scorer));
+
+        System.out.printf("[%d clubs] trgm p50: %d us, p99: %d us | ngram p50: %d us, p99: %d us%n",
+                clubCount, percentile(trgm, 50), percentile(trgm, 99), percentile(ngram, 50), percentile(ngram, 99));
+    }
+
+    private static long[] measure(Runnable search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.run();
+        }
+        long[] micros = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search.run();
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private void seed(int clubCount) {
+        jdbcTemplate.execute("TRUNCATE club_likes, club_tag, tag, club, category, users RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("""
+                INSERT INTO users (email, nickname, role, email_verified, created_at)
+                SELECT 'user' || g || '@kangnam.ac.kr', '회원' || g, 'USER', true, NOW()
+                FROM generate_series(1, 1000) g
+                """);
+        jdbcTemplate.update("INSERT INTO category (name) SELECT '분류' || g FROM generate_series(1, 10) g");
+        // 일치 후보: "강남밴드연합 <번호>" MATCHING건. 모집 상태, 좋아요 수, 수정 시각을 섞는다.
+        jdbcTemplate.update("""
+                INSERT INTO club (slug, name, summary, recruiting_status, has_fee, is_public, like_count,
+                                  category_id, created_by, created_at, updated_at)
+                SELECT 'match-' || g, '강남밴드연합 ' || g, '함께 공연하는 동아리입니다',
+                       CASE WHEN g % 3 = 0 THEN 'CLOSED' ELSE 'OPEN' END, false, true, g % 97,
+                       1 + g % 10, 1 + g % 1000, NOW(), NOW() - (g % 365) * INTERVAL '1 day'
+                FROM generate_series(1, ?) g
+                """, MATCHING);
+        // 나머지: 검색어와 겹치지 않는 이름/소개
+        jdbcTemplate.update("""
+                INSERT INTO club (slug, name, summary, recruiting_status, has_fee, is_public, like_count,
+                                  category_id, created_by, created_at, updated_at)
+                SELECT 'club-' || g,
+                       (ARRAY['축구','개발','사진','영화','독서','댄스','봉사','여행','농구','바둑'])[1 + g % 10]
+                           || (ARRAY['부','회','단','클럽','연구회'])[1 + (g / 10) % 5] || ' ' || g,
+                       '함께 ' || (ARRAY['공부','운동','탐방','토론'])[1 + g % 4] || ' 활동을 하는 동아리입니다',
+                       'OPEN', g % 2 = 0, true, g % 50, 1 + g % 10, 1 + g % 1000, NOW(), NOW()
+                FROM generate_series(1, ?) g
+                """, clubCount - MATCHING);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,72 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.domain.Club;
+import gdgoc.everyclub.user.domain.User;
+import gdgoc.everyclub.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ClubSliceQueryRepository.class)
+@ActiveProfiles("test")
+class ClubSliceQueryRepositoryTest {
+
+    @Autowired
+    private ClubSliceQueryRepository clubSliceQueryRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("정렬 키가 같은 동아리는 id 오름차순으로 이어져 페이지 사이에 겹치거나 빠지지 않는다")
+    void findIds_TiesBrokenById() {
+        // given: 이름이 모두 같은 동아리 5개
+        User author = userRepository.save(new User("John Doe", "john@example.com"));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(clubRepository.save(Club.builder()
+                    .name("Same")
+                    .author(author)
+                    .slug("same-" + i)
+                    .summary("Summary")
+                    .isPublic(true)
+                    .build()).getId());
+        }
+
+        // when
+        List<Long> paged = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            List<Long> slice = clubSliceQueryRepository.findIds(null,
+                    PageRequest.of(page, 2, Sort.by(Sort.Direction.DESC, "name")));
+            paged.addAll(slice.subList(0, Math.min(2, slice.size())));
+        }
+
+        // then
+        assertThat(paged).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("정렬에 id가 이미 있으면 그 방향을 그대로 쓴다")
+    void withIdTiebreaker_KeepsExplicitId() {
+        Sort explicit = Sort.by(Sort.Direction.DESC, "id");
+
+        assertThat(ClubSliceQueryRepository.withIdTiebreaker(explicit)).isEqualTo(explicit);
+        assertThat(ClubSliceQueryRepository.withIdTiebreaker(Sort.by("name")))
+                .isEqualTo(Sort.by("name").and(Sort.by(Sort.Direction.ASC, "id")));
+        assertThat(ClubSliceQueryRepository.withIdTiebreaker(Sort.unsorted())).isEqualTo(Sort.by("id"));
+    }
+}
@@ -0,0 +1,171 @@
+package gdgoc.everyclub.club.repository;
+
+import gdgoc.everyclub.club.domain.Club;
+import gdgoc.everyclub.club.dto.ClubSummaryResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 응답 조회 경로 비교 벤치마크.
+ * <ul>
+ *   <li>entity: {@code findAllByIdInWithGraph} + {@code findLikeCountsByIds} + 엔티티 → DTO 변환 (기존 경로)</li>
+ *   <li>projection: {@link ClubSummaryQueryRepository#findByIds} SQL 한 문장</li>
+ * </ul>
+ * 동아리 10k / 100k건 (동아리당 태그 3개, 좋아요 평균 5개)에서 20건 페이지를 무작위로 반복 조회해 평균 시간을 출력한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@Disabled("Requires Docker for Testcontainers. Run manually with Docker available.")
+class ClubSummaryQueryBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        // 실제 스키마(인덱스 포함)로 측정한다.
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("club.catalog.enabled", () -> "false");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private ClubSummaryQueryRepository clubSummaryQueryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest(name = "{0} clubs")
+    @ValueSource(ints = {10_000, 100_000})
+    @DisplayName("projection 한 문장 조회와 엔티티 3쿼리 조회의 페이지당 평균 시간을 비교한다")
+    void compareSummaryReadPaths(int clubCount) {
+        seed(clubCount);
+        Random random = new Random(42);
+        List<List<Long>> pages = LongStream.range(0, WARMUP + ITERATIONS)
+                .mapToObj(i -> randomPage(random, clubCount))
+                .toList();
+
+        // 두 경로의 결과가 같은지 먼저 확인
+        List<Long> sample = pages.get(0);
+        assertThat(ids(entityPath(sample))).isEqualTo(ids(clubSummaryQueryRepository.findByIds(sample)));
+
+        long entityNanos = measure(pages, this::entityPath);
+        long projectionNanos = measure(pages, clubSummaryQueryRepository::findByIds);
+
+        System.out.printf("[%d clubs] entity: %d us/page, projection: %d us/page (x%.1f)%n",
+                clubCount, entityNanos / 1_000, projectionNanos / 1_000, (double) entityNanos / projectionNanos);
+    }
+
+    private List<ClubSummaryResponse> entityPath(List<Long> ids) {
+        return transactionTemplate.execute(status -> {
+            Map<Long, Club> clubById = clubRepository.findAllByIdInWithGraph(ids).stream()
+                    .collect(Collectors.toMap(Club::getId, c -> c));
+            Map<Long, Integer> likeCountById = clubRepository.findLikeCountsByIds(ids).stream()
+                    .collect(Collectors.toMap(arr -> (Long) arr[0], arr -> ((Long) arr[1]).intValue()));
+            List<ClubSummaryResponse> result = ids.stream()
+                    .map(id -> new ClubSummaryResponse(clubById.get(id), likeCountById.getOrDefault(id, 0)))
+                    .toList();
+            entityManager.clear();
+            return result;
+        });
+    }
+
+    private static long measure(List<List<Long>> pages, Function<List<Long>, List<ClubSummaryResponse>> path) {
+        pages.subList(0, WARMUP).forEach(path::apply);
+        long start = System.nanoTime();
+        pages.subList(WARMUP, pages.size()).forEach(path::apply);
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private List<Long> randomPage(Random random, int clubCount) {
+        long first = 1 + random.nextInt(clubCount - PAGE_SIZE);
+        return LongStream.range(first, first + PAGE_SIZE).boxed().toList();
+    }
+
+    private static List<Long> ids(List<ClubSummaryResponse> summaries) {
+        return summaries.stream().map(ClubSummaryResponse::getId).toList();
+    }
+
+    private void seed(int clubCount) {
+        jdbcTemplate.execute("TRUNCATE club_likes, club_tag, tag, club, category, users RESTART IDENTITY CASCADE");
+        int userCount = Math.max(1_000, clubCount / 10);
+        jdbcTemplate.update("""
+                INSERT INTO users (email, nickname, role, email_verified, created_at)
+                SELECT 'user' || g || '@kangnam.ac.kr', CASE WHEN g % 3 = 0 THEN NULL ELSE '회원' || g END,
+                       'USER', true, NOW()
+                FROM generate_series(1, ?) g
+                """, userCount);
+        jdbcTemplate.update("INSERT INTO category (name) SELECT '분류' || g FROM generate_series(1, 10) g");
+        jdbcTemplate.update("INSERT INTO tag (name) SELECT '태그' || g FROM generate_series(1, 200) g");
+        jdbcTemplate.update("""
+                INSERT INTO club (slug, name, summary, recruiting_status, has_fee, is_public,
+                                  category_id, created_by, created_at, updated_at)
+                SELECT 'club-' || g, '동아리 ' || g, '소개 ' || g, 'OPEN', g % 2 = 0, true,
+                       1 + g % 10, 1 + g % ?, NOW(), NOW()
+                FROM generate_series(1, ?) g
+                """, userCount, clubCount);
+        jdbcTemplate.update("""
+                INSERT INTO club_tag (club_id, tag_id)
+                SELECT c.id, 1 + (c.id * 7 + k * 13) % 200
+                FROM club c CROSS JOIN generate_series(0, 2) k
+                ON CONFLICT DO NOTHING
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO club_likes (user_id, club_id)
+                SELECT 1 + (c.id * 31 + k * 17) % ?, c.id
+                FROM club c CROSS JOIN generate_series(0, 9) k
+                WHERE (c.id + k) % 2 = 0
+                ON CONFLICT DO NOTHING
+                """, userCount);
+        jdbcTemplate.update("""
+                UPDATE club c SET like_count = s.cnt
+                FROM (SELECT club_id, COUNT(*) AS cnt FROM club_likes GROUP BY club_id) s
+                WHERE s.club_id = c.id
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -4,12 +4,18 @@ import gdgoc.everyclub.club.domain.Club;
 import gdgoc.everyclub.club.domain.ClubAdmin;
 import gdgoc.everyclub.club.domain.ClubAdminRole;
 import gdgoc.everyclub.club.domain.RecruitingStatus;
+import gdgoc.everyclub.club.dto.ClubSummaryResponse;
 import gdgoc.everyclub.club.dto.DelegateClubAdminRequest.FormerLeaderAction;
 import gdgoc.everyclub.club.repository.ClubAdminRepository;
+import gdgoc.everyclub.club.repository.ClubLikedQueryRepository;
+import gdgoc.everyclub.club.repository.ClubLikedQueryRepository.LikedId;
 import gdgoc.everyclub.club.repository.ClubRepository;
+import gdgoc.everyclub.club.repository.ClubSummaryQueryRepository;
+import gdgoc.everyclub.common.CursorSlice;
 import gdgoc.everyclub.common.exception.BusinessErrorCode;
 import gdgoc.everyclub.common.exception.LogicException;
 import gdgoc.everyclub.common.exception.ResourceErrorCode;
+import gdgoc.everyclub.common.exception.ValidationErrorCode;
 import gdgoc.everyclub.user.domain.User;
 import gdgoc.everyclub.user.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,8 +26,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ClubAdminServiceTest {
@@ -43,6 +54,12 @@ class ClubAdminServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ClubLikedQueryRepository clubLikedQueryRepository;
+
+    @Mock
+    private ClubSummaryQueryRepository clubSummaryQueryRepository;
+
     @InjectMocks
     private ClubAdminService clubAdminService;
 
@@ -374,4 +391,88 @@ class ClubAdminServiceTest {
                 .extracting("errorCode")
                 .isEqualTo(ResourceErrorCode.RESOURCE_NOT_FOUND);
     }
+
+    // =====================================================================
+    // getLikedClubs
+    // =====================================================================
+
+    @Test
+    @DisplayName("좋아요한 동아리 목록은 SQL로 자른 id 순서대로 채우고 모든 항목의 좋아요 여부가 true다")
+    void getLikedClubs_allLiked() {
+        // given
+        Long userId = 1L;
+        PageRequest pageable = PageRequest.of(1, 2);
+        given(clubLikedQueryRepository.findIds(userId, 2L, 2)).willReturn(List.of(30L, 10L));
+        given(clubLikedQueryRepository.count(userId)).willReturn(4L);
+        given(clubSummaryQueryRepository.findByIds(List.of(30L, 10L)))
+                .willReturn(List.of(summary(30L, "나중에 좋아요"), summary(10L, "먼저 좋아요")));
+
+        // when
+        Page<ClubSummaryResponse> result = clubAdminService.getLikedClubs(userId, pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(ClubSummaryResponse::getId).containsExactly(30L, 10L);
+        assertThat(result.getContent()).extracting(ClubSummaryResponse::isLiked).containsExactly(true, true);
+        assertThat(result.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("좋아요한 동아리 목록에 정렬을 지정하면 예외가 발생한다")
+    void getLikedClubs_SortNotSupported() {
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by("name"));
+
+        assertThatThrownBy(() -> clubAdminService.getLikedClubs(1L, pageable))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+        verifyNoInteractions(clubLikedQueryRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요한 동아리 커서 조회는 한 건 더 읽어 다음 페이지를 판단하고 마지막 항목의 좋아요 시각을 커서로 준다")
+    void getLikedClubsByCursor() {
+        // given
+        Long userId = 1L;
+        LocalDateTime likedAt = LocalDateTime.of(2026, 3, 16, 9, 0);
+        given(clubLikedQueryRepository.findIdsBefore(userId, null, null, 3)).willReturn(List.of(
+                new LikedId(30L, likedAt.plusMinutes(2)),
+                new LikedId(20L, likedAt.plusMinutes(1)),
+                new LikedId(10L, likedAt)));
+        given(clubSummaryQueryRepository.findByIds(List.of(30L, 20L)))
+                .willReturn(List.of(summary(30L, "셋째"), summary(20L, "둘째")));
+        given(clubLikedQueryRepository.findIdsBefore(userId, likedAt.plusMinutes(1), 20L, 3))
+                .willReturn(List.of(new LikedId(10L, likedAt)));
+        given(clubSummaryQueryRepository.findByIds(List.of(10L))).willReturn(List.of(summary(10L, "첫째")));
+
+        // when
+        CursorSlice<ClubSummaryResponse> first = clubAdminService.getLikedClubsByCursor(userId, null, 2);
+        CursorSlice<ClubSummaryResponse> second = clubAdminService.getLikedClubsByCursor(userId, first.nextCursor(), 2);
+
+        // then
+        assertThat(first.content()).extracting(ClubSummaryResponse::getId).containsExactly(30L, 20L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.content()).extracting(ClubSummaryResponse::getId).containsExactly(10L);
+        assertThat(second.content()).extracting(ClubSummaryResponse::isLiked).containsExactly(true);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("좋아요한 동아리 커서 조회의 크기가 범위를 벗어나면 예외가 발생한다")
+    void getLikedClubsByCursor_InvalidSize() {
+        assertThatThrownBy(() -> clubAdminService.getLikedClubsByCursor(1L, null, 101))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+    }
+
+    private static ClubSummaryResponse summary(Long id, String name) {
+        return ClubSummaryResponse.builder()
+                .id(id)
+                .name(name)
+                .recruitingStatus(RecruitingStatus.OPEN)
+                .likeCount(3)
+                .tags(List.of())
+                .build();
+    }
 }
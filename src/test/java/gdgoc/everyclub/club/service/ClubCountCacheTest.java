@@ -0,0 +1,51 @@
+package gdgoc.everyclub.club.service;
+
+import gdgoc.everyclub.club.config.ClubCountProperties;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClubCountCacheTest {
+
+    private final ClubCountCache cache = new ClubCountCache(new ClubCountProperties());
+
+    @Test
+    @DisplayName("TTL 안에서는 같은 조건의 개수를 다시 세지 않는다")
+    void get_ReusesWithinTtl() {
+        // given
+        AtomicLong queries = new AtomicLong();
+        ClubCountCache.Key key = new ClubCountCache.Key("trgm", "축구동아리");
+
+        // when
+        long first = cache.get(key, () -> 10 + queries.incrementAndGet());
+        long second = cache.get(key, () -> 10 + queries.incrementAndGet());
+        long other = cache.get(new ClubCountCache.Key("trgm", "농구동아리"), () -> 3);
+
+        // then
+        assertThat(first).isEqualTo(11);
+        assertThat(second).isEqualTo(11);
+        assertThat(other).isEqualTo(3);
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("좋아요가 바뀌면 해당 사용자의 좋아요 동아리 수만 다시 센다")
+    void onLikeChanged_EvictsUserEntry() {
+        // given
+        ClubCountCache.Key mine = new ClubCountCache.Key(ClubCountCache.LIKED, 1L);
+        ClubCountCache.Key others = new ClubCountCache.Key(ClubCountCache.LIKED, 2L);
+        cache.get(mine, () -> 1);
+        cache.get(others, () -> 5);
+
+        // when
+        cache.onLikeChanged(new ClubLikeChangedEvent(10L, 1L, true));
+
+        // then
+        assertThat(cache.get(mine, () -> 2)).isEqualTo(2);
+        assertThat(cache.get(others, () -> 6)).isEqualTo(5);
+    }
+}
@@ -0,0 +1,91 @@
+package gdgoc.everyclub.club.service;
+
+import gdgoc.everyclub.club.catalog.ClubCatalog;
+import gdgoc.everyclub.club.config.ClubLikeProperties;
+import gdgoc.everyclub.club.repository.ClubRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ClubLikeCountReconcilerTest {
+
+    @Mock
+    private ClubRepository clubRepository;
+
+    @Mock
+    private ClubCatalog clubCatalog;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClubLikeCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        ClubLikeProperties properties = new ClubLikeProperties();
+        properties.setReconcileBatchSize(2);
+        reconciler = new ClubLikeCountReconciler(clubRepository, clubCatalog, properties,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("동아리를 묶음마다 잠근 뒤 보정하고, 보정이 있으면 카탈로그를 다시 적재한다")
+    void reconcile_LocksEachBatchBeforeRepair() {
+        // given
+        given(clubRepository.lockClubIdsAfter(0L, 2)).willReturn(List.of(1L, 3L));
+        given(clubRepository.lockClubIdsAfter(3L, 2)).willReturn(List.of(4L));
+        given(clubRepository.reconcileLikeCounts(List.of(1L, 3L))).willReturn(2);
+        given(clubRepository.reconcileLikeCounts(List.of(4L))).willReturn(1);
+
+        // when
+        int repaired = reconciler.reconcile();
+
+        // then
+        assertThat(repaired).isEqualTo(3);
+        InOrder order = inOrder(clubRepository, transactionManager);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(clubRepository).lockClubIdsAfter(0L, 2);
+        order.verify(clubRepository).reconcileLikeCounts(List.of(1L, 3L));
+        order.verify(transactionManager).commit(any());
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(clubRepository).lockClubIdsAfter(3L, 2);
+        order.verify(clubRepository).reconcileLikeCounts(List.of(4L));
+        order.verify(transactionManager).commit(any());
+        verify(clubCatalog).rebuild();
+    }
+
+    @Test
+    @DisplayName("드리프트가 없으면 카탈로그를 건드리지 않는다")
+    void reconcile_NoDrift() {
+        // given: 마지막 묶음이 꽉 차 있으면 빈 묶음을 확인하고 끝낸다
+        given(clubRepository.lockClubIdsAfter(0L, 2)).willReturn(List.of(1L, 2L));
+        given(clubRepository.lockClubIdsAfter(2L, 2)).willReturn(List.of());
+        given(clubRepository.reconcileLikeCounts(List.of(1L, 2L))).willReturn(0);
+
+        // when
+        int repaired = reconciler.reconcile();
+
+        // then
+        assertThat(repaired).isZero();
+        verify(clubRepository, times(1)).reconcileLikeCounts(anyList());
+        verify(clubCatalog, never()).rebuild();
+    }
+}
@@ -0,0 +1,123 @@
+package gdgoc.everyclub.club.service;
+
+import gdgoc.everyclub.club.domain.Club;
+import gdgoc.everyclub.club.domain.ClubLike;
+import gdgoc.everyclub.club.dto.ClubSummaryResponse;
+import gdgoc.everyclub.club.repository.ClubSummaryQueryRepository;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.user.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link ClubLikedClubsPagingIntegrationTest}의 H2 버전. Docker 없이 CI에서 돈다.
+ *
+ * <p>응답 컬럼을 채우는 {@link ClubSummaryQueryRepository}는 PostgreSQL 전용 SQL(unnest, array_agg)이므로 목으로 대신한다.
+ * 좋아요한 동아리 목록이 엔티티를 적재하지 않고, 좋아요 전체가 아닌 페이지 크기만큼의 id만 읽는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "club.catalog.enabled=false"})
+@ActiveProfiles("test")
+@Transactional
+class ClubLikedClubsPagingH2Test {
+
+    private static final int LIKE_COUNT = 300;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private ClubAdminService clubAdminService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private ClubSummaryQueryRepository clubSummaryQueryRepository;
+
+    private Long userId;
+    /** 최근에 좋아요한 순 (모두 같은 시각이므로 club id 내림차순). */
+    private List<Long> likedOrder;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User liker = new User("Liker", "liker@kangnam.ac.kr");
+        User author = new User("Author", "author@kangnam.ac.kr");
+        entityManager.persist(liker);
+        entityManager.persist(author);
+        likedOrder = new ArrayList<>(LIKE_COUNT);
+        for (int i = 1; i <= LIKE_COUNT; i++) {
+            Club club = Club.builder()
+                    .name("동아리 " + i)
+                    .slug("club-" + i)
+                    .summary("소개 " + i)
+                    .author(author)
+                    .isPublic(true)
+                    .build();
+            entityManager.persist(club);
+            entityManager.persist(ClubLike.of(liker, club));
+            likedOrder.add(club.getId());
+        }
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE club_likes SET created_at = TIMESTAMP '2026-03-16 09:00:00'")
+                .executeUpdate();
+        entityManager.clear();
+        likedOrder.sort(Comparator.reverseOrder());
+        userId = liker.getId();
+
+        given(clubSummaryQueryRepository.findByIds(anyList())).willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> ClubSummaryResponse.builder().id(id).build()).toList();
+        });
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("좋아요가 많아도 페이지 조회는 엔티티를 적재하지 않고 페이지 크기만큼의 id만 읽는다")
+    void getLikedClubs_ReadsOnlyPage() {
+        // when
+        Page<ClubSummaryResponse> exact = clubAdminService.getLikedClubs(userId, PageRequest.of(2, PAGE_SIZE));
+        Page<ClubSummaryResponse> slice = clubAdminService.getLikedClubs(userId, PageRequest.of(0, PAGE_SIZE),
+                CountMode.NONE);
+
+        // then
+        assertThat(exact.getContent()).extracting(ClubSummaryResponse::getId)
+                .containsExactlyElementsOf(likedOrder.subList(2 * PAGE_SIZE, 3 * PAGE_SIZE));
+        assertThat(exact.getContent()).extracting(ClubSummaryResponse::isLiked).containsOnly(true);
+        assertThat(exact.getTotalElements()).isEqualTo(LIKE_COUNT);
+        assertThat(slice.getContent()).extracting(ClubSummaryResponse::getId)
+                .containsExactlyElementsOf(likedOrder.subList(0, PAGE_SIZE));
+        assertThat(slice.hasNext()).isTrue();
+        verify(clubSummaryQueryRepository, times(2)).findByIds(argThat(ids -> ids.size() == PAGE_SIZE));
+        // id 페이지와 COUNT는 JDBC로 읽으므로 Hibernate를 거친 문장도, 적재된 엔티티도 없어야 한다.
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
@@ -0,0 +1,140 @@
+package gdgoc.everyclub.club.service;
+
+import gdgoc.everyclub.club.dto.ClubSummaryResponse;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.common.CursorSlice;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 10k건인 사용자의 좋아요한 동아리 목록 회귀 테스트.
+ *
+ * <p>예전 경로(컬렉션 EntityGraph + Pageable)는 LIMIT 없이 10k개 엔티티를 모두 적재한 뒤 메모리에서 잘랐다.
+ * 페이지 조회가 엔티티를 하나도 적재하지 않고, keyset 순회가 모든 항목을 좋아요한 시각 순으로 한 번씩 지나는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+@Disabled("Requires Docker for Testcontainers. Run manually with Docker available.")
+class ClubLikedClubsPagingIntegrationTest {
+
+    private static final int LIKE_COUNT = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        // club_likes.created_at과 keyset 인덱스는 마이그레이션에만 있다.
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("club.catalog.enabled", () -> "false");
+    }
+
+    @Autowired
+    private ClubAdminService clubAdminService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        seed();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("좋아요 10k건이어도 페이지 조회는 엔티티를 적재하지 않고 요청한 크기만 읽는다")
+    void getLikedClubs_DoesNotLoadAllLikes() {
+        // when
+        Page<ClubSummaryResponse> exact = clubAdminService.getLikedClubs(1L, PageRequest.of(250, PAGE_SIZE));
+        Page<ClubSummaryResponse> slice = clubAdminService.getLikedClubs(1L, PageRequest.of(0, PAGE_SIZE), CountMode.NONE);
+
+        // then: 최근에 좋아요한 순 (seed에서 club id가 클수록 나중에 좋아요)
+        assertThat(exact.getContent()).hasSize(PAGE_SIZE);
+        assertThat(exact.getTotalElements()).isEqualTo(LIKE_COUNT);
+        assertThat(exact.getContent().get(0).getId()).isEqualTo(LIKE_COUNT - 250L * PAGE_SIZE);
+        assertThat(slice.getContent()).extracting(ClubSummaryResponse::getId)
+                .containsExactlyElementsOf(LongStream.iterate(LIKE_COUNT, id -> id - 1).limit(PAGE_SIZE).boxed().toList());
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 순회하면 모든 좋아요한 동아리를 좋아요한 시각 순으로 한 번씩 반환한다")
+    void getLikedClubsByCursor_VisitsEveryLikeInOrder() {
+        // when
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSlice<ClubSummaryResponse> page = clubAdminService.getLikedClubsByCursor(1L, cursor, 100);
+            assertThat(page.content().size()).isLessThanOrEqualTo(100);
+            page.content().forEach(summary -> visited.add(summary.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(
+                LongStream.iterate(LIKE_COUNT, id -> id - 1).limit(LIKE_COUNT).boxed().toList());
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    /** 사용자 1이 동아리 1..10k를 id 순서대로 1초 간격으로 좋아요했다. 절반은 같은 시각으로 두어 club_id 정렬도 확인한다. */
+    private void seed() {
+        jdbcTemplate.execute("TRUNCATE club_likes, club_tag, tag, club, category, users RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("""
+                INSERT INTO users (email, nickname, role, email_verified, created_at)
+                VALUES ('liker@kangnam.ac.kr', '좋아요', 'USER', true, NOW())
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO club (slug, name, summary, recruiting_status, has_fee, is_public,
+                                  created_by, created_at, updated_at)
+                SELECT 'club-' || g, '동아리 ' || g, '소개 ' || g, 'OPEN', false, true, 1, NOW(), NOW()
+                FROM generate_series(1, ?) g
+                """, LIKE_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO club_likes (user_id, club_id, created_at)
+                SELECT 1, g, TIMESTAMP '2026-03-16 09:00:00' + (g / 2) * INTERVAL '1 second'
+                FROM generate_series(1, ?) g
+                """, LIKE_COUNT);
+        jdbcTemplate.update("UPDATE club SET like_count = 1");
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
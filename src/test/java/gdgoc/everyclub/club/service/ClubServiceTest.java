@@ -1,14 +1,34 @@
 package gdgoc.everyclub.club.service;
 
+import gdgoc.everyclub.club.catalog.ClubCatalog;
+import gdgoc.everyclub.club.catalog.ClubCatalogEntry;
+import gdgoc.everyclub.club.catalog.ClubCatalogSnapshot;
+import gdgoc.everyclub.club.catalog.ClubFilterCache;
+import gdgoc.everyclub.club.config.ClubRankingProperties;
 import gdgoc.everyclub.club.domain.Category;
 import gdgoc.everyclub.club.domain.Club;
 import gdgoc.everyclub.club.domain.RecruitingStatus;
 import gdgoc.everyclub.club.domain.Tag;
 import gdgoc.everyclub.club.dto.*;
+import gdgoc.everyclub.club.event.ClubChangedEvent;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.like.ClubLikeBuffer;
+import gdgoc.everyclub.club.like.ClubLikedSetCache;
 import gdgoc.everyclub.club.repository.CategoryRepository;
+import gdgoc.everyclub.club.repository.ClubDetailQueryRepository;
+import gdgoc.everyclub.club.repository.ClubFacetQueryRepository;
+import gdgoc.everyclub.club.repository.ClubRankedSearchRepository;
 import gdgoc.everyclub.club.repository.ClubRepository;
+import gdgoc.everyclub.club.repository.ClubSliceQueryRepository;
+import gdgoc.everyclub.club.repository.ClubSummaryQueryRepository;
 import gdgoc.everyclub.club.repository.TagRepository;
+import gdgoc.everyclub.club.trending.ClubTrendingCounter;
+import gdgoc.everyclub.club.trending.ClubTrendingCounter.Ranked;
 import gdgoc.everyclub.college.repository.MajorRepository;
+import gdgoc.everyclub.common.CountMode;
+import gdgoc.everyclub.common.CursorSlice;
+import gdgoc.everyclub.common.HttpValidator;
+import gdgoc.everyclub.common.SlicePage;
 import gdgoc.everyclub.common.exception.BusinessErrorCode;
 import gdgoc.everyclub.common.exception.LogicException;
 import gdgoc.everyclub.common.exception.ResourceErrorCode;
@@ -22,18 +42,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -55,6 +81,45 @@ class ClubServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ClubCatalog clubCatalog;
+
+    @Mock
+    private ClubFilterCache filterCache;
+
+    @Mock
+    private ClubLikeBuffer clubLikeBuffer;
+
+    @Mock
+    private ClubSummaryQueryRepository clubSummaryQueryRepository;
+
+    @Mock
+    private ClubSliceQueryRepository clubSliceQueryRepository;
+
+    @Mock
+    private ClubCountCache countCache;
+
+    @Mock
+    private ClubRankingProperties ranking;
+
+    @Mock
+    private ClubRankedSearchRepository clubRankedSearchRepository;
+
+    @Mock
+    private ClubFacetQueryRepository clubFacetQueryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClubDetailQueryRepository clubDetailQueryRepository;
+
+    @Mock
+    private ClubLikedSetCache likedSetCache;
+
+    @Mock
+    private ClubTrendingCounter trendingCounter;
+
     @InjectMocks
     private ClubService clubService;
 
@@ -123,7 +188,7 @@ class ClubServiceTest {
     @DisplayName("공개된 동아리를 ID로 조회한다")
     void getPublicClubById() {
         // given
-        given(clubRepository.findByIdWithAuthor(1L)).willReturn(Optional.of(club));
+        given(clubDetailQueryRepository.findPublicById(1L, null)).willReturn(Optional.of(new ClubDetailResponse(club)));
 
         // when
         ClubDetailResponse response = clubService.getPublicClubById(1L);
@@ -131,14 +196,14 @@ class ClubServiceTest {
         // then
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getName()).isEqualTo("Name");
+        verify(clubRepository, never()).findByIdWithAuthor(anyLong());
     }
 
     @Test
     @DisplayName("비공개 동아리 조회 시 예외가 발생한다")
     void getPublicClubById_PrivateClub() {
         // given
-        ReflectionTestUtils.setField(club, "isPublic", false);
-        given(clubRepository.findByIdWithAuthor(1L)).willReturn(Optional.of(club));
+        given(clubDetailQueryRepository.findPublicById(1L, null)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> clubService.getPublicClubById(1L))
@@ -220,8 +285,7 @@ class ClubServiceTest {
         PageRequest pageRequest = PageRequest.of(0, 10);
         given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
                 .willReturn(new PageImpl<>(List.of(club)));
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
-        given(clubRepository.findLikeCountsByIds(List.of(1L))).willReturn(List.of());
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.searchClubsByTag("운동", pageRequest);
@@ -298,8 +362,7 @@ class ClubServiceTest {
         String exactTag = "a".repeat(30);
         given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
                 .willReturn(new PageImpl<>(List.of(club)));
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
-        given(clubRepository.findLikeCountsByIds(List.of(1L))).willReturn(List.of());
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> clubs = clubService.searchClubsByTag(exactTag, pageRequest);
@@ -330,8 +393,7 @@ class ClubServiceTest {
         // "#운동" → normalize → "운동" → Specification 검색
         given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
                 .willReturn(new PageImpl<>(List.of(club)));
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
-        given(clubRepository.findLikeCountsByIds(List.of(1L))).willReturn(List.of());
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.searchClubsByTag("#운동", pageRequest);
@@ -428,13 +490,13 @@ class ClubServiceTest {
     // ── searchClubsByName ─────────────────────────────────────────────────────
 
     @Test
-    @DisplayName("이름으로 동아리를 검색한다 (3자 이하 → ILIKE 경로)")
+    @DisplayName("이름으로 동아리를 검색한다 (3자 이하, 스냅샷 없음 → ILIKE 폴백)")
     void searchClubsByName_ShortKeyword() {
-        // given: 3자 키워드 → findIdsByNameIlike 호출
+        // given: 3자 키워드 → findIdsByKeywordIlike 호출
         PageRequest pageRequest = PageRequest.of(0, 10);
-        given(clubRepository.findIdsByNameIlike("축구", 10, 0)).willReturn(List.of(1L));
-        given(clubRepository.countByNameIlike("축구")).willReturn(1L);
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
+        given(clubRepository.findIdsByKeywordIlike("축구", 10, 0)).willReturn(List.of(1L));
+        given(clubRepository.countByKeywordIlike("축구")).willReturn(1L);
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.searchClubsByName("축구", pageRequest);
@@ -442,10 +504,148 @@ class ClubServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getTotalElements()).isEqualTo(1);
-        verify(clubRepository).findIdsByNameIlike("축구", 10, 0);
+        verify(clubRepository).findIdsByKeywordIlike("축구", 10, 0);
         verify(clubRepository, org.mockito.Mockito.never()).findIdsByNameTrgm(any(), anyInt(), anyInt());
     }
 
+    @Test
+    @DisplayName("3자 이하 검색어는 스냅샷이 있으면 n-gram 역색인으로 이름과 소개를 찾고 DB를 조회하지 않는다")
+    void searchClubsByName_ShortKeyword_UsesSnapshot() {
+        // given: 이름 "Name", 소개 "Summary"
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 2))));
+
+        // when
+        Page<ClubSummaryResponse> byName = clubService.searchClubsByName("nam", PageRequest.of(0, 10));
+        Page<ClubSummaryResponse> bySummary = clubService.searchClubsByName("mm", PageRequest.of(0, 10));
+        CursorSlice<ClubSummaryResponse> byCursor = clubService.searchClubsByNameCursor("am", null, 10);
+
+        // then
+        assertThat(byName.getContent()).extracting(ClubSummaryResponse::getId).containsExactly(1L);
+        assertThat(byName.getContent().get(0).getLikeCount()).isEqualTo(2);
+        assertThat(bySummary.getTotalElements()).isEqualTo(1);
+        assertThat(byCursor.content()).hasSize(1);
+        assertThat(byCursor.hasNext()).isFalse();
+        verify(clubRepository, never()).findIdsByKeywordIlike(any(), anyInt(), anyInt());
+        verify(clubRepository, never()).findIdsByKeywordIlikeAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 스냅샷의 초성 역색인으로 이름을 찾고 DB를 조회하지 않는다")
+    void searchClubsByName_Choseong_UsesSnapshot() {
+        // given
+        ReflectionTestUtils.setField(club, "name", "밴드 연합");
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 0))));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.searchClubsByName("ㅂㄷ ㅇㅎ", PageRequest.of(0, 10));
+        CursorSlice<ClubSummaryResponse> byCursor = clubService.searchClubsByNameCursor("ㄷㅇ", null, 10);
+
+        // then
+        assertThat(result.getContent()).extracting(ClubSummaryResponse::getId).containsExactly(1L);
+        assertThat(byCursor.content()).extracting(ClubSummaryResponse::getId).containsExactly(1L);
+        verify(clubRepository, never()).findIdsByChoseong(any(), anyInt(), anyInt());
+        verify(clubRepository, never()).findIdsByKeywordIlike(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("초성 검색은 스냅샷이 없으면 name_choseong 컬럼 조회로 폴백한다")
+    void searchClubsByName_Choseong_FallsBackToDb() {
+        // given
+        given(clubRepository.findIdsByChoseong("ㅂㄷ", 10, 0)).willReturn(List.of(1L));
+        given(clubRepository.countByChoseong("ㅂㄷ")).willReturn(1L);
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.searchClubsByName("ㅂㄷ", PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(ClubSummaryResponse::getId).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(clubRepository, never()).findIdsByKeywordIlike(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전문 검색은 스냅샷이 있으면 상세 설명까지 색인된 역색인에서 응답하고 DB를 조회하지 않는다")
+    void searchClubsFullText_UsesSnapshot() {
+        // given
+        ReflectionTestUtils.setField(club, "description", "매 학기 교내 해커톤에서 함께 프로젝트를 만듭니다.");
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 0))));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.searchClubsFullText(" 해커톤 ", PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(ClubSummaryResponse::getId).containsExactly(1L);
+        verify(clubRepository, never()).findIdsByFullTextIlike(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전문 검색은 스냅샷이 없으면 ILIKE 조회로 폴백하고, 빈 검색어는 거부한다")
+    void searchClubsFullText_FallsBackToDb() {
+        // given
+        given(clubRepository.findIdsByFullTextIlike("해커톤", 10, 0)).willReturn(List.of(1L));
+        given(clubRepository.countByFullTextIlike("해커톤")).willReturn(1L);
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.searchClubsFullText("해커톤", PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting(ClubSummaryResponse::getId).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThatThrownBy(() -> clubService.searchClubsFullText("  ", PageRequest.of(0, 10)))
+                .isInstanceOf(LogicException.class);
+    }
+
+    @Test
+    @DisplayName("자동완성은 스냅샷이 있으면 접두사 인덱스에서 응답하고 DB를 조회하지 않는다")
+    void autocomplete_UsesSnapshot() {
+        // given: 이름 "Name", 태그 "tech"
+        club.addTag(Tag.of("tech"));
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 2))));
+        given(clubLikeBuffer.pendingDelta(1L)).willReturn(1);
+
+        // when
+        ClubAutocompleteResponse byName = clubService.autocomplete(" NA", 10);
+        ClubAutocompleteResponse byTag = clubService.autocomplete("#Te", 10);
+
+        // then
+        assertThat(byName.clubs()).extracting(ClubAutocompleteResponse.ClubSuggestion::id).containsExactly(1L);
+        assertThat(byName.clubs().get(0).likeCount()).isEqualTo(3);
+        assertThat(byName.tags()).isEmpty();
+        assertThat(byTag.clubs()).isEmpty();
+        assertThat(byTag.tags()).containsExactly(new ClubAutocompleteResponse.TagSuggestion("tech", 1));
+        verify(clubRepository, never()).findIdsByNamePrefix(any(), anyInt());
+        verify(tagRepository, never()).findSuggestionsByPrefix(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("자동완성은 스냅샷이 없으면 이름/태그 접두사 쿼리로 폴백한다")
+    void autocomplete_FallsBackToDb() {
+        // given
+        given(clubRepository.findIdsByNamePrefix("na", 5)).willReturn(List.of(1L));
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 4)));
+        given(tagRepository.findSuggestionsByPrefix("na", 5)).willReturn(List.<Object[]>of(new Object[]{"nature", 3L}));
+
+        // when
+        ClubAutocompleteResponse result = clubService.autocomplete("Na", 5);
+
+        // then
+        assertThat(result.clubs()).containsExactly(new ClubAutocompleteResponse.ClubSuggestion(1L, "slug", "Name", null, 4));
+        assertThat(result.tags()).containsExactly(new ClubAutocompleteResponse.TagSuggestion("nature", 3));
+    }
+
+    @Test
+    @DisplayName("자동완성 검색어가 비어 있거나 size가 범위를 벗어나면 INVALID_INPUT 예외가 발생한다")
+    void autocomplete_InvalidInput() {
+        assertThatThrownBy(() -> clubService.autocomplete(" ", 10))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode").isEqualTo(ValidationErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> clubService.autocomplete("밴", 21))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode").isEqualTo(ValidationErrorCode.INVALID_INPUT);
+    }
+
     @Test
     @DisplayName("이름으로 동아리를 검색한다 (4자 이상 → trigram 경로)")
     void searchClubsByName_LongKeyword() {
@@ -453,7 +653,7 @@ class ClubServiceTest {
         PageRequest pageRequest = PageRequest.of(0, 10);
         given(clubRepository.findIdsByNameTrgm("축구동아리", 10, 0)).willReturn(List.of(1L));
         given(clubRepository.countByNameTrgm("축구동아리")).willReturn(1L);
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.searchClubsByName("축구동아리", pageRequest);
@@ -461,7 +661,27 @@ class ClubServiceTest {
         // then
         assertThat(result.getContent()).hasSize(1);
         verify(clubRepository).findIdsByNameTrgm("축구동아리", 10, 0);
-        verify(clubRepository, org.mockito.Mockito.never()).findIdsByNameIlike(any(), anyInt(), anyInt());
+        verify(clubRepository, org.mockito.Mockito.never()).findIdsByKeywordIlike(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("관련도 정렬이 켜져 있으면 trigram 후보를 점수 순 쿼리로 조회하고 개수는 기존 쿼리로 센다")
+    void searchClubsByName_Ranked_UsesRankedQuery() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        given(ranking.isEnabled()).willReturn(true);
+        given(clubRankedSearchRepository.findIdsByNameTrgm(eq("축구동아리"), eq(ranking), any(), eq(10), eq(0)))
+                .willReturn(List.of(1L));
+        given(clubRepository.countByNameTrgm("축구동아리")).willReturn(1L);
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.searchClubsByName("축구동아리", pageRequest);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(clubRepository, never()).findIdsByNameTrgm(any(), anyInt(), anyInt());
     }
 
     @Test
@@ -478,7 +698,42 @@ class ClubServiceTest {
         // then
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getTotalElements()).isEqualTo(0);
-        verify(clubRepository, org.mockito.Mockito.never()).findAllByIdInWithGraph(any());
+        verify(clubSummaryQueryRepository, never()).findByIds(any());
+    }
+
+    @Test
+    @DisplayName("결과가 없는 이름 검색은 스냅샷 철자 사전의 교정 후보를 함께 반환한다")
+    void searchClubsByName_NoResults_SuggestsCorrections() {
+        // given
+        ReflectionTestUtils.setField(club, "name", "강남대 GDGoC");
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 0))));
+        given(clubRepository.findIdsByNameTrgm("gdgco", 10, 0)).willReturn(List.of());
+        given(clubRepository.countByNameTrgm("gdgco")).willReturn(0L);
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.searchClubsByName("gdgco", PageRequest.of(0, 10));
+
+        // then
+        assertThat(result).isInstanceOf(ClubSearchPage.class);
+        assertThat(((ClubSearchPage) result).getSuggestions()).containsExactly("GDGoC");
+        verify(clubRepository, times(1)).findIdsByNameTrgm(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결과가 없는 태그 단독 검색은 없는 태그의 교정 후보를 함께 반환한다")
+    void filterClubs_TagOnlyNoResults_SuggestsCorrections() {
+        // given
+        club.addTag(Tag.of("tech"));
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 0))));
+        ClubFilterRequest filter = new ClubFilterRequest(null, null, null, null, null, "#tehc");
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.filterClubs(filter, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(((ClubSearchPage) result).getSuggestions()).containsExactly("tech");
+        verify(clubRepository, never()).findAll(any(org.springframework.data.jpa.domain.Specification.class), any(Pageable.class));
     }
 
     @Test
@@ -512,15 +767,82 @@ class ClubServiceTest {
     void searchClubsByName_TrimsKeyword() {
         // given: "  축구  " → strip → "축구" (2자, ILIKE 경로)
         PageRequest pageRequest = PageRequest.of(0, 10);
-        given(clubRepository.findIdsByNameIlike("축구", 10, 0)).willReturn(List.of(1L));
-        given(clubRepository.countByNameIlike("축구")).willReturn(1L);
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
+        given(clubRepository.findIdsByKeywordIlike("축구", 10, 0)).willReturn(List.of(1L));
+        given(clubRepository.countByKeywordIlike("축구")).willReturn(1L);
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         clubService.searchClubsByName("  축구  ", pageRequest);
 
         // then: 공백이 제거된 "축구"로 Repository가 호출됨
-        verify(clubRepository).findIdsByNameIlike("축구", 10, 0);
+        verify(clubRepository).findIdsByKeywordIlike("축구", 10, 0);
+    }
+
+    // ── cursor pagination ─────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("ILIKE 커서 검색은 size+1건을 조회해 다음 페이지 여부와 (이름, id) 커서를 만든다")
+    void searchClubsByNameCursor_ShortKeyword() {
+        // given: 첫 페이지는 ('', 0) 이후부터
+        given(clubRepository.findIdsByKeywordIlikeAfter("축구", "", 0L, 2)).willReturn(List.of(1L, 2L));
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        CursorSlice<ClubSummaryResponse> slice = clubService.searchClubsByNameCursor("축구", null, 1);
+
+        // then
+        assertThat(slice.content()).extracting(ClubSummaryResponse::getId).containsExactly(1L);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(ClubCursor.decode(slice.nextCursor())).isEqualTo(new ClubCursor("Name", 1L));
+    }
+
+    @Test
+    @DisplayName("trigram 커서 검색은 커서의 유사도와 id 이후부터 조회한다")
+    void searchClubsByNameCursor_LongKeyword() {
+        // given
+        String cursor = ClubCursor.of(0.8f, 5L).encode();
+        given(clubRepository.findIdsByNameTrgmAfter("축구동아리", 0.8f, 5L, 11))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 0.75f}));
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        CursorSlice<ClubSummaryResponse> slice = clubService.searchClubsByNameCursor("축구동아리", cursor, 10);
+
+        // then
+        assertThat(slice.content()).hasSize(1);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서나 범위를 벗어난 크기는 거부된다")
+    void searchClubsByNameCursor_InvalidInput() {
+        assertThatThrownBy(() -> clubService.searchClubsByNameCursor("축구", "!!not-base64!!", 10))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> clubService.searchClubsByNameCursor("축구", null, 101))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+    }
+
+    @Test
+    @DisplayName("필터 커서 조회는 Specification keyset 조회 결과를 순서대로 변환한다")
+    @SuppressWarnings("unchecked")
+    void filterClubsByCursor() {
+        // given
+        ClubFilterRequest filter = new ClubFilterRequest(List.of(1L), null, null, null, null, null);
+        given(clubRepository.findBy(any(org.springframework.data.jpa.domain.Specification.class), any()))
+                .willReturn(List.of(club));
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        CursorSlice<ClubSummaryResponse> slice = clubService.filterClubsByCursor(filter, null, 20);
+
+        // then
+        assertThat(slice.content()).extracting(ClubSummaryResponse::getId).containsExactly(1L);
+        assertThat(slice.hasNext()).isFalse();
     }
 
     // ── filterClubs ───────────────────────────────────────────────────────────
@@ -531,16 +853,16 @@ class ClubServiceTest {
         // given
         PageRequest pageRequest = PageRequest.of(0, 10);
         ClubFilterRequest filter = new ClubFilterRequest(null, null, null, null, "축구", null);
-        given(clubRepository.findIdsByNameIlike("축구", 10, 0)).willReturn(List.of(1L));
-        given(clubRepository.countByNameIlike("축구")).willReturn(1L);
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
+        given(clubRepository.findIdsByKeywordIlike("축구", 10, 0)).willReturn(List.of(1L));
+        given(clubRepository.countByKeywordIlike("축구")).willReturn(1L);
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.filterClubs(filter, pageRequest);
 
         // then: trigram/ILIKE 최적화 경로 사용
         assertThat(result.getContent()).hasSize(1);
-        verify(clubRepository).findIdsByNameIlike("축구", 10, 0);
+        verify(clubRepository).findIdsByKeywordIlike("축구", 10, 0);
     }
 
     @Test
@@ -551,8 +873,7 @@ class ClubServiceTest {
         ClubFilterRequest filter = new ClubFilterRequest(null, null, null, null, null, null);
         given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
                 .willReturn(new PageImpl<>(List.of(club)));
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
-        given(clubRepository.findLikeCountsByIds(List.of(1L))).willReturn(List.of());
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.filterClubs(filter, pageRequest);
@@ -560,10 +881,92 @@ class ClubServiceTest {
         // then: Specification 경로로 처리됨 (name 단독 경로 미사용)
         assertThat(result.getContent()).hasSize(1);
         verify(clubRepository).findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest));
-        verify(clubRepository, org.mockito.Mockito.never()).findIdsByNameIlike(any(), anyInt(), anyInt());
+        verify(clubRepository, org.mockito.Mockito.never()).findIdsByKeywordIlike(any(), anyInt(), anyInt());
         verify(clubRepository, org.mockito.Mockito.never()).findIdsByNameTrgm(any(), anyInt(), anyInt());
     }
 
+    @Test
+    @DisplayName("필터 결과 캐시가 비어 있으면 DB 조회 결과의 id와 전체 개수를 정규화된 키로 넣는다")
+    void filterClubs_CacheMiss_PutsResult() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        ClubFilterRequest filter = new ClubFilterRequest(List.of(2L, 1L), null, false, null, null, null);
+        given(filterCache.isEnabled()).willReturn(true);
+        given(filterCache.generation()).willReturn(7L);
+        given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
+                .willReturn(new PageImpl<>(List.of(club)));
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        clubService.filterClubs(filter, pageRequest);
+
+        // then
+        ClubFilterCache.Key key = ClubFilterCache.Key.of(
+                new ClubFilterRequest(List.of(1L, 2L), null, false, null, null, null), pageRequest);
+        verify(filterCache).put(key, List.of(1L), 1L, 7L);
+    }
+
+    @Test
+    @DisplayName("필터 결과 캐시 적중 시 필터 평가와 count 없이 스냅샷의 현재 항목으로 응답한다")
+    void filterClubs_CacheHit_UsesSnapshotEntries() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        ClubFilterRequest filter = new ClubFilterRequest(List.of(1L), null, null, null, null, null);
+        given(filterCache.isEnabled()).willReturn(true);
+        given(filterCache.get(ClubFilterCache.Key.of(filter, pageRequest)))
+                .willReturn(new ClubFilterCache.CachedPage(List.of(1L), 1));
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 4))));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.filterClubs(filter, pageRequest);
+
+        // then
+        assertThat(result.getContent()).extracting(ClubSummaryResponse::getLikeCount).containsExactly(4);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(filterCache, never()).put(any(), any(), anyLong(), anyLong());
+        verify(clubRepository, never()).findAll(any(org.springframework.data.jpa.domain.Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("count=NONE이면 DB 경로에서 count 없이 한 건 더 읽어 hasNext를 정하고 전체 개수는 -1이다")
+    void filterClubs_CountNone_SkipsCount() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 1);
+        ClubFilterRequest filter = new ClubFilterRequest(List.of(1L), null, null, null, null, null);
+        given(clubSliceQueryRepository.findIds(any(), eq(pageRequest))).willReturn(List.of(1L, 2L));
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.filterClubs(filter, pageRequest, CountMode.NONE);
+
+        // then
+        assertThat(result).isInstanceOf(SlicePage.class);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getTotalElements()).isEqualTo(-1);
+        verify(clubRepository, never()).findAll(any(org.springframework.data.jpa.domain.Specification.class), any(Pageable.class));
+        verify(clubRepository, never()).count(any(org.springframework.data.jpa.domain.Specification.class));
+        verify(filterCache, never()).put(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("count=CACHED이면 trigram 검색의 전체 개수를 count 캐시에서 꺼낸다")
+    void searchClubsByName_CountCached_UsesCountCache() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        given(clubRepository.findIdsByNameTrgm("축구동아리", 11, 0)).willReturn(List.of(1L));
+        given(countCache.get(eq(new ClubCountCache.Key("trgm", "축구동아리")), any())).willReturn(7L);
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.searchClubsByName("축구동아리", pageRequest, CountMode.CACHED);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(7);
+        assertThat(result.hasNext()).isFalse();
+        verify(clubRepository, never()).countByNameTrgm(any());
+    }
+
     @Test
     @DisplayName("빈 categoryIds는 필터 없음으로 처리되어 전체 공개 목록을 반환한다")
     void filterClubs_EmptyCategoryIds_TreatedAsNoFilter() {
@@ -572,8 +975,7 @@ class ClubServiceTest {
         ClubFilterRequest filter = new ClubFilterRequest(List.of(), null, null, null, null, null);
         given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
                 .willReturn(new PageImpl<>(List.of(club)));
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
-        given(clubRepository.findLikeCountsByIds(List.of(1L))).willReturn(List.of());
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.filterClubs(filter, pageRequest);
@@ -591,16 +993,15 @@ class ClubServiceTest {
         ClubFilterRequest filter = new ClubFilterRequest(null, null, true, null, null, "운동");
         given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
                 .willReturn(new PageImpl<>(List.of(club)));
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
-        given(clubRepository.findLikeCountsByIds(List.of(1L))).willReturn(List.of());
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.filterClubs(filter, pageRequest);
 
-        // then: Specification으로 처리됨 (findIdsByNameIlike 미호출)
+        // then: Specification으로 처리됨 (findIdsByKeywordIlike 미호출)
         assertThat(result.getContent()).hasSize(1);
         verify(clubRepository).findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest));
-        verify(clubRepository, org.mockito.Mockito.never()).findIdsByNameIlike(any(), anyInt(), anyInt());
+        verify(clubRepository, org.mockito.Mockito.never()).findIdsByKeywordIlike(any(), anyInt(), anyInt());
     }
 
     @Test
@@ -611,15 +1012,14 @@ class ClubServiceTest {
         ClubFilterRequest filter = new ClubFilterRequest(null, null, null, null, "축구", "운동");
         given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
                 .willReturn(new PageImpl<>(List.of(club)));
-        given(clubRepository.findAllByIdInWithGraph(List.of(1L))).willReturn(List.of(club));
-        given(clubRepository.findLikeCountsByIds(List.of(1L))).willReturn(List.of());
+        given(clubSummaryQueryRepository.findByIds(List.of(1L))).willReturn(List.of(new ClubSummaryResponse(club, 0)));
 
         // when
         Page<ClubSummaryResponse> result = clubService.filterClubs(filter, pageRequest);
 
         // then: trigram 경로(ILIKE)가 아닌 Specification 경로 사용
         verify(clubRepository).findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest));
-        verify(clubRepository, org.mockito.Mockito.never()).findIdsByNameIlike(any(), anyInt(), anyInt());
+        verify(clubRepository, org.mockito.Mockito.never()).findIdsByKeywordIlike(any(), anyInt(), anyInt());
         verify(clubRepository, org.mockito.Mockito.never()).findIdsByNameTrgm(any(), anyInt(), anyInt());
         assertThat(result.getContent()).hasSize(1);
     }
@@ -638,7 +1038,455 @@ class ClubServiceTest {
 
         // then
         assertThat(result.getContent()).isEmpty();
-        verify(clubRepository, org.mockito.Mockito.never()).findAllByIdInWithGraph(any());
+        verify(clubSummaryQueryRepository, never()).findByIds(any());
+    }
+
+    @Test
+    @DisplayName("카탈로그 스냅샷이 있으면 DB를 조회하지 않고 스냅샷에서 필터링한다")
+    void filterClubs_WithSnapshot_DoesNotTouchRepository() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        ClubFilterRequest filter = new ClubFilterRequest(null, null, false, true, null, null);
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 3))));
+
+        // when
+        Page<ClubSummaryResponse> result = clubService.filterClubs(filter, pageRequest);
+
+        // then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).getLikeCount()).isEqualTo(3);
+        verify(clubRepository, org.mockito.Mockito.never())
+                .findAll(any(org.springframework.data.jpa.domain.Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 지원하지 않는 정렬이면 Specification 경로로 폴백한다")
+    void filterClubs_UnsupportedSort_FallsBackToSpecification() {
+        // given
+        PageRequest pageRequest = PageRequest.of(0, 10, org.springframework.data.domain.Sort.by("summary"));
+        ClubFilterRequest filter = new ClubFilterRequest(null, null, true, null, null, null);
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 0))));
+        given(clubRepository.findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest)))
+                .willReturn(new PageImpl<>(List.of()));
+
+        // when
+        clubService.filterClubs(filter, pageRequest);
+
+        // then
+        verify(clubRepository).findAll(any(org.springframework.data.jpa.domain.Specification.class), eq(pageRequest));
+    }
+
+    @Test
+    @DisplayName("카탈로그 스냅샷이 있으면 facet 개수를 스냅샷에서 계산한다")
+    void getFacetCounts_WithSnapshot() {
+        // given
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 0))));
+
+        // when
+        ClubFacetCountsResponse result = clubService.getFacetCounts(ClubFilterRequest.empty());
+
+        // then
+        assertThat(result.total()).isEqualTo(1);
+        assertThat(result.categories()).containsExactly(new ClubFacetCountsResponse.FacetCount<>(1L, 1));
+        verify(clubFacetQueryRepository, never()).countFacets(any());
+    }
+
+    @Test
+    @DisplayName("카탈로그 스냅샷이 없으면 facet 개수를 DB 한 문장으로 센다")
+    void getFacetCounts_WithoutSnapshot_FallsBackToQuery() {
+        // given
+        ClubFilterRequest filter = new ClubFilterRequest(List.of(1L), null, null, null, null, null);
+        ClubFacetCountsResponse counts = new ClubFacetCountsResponse(0, List.of(), List.of(), List.of(), List.of(), List.of());
+        given(clubFacetQueryRepository.countFacets(filter)).willReturn(counts);
+
+        // when
+        ClubFacetCountsResponse result = clubService.getFacetCounts(filter);
+
+        // then
+        assertThat(result).isSameAs(counts);
+    }
+
+    @Test
+    @DisplayName("동아리를 수정하면 ClubChangedEvent를 발행한다")
+    void updateClub_PublishesChangedEvent() {
+        // given
+        given(clubRepository.findByIdWithAuthor(1L)).willReturn(Optional.of(club));
+        given(tagRepository.findByName(any())).willReturn(Optional.empty());
+        given(tagRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        clubService.updateClub(1L, createUpdateRequest());
+
+        // then
+        verify(eventPublisher).publishEvent(new ClubChangedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("좋아요가 실제로 추가되면 ClubLikeChangedEvent를 발행한다")
+    void toggleLike_PublishesLikeChangedEvent() {
+        // given
+        given(clubRepository.existsById(1L)).willReturn(true);
+        given(userService.existsById(2L)).willReturn(true);
+        given(clubRepository.addLikeAtomic(2L, 1L)).willReturn(1);
+
+        // when
+        clubService.toggleLike(1L, 2L);
+
+        // then
+        verify(eventPublisher).publishEvent(new ClubLikeChangedEvent(1L, 2L, true));
+    }
+
+    @Test
+    @DisplayName("write-behind 모드에서는 토글을 버퍼에 위임하고 DB에 직접 쓰지 않는다")
+    void toggleLike_WriteBehind() {
+        // given
+        given(clubLikeBuffer.isEnabled()).willReturn(true);
+        given(clubLikeBuffer.toggle(eq(2L), eq(1L), any())).willReturn(true);
+
+        // when
+        boolean isLiked = clubService.toggleLike(1L, 2L);
+
+        // then
+        assertThat(isLiked).isTrue();
+        verify(clubRepository, never()).addLikeAtomic(anyLong(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("버퍼에 미반영 토글이 있으면 상세 조회가 그 상태와 좋아요 수를 반영한다")
+    void getPublicClubById_OverlaysPendingLike() {
+        // given
+        given(clubDetailQueryRepository.findPublicById(1L, 2L))
+                .willReturn(Optional.of(new ClubDetailResponse(club, false, 4)));
+        given(clubLikeBuffer.pendingState(2L, 1L)).willReturn(true);
+        given(clubLikeBuffer.pendingDelta(1L)).willReturn(1);
+
+        // when
+        ClubDetailResponse response = clubService.getPublicClubById(1L, 2L);
+
+        // then
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.getLikeCount()).isEqualTo(5);
+        assertThat(response.getName()).isEqualTo("Name");
+        verify(clubRepository, never()).existsLikeByUserIdAndClubId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 동아리의 상세 상태는 엔티티나 좋아요 수를 DB에서 읽지 않고 만든다")
+    void getPublicClubState_FromSnapshot() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 3, 16, 9, 0);
+        ReflectionTestUtils.setField(club, "updatedAt", updatedAt);
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 3))));
+        given(clubLikeBuffer.pendingState(2L, 1L)).willReturn(null);
+        given(clubRepository.existsLikeByUserIdAndClubId(2L, 1L)).willReturn(true);
+
+        // when
+        ClubDetailState state = clubService.getPublicClubState(1L, 2L);
+
+        // then
+        HttpValidator validator = state.validator();
+        assertThat(state.likeState()).isEqualTo(new ClubLikeState(true, 3));
+        assertThat(validator.etag()).startsWith("1-").endsWith("-3-1");
+        verify(clubRepository, never()).findPublicVersion(anyLong(), any());
+        verify(clubRepository, never()).findByIdWithAuthor(anyLong());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 검증 값을 한 번에 조회하며, 같은 상태면 스냅샷 경로와 같은 ETag를 만든다")
+    void getPublicClubState_FallsBackToQuery() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 3, 16, 9, 0);
+        ReflectionTestUtils.setField(club, "updatedAt", updatedAt);
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 3))));
+        given(clubLikeBuffer.pendingState(2L, 1L)).willReturn(null);
+        given(clubRepository.existsLikeByUserIdAndClubId(2L, 1L)).willReturn(true);
+        String fromSnapshot = clubService.getPublicClubState(1L, 2L).validator().etag();
+
+        given(clubCatalog.current()).willReturn(null);
+        given(clubRepository.findPublicVersion(1L, 2L)).willReturn(Optional.of(version(updatedAt, 3, true)));
+
+        // when
+        ClubDetailState state = clubService.getPublicClubState(1L, 2L);
+
+        // then
+        assertThat(state.validator().etag()).isEqualTo(fromSnapshot);
+        verify(clubRepository, never()).findByIdWithAuthor(anyLong());
+    }
+
+    @Test
+    @DisplayName("공개 동아리가 아니면 상세 상태가 없어 본 조회가 404를 응답한다")
+    void getPublicClubState_NotPublic() {
+        // given
+        given(clubRepository.findPublicVersion(1L, 2L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThat(clubService.getPublicClubState(1L, 2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("동아리 일괄 조회는 입력 순서를 유지하고 비공개/없는 id를 건너뛰며 좋아요 여부를 한 번에 읽는다")
+    void getPublicClubsByIds() {
+        // given
+        Club privateClub = Club.builder().name("Private").author(author).category(category).slug("private")
+                .summary("Summary").recruitingStatus(RecruitingStatus.OPEN).isPublic(false).build();
+        ReflectionTestUtils.setField(privateClub, "id", 2L);
+        Club other = Club.builder().name("Other").author(author).category(category).slug("other")
+                .summary("Summary").recruitingStatus(RecruitingStatus.OPEN).isPublic(true).build();
+        ReflectionTestUtils.setField(other, "id", 3L);
+        given(clubRepository.findAllByIdInWithGraph(List.of(3L, 1L, 99L, 2L))).willReturn(List.of(club, privateClub, other));
+        given(clubRepository.findLikeCountsByIds(List.of(3L, 1L))).willReturn(List.of(new Object[]{1L, 4L}, new Object[]{3L, 2L}));
+        given(likedSetCache.get(5L)).willReturn(new long[]{1L, 3L});
+        given(clubLikeBuffer.isEnabled()).willReturn(true);
+        given(clubLikeBuffer.pendingState(eq(5L), anyLong())).willReturn(null);
+        given(clubLikeBuffer.pendingState(5L, 3L)).willReturn(false);
+        given(clubLikeBuffer.pendingDelta(3L)).willReturn(-1);
+
+        // when
+        ClubBatchResponse response = clubService.getPublicClubsByIds(List.of(3L, 1L, 99L, 3L, 2L), 5L);
+
+        // then
+        assertThat(response.clubs()).extracting(ClubSummaryResponse::getId).containsExactly(3L, 1L);
+        assertThat(response.clubs()).extracting(ClubSummaryResponse::getLikeCount).containsExactly(1, 4);
+        assertThat(response.liked()).containsExactly(entry(3L, false), entry(1L, true));
+        assertThat(response.clubs()).extracting(ClubSummaryResponse::isLiked).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("목록 페이지의 좋아요 여부는 사용자의 좋아요 집합으로 채우며 DB를 조회하지 않는다")
+    void withLiked() {
+        // given
+        Club other = Club.builder().name("Other").author(author).category(category).slug("other")
+                .summary("Summary").recruitingStatus(RecruitingStatus.OPEN).isPublic(true).build();
+        ReflectionTestUtils.setField(other, "id", 3L);
+        Page<ClubSummaryResponse> page = new PageImpl<>(
+                List.of(new ClubSummaryResponse(club, 4), new ClubSummaryResponse(other, 1)), PageRequest.of(0, 10), 2);
+        given(likedSetCache.get(5L)).willReturn(new long[]{3L, 8L});
+
+        // when
+        Page<ClubSummaryResponse> liked = clubService.withLiked(page, 5L);
+        Page<ClubSummaryResponse> anonymous = clubService.withLiked(page, null);
+
+        // then
+        assertThat(liked.getContent()).extracting(ClubSummaryResponse::isLiked).containsExactly(false, true);
+        assertThat(liked.getContent()).extracting(ClubSummaryResponse::getLikeCount).containsExactly(4, 1);
+        assertThat(liked.getTotalElements()).isEqualTo(2);
+        assertThat(anonymous).isSameAs(page);
+        verify(clubRepository, never()).existsLikeByUserIdAndClubId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("커서 페이지도 좋아요 여부를 채우고, write-behind 미반영 토글을 우선한다")
+    void withLiked_Cursor() {
+        // given
+        CursorSlice<ClubSummaryResponse> slice = new CursorSlice<>(List.of(new ClubSummaryResponse(club, 4)), "next", true);
+        given(likedSetCache.get(5L)).willReturn(new long[]{1L});
+        given(clubLikeBuffer.isEnabled()).willReturn(true);
+        given(clubLikeBuffer.pendingState(5L, 1L)).willReturn(false);
+
+        // when
+        CursorSlice<ClubSummaryResponse> result = clubService.withLiked(slice, 5L);
+
+        // then
+        assertThat(result.content().get(0).isLiked()).isFalse();
+        assertThat(result.nextCursor()).isEqualTo("next");
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자별 목록 검증자는 카탈로그 버전에 좋아요 집합을 더하며, 집합이 같으면 같은 ETag다")
+    void getCatalogValidator_PerUser() {
+        // given
+        given(clubCatalog.versionTag()).willReturn("abc-5");
+        given(likedSetCache.get(5L)).willReturn(new long[]{1L, 3L});
+        given(likedSetCache.get(6L)).willReturn(new long[]{1L, 3L});
+        given(likedSetCache.get(7L)).willReturn(new long[]{1L});
+
+        // when
+        String first = clubService.getCatalogValidator(5L).etag();
+        String same = clubService.getCatalogValidator(6L).etag();
+        String other = clubService.getCatalogValidator(7L).etag();
+
+        // then
+        assertThat(first).startsWith("abc-5-2-");
+        assertThat(same).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+        assertThat(clubService.getCatalogValidator(null).etag()).isEqualTo("abc-5");
+    }
+
+    @Test
+    @DisplayName("동아리 일괄 조회는 id가 없거나 최대 개수를 넘으면 조회 없이 예외가 발생한다")
+    void getPublicClubsByIds_InvalidSize() {
+        // given
+        List<Long> tooMany = LongStream.rangeClosed(1, 51).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> clubService.getPublicClubsByIds(List.of(), 5L))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> clubService.getPublicClubsByIds(tooMany, 5L))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+        verify(clubRepository, never()).findAllByIdInWithGraph(any());
+    }
+
+    @Test
+    @DisplayName("인기 급상승 동아리는 집계 순위대로 공개 동아리만 요청 크기까지 반환한다")
+    void getTrendingClubs() {
+        // given
+        given(trendingCounter.top(TrendingWindow.WEEK))
+                .willReturn(List.of(new Ranked(3L, 5), new Ranked(7L, 4), new Ranked(1L, 2), new Ranked(2L, 1)));
+        given(clubSummaryQueryRepository.findPublicByIds(List.of(3L, 7L, 1L, 2L)))
+                .willReturn(List.of(trendingSummary(3L), trendingSummary(1L), trendingSummary(2L)));
+        given(likedSetCache.get(5L)).willReturn(new long[]{1L});
+
+        // when
+        List<ClubTrendingResponse> result = clubService.getTrendingClubs("7d", 2, 5L);
+
+        // then: 7번은 비공개로 바뀌어 빠진다
+        assertThat(result).extracting(r -> r.club().getId()).containsExactly(3L, 1L);
+        assertThat(result).extracting(ClubTrendingResponse::recentLikes).containsExactly(5, 2);
+        assertThat(result).extracting(r -> r.club().isLiked()).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("인기 급상승 동아리는 기간이나 크기가 올바르지 않으면 집계를 읽지 않고 예외가 발생한다")
+    void getTrendingClubs_Invalid() {
+        assertThatThrownBy(() -> clubService.getTrendingClubs("1h", 10, null))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+        assertThatThrownBy(() -> clubService.getTrendingClubs("24h", 51, null))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+        verify(trendingCounter, never()).top(any());
+    }
+
+    @Test
+    @DisplayName("비슷한 동아리는 스냅샷의 이웃 표를 유사도 순으로 읽고 DB를 조회하지 않는다")
+    void getSimilarClubs() {
+        // given
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(
+                similarEntry(1L, "개발", "스터디"),
+                similarEntry(2L, "개발"),
+                similarEntry(3L, "개발", "스터디"),
+                similarEntry(4L, "음악"))));
+        given(clubLikeBuffer.pendingDelta(3L)).willReturn(1);
+        given(likedSetCache.get(5L)).willReturn(new long[]{2L});
+
+        // when
+        List<ClubSummaryResponse> result = clubService.getSimilarClubs(1L, 2, 5L);
+
+        // then
+        assertThat(result).extracting(ClubSummaryResponse::getId).containsExactly(3L, 2L);
+        assertThat(result.get(0).getLikeCount()).isEqualTo(1);
+        assertThat(result).extracting(ClubSummaryResponse::isLiked).containsExactly(false, true);
+        verify(clubSummaryQueryRepository, never()).findPublicByIds(any());
+        verify(clubRepository, never()).existsByIdAndIsPublicTrue(any());
+    }
+
+    @Test
+    @DisplayName("비슷한 동아리는 크기가 올바르지 않으면 예외, 공개 동아리가 아니면 404다")
+    void getSimilarClubs_Invalid() {
+        assertThatThrownBy(() -> clubService.getSimilarClubs(1L, ClubCatalogSnapshot.MAX_SIMILAR + 1, null))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ValidationErrorCode.INVALID_INPUT);
+
+        given(clubCatalog.current()).willReturn(ClubCatalogSnapshot.of(1L, List.of(similarEntry(1L, "개발"))));
+        assertThatThrownBy(() -> clubService.getSimilarClubs(9L, 10, null))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ResourceErrorCode.RESOURCE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("비슷한 동아리는 스냅샷이 없으면 DB로 공개 동아리인지 확인해 없으면 404, 있으면 빈 목록이다")
+    void getSimilarClubs_WithoutSnapshot() {
+        // given
+        given(clubCatalog.current()).willReturn(null);
+        given(clubRepository.existsByIdAndIsPublicTrue(1L)).willReturn(true);
+        given(clubRepository.existsByIdAndIsPublicTrue(9L)).willReturn(false);
+
+        // when & then
+        assertThat(clubService.getSimilarClubs(1L, 10, 5L)).isEmpty();
+        assertThatThrownBy(() -> clubService.getSimilarClubs(9L, 10, 5L))
+                .isInstanceOf(LogicException.class)
+                .extracting("errorCode")
+                .isEqualTo(ResourceErrorCode.RESOURCE_NOT_FOUND);
+        verify(likedSetCache, never()).get(any());
+    }
+
+    private static ClubCatalogEntry similarEntry(Long id, String... tags) {
+        return new ClubCatalogEntry(id, "slug-" + id, "동아리 " + id, "summary", null, null, RecruitingStatus.OPEN,
+                null, false, 0, List.of(tags), 1L, "category", null, null, "author", null, null);
+    }
+
+    private static ClubSummaryResponse trendingSummary(Long id) {
+        return ClubSummaryResponse.builder()
+                .id(id)
+                .name("동아리 " + id)
+                .recruitingStatus(RecruitingStatus.OPEN)
+                .tags(List.of())
+                .build();
+    }
+
+    @Test
+    @DisplayName("목록 검증자는 카탈로그 버전과 write-behind 미반영 좋아요 버전으로 만들며, 스냅샷 적재 전에는 없다")
+    void getCatalogValidator() {
+        // given
+        given(clubCatalog.versionTag()).willReturn(null, "abc-5");
+        given(clubLikeBuffer.isEnabled()).willReturn(true);
+        given(clubLikeBuffer.version()).willReturn(9L);
+
+        // when & then
+        assertThat(clubService.getCatalogValidator()).isNull();
+        assertThat(clubService.getCatalogValidator().etag()).isEqualTo("abc-5-9");
+    }
+
+    @Test
+    @DisplayName("상세 상태의 좋아요 값은 스냅샷이 있으면 좋아요 수를 DB에서 읽지 않고, 없으면 검증 값과 함께 한 번에 읽는다")
+    void getPublicClubState_LikeState() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 3, 16, 9, 0);
+        given(clubCatalog.current())
+                .willReturn(ClubCatalogSnapshot.of(1L, List.of(ClubCatalogEntry.from(club, 4))))
+                .willReturn(null);
+        given(clubLikeBuffer.pendingState(2L, 1L)).willReturn(true);
+        given(clubLikeBuffer.pendingDelta(1L)).willReturn(1);
+        given(clubRepository.findPublicVersion(1L, 2L)).willReturn(Optional.of(version(updatedAt, 6, false)));
+
+        // when
+        ClubLikeState fromSnapshot = clubService.getPublicClubState(1L, 2L).likeState();
+        ClubLikeState fromDb = clubService.getPublicClubState(1L, 2L).likeState();
+
+        // then
+        assertThat(fromSnapshot).isEqualTo(new ClubLikeState(true, 5));
+        assertThat(fromDb).isEqualTo(new ClubLikeState(true, 7));
+        verify(clubRepository, never()).countLikesByClubId(anyLong());
+        verify(clubRepository, never()).existsLikeByUserIdAndClubId(anyLong(), anyLong());
+    }
+
+    private static ClubRepository.ClubVersion version(LocalDateTime updatedAt, int likeCount, boolean liked) {
+        return new ClubRepository.ClubVersion() {
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+
+            @Override
+            public int getLikeCount() {
+                return likeCount;
+            }
+
+            @Override
+            public boolean isLiked() {
+                return liked;
+            }
+        };
     }
 
     @Test
@@ -0,0 +1,165 @@
+package gdgoc.everyclub.club.trending;
+
+import gdgoc.everyclub.club.config.ClubTrendingProperties;
+import gdgoc.everyclub.club.dto.TrendingWindow;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.like.ClubLikeBuffer;
+import gdgoc.everyclub.club.repository.ClubTrendingBucketRepository;
+import gdgoc.everyclub.club.repository.ClubTrendingBucketRepository.Bucket;
+import gdgoc.everyclub.club.trending.ClubTrendingCounter.Ranked;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ClubTrendingCounterTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    /** 시간 번호 1000이 시작하는 시각. */
+    private static final long START = 1000 * HOUR;
+
+    @Mock
+    private ClubTrendingBucketRepository bucketRepository;
+
+    private final AtomicLong now = new AtomicLong(START);
+    private ClubTrendingProperties properties;
+    private ClubTrendingCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ClubTrendingProperties();
+        counter = new ClubTrendingCounter(bucketRepository, properties, now::get);
+    }
+
+    @Test
+    @DisplayName("순 좋아요 수가 많은 순으로 순위를 매기고, 취소로 0이 된 동아리는 빠진다")
+    void top_RanksByNetLikes() {
+        // given
+        like(1L, 2);
+        like(2L, 3);
+        like(3L, 1);
+        counter.onLikeChanged(new ClubLikeChangedEvent(3L, 9L, false));
+
+        // when
+        List<Ranked> top = counter.top(TrendingWindow.DAY);
+
+        // then
+        assertThat(top).containsExactly(new Ranked(2L, 3), new Ranked(1L, 2));
+        assertThat(counter.top(TrendingWindow.WEEK)).isEqualTo(top);
+    }
+
+    @Test
+    @DisplayName("24시간이 지난 버킷은 24h 순위에서만 빠지고 7일이 지나면 7d 순위에서도 빠진다")
+    void top_ExpiresBucketsPerWindow() {
+        // given
+        like(1L, 3);
+        now.addAndGet(23 * HOUR);
+        like(2L, 1);
+
+        // when: 첫 버킷이 24시간 기간을 벗어난다
+        now.addAndGet(HOUR);
+
+        // then
+        assertThat(counter.top(TrendingWindow.DAY)).containsExactly(new Ranked(2L, 1));
+        assertThat(counter.top(TrendingWindow.WEEK)).containsExactly(new Ranked(1L, 3), new Ranked(2L, 1));
+
+        // when: 첫 버킷이 7일 기간을 벗어난다
+        now.set(START + 168 * HOUR);
+
+        // then
+        assertThat(counter.top(TrendingWindow.WEEK)).containsExactly(new Ranked(2L, 1));
+    }
+
+    @Test
+    @DisplayName("상위 top-size개만 반환한다")
+    void top_LimitedToTopSize() {
+        // given
+        properties.setTopSize(2);
+        like(1L, 1);
+        like(2L, 2);
+        like(3L, 3);
+
+        // when & then
+        assertThat(counter.top(TrendingWindow.DAY)).extracting(Ranked::clubId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 바뀐 버킷만 현재 값으로 저장하고, 복원하면 같은 순위가 된다")
+    void snapshot_ThenRestore() {
+        // given
+        like(1L, 2);
+        now.addAndGet(30 * HOUR);
+        like(2L, 1);
+
+        // when
+        int saved = counter.snapshot();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Bucket>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bucketRepository).upsert(captor.capture());
+        assertThat(saved).isEqualTo(2);
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(new Bucket(1L, 1000, 2), new Bucket(2L, 1030, 1));
+        verify(bucketRepository).deleteBefore(1030 - 167);
+
+        // when: 재기동 후 복원
+        given(bucketRepository.findSince(1030 - 167)).willReturn(captor.getValue());
+        ClubTrendingCounter restored = new ClubTrendingCounter(bucketRepository, properties, now::get);
+        restored.restore();
+
+        // then
+        assertThat(restored.top(TrendingWindow.DAY)).containsExactly(new Ranked(2L, 1));
+        assertThat(restored.top(TrendingWindow.WEEK)).isEqualTo(counter.top(TrendingWindow.WEEK));
+        assertThat(restored.snapshot()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 좋아요 버퍼가 flush된 뒤에 멈추며 마지막 스냅샷을 저장한다")
+    void stop_SnapshotsAfterLikeBuffer() {
+        // given
+        counter.start();
+        like(1L, 1);
+
+        // when
+        counter.stop();
+
+        // then: SmartLifecycle은 phase가 높은 빈부터 멈춘다
+        assertThat(counter.getPhase()).isLessThan(ClubLikeBuffer.PHASE);
+        assertThat(counter.isRunning()).isFalse();
+        verify(bucketRepository).upsert(List.of(new Bucket(1L, 1000, 1)));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 집계하지 않고 빈 순위를 반환한다")
+    void disabled_IgnoresEvents() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        counter.onLikeChanged(new ClubLikeChangedEvent(1L, 9L, true));
+        counter.scheduledSnapshot();
+
+        // then
+        assertThat(counter.top(TrendingWindow.DAY)).isEmpty();
+        verifyNoInteractions(bucketRepository);
+    }
+
+    private void like(Long clubId, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.onLikeChanged(new ClubLikeChangedEvent(clubId, (long) i, true));
+        }
+    }
+}
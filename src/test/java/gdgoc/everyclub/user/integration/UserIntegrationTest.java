@@ -3,11 +3,15 @@ package gdgoc.everyclub.user.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gdgoc.everyclub.auth.domain.SignupVerification;
 import gdgoc.everyclub.auth.repository.SignupVerificationRepository;
+import gdgoc.everyclub.club.domain.Category;
+import gdgoc.everyclub.club.domain.Club;
+import gdgoc.everyclub.club.domain.ClubLike;
 import gdgoc.everyclub.security.dto.CustomUserDetails;
 import gdgoc.everyclub.user.domain.User;
 import gdgoc.everyclub.user.dto.UserCreateRequest;
 import gdgoc.everyclub.user.dto.UserUpdateRequest;
 import gdgoc.everyclub.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -54,6 +58,9 @@ class UserIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         signupVerificationRepository.deleteAll();
@@ -221,6 +228,48 @@ class UserIntegrationTest {
         assertThat(userRepository.findById(user.getId())).isEmpty();
     }
 
+    @Test
+    @DisplayName("DELETE /api/users/me - 좋아요를 함께 삭제하고 동아리 좋아요 수를 줄인다")
+    void deleteMyAccount_RemovesLikes_Integration() throws Exception {
+        // given: 탈퇴할 사용자와 다른 사용자가 같은 동아리에 좋아요
+        User user = saveUser("liker@kangnam.ac.kr", "Liker");
+        User other = saveUser("other@kangnam.ac.kr", "Other");
+        Category category = new Category("Academic");
+        entityManager.persist(category);
+        Club club = Club.builder()
+                .name("Like Club")
+                .slug("like-club")
+                .summary("Summary")
+                .author(other)
+                .category(category)
+                .isPublic(true)
+                .build();
+        entityManager.persist(club);
+        entityManager.persist(ClubLike.of(user, club));
+        entityManager.persist(ClubLike.of(other, club));
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE club SET like_count = 2 WHERE id = :id")
+                .setParameter("id", club.getId())
+                .executeUpdate();
+
+        // when
+        mockMvc.perform(delete("/api/users/me")
+                        .with(user(userDetails(user.getId())))
+                        .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        // then
+        Number likeCount = (Number) entityManager.createNativeQuery("SELECT like_count FROM club WHERE id = :id")
+                .setParameter("id", club.getId())
+                .getSingleResult();
+        Number remaining = (Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM club_likes WHERE club_id = :id")
+                .setParameter("id", club.getId())
+                .getSingleResult();
+        assertThat(likeCount.intValue()).isEqualTo(1);
+        assertThat(remaining.intValue()).isEqualTo(1);
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+    }
+
     @Test
     @DisplayName("GET /api/users/me - 존재하지 않는 유저 → 404")
     void getMyProfile_NonExistentUser_Integration() throws Exception {
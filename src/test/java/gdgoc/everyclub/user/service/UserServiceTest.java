@@ -1,6 +1,8 @@
 package gdgoc.everyclub.user.service;
 
 import gdgoc.everyclub.auth.service.SignupService;
+import gdgoc.everyclub.club.event.ClubLikeChangedEvent;
+import gdgoc.everyclub.club.repository.ClubRepository;
 import gdgoc.everyclub.common.exception.AuthErrorCode;
 import gdgoc.everyclub.common.exception.BusinessErrorCode;
 import gdgoc.everyclub.common.exception.LogicException;
@@ -19,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -30,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +55,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ClubRepository clubRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -203,6 +213,27 @@ class UserServiceTest {
         userService.deleteUser(1L);
 
         verify(userRepository).delete(testUser);
+        verify(clubRepository, never()).deleteLikesByUserId(any(), any());
+        verify(clubRepository, never()).decrementLikeCounts(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("유저 삭제 시 좋아요를 함께 삭제하고 동아리마다 좋아요 취소 이벤트를 발행한다")
+    void deleteUser_RemovesLikes() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+        given(clubRepository.lockLikedClubIdsByUserId(1L)).willReturn(List.of(10L, 20L));
+
+        // when
+        userService.deleteUser(1L);
+
+        // then
+        verify(clubRepository).deleteLikesByUserId(1L, List.of(10L, 20L));
+        verify(clubRepository).decrementLikeCounts(List.of(10L, 20L));
+        verify(eventPublisher).publishEvent(new ClubLikeChangedEvent(10L, 1L, false));
+        verify(eventPublisher).publishEvent(new ClubLikeChangedEvent(20L, 1L, false));
+        verify(userRepository).delete(testUser);
     }
 
     @Test